@@ -251,7 +251,7 @@ public class ExampleNamespace extends ManagedNamespaceWithLifecycle {
                         eventNode.setSeverity(ushort(2));
 
                         //noinspection UnstableApiUsage
-                        getServer().getEventBus().post(eventNode);
+                        getServer().getEventDispatcher().post(eventNode);
 
                         eventNode.delete();
                     } catch (Throwable e) {
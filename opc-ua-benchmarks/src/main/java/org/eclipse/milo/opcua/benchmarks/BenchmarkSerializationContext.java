@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.benchmarks;
+
+import org.eclipse.milo.opcua.stack.core.NamespaceTable;
+import org.eclipse.milo.opcua.stack.core.channel.EncodingLimits;
+import org.eclipse.milo.opcua.stack.core.serialization.SerializationContext;
+import org.eclipse.milo.opcua.stack.core.types.DataTypeManager;
+import org.eclipse.milo.opcua.stack.core.types.OpcUaDataTypeManager;
+
+/**
+ * A {@link SerializationContext} with unlimited message size, so benchmarks can encode messages larger than the
+ * default limits allow.
+ */
+public class BenchmarkSerializationContext implements SerializationContext {
+
+    private final EncodingLimits encodingLimits = new EncodingLimits(
+        EncodingLimits.DEFAULT_MAX_CHUNK_SIZE,
+        0,
+        Integer.MAX_VALUE,
+        EncodingLimits.DEFAULT_MAX_RECURSION_DEPTH
+    );
+
+    private final NamespaceTable namespaceTable = new NamespaceTable();
+
+    @Override
+    public EncodingLimits getEncodingLimits() {
+        return encodingLimits;
+    }
+
+    @Override
+    public NamespaceTable getNamespaceTable() {
+        return namespaceTable;
+    }
+
+    @Override
+    public DataTypeManager getDataTypeManager() {
+        return OpcUaDataTypeManager.getInstance();
+    }
+
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.benchmarks.channel;
+
+import java.security.KeyPair;
+import java.security.Security;
+import java.security.cert.X509Certificate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.ReferenceCountUtil;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.eclipse.milo.opcua.stack.client.transport.uasc.ClientSecureChannel;
+import org.eclipse.milo.opcua.stack.core.channel.ChannelParameters;
+import org.eclipse.milo.opcua.stack.core.channel.ChannelSecurity;
+import org.eclipse.milo.opcua.stack.core.channel.ChunkDecoder;
+import org.eclipse.milo.opcua.stack.core.channel.ChunkEncoder;
+import org.eclipse.milo.opcua.stack.core.channel.EncodingLimits;
+import org.eclipse.milo.opcua.stack.core.channel.ServerSecureChannel;
+import org.eclipse.milo.opcua.stack.core.channel.messages.MessageType;
+import org.eclipse.milo.opcua.stack.core.security.SecurityPolicy;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.MessageSecurityMode;
+import org.eclipse.milo.opcua.stack.core.types.structured.ChannelSecurityToken;
+import org.eclipse.milo.opcua.stack.core.util.BufferUtil;
+import org.eclipse.milo.opcua.stack.core.util.SelfSignedCertificateBuilder;
+import org.eclipse.milo.opcua.stack.core.util.SelfSignedCertificateGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.eclipse.milo.opcua.stack.core.util.NonceUtil.generateNonce;
+
+/**
+ * Symmetric chunk encoding and decoding through {@link ChunkEncoder} and {@link ChunkDecoder} for each
+ * {@link SecurityPolicy} and {@link MessageSecurityMode}.
+ * <p>
+ * Decoding consumes the chunks it is given, so it is measured together with encoding in
+ * {@link #encodeDecode()}; subtract {@link #encode()} to estimate the decode cost.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChunkCodecBenchmark {
+
+    static {
+        // Required for SecurityPolicy.Aes256_Sha256_RsaPss
+        Security.addProvider(new BouncyCastleProvider());
+    }
+
+    @Param({
+        "None",
+        "Basic128Rsa15:Sign",
+        "Basic128Rsa15:SignAndEncrypt",
+        "Basic256:Sign",
+        "Basic256:SignAndEncrypt",
+        "Basic256Sha256:Sign",
+        "Basic256Sha256:SignAndEncrypt",
+        "Aes128_Sha256_RsaOaep:Sign",
+        "Aes128_Sha256_RsaOaep:SignAndEncrypt",
+        "Aes256_Sha256_RsaPss:Sign",
+        "Aes256_Sha256_RsaPss:SignAndEncrypt"
+    })
+    public String security;
+
+    @Param({"1024", "1048576"})
+    public int messageSize;
+
+    /**
+     * 0 keeps chunk crypto serial; otherwise messages with at least this many chunks are secured in parallel.
+     */
+    @Param({"0", "4"})
+    public int parallelCryptoChunkThreshold;
+
+    private ClientSecureChannel clientChannel;
+    private ServerSecureChannel serverChannel;
+
+    private ChunkEncoder encoder;
+    private ChunkDecoder decoder;
+
+    private ByteBuf messageBuffer;
+
+    private long requestId = 1L;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        String[] ss = security.split(":");
+        SecurityPolicy securityPolicy = SecurityPolicy.valueOf(ss[0]);
+        MessageSecurityMode messageSecurityMode = ss.length > 1 ?
+            MessageSecurityMode.valueOf(ss[1]) : MessageSecurityMode.None;
+
+        createChannels(securityPolicy, messageSecurityMode);
+
+        ChannelParameters parameters = new ChannelParameters(
+            0,
+            EncodingLimits.DEFAULT_MAX_CHUNK_SIZE,
+            EncodingLimits.DEFAULT_MAX_CHUNK_SIZE,
+            0,
+            0,
+            EncodingLimits.DEFAULT_MAX_CHUNK_SIZE,
+            EncodingLimits.DEFAULT_MAX_CHUNK_SIZE,
+            0,
+            parallelCryptoChunkThreshold
+        );
+
+        encoder = new ChunkEncoder(parameters);
+        decoder = new ChunkDecoder(parameters, EncodingLimits.DEFAULT);
+
+        byte[] messageBytes = new byte[messageSize];
+        for (int i = 0; i < messageBytes.length; i++) {
+            messageBytes[i] = (byte) i;
+        }
+
+        messageBuffer = BufferUtil.pooledBuffer(messageSize).writeBytes(messageBytes);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        messageBuffer.release();
+    }
+
+    @Benchmark
+    public int encode() throws Exception {
+        List<ByteBuf> chunks = encoder.encodeSymmetric(
+            clientChannel,
+            requestId++,
+            messageBuffer.readerIndex(0),
+            MessageType.SecureMessage
+        ).getMessageChunks();
+
+        int chunkCount = chunks.size();
+
+        chunks.forEach(ReferenceCountUtil::release);
+
+        return chunkCount;
+    }
+
+    @Benchmark
+    public int encodeDecode() throws Exception {
+        List<ByteBuf> chunks = encoder.encodeSymmetric(
+            clientChannel,
+            requestId++,
+            messageBuffer.readerIndex(0),
+            MessageType.SecureMessage
+        ).getMessageChunks();
+
+        ByteBuf message = decoder.decodeSymmetric(serverChannel, chunks).getMessage();
+
+        int messageLength = message.readableBytes();
+
+        message.release();
+
+        return messageLength;
+    }
+
+    private void createChannels(
+        SecurityPolicy securityPolicy,
+        MessageSecurityMode messageSecurityMode
+    ) throws Exception {
+
+        boolean secure = securityPolicy != SecurityPolicy.None;
+
+        KeyPair clientKeyPair = SelfSignedCertificateGenerator.generateRsaKeyPair(2048);
+        X509Certificate clientCertificate = new SelfSignedCertificateBuilder(clientKeyPair)
+            .setCommonName("benchmark client")
+            .setApplicationUri("urn:eclipse:milo:benchmark:client")
+            .build();
+
+        KeyPair serverKeyPair = SelfSignedCertificateGenerator.generateRsaKeyPair(2048);
+        X509Certificate serverCertificate = new SelfSignedCertificateBuilder(serverKeyPair)
+            .setCommonName("benchmark server")
+            .setApplicationUri("urn:eclipse:milo:benchmark:server")
+            .build();
+
+        ByteString clientNonce = generateNonce(securityPolicy);
+        ByteString serverNonce = generateNonce(securityPolicy);
+
+        clientChannel = new ClientSecureChannel(
+            secure ? clientKeyPair : null,
+            secure ? clientCertificate : null,
+            secure ? newArrayList(clientCertificate) : null,
+            secure ? serverCertificate : null,
+            secure ? newArrayList(serverCertificate) : null,
+            securityPolicy,
+            messageSecurityMode
+        );
+        clientChannel.setLocalNonce(clientNonce);
+        clientChannel.setRemoteNonce(serverNonce);
+
+        serverChannel = new ServerSecureChannel();
+        serverChannel.setSecurityPolicy(securityPolicy);
+        serverChannel.setMessageSecurityMode(messageSecurityMode);
+        serverChannel.setLocalNonce(serverNonce);
+        serverChannel.setRemoteNonce(clientNonce);
+
+        if (secure) {
+            serverChannel.setKeyPair(serverKeyPair);
+            serverChannel.setLocalCertificate(serverCertificate);
+            serverChannel.setLocalCertificateChain(new X509Certificate[]{serverCertificate});
+            serverChannel.setRemoteCertificate(clientCertificate.getEncoded());
+        }
+
+        ChannelSecurityToken token = new ChannelSecurityToken(
+            uint(0), uint(1), DateTime.now(), uint(60000)
+        );
+
+        if (messageSecurityMode == MessageSecurityMode.None) {
+            clientChannel.setChannelSecurity(new ChannelSecurity(null, token));
+            serverChannel.setChannelSecurity(new ChannelSecurity(null, token));
+        } else {
+            ChannelSecurity.SecurityKeys clientKeys = ChannelSecurity.generateKeyPair(
+                clientChannel, clientNonce, serverNonce);
+            ChannelSecurity.SecurityKeys serverKeys = ChannelSecurity.generateKeyPair(
+                serverChannel, clientNonce, serverNonce);
+
+            clientChannel.setChannelSecurity(new ChannelSecurity(clientKeys, token));
+            serverChannel.setChannelSecurity(new ChannelSecurity(serverKeys, token));
+        }
+    }
+
+}
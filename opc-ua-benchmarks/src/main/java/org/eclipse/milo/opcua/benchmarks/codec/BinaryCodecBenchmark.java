@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.benchmarks.codec;
+
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import org.eclipse.milo.opcua.benchmarks.BenchmarkSerializationContext;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamDecoder;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamEncoder;
+import org.eclipse.milo.opcua.stack.core.serialization.SerializationContext;
+import org.eclipse.milo.opcua.stack.core.serialization.UaMessage;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.structured.DataChangeNotification;
+import org.eclipse.milo.opcua.stack.core.types.structured.MonitoredItemNotification;
+import org.eclipse.milo.opcua.stack.core.types.structured.NotificationMessage;
+import org.eclipse.milo.opcua.stack.core.types.structured.PublishResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.ResponseHeader;
+import org.eclipse.milo.opcua.stack.core.util.BufferUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+
+/**
+ * Encoding and decoding of Variant/DataValue arrays and large ReadResponse/PublishResponse messages using
+ * {@link OpcUaBinaryStreamEncoder} and {@link OpcUaBinaryStreamDecoder}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BinaryCodecBenchmark {
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private final SerializationContext context = new BenchmarkSerializationContext();
+
+    private OpcUaBinaryStreamEncoder encoder;
+    private OpcUaBinaryStreamDecoder decoder;
+
+    private ByteBuf encodeBuffer;
+
+    private Variant[] variants;
+    private DataValue[] dataValues;
+    private ReadResponse readResponse;
+    private PublishResponse publishResponse;
+
+    private ByteBuf encodedVariants;
+    private ByteBuf encodedDataValues;
+    private ByteBuf encodedReadResponse;
+    private ByteBuf encodedPublishResponse;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        encoder = new OpcUaBinaryStreamEncoder(context);
+        decoder = new OpcUaBinaryStreamDecoder(context);
+
+        encodeBuffer = BufferUtil.pooledBuffer();
+
+        variants = new Variant[size];
+        dataValues = new DataValue[size];
+        MonitoredItemNotification[] notifications = new MonitoredItemNotification[size];
+
+        DateTime now = DateTime.now();
+
+        for (int i = 0; i < size; i++) {
+            Variant value = (i % 2 == 0) ? new Variant((double) i) : new Variant("value" + i);
+
+            variants[i] = value;
+            dataValues[i] = new DataValue(value, StatusCode.GOOD, now, now);
+            notifications[i] = new MonitoredItemNotification(uint(i), dataValues[i]);
+        }
+
+        ResponseHeader responseHeader = new ResponseHeader(
+            now, uint(1), StatusCode.GOOD, null, null, null);
+
+        readResponse = new ReadResponse(responseHeader, dataValues, null);
+
+        DataChangeNotification dataChangeNotification =
+            new DataChangeNotification(notifications, null);
+
+        NotificationMessage notificationMessage = new NotificationMessage(
+            uint(1),
+            now,
+            new ExtensionObject[]{ExtensionObject.encode(context, dataChangeNotification)}
+        );
+
+        publishResponse = new PublishResponse(
+            responseHeader,
+            uint(1),
+            new UInteger[]{uint(1)},
+            false,
+            notificationMessage,
+            new StatusCode[0],
+            null
+        );
+
+        encodedVariants = BufferUtil.pooledBuffer();
+        encoder.setBuffer(encodedVariants);
+        encoder.writeVariantArray(null, variants);
+
+        encodedDataValues = BufferUtil.pooledBuffer();
+        encoder.setBuffer(encodedDataValues);
+        encoder.writeDataValueArray(null, dataValues);
+
+        encodedReadResponse = BufferUtil.pooledBuffer();
+        encoder.setBuffer(encodedReadResponse);
+        encoder.writeMessage(null, readResponse);
+
+        encodedPublishResponse = BufferUtil.pooledBuffer();
+        encoder.setBuffer(encodedPublishResponse);
+        encoder.writeMessage(null, publishResponse);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        encodeBuffer.release();
+        encodedVariants.release();
+        encodedDataValues.release();
+        encodedReadResponse.release();
+        encodedPublishResponse.release();
+    }
+
+    @Benchmark
+    public int encodeVariantArray() {
+        encoder.setBuffer(encodeBuffer.clear());
+        encoder.writeVariantArray(null, variants);
+        return encodeBuffer.writerIndex();
+    }
+
+    @Benchmark
+    public Variant[] decodeVariantArray() {
+        decoder.setBuffer(encodedVariants.readerIndex(0));
+        return decoder.readVariantArray(null);
+    }
+
+    @Benchmark
+    public int encodeDataValueArray() {
+        encoder.setBuffer(encodeBuffer.clear());
+        encoder.writeDataValueArray(null, dataValues);
+        return encodeBuffer.writerIndex();
+    }
+
+    @Benchmark
+    public DataValue[] decodeDataValueArray() {
+        decoder.setBuffer(encodedDataValues.readerIndex(0));
+        return decoder.readDataValueArray(null);
+    }
+
+    @Benchmark
+    public int encodeReadResponse() {
+        encoder.setBuffer(encodeBuffer.clear());
+        encoder.writeMessage(null, readResponse);
+        return encodeBuffer.writerIndex();
+    }
+
+    @Benchmark
+    public UaMessage decodeReadResponse() {
+        decoder.setBuffer(encodedReadResponse.readerIndex(0));
+        return decoder.readMessage(null);
+    }
+
+    @Benchmark
+    public int encodePublishResponse() {
+        encoder.setBuffer(encodeBuffer.clear());
+        encoder.writeMessage(null, publishResponse);
+        return encodeBuffer.writerIndex();
+    }
+
+    @Benchmark
+    public UaMessage decodePublishResponse() {
+        decoder.setBuffer(encodedPublishResponse.readerIndex(0));
+        return decoder.readMessage(null);
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.benchmarks.server;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.milo.opcua.sdk.core.AccessLevel;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.api.DataItem;
+import org.eclipse.milo.opcua.sdk.server.api.ManagedNamespaceWithLifecycle;
+import org.eclipse.milo.opcua.sdk.server.api.MonitoredItem;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaVariableNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.filters.AttributeFilters;
+import org.eclipse.milo.opcua.sdk.server.util.SubscriptionModel;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+
+/**
+ * A namespace containing {@code nodeCount} Double variables, "Static/i", and {@code nodeCount} counter
+ * variables, "Counter/i", whose value changes on every read so each sample produces a data change.
+ */
+public class BenchmarkNamespace extends ManagedNamespaceWithLifecycle {
+
+    public static final String NAMESPACE_URI = "urn:eclipse:milo:benchmarks";
+
+    private final AtomicLong counter = new AtomicLong(0L);
+
+    private final SubscriptionModel subscriptionModel;
+
+    private final int nodeCount;
+
+    public BenchmarkNamespace(OpcUaServer server, int nodeCount) {
+        super(server, NAMESPACE_URI);
+
+        this.nodeCount = nodeCount;
+
+        subscriptionModel = new SubscriptionModel(server, this);
+
+        getLifecycleManager().addLifecycle(subscriptionModel);
+        getLifecycleManager().addStartupTask(this::addNodes);
+    }
+
+    public NodeId getStaticNodeId(int i) {
+        return newNodeId("Static/" + i);
+    }
+
+    public NodeId getCounterNodeId(int i) {
+        return newNodeId("Counter/" + i);
+    }
+
+    private void addNodes() {
+        for (int i = 0; i < nodeCount; i++) {
+            UaVariableNode staticNode = newDoubleNode(getStaticNodeId(i), "Static" + i);
+            staticNode.setValue(new DataValue(new Variant((double) i)));
+
+            getNodeManager().addNode(staticNode);
+
+            UaVariableNode counterNode = newDoubleNode(getCounterNodeId(i), "Counter" + i);
+            counterNode.setValue(new DataValue(new Variant(0.0)));
+            counterNode.getFilterChain().addLast(
+                AttributeFilters.getValue(
+                    ctx ->
+                        new DataValue(new Variant((double) counter.incrementAndGet()))
+                )
+            );
+
+            getNodeManager().addNode(counterNode);
+        }
+    }
+
+    private UaVariableNode newDoubleNode(NodeId nodeId, String name) {
+        return new UaVariableNode.UaVariableNodeBuilder(getNodeContext())
+            .setNodeId(nodeId)
+            .setAccessLevel(AccessLevel.READ_WRITE)
+            .setUserAccessLevel(AccessLevel.READ_WRITE)
+            .setBrowseName(newQualifiedName(name))
+            .setDisplayName(LocalizedText.english(name))
+            .setDataType(Identifiers.Double)
+            .setTypeDefinition(Identifiers.BaseDataVariableType)
+            .build();
+    }
+
+    @Override
+    public void onDataItemsCreated(List<DataItem> dataItems) {
+        subscriptionModel.onDataItemsCreated(dataItems);
+    }
+
+    @Override
+    public void onDataItemsModified(List<DataItem> dataItems) {
+        subscriptionModel.onDataItemsModified(dataItems);
+    }
+
+    @Override
+    public void onDataItemsDeleted(List<DataItem> dataItems) {
+        subscriptionModel.onDataItemsDeleted(dataItems);
+    }
+
+    @Override
+    public void onMonitoringModeChanged(List<MonitoredItem> monitoredItems) {
+        subscriptionModel.onMonitoringModeChanged(monitoredItems);
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.benchmarks.server;
+
+import java.io.File;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.security.KeyPair;
+import java.security.cert.X509Certificate;
+
+import org.eclipse.milo.opcua.sdk.client.OpcUaClient;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.api.config.OpcUaServerConfig;
+import org.eclipse.milo.opcua.stack.core.security.DefaultCertificateManager;
+import org.eclipse.milo.opcua.stack.core.security.DefaultTrustListManager;
+import org.eclipse.milo.opcua.stack.core.security.SecurityPolicy;
+import org.eclipse.milo.opcua.stack.core.transport.TransportProfile;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.MessageSecurityMode;
+import org.eclipse.milo.opcua.stack.core.util.SelfSignedCertificateBuilder;
+import org.eclipse.milo.opcua.stack.core.util.SelfSignedCertificateGenerator;
+import org.eclipse.milo.opcua.stack.server.EndpointConfiguration;
+import org.eclipse.milo.opcua.stack.server.security.DefaultServerCertificateValidator;
+
+import static java.util.Collections.singleton;
+import static org.eclipse.milo.opcua.sdk.server.api.config.OpcUaServerConfig.USER_TOKEN_POLICY_ANONYMOUS;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+
+/**
+ * An {@link OpcUaServer} and connected {@link OpcUaClient} running in-process over loopback, with a
+ * {@link BenchmarkNamespace} registered on the server.
+ */
+public final class BenchmarkServer {
+
+    private static final String APPLICATION_URI = "urn:eclipse:milo:benchmarks:server";
+
+    private final OpcUaServer server;
+    private final BenchmarkNamespace namespace;
+    private final OpcUaClient client;
+
+    private BenchmarkServer(OpcUaServer server, BenchmarkNamespace namespace, OpcUaClient client) {
+        this.server = server;
+        this.namespace = namespace;
+        this.client = client;
+    }
+
+    public OpcUaServer getServer() {
+        return server;
+    }
+
+    public BenchmarkNamespace getNamespace() {
+        return namespace;
+    }
+
+    public OpcUaClient getClient() {
+        return client;
+    }
+
+    public void shutdown() throws Exception {
+        client.disconnect().get();
+        namespace.shutdown();
+        server.shutdown().get();
+    }
+
+    /**
+     * Start a server with a {@link BenchmarkNamespace} of {@code nodeCount} nodes and connect a client to it.
+     *
+     * @param nodeCount the number of nodes of each kind in the {@link BenchmarkNamespace}.
+     * @return a started {@link BenchmarkServer}.
+     * @throws Exception if the server could not be started or the client could not connect.
+     */
+    public static BenchmarkServer start(int nodeCount) throws Exception {
+        KeyPair keyPair = SelfSignedCertificateGenerator.generateRsaKeyPair(2048);
+
+        X509Certificate certificate = new SelfSignedCertificateBuilder(keyPair)
+            .setCommonName("Eclipse Milo Benchmark Server")
+            .setApplicationUri(APPLICATION_URI)
+            .addDnsName("localhost")
+            .build();
+
+        File pkiDir = Files.createTempDirectory("milo-benchmarks-pki").toFile();
+
+        DefaultTrustListManager trustListManager = new DefaultTrustListManager(pkiDir);
+
+        EndpointConfiguration endpoint = EndpointConfiguration.newBuilder()
+            .setBindAddress("localhost")
+            .setHostname("localhost")
+            .setBindPort(getFreePort())
+            .setPath("/benchmarks")
+            .setCertificate(certificate)
+            .setTransportProfile(TransportProfile.TCP_UASC_UABINARY)
+            .setSecurityPolicy(SecurityPolicy.None)
+            .setSecurityMode(MessageSecurityMode.None)
+            .addTokenPolicies(USER_TOKEN_POLICY_ANONYMOUS)
+            .build();
+
+        OpcUaServerConfig serverConfig = OpcUaServerConfig.builder()
+            .setApplicationUri(APPLICATION_URI)
+            .setApplicationName(LocalizedText.english("Eclipse Milo Benchmark Server"))
+            .setProductUri("urn:eclipse:milo:benchmarks")
+            .setEndpoints(singleton(endpoint))
+            .setCertificateManager(new DefaultCertificateManager(keyPair, certificate))
+            .setTrustListManager(trustListManager)
+            .setCertificateValidator(new DefaultServerCertificateValidator(trustListManager))
+            .build();
+
+        OpcUaServer server = new OpcUaServer(serverConfig);
+
+        BenchmarkNamespace namespace = new BenchmarkNamespace(server, nodeCount);
+        namespace.startup();
+
+        server.startup().get();
+
+        OpcUaClient client = OpcUaClient.create(
+            endpoint.getEndpointUrl(),
+            endpoints -> endpoints.stream().findFirst(),
+            configBuilder ->
+                configBuilder
+                    .setApplicationName(LocalizedText.english("Eclipse Milo Benchmark Client"))
+                    .setApplicationUri("urn:eclipse:milo:benchmarks:client")
+                    .setRequestTimeout(uint(60000))
+                    .build()
+        );
+
+        client.connect().get();
+
+        return new BenchmarkServer(server, namespace, client);
+    }
+
+    private static int getFreePort() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.benchmarks.server;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.milo.opcua.sdk.client.api.subscriptions.UaMonitoredItem;
+import org.eclipse.milo.opcua.sdk.client.api.subscriptions.UaSubscription;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.MonitoringMode;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.MonitoredItemCreateRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.MonitoringParameters;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+
+/**
+ * End-to-end Publish round-trips: every monitored item is sampled every {@link #INTERVAL} milliseconds against
+ * a value that changes on every read, and each benchmark operation waits for the next DataChangeNotification
+ * to be delivered to the client.
+ * <p>
+ * Latency is bounded below by the publishing interval; the allocation per publish cycle, as reported by the
+ * gc profiler, covers sampling, queueing, encoding and client-side delivery.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PublishRoundTripBenchmark {
+
+    /**
+     * Publishing and sampling interval; the server's default minimum publishing interval.
+     */
+    private static final double INTERVAL = 10.0;
+
+    @Param({"100", "10000"})
+    public int itemCount;
+
+    private final BlockingQueue<Integer> notifications = new LinkedBlockingQueue<>();
+
+    private BenchmarkServer benchmarkServer;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        benchmarkServer = BenchmarkServer.start(itemCount);
+
+        UaSubscription subscription = benchmarkServer.getClient()
+            .getSubscriptionManager()
+            .createSubscription(INTERVAL)
+            .get();
+
+        List<MonitoredItemCreateRequest> requests = new ArrayList<>(itemCount);
+
+        for (int i = 0; i < itemCount; i++) {
+            ReadValueId readValueId = new ReadValueId(
+                benchmarkServer.getNamespace().getCounterNodeId(i),
+                AttributeId.Value.uid(),
+                null,
+                QualifiedName.NULL_VALUE
+            );
+
+            MonitoringParameters parameters = new MonitoringParameters(
+                subscription.nextClientHandle(),
+                INTERVAL,
+                null,
+                uint(1),
+                true
+            );
+
+            requests.add(new MonitoredItemCreateRequest(readValueId, MonitoringMode.Reporting, parameters));
+        }
+
+        subscription.addNotificationListener(new UaSubscription.NotificationListener() {
+            @Override
+            public void onDataChangeNotification(
+                UaSubscription subscription,
+                List<UaMonitoredItem> monitoredItems,
+                List<DataValue> dataValues,
+                DateTime publishTime
+            ) {
+
+                notifications.add(dataValues.size());
+            }
+        });
+
+        subscription.createMonitoredItems(TimestampsToReturn.Both, requests).get();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        benchmarkServer.shutdown();
+    }
+
+    @Setup(Level.Iteration)
+    public void clearNotifications() {
+        notifications.clear();
+    }
+
+    @Benchmark
+    public int publish() throws InterruptedException {
+        return notifications.take();
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.benchmarks.server;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End-to-end Read service round-trips from an OpcUaClient to an OpcUaServer over loopback.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadRoundTripBenchmark {
+
+    @Param({"1", "100", "1000"})
+    public int nodeCount;
+
+    private BenchmarkServer benchmarkServer;
+
+    private List<ReadValueId> readValueIds;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        benchmarkServer = BenchmarkServer.start(nodeCount);
+
+        readValueIds = new ArrayList<>(nodeCount);
+
+        for (int i = 0; i < nodeCount; i++) {
+            readValueIds.add(new ReadValueId(
+                benchmarkServer.getNamespace().getStaticNodeId(i),
+                AttributeId.Value.uid(),
+                null,
+                QualifiedName.NULL_VALUE
+            ));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        benchmarkServer.shutdown();
+    }
+
+    @Benchmark
+    public ReadResponse read() throws Exception {
+        return benchmarkServer.getClient()
+            .read(0.0, TimestampsToReturn.Both, readValueIds)
+            .get();
+    }
+
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.client.dtd;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.eclipse.milo.opcua.stack.core.UaSerializationException;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamDecoder;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamEncoder;
+import org.eclipse.milo.opcua.stack.core.serialization.SerializationContext;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An on-disk cache of the custom data type dictionaries read by {@link DataTypeDictionaryReader}.
+ * <p>
+ * Each server gets its own file in the cache directory, named after its application URI. A file
+ * holds, for each dictionary, the dictionary bytes, the description to DataType and encoding
+ * mappings that would otherwise be browsed, and the values of the nodes the dictionary's version
+ * is validated against: its DataTypeVersion property and the NamespaceVersion and
+ * NamespacePublicationDate properties of its NamespaceMetadata object.
+ * <p>
+ * A file saved against a different server namespace array is ignored. A null or empty version
+ * value is no version information at all, so a dictionary with only those isn't cached.
+ */
+public class DataTypeDictionaryCache {
+
+    private static final int FILE_FORMAT_VERSION = 1;
+
+    private final Path directory;
+
+    /**
+     * @param directory the directory cache files are read from and written to.
+     */
+    public DataTypeDictionaryCache(Path directory) {
+        this.directory = directory;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * @param value a version value read from the server.
+     * @return {@code true} if {@code value} identifies a version, i.e. it isn't null, an empty
+     * String, or a null DateTime.
+     */
+    static boolean isVersion(@Nullable Variant value) {
+        if (value == null) {
+            return false;
+        }
+
+        Object o = value.getValue();
+
+        if (o instanceof String) {
+            return !((String) o).isEmpty();
+        } else if (o instanceof DateTime) {
+            return !((DateTime) o).isNull();
+        } else {
+            return o != null;
+        }
+    }
+
+    Path getPath(String serverUri) {
+        UUID uuid = UUID.nameUUIDFromBytes(serverUri.getBytes(StandardCharsets.UTF_8));
+
+        return directory.resolve(uuid + ".dtd");
+    }
+
+    /**
+     * Load the cached entries for {@code serverUri}.
+     *
+     * @param serverUri  the application URI of the server.
+     * @param namespaces the server's current namespace array.
+     * @param context    the {@link SerializationContext} to decode with.
+     * @return the cached entries by dictionary {@link NodeId}; empty if nothing is cached or the
+     * namespace array has changed.
+     * @throws IOException if the file can't be read or isn't a saved cache.
+     */
+    Map<NodeId, Entry> load(
+        String serverUri,
+        String[] namespaces,
+        SerializationContext context
+    ) throws IOException {
+
+        Path path = getPath(serverUri);
+
+        if (!Files.exists(path)) {
+            return Collections.emptyMap();
+        }
+
+        ByteBuf buffer = Unpooled.wrappedBuffer(Files.readAllBytes(path));
+
+        try {
+            OpcUaBinaryStreamDecoder decoder = new OpcUaBinaryStreamDecoder(context).setBuffer(buffer);
+
+            int version = decoder.readInt32();
+            if (version != FILE_FORMAT_VERSION) {
+                throw new IOException("unsupported DataTypeDictionaryCache file version: " + version);
+            }
+
+            String savedServerUri = decoder.readString();
+
+            String[] savedNamespaces = new String[decoder.readInt32()];
+            for (int i = 0; i < savedNamespaces.length; i++) {
+                savedNamespaces[i] = decoder.readString();
+            }
+
+            if (!serverUri.equals(savedServerUri) || !Arrays.equals(namespaces, savedNamespaces)) {
+                return Collections.emptyMap();
+            }
+
+            Map<NodeId, Entry> entries = new HashMap<>();
+
+            int count = decoder.readInt32();
+
+            for (int i = 0; i < count; i++) {
+                NodeId dictionaryNodeId = decoder.readNodeId();
+                ByteString dictionaryBytes = decoder.readByteString();
+
+                int versionCount = decoder.readInt32();
+                List<NodeId> versionNodeIds = new ArrayList<>(versionCount);
+                List<Variant> versionValues = new ArrayList<>(versionCount);
+                for (int j = 0; j < versionCount; j++) {
+                    versionNodeIds.add(decoder.readNodeId());
+                    versionValues.add(decoder.readVariant());
+                }
+
+                int codecCount = decoder.readInt32();
+                List<String> descriptions = new ArrayList<>(codecCount);
+                List<NodeId> dataTypeIds = new ArrayList<>(codecCount);
+                List<NodeId> encodingIds = new ArrayList<>(codecCount);
+                for (int j = 0; j < codecCount; j++) {
+                    descriptions.add(decoder.readString());
+                    dataTypeIds.add(decoder.readNodeId());
+                    encodingIds.add(decoder.readNodeId());
+                }
+
+                entries.put(dictionaryNodeId, new Entry(
+                    dictionaryNodeId,
+                    dictionaryBytes,
+                    versionNodeIds,
+                    versionValues,
+                    descriptions,
+                    dataTypeIds,
+                    encodingIds
+                ));
+            }
+
+            return entries;
+        } catch (UaSerializationException e) {
+            throw new IOException(e);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Save {@code entries} as the cached entries for {@code serverUri}, replacing any previously
+     * saved.
+     *
+     * @param serverUri  the application URI of the server.
+     * @param namespaces the server's current namespace array.
+     * @param context    the {@link SerializationContext} to encode with.
+     * @param entries    the entries to save.
+     * @throws IOException if the file can't be written.
+     */
+    void save(
+        String serverUri,
+        String[] namespaces,
+        SerializationContext context,
+        Collection<Entry> entries
+    ) throws IOException {
+
+        ByteBuf buffer = Unpooled.buffer();
+
+        try {
+            OpcUaBinaryStreamEncoder encoder = new OpcUaBinaryStreamEncoder(context).setBuffer(buffer);
+
+            encoder.writeInt32(FILE_FORMAT_VERSION);
+            encoder.writeString(serverUri);
+
+            encoder.writeInt32(namespaces.length);
+            for (String namespace : namespaces) {
+                encoder.writeString(namespace);
+            }
+
+            encoder.writeInt32(entries.size());
+
+            for (Entry entry : entries) {
+                encoder.writeNodeId(entry.dictionaryNodeId);
+                encoder.writeByteString(entry.dictionaryBytes);
+
+                encoder.writeInt32(entry.versionNodeIds.size());
+                for (int i = 0; i < entry.versionNodeIds.size(); i++) {
+                    encoder.writeNodeId(entry.versionNodeIds.get(i));
+                    encoder.writeVariant(entry.versionValues.get(i));
+                }
+
+                encoder.writeInt32(entry.descriptions.size());
+                for (int i = 0; i < entry.descriptions.size(); i++) {
+                    encoder.writeString(entry.descriptions.get(i));
+                    encoder.writeNodeId(entry.dataTypeIds.get(i));
+                    encoder.writeNodeId(entry.encodingIds.get(i));
+                }
+            }
+
+            byte[] bytes = new byte[buffer.readableBytes()];
+            buffer.readBytes(bytes);
+
+            Files.createDirectories(directory);
+            Files.write(getPath(serverUri), bytes);
+        } catch (UaSerializationException e) {
+            throw new IOException(e);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    static final class Entry {
+
+        final NodeId dictionaryNodeId;
+        final ByteString dictionaryBytes;
+        final List<NodeId> versionNodeIds;
+        final List<Variant> versionValues;
+        final List<String> descriptions;
+        final List<NodeId> dataTypeIds;
+        final List<NodeId> encodingIds;
+
+        Entry(
+            NodeId dictionaryNodeId,
+            ByteString dictionaryBytes,
+            List<NodeId> versionNodeIds,
+            List<Variant> versionValues,
+            List<String> descriptions,
+            List<NodeId> dataTypeIds,
+            List<NodeId> encodingIds
+        ) {
+
+            this.dictionaryNodeId = dictionaryNodeId;
+            this.dictionaryBytes = dictionaryBytes;
+            this.versionNodeIds = versionNodeIds;
+            this.versionValues = versionValues;
+            this.descriptions = descriptions;
+            this.dataTypeIds = dataTypeIds;
+            this.encodingIds = encodingIds;
+        }
+
+        /**
+         * @param values the values just read from {@link #versionNodeIds}, in the same order.
+         * @return {@code true} if {@code values} match the version values this entry was saved with.
+         */
+        boolean isCurrent(List<DataValue> values) {
+            if (versionNodeIds.isEmpty() || values.size() != versionValues.size()) {
+                return false;
+            }
+
+            for (int i = 0; i < values.size(); i++) {
+                DataValue value = values.get(i);
+                StatusCode statusCode = value.getStatusCode();
+
+                if (statusCode != null && !statusCode.isGood()) {
+                    return false;
+                }
+                if (!isVersion(value.getValue()) || !Objects.equals(value.getValue(), versionValues.get(i))) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+    }
+
+}
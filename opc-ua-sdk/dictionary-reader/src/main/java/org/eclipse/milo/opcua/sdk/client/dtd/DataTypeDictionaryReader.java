@@ -14,15 +14,20 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.xml.bind.JAXBException;
@@ -50,6 +55,7 @@ import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
 import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
 import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
 import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.BrowseDirection;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.BrowseResultMask;
@@ -69,6 +75,8 @@ import org.eclipse.milo.opcua.stack.core.types.structured.RequestHeader;
 import org.eclipse.milo.opcua.stack.core.types.structured.ViewDescription;
 import org.eclipse.milo.opcua.stack.core.util.FutureUtils;
 import org.eclipse.milo.opcua.stack.core.util.Namespaces;
+import org.eclipse.milo.opcua.stack.core.util.Unit;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -85,21 +93,52 @@ public class DataTypeDictionaryReader {
     private static final int PARTITION_SIZE = 64;
     private static final QualifiedName QN_DEFAULT_BINARY =
         new QualifiedName(0, "Default Binary");
+    private static final QualifiedName QN_DATA_TYPE_VERSION =
+        new QualifiedName(0, "DataTypeVersion");
+    private static final QualifiedName QN_NAMESPACE_VERSION =
+        new QualifiedName(0, "NamespaceVersion");
+    private static final QualifiedName QN_NAMESPACE_PUBLICATION_DATE =
+        new QualifiedName(0, "NamespacePublicationDate");
 
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
     private final UaStackClient stackClient;
     private final OpcUaSession session;
     private final BsdParser bsdParser;
+    private final DataTypeDictionaryCache cache;
 
     public DataTypeDictionaryReader(
         UaStackClient stackClient,
         OpcUaSession session,
         BsdParser bsdParser) {
 
+        this(stackClient, session, bsdParser, null);
+    }
+
+    /**
+     * Create a {@link DataTypeDictionaryReader} that reads custom dictionaries through {@code cache}.
+     * <p>
+     * A cached dictionary is used without being read again as long as the values of its
+     * DataTypeVersion property and its NamespaceMetadata NamespaceVersion and
+     * NamespacePublicationDate properties haven't changed. The version values of every cached
+     * dictionary are validated with a single Read.
+     *
+     * @param stackClient the {@link UaStackClient} to read with.
+     * @param session     the {@link OpcUaSession} to read with.
+     * @param bsdParser   the {@link BsdParser} used to parse dictionaries.
+     * @param cache       the {@link DataTypeDictionaryCache} to use, or {@code null} to always read
+     *                    dictionaries from the server.
+     */
+    public DataTypeDictionaryReader(
+        UaStackClient stackClient,
+        OpcUaSession session,
+        BsdParser bsdParser,
+        @Nullable DataTypeDictionaryCache cache) {
+
         this.stackClient = stackClient;
         this.session = session;
         this.bsdParser = bsdParser;
+        this.cache = cache;
     }
 
     public CompletableFuture<List<DataTypeDictionary<?>>> readDataTypeDictionaries() {
@@ -112,30 +151,143 @@ public class DataTypeDictionaryReader {
             uint(BrowseResultMask.All.getValue())
         ));
 
-        CompletableFuture<Stream<NodeId>> dictionaryNodeIds = browseFuture.thenApply(
+        CompletableFuture<List<NodeId>> dictionaryNodeIds = browseFuture.thenApply(
             references ->
                 references.stream()
                     .filter(r -> r.getTypeDefinition().equalTo(Identifiers.DataTypeDictionaryType))
                     .flatMap(r -> opt2stream(r.getNodeId().toNodeId(stackClient.getNamespaceTable())))
+                    .collect(Collectors.toList())
         );
 
-        return dictionaryNodeIds
-            .thenApply(nodeIds ->
-                nodeIds
-                    .map(this::readDataTypeDictionary)
-                    .collect(Collectors.toList()))
-            .thenCompose(FutureUtils::sequence)
+        return dictionaryNodeIds.thenCompose(nodeIds -> {
+            if (cache != null) {
+                return readDataTypeDictionaries(nodeIds, cache);
+            } else {
+                return sequenceDictionaries(
+                    nodeIds.stream().map(nodeId -> readDataTypeDictionary(nodeId, null))
+                );
+            }
+        });
+    }
+
+    private CompletableFuture<List<DataTypeDictionary<?>>> readDataTypeDictionaries(
+        List<NodeId> dictionaryNodeIds,
+        DataTypeDictionaryCache cache
+    ) {
+
+        String serverUri = stackClient.getConfig().getEndpoint().getServer().getApplicationUri();
+        String[] namespaces = stackClient.getNamespaceTable().toArray();
+
+        Map<NodeId, DataTypeDictionaryCache.Entry> cachedEntries;
+        try {
+            cachedEntries = cache.load(serverUri, namespaces, stackClient.getStaticSerializationContext());
+        } catch (IOException e) {
+            logger.warn("Failed to load DataTypeDictionaryCache for serverUri={}", serverUri, e);
+            cachedEntries = Collections.emptyMap();
+        }
+
+        List<DataTypeDictionaryCache.Entry> candidates = dictionaryNodeIds.stream()
+            .map(cachedEntries::get)
+            .filter(Objects::nonNull)
+            .filter(entry -> !entry.versionNodeIds.isEmpty())
+            .collect(Collectors.toList());
+
+        List<ReadValueId> versionReadValueIds = candidates.stream()
+            .flatMap(entry -> entry.versionNodeIds.stream())
+            .map(nodeId -> new ReadValueId(nodeId, AttributeId.Value.uid(), null, QualifiedName.NULL_VALUE))
+            .collect(Collectors.toList());
+
+        CompletableFuture<List<DataValue>> versionValues = versionReadValueIds.isEmpty() ?
+            completedFuture(Collections.emptyList()) :
+            readNodes(versionReadValueIds).exceptionally(ex -> {
+                logger.warn("Failed to read DataTypeDictionary versions", ex);
+                return Collections.emptyList();
+            });
+
+        Map<NodeId, DataTypeDictionaryCache.Entry> loadedEntries = cachedEntries;
+
+        return versionValues.thenCompose(values -> {
+            Set<NodeId> currentNodeIds = new HashSet<>();
+
+            if (values.size() == versionReadValueIds.size()) {
+                int index = 0;
+                for (DataTypeDictionaryCache.Entry entry : candidates) {
+                    int size = entry.versionNodeIds.size();
+
+                    if (entry.isCurrent(values.subList(index, index + size))) {
+                        currentNodeIds.add(entry.dictionaryNodeId);
+                    }
+
+                    index += size;
+                }
+            }
+
+            Map<NodeId, DataTypeDictionaryCache.Entry> entries = new ConcurrentHashMap<>();
+
+            Stream<CompletableFuture<DataTypeDictionary<?>>> futures = dictionaryNodeIds.stream().map(nodeId -> {
+                DataTypeDictionaryCache.Entry entry = loadedEntries.get(nodeId);
+
+                if (entry != null && currentNodeIds.contains(nodeId)) {
+                    try {
+                        DataTypeDictionary<?> dictionary = createDataTypeDictionary(entry);
+                        entries.put(nodeId, entry);
+                        logger.debug("Loaded DataTypeDictionary nodeId={} from cache", nodeId);
+                        return completedFuture(dictionary);
+                    } catch (JAXBException e) {
+                        logger.warn("Failed to create cached DataTypeDictionary nodeId={}", nodeId, e);
+                    }
+                }
+
+                return readDataTypeDictionary(nodeId, entries);
+            });
+
+            return sequenceDictionaries(futures).whenComplete((dictionaries, ex) -> {
+                boolean modified = !entries.keySet().equals(currentNodeIds) ||
+                    !currentNodeIds.equals(loadedEntries.keySet());
+
+                if (modified) {
+                    try {
+                        cache.save(
+                            serverUri,
+                            namespaces,
+                            stackClient.getStaticSerializationContext(),
+                            entries.values()
+                        );
+                    } catch (IOException e) {
+                        logger.warn("Failed to save DataTypeDictionaryCache for serverUri={}", serverUri, e);
+                    }
+                }
+            });
+        });
+    }
+
+    private static CompletableFuture<List<DataTypeDictionary<?>>> sequenceDictionaries(
+        Stream<CompletableFuture<DataTypeDictionary<?>>> futures
+    ) {
+
+        return FutureUtils.sequence(futures)
             .thenApply(list ->
                 list.stream()
                     .filter(Objects::nonNull)
                     .collect(Collectors.toList()));
     }
 
-    private CompletableFuture<DataTypeDictionary<?>> readDataTypeDictionary(NodeId nodeId) {
+    /**
+     * Read the dictionary at {@code nodeId} from the server.
+     *
+     * @param nodeId  the {@link NodeId} of the dictionary.
+     * @param entries if non-null, a cache entry for the dictionary is put here once it's been read.
+     * @return the dictionary, or {@code null} if it couldn't be read.
+     */
+    private CompletableFuture<DataTypeDictionary<?>> readDataTypeDictionary(
+        NodeId nodeId,
+        @Nullable Map<NodeId, DataTypeDictionaryCache.Entry> entries
+    ) {
+
         logger.debug("Reading DataTypeDictionary nodeId={}", nodeId);
 
         return readDataTypeDictionaryBytes(nodeId, DEFAULT_FRAGMENT_SIZE)
-            .thenCompose(bs -> createDataTypeDictionary(nodeId, bs))
+            .thenCompose(bs -> createDataTypeDictionary(nodeId, bs, entries))
             .exceptionally(ex -> {
                 logger.warn("Failed to create DataTypeDictionary nodeId={}", nodeId, ex);
                 return null;
@@ -263,18 +415,17 @@ public class DataTypeDictionaryReader {
         }, stackClient.getConfig().getExecutor());
     }
 
-    private CompletableFuture<DataTypeDictionary<?>> createDataTypeDictionary(NodeId dictionaryNodeId, ByteString bs) {
-        ByteArrayInputStream is = new ByteArrayInputStream(bs.bytesOrEmpty());
+    private CompletableFuture<DataTypeDictionary<?>> createDataTypeDictionary(
+        NodeId dictionaryNodeId,
+        ByteString bs,
+        @Nullable Map<NodeId, DataTypeDictionaryCache.Entry> entries
+    ) {
 
         try {
-            DictionaryDescription dictionaryDescription = bsdParser.parse(is);
+            DictionaryDescription dictionaryDescription = parseDictionary(bs);
 
             String namespaceUri = dictionaryDescription.getNamespaceUri();
-            OpcUaBinaryDataTypeDictionary dictionary = new OpcUaBinaryDataTypeDictionary(namespaceUri);
-
-            List<CodecDescription> enumCodecs = dictionaryDescription.getEnumCodecs();
-            enumCodecs.forEach(cd -> dictionary.registerEnumCodec(cd.getCodec(), cd.getDescription()));
-            logger.debug("enumCodecs.size()={}", enumCodecs.size());
+            OpcUaBinaryDataTypeDictionary dictionary = createDictionary(dictionaryDescription);
 
             List<CodecDescription> structCodecs = dictionaryDescription.getStructCodecs();
             logger.debug("structCodecs.size()={}", structCodecs.size());
@@ -282,13 +433,44 @@ public class DataTypeDictionaryReader {
             if (Namespaces.OPC_UA.equals(namespaceUri)) {
                 return registerBuiltinStructCodecs(dictionary, structCodecs);
             } else {
-                return registerCustomStructCodecs(dictionaryNodeId, dictionary, structCodecs);
+                return registerCustomStructCodecs(dictionaryNodeId, bs, dictionary, structCodecs, entries);
             }
         } catch (JAXBException e) {
             return failedFuture(e);
         }
     }
 
+    private DataTypeDictionary<?> createDataTypeDictionary(DataTypeDictionaryCache.Entry entry) throws JAXBException {
+        DictionaryDescription dictionaryDescription = parseDictionary(entry.dictionaryBytes);
+
+        OpcUaBinaryDataTypeDictionary dictionary = createDictionary(dictionaryDescription);
+
+        registerStructCodecs(
+            dictionary,
+            dictionaryDescription.getStructCodecs(),
+            entry.descriptions,
+            entry.dataTypeIds,
+            entry.encodingIds
+        );
+
+        return dictionary;
+    }
+
+    private DictionaryDescription parseDictionary(ByteString bs) throws JAXBException {
+        return bsdParser.parse(new ByteArrayInputStream(bs.bytesOrEmpty()));
+    }
+
+    private OpcUaBinaryDataTypeDictionary createDictionary(DictionaryDescription dictionaryDescription) {
+        String namespaceUri = dictionaryDescription.getNamespaceUri();
+        OpcUaBinaryDataTypeDictionary dictionary = new OpcUaBinaryDataTypeDictionary(namespaceUri);
+
+        List<CodecDescription> enumCodecs = dictionaryDescription.getEnumCodecs();
+        enumCodecs.forEach(cd -> dictionary.registerEnumCodec(cd.getCodec(), cd.getDescription()));
+        logger.debug("enumCodecs.size()={}", enumCodecs.size());
+
+        return dictionary;
+    }
+
     private CompletableFuture<DataTypeDictionary<?>> registerBuiltinStructCodecs(
         OpcUaBinaryDataTypeDictionary dictionary,
         List<CodecDescription> structCodecs
@@ -317,8 +499,10 @@ public class DataTypeDictionaryReader {
 
     private CompletableFuture<DataTypeDictionary<?>> registerCustomStructCodecs(
         NodeId dictionaryNodeId,
+        ByteString dictionaryBytes,
         OpcUaBinaryDataTypeDictionary dictionary,
-        List<CodecDescription> structCodecs
+        List<CodecDescription> structCodecs,
+        @Nullable Map<NodeId, DataTypeDictionaryCache.Entry> entries
     ) {
 
         CompletableFuture<List<NodeId>> descriptionNodeIds =
@@ -352,73 +536,214 @@ public class DataTypeDictionaryReader {
 
         return encodingIdsFuture.thenCompose(encodingIds ->
             browseDataTypeIds(encodingIds).thenCompose(dataTypeIds ->
-                descriptionValues.thenApply(descriptions -> {
-                        Map<String, NodeId> encodingIdMap = new HashMap<>();
-                        Map<String, NodeId> dataTypeIdMap = new HashMap<>();
-
-                        if (descriptions.size() != encodingIds.size()) {
-                            throw new IllegalStateException(String.format(
-                                "descriptions.size() != encodingIds.size() (%s != %s)",
-                                descriptions.size(), encodingIds.size()
-                            ));
-                        }
-
-                        if (encodingIds.size() != dataTypeIds.size()) {
-                            throw new IllegalStateException(String.format(
-                                "encodingIds.size() != dataTypeIds.size() (%s != %s)",
-                                encodingIds.size(), dataTypeIds.size()
-                            ));
-                        }
-
-                        Iterator<String> descriptionIter = descriptions.iterator();
-                        Iterator<NodeId> encodingIdIter = encodingIds.iterator();
-                        Iterator<NodeId> dataTypeIdIter = dataTypeIds.iterator();
-
-                        while (descriptionIter.hasNext() && encodingIdIter.hasNext() && dataTypeIdIter.hasNext()) {
-                            String description = descriptionIter.next();
-                            encodingIdMap.put(description, encodingIdIter.next());
-                            dataTypeIdMap.put(description, dataTypeIdIter.next());
-                        }
-
-                        structCodecs.forEach(cd -> {
-                            String description = cd.getDescription();
-                            NodeId encodingId = encodingIdMap.get(description);
-                            NodeId dataTypeId = dataTypeIdMap.get(description);
-
-                            if (encodingId == null || encodingId.isNull()) {
-                                if (dataTypeId != null && dataTypeId.getNamespaceIndex().intValue() != 0) {
-                                    logger.warn("encodingId is null for description={}", description);
-                                } else {
-                                    // Theres a number of missing structures in the built-in type dictionary;
-                                    // namely the service request and response structures. It's expected that
-                                    // we won't be able to create codecs for these.
-                                    logger.debug(
-                                        "dataTypeId and encodingId is null for description={}", description);
-                                }
-                            } else if (dataTypeId == null || dataTypeId.isNull()) {
-                                logger.warn("dataTypeId is null for description={}", description);
-                            } else {
-                                dictionary.registerStructCodec(
-                                    cd.getCodec(),
-                                    description,
-                                    dataTypeId,
-                                    encodingId
-                                );
-
-                                logger.debug(
-                                    "Registered codec description={} dataTypeId={} encodingId={}",
-                                    description, dataTypeId, encodingId
-                                );
-                            }
-                        });
-
-                        return dictionary;
-                    }
-                )
+                descriptionValues.thenCompose(descriptions -> {
+                    registerStructCodecs(dictionary, structCodecs, descriptions, dataTypeIds, encodingIds);
+
+                    return maybePutCacheEntry(
+                        entries,
+                        dictionaryNodeId,
+                        dictionaryBytes,
+                        dictionary.getNamespaceUri(),
+                        descriptions,
+                        dataTypeIds,
+                        encodingIds
+                    ).thenApply(u -> dictionary);
+                })
             )
         );
     }
 
+    private CompletableFuture<Unit> maybePutCacheEntry(
+        @Nullable Map<NodeId, DataTypeDictionaryCache.Entry> entries,
+        NodeId dictionaryNodeId,
+        ByteString dictionaryBytes,
+        String namespaceUri,
+        List<String> descriptions,
+        List<NodeId> dataTypeIds,
+        List<NodeId> encodingIds
+    ) {
+
+        if (entries == null) {
+            return completedFuture(Unit.VALUE);
+        }
+
+        return readVersionValues(dictionaryNodeId, namespaceUri)
+            .thenApply(versions -> {
+                if (versions.isEmpty()) {
+                    logger.debug("No version information for DataTypeDictionary " +
+                        "nodeId={}; it won't be cached", dictionaryNodeId);
+                } else {
+                    entries.put(dictionaryNodeId, new DataTypeDictionaryCache.Entry(
+                        dictionaryNodeId,
+                        dictionaryBytes,
+                        new ArrayList<>(versions.keySet()),
+                        new ArrayList<>(versions.values()),
+                        descriptions,
+                        dataTypeIds,
+                        encodingIds
+                    ));
+                }
+
+                return Unit.VALUE;
+            })
+            .exceptionally(ex -> {
+                logger.warn("Failed to read versions for DataTypeDictionary " +
+                    "nodeId={}; it won't be cached", dictionaryNodeId, ex);
+
+                return Unit.VALUE;
+            });
+    }
+
+    private void registerStructCodecs(
+        OpcUaBinaryDataTypeDictionary dictionary,
+        List<CodecDescription> structCodecs,
+        List<String> descriptions,
+        List<NodeId> dataTypeIds,
+        List<NodeId> encodingIds
+    ) {
+
+        Map<String, NodeId> encodingIdMap = new HashMap<>();
+        Map<String, NodeId> dataTypeIdMap = new HashMap<>();
+
+        if (descriptions.size() != encodingIds.size()) {
+            throw new IllegalStateException(String.format(
+                "descriptions.size() != encodingIds.size() (%s != %s)",
+                descriptions.size(), encodingIds.size()
+            ));
+        }
+
+        if (encodingIds.size() != dataTypeIds.size()) {
+            throw new IllegalStateException(String.format(
+                "encodingIds.size() != dataTypeIds.size() (%s != %s)",
+                encodingIds.size(), dataTypeIds.size()
+            ));
+        }
+
+        Iterator<String> descriptionIter = descriptions.iterator();
+        Iterator<NodeId> encodingIdIter = encodingIds.iterator();
+        Iterator<NodeId> dataTypeIdIter = dataTypeIds.iterator();
+
+        while (descriptionIter.hasNext() && encodingIdIter.hasNext() && dataTypeIdIter.hasNext()) {
+            String description = descriptionIter.next();
+            encodingIdMap.put(description, encodingIdIter.next());
+            dataTypeIdMap.put(description, dataTypeIdIter.next());
+        }
+
+        structCodecs.forEach(cd -> {
+            String description = cd.getDescription();
+            NodeId encodingId = encodingIdMap.get(description);
+            NodeId dataTypeId = dataTypeIdMap.get(description);
+
+            if (encodingId == null || encodingId.isNull()) {
+                if (dataTypeId != null && dataTypeId.getNamespaceIndex().intValue() != 0) {
+                    logger.warn("encodingId is null for description={}", description);
+                } else {
+                    // Theres a number of missing structures in the built-in type dictionary;
+                    // namely the service request and response structures. It's expected that
+                    // we won't be able to create codecs for these.
+                    logger.debug(
+                        "dataTypeId and encodingId is null for description={}", description);
+                }
+            } else if (dataTypeId == null || dataTypeId.isNull()) {
+                logger.warn("dataTypeId is null for description={}", description);
+            } else {
+                dictionary.registerStructCodec(
+                    cd.getCodec(),
+                    description,
+                    dataTypeId,
+                    encodingId
+                );
+
+                logger.debug(
+                    "Registered codec description={} dataTypeId={} encodingId={}",
+                    description, dataTypeId, encodingId
+                );
+            }
+        });
+    }
+
+    /**
+     * Read the values the version of the dictionary at {@code dictionaryNodeId} is validated
+     * against: its DataTypeVersion property and the NamespaceVersion and NamespacePublicationDate
+     * properties of the NamespaceMetadata object for {@code namespaceUri}, if present.
+     *
+     * @return the Good values read, by {@link NodeId}.
+     */
+    private CompletableFuture<Map<NodeId, Variant>> readVersionValues(NodeId dictionaryNodeId, String namespaceUri) {
+        CompletableFuture<List<NodeId>> dataTypeVersion = browseProperties(
+            dictionaryNodeId,
+            QN_DATA_TYPE_VERSION
+        );
+
+        CompletableFuture<List<NodeId>> namespaceVersion = browseNode(new BrowseDescription(
+            Identifiers.Server_Namespaces,
+            BrowseDirection.Forward,
+            Identifiers.HierarchicalReferences,
+            true,
+            uint(NodeClass.Object.getValue()),
+            uint(BrowseResultMask.All.getValue())
+        )).thenCompose(references -> {
+            Optional<NodeId> metadataNodeId = references.stream()
+                .filter(r -> namespaceUri.equals(r.getBrowseName().getName()))
+                .flatMap(r -> opt2stream(r.getNodeId().toNodeId(stackClient.getNamespaceTable())))
+                .findFirst();
+
+            return metadataNodeId
+                .map(nodeId -> browseProperties(nodeId, QN_NAMESPACE_VERSION, QN_NAMESPACE_PUBLICATION_DATE))
+                .orElse(completedFuture(Collections.emptyList()));
+        });
+
+        return dataTypeVersion.thenCombine(namespaceVersion, (l1, l2) -> {
+            List<NodeId> nodeIds = new ArrayList<>(l1);
+            nodeIds.addAll(l2);
+            return nodeIds;
+        }).thenCompose(nodeIds -> {
+            if (nodeIds.isEmpty()) {
+                return completedFuture(Collections.emptyMap());
+            }
+
+            List<ReadValueId> readValueIds = nodeIds.stream()
+                .map(nodeId -> new ReadValueId(nodeId, AttributeId.Value.uid(), null, QualifiedName.NULL_VALUE))
+                .collect(Collectors.toList());
+
+            return readNodes(readValueIds).thenApply(values -> {
+                Map<NodeId, Variant> versions = new LinkedHashMap<>();
+
+                for (int i = 0; i < nodeIds.size(); i++) {
+                    DataValue value = values.get(i);
+                    StatusCode statusCode = value.getStatusCode();
+
+                    // a null or empty value carries no version information
+                    if ((statusCode == null || statusCode.isGood()) &&
+                        DataTypeDictionaryCache.isVersion(value.getValue())) {
+
+                        versions.put(nodeIds.get(i), value.getValue());
+                    }
+                }
+
+                return versions;
+            });
+        });
+    }
+
+    private CompletableFuture<List<NodeId>> browseProperties(NodeId nodeId, QualifiedName... browseNames) {
+        List<QualifiedName> names = Arrays.asList(browseNames);
+
+        return browseNode(new BrowseDescription(
+            nodeId,
+            BrowseDirection.Forward,
+            Identifiers.HasProperty,
+            false,
+            uint(NodeClass.Variable.getValue()),
+            uint(BrowseResultMask.All.getValue())
+        )).thenApply(references ->
+            references.stream()
+                .filter(r -> names.contains(r.getBrowseName()))
+                .flatMap(r -> opt2stream(r.getNodeId().toNodeId(stackClient.getNamespaceTable())))
+                .collect(Collectors.toList())
+        );
+    }
+
     private CompletableFuture<List<NodeId>> browseDataTypeDescriptionNodeIds(NodeId dictionaryNodeId) {
         CompletableFuture<List<ReferenceDescription>> browseResult = browseNode(
             new BrowseDescription(
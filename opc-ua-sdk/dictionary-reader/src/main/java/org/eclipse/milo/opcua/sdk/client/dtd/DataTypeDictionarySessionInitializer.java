@@ -17,6 +17,7 @@ import org.eclipse.milo.opcua.sdk.client.OpcUaSession;
 import org.eclipse.milo.opcua.sdk.client.session.SessionFsm;
 import org.eclipse.milo.opcua.stack.client.UaStackClient;
 import org.eclipse.milo.opcua.stack.core.util.Unit;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,9 +26,22 @@ public class DataTypeDictionarySessionInitializer implements SessionFsm.SessionI
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
     private final BsdParser bsdParser;
+    private final DataTypeDictionaryCache cache;
 
     public DataTypeDictionarySessionInitializer(BsdParser bsdParser) {
+        this(bsdParser, null);
+    }
+
+    /**
+     * @param bsdParser the {@link BsdParser} used to parse dictionaries.
+     * @param cache     the {@link DataTypeDictionaryCache} dictionaries are read through, or
+     *                  {@code null} to read every dictionary from the server on each activation.
+     * @see DataTypeDictionaryReader#DataTypeDictionaryReader(UaStackClient, OpcUaSession, BsdParser,
+     * DataTypeDictionaryCache)
+     */
+    public DataTypeDictionarySessionInitializer(BsdParser bsdParser, @Nullable DataTypeDictionaryCache cache) {
         this.bsdParser = bsdParser;
+        this.cache = cache;
     }
 
     @Override
@@ -37,7 +51,8 @@ public class DataTypeDictionarySessionInitializer implements SessionFsm.SessionI
         DataTypeDictionaryReader reader = new DataTypeDictionaryReader(
             client,
             session,
-            bsdParser
+            bsdParser,
+            cache
         );
 
         return reader.readDataTypeDictionaries()
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.client.dtd;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.channel.EncodingLimits;
+import org.eclipse.milo.opcua.stack.core.serialization.SerializationContext;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DataTypeDictionaryCacheTest {
+
+    private static final String SERVER_URI = "urn:eclipse:milo:test";
+    private static final String[] NAMESPACES = {"http://opcfoundation.org/UA/", "urn:eclipse:milo:test"};
+    private static final DateTime PUBLICATION_DATE = new DateTime(132_000_000_000_000_000L);
+
+    private final SerializationContext context = Mockito.mock(SerializationContext.class);
+
+    private final DataTypeDictionaryCache.Entry entry = new DataTypeDictionaryCache.Entry(
+        new NodeId(1, "Dictionary"),
+        ByteString.of("<opc:TypeDictionary/>".getBytes()),
+        Arrays.asList(new NodeId(1, "DataTypeVersion"), new NodeId(1, "NamespacePublicationDate")),
+        Arrays.asList(new Variant("1.0"), new Variant(PUBLICATION_DATE)),
+        Arrays.asList("Foo", "Bar"),
+        Arrays.asList(new NodeId(1, "FooType"), new NodeId(1, "BarType")),
+        Arrays.asList(new NodeId(1, "FooType_Encoding"), new NodeId(1, "BarType_Encoding"))
+    );
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(context.getEncodingLimits()).thenReturn(EncodingLimits.DEFAULT);
+    }
+
+    @Test
+    void saveAndLoad(@TempDir Path directory) throws Exception {
+        DataTypeDictionaryCache cache = new DataTypeDictionaryCache(directory.resolve("dtd"));
+
+        assertTrue(cache.load(SERVER_URI, NAMESPACES, context).isEmpty());
+
+        cache.save(SERVER_URI, NAMESPACES, context, Collections.singletonList(entry));
+        assertTrue(Files.exists(cache.getPath(SERVER_URI)));
+
+        Map<NodeId, DataTypeDictionaryCache.Entry> entries = cache.load(SERVER_URI, NAMESPACES, context);
+        assertEquals(1, entries.size());
+
+        DataTypeDictionaryCache.Entry loaded = entries.get(entry.dictionaryNodeId);
+        assertNotNull(loaded);
+        assertEquals(entry.dictionaryBytes, loaded.dictionaryBytes);
+        assertEquals(entry.versionNodeIds, loaded.versionNodeIds);
+        assertEquals(entry.versionValues, loaded.versionValues);
+        assertEquals(entry.descriptions, loaded.descriptions);
+        assertEquals(entry.dataTypeIds, loaded.dataTypeIds);
+        assertEquals(entry.encodingIds, loaded.encodingIds);
+    }
+
+    @Test
+    void loadIgnoresChangedNamespaces(@TempDir Path directory) throws Exception {
+        DataTypeDictionaryCache cache = new DataTypeDictionaryCache(directory);
+
+        cache.save(SERVER_URI, NAMESPACES, context, Collections.singletonList(entry));
+
+        String[] namespaces = {"http://opcfoundation.org/UA/", "urn:other", "urn:eclipse:milo:test"};
+        assertTrue(cache.load(SERVER_URI, namespaces, context).isEmpty());
+        assertTrue(cache.load("urn:other", NAMESPACES, context).isEmpty());
+    }
+
+    @Test
+    void isCurrent() {
+        assertTrue(entry.isCurrent(Arrays.asList(
+            new DataValue(new Variant("1.0")),
+            new DataValue(new Variant(PUBLICATION_DATE))
+        )));
+
+        assertFalse(entry.isCurrent(Arrays.asList(
+            new DataValue(new Variant("1.1")),
+            new DataValue(new Variant(PUBLICATION_DATE))
+        )));
+
+        assertFalse(entry.isCurrent(Arrays.asList(
+            new DataValue(new Variant("1.0")),
+            new DataValue(new StatusCode(StatusCodes.Bad_NodeIdUnknown))
+        )));
+
+        assertFalse(entry.isCurrent(Collections.singletonList(
+            new DataValue(new Variant("1.0"))
+        )));
+    }
+
+    @Test
+    void emptyValuesAreNotVersions() {
+        assertFalse(DataTypeDictionaryCache.isVersion(null));
+        assertFalse(DataTypeDictionaryCache.isVersion(Variant.NULL_VALUE));
+        assertFalse(DataTypeDictionaryCache.isVersion(new Variant("")));
+        assertFalse(DataTypeDictionaryCache.isVersion(new Variant(DateTime.NULL_VALUE)));
+        assertTrue(DataTypeDictionaryCache.isVersion(new Variant("1.0")));
+
+        DataTypeDictionaryCache.Entry unversioned = new DataTypeDictionaryCache.Entry(
+            entry.dictionaryNodeId,
+            entry.dictionaryBytes,
+            Collections.singletonList(new NodeId(1, "DataTypeVersion")),
+            Collections.singletonList(Variant.NULL_VALUE),
+            entry.descriptions,
+            entry.dataTypeIds,
+            entry.encodingIds
+        );
+
+        assertFalse(unversioned.isCurrent(Collections.singletonList(new DataValue(Variant.NULL_VALUE))));
+    }
+
+}
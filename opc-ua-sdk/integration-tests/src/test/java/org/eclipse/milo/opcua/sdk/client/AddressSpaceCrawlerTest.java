@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.client;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.milo.opcua.sdk.client.AddressSpace.BrowseOptions;
+import org.eclipse.milo.opcua.sdk.test.AbstractClientServerTest;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReferenceDescription;
+import org.junit.jupiter.api.Test;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AddressSpaceCrawlerTest extends AbstractClientServerTest {
+
+    @Test
+    public void crawlMatchesRecursiveBrowse() throws Exception {
+        AddressSpace addressSpace = client.getAddressSpace();
+
+        // force continuation points and several Browse requests per level
+        BrowseOptions browseOptions = addressSpace.getBrowseOptions().copy(
+            b -> b.setMaxReferencesPerNode(uint(3))
+        );
+
+        OpcUaSession session = client.getSession().get();
+        OperationLimits limits = OperationLimits.get(client.getStackClient(), session).get();
+
+        Set<String> crawled = new HashSet<>();
+        long browsed;
+
+        try {
+            session.setAttribute(OperationLimits.SESSION_ATTRIBUTE_KEY, new OperationLimits(0, 0, 0, 5));
+
+            browsed = addressSpace.crawlAsync(
+                Identifiers.Server,
+                browseOptions,
+                3,
+                (nodeId, reference) ->
+                    assertTrue(crawled.add(nodeId + " -> " + reference.getNodeId()))
+            ).get();
+        } finally {
+            session.setAttribute(OperationLimits.SESSION_ATTRIBUTE_KEY, limits);
+        }
+
+        Set<String> expected = new HashSet<>();
+        Set<NodeId> visited = new HashSet<>();
+        Queue<NodeId> queue = new ArrayDeque<>();
+        visited.add(Identifiers.Server);
+        queue.add(Identifiers.Server);
+
+        while (!queue.isEmpty()) {
+            NodeId nodeId = queue.poll();
+
+            for (ReferenceDescription reference : addressSpace.browse(nodeId, browseOptions)) {
+                expected.add(nodeId + " -> " + reference.getNodeId());
+
+                reference.getNodeId().toNodeId(client.getNamespaceTable()).ifPresent(id -> {
+                    if (visited.add(id)) {
+                        queue.add(id);
+                    }
+                });
+            }
+        }
+
+        assertEquals(expected, crawled);
+        assertEquals(visited.size(), browsed);
+    }
+
+    @Test
+    public void crawlFailsWhenConsumerThrows() {
+        RuntimeException failure = new RuntimeException("stop");
+        AtomicInteger count = new AtomicInteger();
+
+        ExecutionException e = assertThrows(
+            ExecutionException.class,
+            () -> client.getAddressSpace().crawlAsync(
+                Identifiers.RootFolder,
+                (nodeId, reference) -> {
+                    if (count.incrementAndGet() == 10) {
+                        throw failure;
+                    }
+                }
+            ).get()
+        );
+
+        assertSame(failure, e.getCause());
+        assertEquals(10, count.get());
+    }
+
+    @Test
+    public void crawlReleasesContinuationPointsWhenConsumerThrows() throws Exception {
+        // force continuation points so some are held when the consumer throws
+        BrowseOptions browseOptions = client.getAddressSpace().getBrowseOptions().copy(
+            b -> b.setMaxReferencesPerNode(uint(1))
+        );
+
+        AtomicInteger count = new AtomicInteger();
+
+        assertThrows(
+            ExecutionException.class,
+            () -> client.getAddressSpace().crawlAsync(
+                Identifiers.RootFolder,
+                browseOptions,
+                AddressSpaceCrawler.DEFAULT_MAX_REQUESTS_IN_FLIGHT,
+                (nodeId, reference) -> {
+                    if (count.incrementAndGet() == 10) {
+                        throw new RuntimeException("stop");
+                    }
+                }
+            ).get()
+        );
+
+        for (int i = 0; i < 100 && heldContinuationPoints() > 0; i++) {
+            Thread.sleep(50);
+        }
+
+        assertEquals(0, heldContinuationPoints());
+    }
+
+    private int heldContinuationPoints() {
+        return server.getSessionManager().getAllSessions().stream()
+            .mapToInt(s -> s.getBrowseContinuationPoints().size())
+            .sum();
+    }
+
+}
@@ -10,13 +10,17 @@
 
 package org.eclipse.milo.opcua.sdk.client;
 
+import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.List;
 
 import org.eclipse.milo.opcua.sdk.client.AddressSpace.BrowseOptions;
 import org.eclipse.milo.opcua.sdk.client.model.nodes.objects.ServerTypeNode;
 import org.eclipse.milo.opcua.sdk.client.model.nodes.variables.ServerStatusTypeNode;
+import org.eclipse.milo.opcua.sdk.client.nodes.UaDataTypeNode;
+import org.eclipse.milo.opcua.sdk.client.nodes.UaMethodNode;
 import org.eclipse.milo.opcua.sdk.client.nodes.UaNode;
+import org.eclipse.milo.opcua.sdk.client.nodes.UaReferenceTypeNode;
 import org.eclipse.milo.opcua.sdk.client.nodes.UaVariableNode;
 import org.eclipse.milo.opcua.sdk.test.AbstractClientServerTest;
 import org.eclipse.milo.opcua.stack.core.BuiltinReferenceType;
@@ -26,11 +30,13 @@ import org.eclipse.milo.opcua.stack.core.UaException;
 import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.BrowseDirection;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.NodeClass;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReferenceDescription;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -253,6 +259,73 @@ public class AddressSpaceTest extends AbstractClientServerTest {
         );
     }
 
+    @Test
+    public void getNodes() throws UaException {
+        AddressSpace addressSpace = client.getAddressSpace();
+
+        List<NodeId> nodeIds = Arrays.asList(
+            Identifiers.Server,
+            Identifiers.Server_ServerStatus,
+            NodeId.parse("ns=2;s=DoesNotExist"),
+            Identifiers.BaseDataType,
+            Identifiers.HasComponent,
+            Identifiers.Server_GetMonitoredItems
+        );
+
+        nodeIds.forEach(addressSpace.getNodeCache()::invalidate);
+
+        OpcUaSession session = client.getSession().join();
+        OperationLimits limits = OperationLimits.get(client.getStackClient(), session).join();
+
+        try {
+            // force the attribute reads and type definition browses to be split up
+            session.setAttribute(OperationLimits.SESSION_ATTRIBUTE_KEY, new OperationLimits(5, 0, 0, 1));
+
+            List<UaNode> nodes = addressSpace.getNodes(nodeIds);
+
+            assertEquals(nodeIds.size(), nodes.size());
+            assertTrue(nodes.get(0) instanceof ServerTypeNode);
+            assertTrue(nodes.get(1) instanceof ServerStatusTypeNode);
+            assertNull(nodes.get(2));
+            assertTrue(nodes.get(3) instanceof UaDataTypeNode);
+            assertTrue(nodes.get(4) instanceof UaReferenceTypeNode);
+            assertTrue(nodes.get(5) instanceof UaMethodNode);
+
+            for (int i = 0; i < nodeIds.size(); i++) {
+                if (nodes.get(i) != null) {
+                    assertEquals(nodeIds.get(i), nodes.get(i).getNodeId());
+
+                    // should be cached now, check instance equality
+                    assertSame(nodes.get(i), addressSpace.getNode(nodeIds.get(i)));
+                }
+            }
+        } finally {
+            session.setAttribute(OperationLimits.SESSION_ATTRIBUTE_KEY, limits);
+        }
+    }
+
+    @Test
+    public void getReferencedNodes() throws Exception {
+        AddressSpace addressSpace = client.getAddressSpace();
+
+        List<ReferenceDescription> references = addressSpace.browse(Identifiers.Server);
+        references.forEach(r -> addressSpace.getNodeCache().invalidate(addressSpace.toNodeId(r.getNodeId())));
+
+        List<UaNode> nodes = addressSpace.getReferencedNodesAsync(references).get();
+
+        assertEquals(references.size(), nodes.size());
+
+        for (int i = 0; i < references.size(); i++) {
+            UaNode node = nodes.get(i);
+
+            assertNotNull(node);
+            assertEquals(addressSpace.toNodeId(references.get(i).getNodeId()), node.getNodeId());
+            assertEquals(references.get(i).getNodeClass(), node.getNodeClass());
+        }
+
+        assertTrue(nodes.stream().anyMatch(n -> n instanceof ServerStatusTypeNode));
+    }
+
     @Test
     public void getNodeThatDoesNotExist() {
         UaException exception = assertThrows(
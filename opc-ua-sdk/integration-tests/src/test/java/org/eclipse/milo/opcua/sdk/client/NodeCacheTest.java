@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.client;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.milo.opcua.sdk.client.AddressSpace.BrowseOptions;
+import org.eclipse.milo.opcua.sdk.client.nodes.UaNode;
+import org.eclipse.milo.opcua.sdk.server.events.EventRecord;
+import org.eclipse.milo.opcua.sdk.test.AbstractClientServerTest;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.BrowseDirection;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.ModelChangeStructureVerbMask;
+import org.eclipse.milo.opcua.stack.core.types.structured.ModelChangeStructureDataType;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReferenceDescription;
+import org.eclipse.milo.opcua.stack.core.util.NonceUtil;
+import org.junit.jupiter.api.Test;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NodeCacheTest extends AbstractClientServerTest {
+
+    @Test
+    public void browseResultsAreNotCachedByDefault() throws Exception {
+        AddressSpace addressSpace = client.getAddressSpace();
+        BrowseOptions browseOptions = addressSpace.getBrowseOptions();
+
+        assertFalse(addressSpace.getNodeCache().isBrowseCachingEnabled());
+
+        addressSpace.browse(Identifiers.Server);
+        assertNull(addressSpace.getNodeCache().getReferencesIfPresent(Identifiers.Server, browseOptions));
+    }
+
+    @Test
+    public void browseResultsAreCached() throws Exception {
+        AddressSpace addressSpace = client.getAddressSpace();
+        BrowseOptions browseOptions = addressSpace.getBrowseOptions();
+
+        addressSpace.getNodeCache().invalidate(Identifiers.Server);
+        addressSpace.getNodeCache().setBrowseCachingEnabled(true);
+
+        try {
+            List<ReferenceDescription> references = addressSpace.browse(Identifiers.Server);
+            List<ReferenceDescription> cached = addressSpace.getNodeCache()
+                .getReferencesIfPresent(Identifiers.Server, browseOptions);
+
+            assertEquals(references, cached);
+            assertSame(cached, addressSpace.browse(Identifiers.Server));
+
+            // a different BrowseOptions is a different browse result
+            BrowseOptions inverse = browseOptions.copy(b -> b.setBrowseDirection(BrowseDirection.Inverse));
+            assertNull(addressSpace.getNodeCache().getReferencesIfPresent(Identifiers.Server, inverse));
+
+            addressSpace.getNodeCache().invalidateReferences(Identifiers.Server);
+            assertNull(addressSpace.getNodeCache().getReferencesIfPresent(Identifiers.Server, browseOptions));
+        } finally {
+            addressSpace.getNodeCache().setBrowseCachingEnabled(false);
+            addressSpace.getNodeCache().invalidateAllReferences();
+        }
+    }
+
+    @Test
+    public void entriesAreWeighedByEstimatedSize() throws Exception {
+        UaNode node = client.getAddressSpace().getNode(Identifiers.Server);
+
+        NodeCache tiny = new NodeCache(1L);
+        tiny.put(Identifiers.Server, node);
+        assertNull(tiny.getIfPresent(Identifiers.Server));
+
+        NodeCache large = new NodeCache(NodeCache.DEFAULT_MAXIMUM_WEIGHT);
+        large.put(Identifiers.Server, node);
+        assertSame(node, large.getIfPresent(Identifiers.Server));
+    }
+
+    @Test
+    public void saveAndLoadBrowseResults() throws Exception {
+        AddressSpace addressSpace = client.getAddressSpace();
+        BrowseOptions browseOptions = addressSpace.getBrowseOptions();
+
+        NodeCache nodeCache = new NodeCache(NodeCache.DEFAULT_MAXIMUM_WEIGHT);
+        List<ReferenceDescription> references = addressSpace.browse(Identifiers.ObjectsFolder);
+        nodeCache.putReferences(Identifiers.ObjectsFolder, browseOptions, references);
+
+        Path file = Files.createTempFile("NodeCacheTest", ".bin");
+
+        try {
+            nodeCache.save(file, client);
+
+            NodeCache loaded = new NodeCache(NodeCache.DEFAULT_MAXIMUM_WEIGHT);
+            assertEquals(1, loaded.load(file, client));
+            assertEquals(references, loaded.getReferencesIfPresent(Identifiers.ObjectsFolder, browseOptions));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void modelChangeEventsInvalidateAffectedEntries() throws Exception {
+        AddressSpace addressSpace = client.getAddressSpace();
+        NodeCache nodeCache = addressSpace.getNodeCache();
+        BrowseOptions browseOptions = addressSpace.getBrowseOptions();
+
+        NodeCacheInvalidator invalidator = NodeCacheInvalidator.create(client);
+        assertTrue(nodeCache.isBrowseCachingEnabled());
+
+        try {
+            addressSpace.getNode(Identifiers.Server_ServerStatus);
+            addressSpace.getNode(Identifiers.Server_ServerCapabilities);
+            addressSpace.browse(Identifiers.Server);
+
+            postModelChange(Identifiers.Server_ServerStatus, ModelChangeStructureVerbMask.DataTypeChanged);
+
+            waitFor(() -> nodeCache.getIfPresent(Identifiers.Server_ServerStatus) == null);
+            assertNotNull(nodeCache.getIfPresent(Identifiers.Server_ServerCapabilities));
+            assertNotNull(nodeCache.getReferencesIfPresent(Identifiers.Server, browseOptions));
+
+            postModelChange(Identifiers.Server_ServerCapabilities, ModelChangeStructureVerbMask.NodeDeleted);
+
+            waitFor(() -> nodeCache.getIfPresent(Identifiers.Server_ServerCapabilities) == null);
+            // the Server's browse result referenced the deleted Node
+            assertNull(nodeCache.getReferencesIfPresent(Identifiers.Server, browseOptions));
+        } finally {
+            invalidator.delete();
+        }
+
+        assertFalse(nodeCache.isBrowseCachingEnabled());
+    }
+
+    private void postModelChange(NodeId affected, ModelChangeStructureVerbMask verb) {
+        ModelChangeStructureDataType change = new ModelChangeStructureDataType(
+            affected,
+            NodeId.NULL_VALUE,
+            ubyte(verb.getValue())
+        );
+
+        EventRecord event = EventRecord.builder(Identifiers.GeneralModelChangeEventType)
+            .setNodeId(new NodeId(1, UUID.randomUUID()))
+            .setEventId(NonceUtil.generateNonce(16))
+            .setSourceNode(Identifiers.Server)
+            .setSourceName("Server")
+            .setTime(DateTime.now())
+            .setReceiveTime(DateTime.NULL_VALUE)
+            .setMessage(LocalizedText.english("model changed"))
+            .setSeverity(ushort(0))
+            .setField(
+                new QualifiedName(0, "Changes"),
+                new ExtensionObject[]{ExtensionObject.encode(server.getSerializationContext(), change)}
+            )
+            .build();
+
+        assertTrue(server.getEventDispatcher().post(event));
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 100 && !condition.getAsBoolean(); i++) {
+            Thread.sleep(50);
+        }
+
+        assertTrue(condition.getAsBoolean());
+    }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.client;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.milo.opcua.sdk.client.api.config.OpcUaClientConfig;
+import org.eclipse.milo.opcua.sdk.test.AbstractClientServerTest;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RequestCoalescerTest extends AbstractClientServerTest {
+
+    private OpcUaClient coalescingClient;
+
+    @BeforeAll
+    public void connectCoalescingClient() throws Exception {
+        OpcUaClientConfig config = OpcUaClientConfig.copy(
+            client.getConfig(),
+            builder -> builder
+                .setRequestCoalescingWindow(uint(5000))
+                .setRequestCoalescingMaxSize(uint(100))
+        );
+
+        coalescingClient = OpcUaClient.create(config);
+        coalescingClient.connect().get();
+    }
+
+    @AfterAll
+    public void disconnectCoalescingClient() throws Exception {
+        coalescingClient.disconnect().get();
+    }
+
+    @Test
+    public void operationLimitsReadOncePerSession() throws Exception {
+        Object limits = coalescingClient.getSession().get().getAttribute(OperationLimits.SESSION_ATTRIBUTE_KEY);
+
+        assertNotNull(limits);
+        assertEquals(
+            server.getConfig().getLimits().getMaxNodesPerRead().intValue(),
+            ((OperationLimits) limits).getMaxNodesPerRead()
+        );
+    }
+
+    @Test
+    public void readsCoalescedAndSplitByOperationLimits() throws Exception {
+        OpcUaSession session = coalescingClient.getSession().get();
+        Object limits = session.getAttribute(OperationLimits.SESSION_ATTRIBUTE_KEY);
+
+        try {
+            session.setAttribute(
+                OperationLimits.SESSION_ATTRIBUTE_KEY,
+                new OperationLimits(10, 10, 10, 10)
+            );
+
+            List<NodeId> nodeIds = new ArrayList<>();
+            List<CompletableFuture<ReadResponse>> futures = new ArrayList<>();
+
+            // 100 single-node reads: the max size, so they're sent together without waiting for the window
+            for (int i = 0; i < 100; i++) {
+                // DataType Nodes i=1 (Boolean) through i=25 (DiagnosticInfo)
+                NodeId nodeId = new NodeId(0, uint(1 + i % 25));
+                nodeIds.add(nodeId);
+
+                futures.add(coalescingClient.read(
+                    0.0,
+                    TimestampsToReturn.Neither,
+                    Collections.singletonList(
+                        new ReadValueId(nodeId, AttributeId.NodeId.uid(), null, QualifiedName.NULL_VALUE)
+                    )
+                ));
+            }
+
+            Set<UInteger> requestHandles = new HashSet<>();
+
+            for (int i = 0; i < futures.size(); i++) {
+                ReadResponse response = futures.get(i).get();
+
+                assertNotNull(response.getResults());
+                assertEquals(1, response.getResults().length);
+                assertEquals(nodeIds.get(i), response.getResults()[0].getValue().getValue());
+
+                requestHandles.add(response.getResponseHeader().getRequestHandle());
+            }
+
+            // split into 10 requests of 10 by MaxNodesPerRead
+            assertEquals(10, requestHandles.size());
+        } finally {
+            session.setAttribute(OperationLimits.SESSION_ATTRIBUTE_KEY, limits);
+        }
+    }
+
+    @Test
+    public void readSpanningPartitions() throws Exception {
+        OpcUaSession session = coalescingClient.getSession().get();
+        Object limits = session.getAttribute(OperationLimits.SESSION_ATTRIBUTE_KEY);
+
+        try {
+            session.setAttribute(
+                OperationLimits.SESSION_ATTRIBUTE_KEY,
+                new OperationLimits(7, 7, 7, 7)
+            );
+
+            List<ReadValueId> readValueIds = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                NodeId nodeId = new NodeId(0, uint(1 + i % 25));
+                readValueIds.add(new ReadValueId(nodeId, AttributeId.NodeId.uid(), null, QualifiedName.NULL_VALUE));
+            }
+
+            ReadResponse response = coalescingClient.read(0.0, TimestampsToReturn.Neither, readValueIds).get();
+
+            assertNotNull(response.getResults());
+            assertEquals(readValueIds.size(), response.getResults().length);
+
+            for (int i = 0; i < readValueIds.size(); i++) {
+                assertTrue(response.getResults()[i].getStatusCode().isGood());
+                assertEquals(readValueIds.get(i).getNodeId(), response.getResults()[i].getValue().getValue());
+            }
+        } finally {
+            session.setAttribute(OperationLimits.SESSION_ATTRIBUTE_KEY, limits);
+        }
+    }
+
+}
@@ -10,21 +10,39 @@
 
 package org.eclipse.milo.opcua.sdk.client.subscriptions;
 
+import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
+import org.eclipse.milo.opcua.sdk.client.OpcUaClient;
+import org.eclipse.milo.opcua.sdk.server.events.EventRecord;
+import org.eclipse.milo.opcua.sdk.server.model.nodes.objects.BaseEventTypeNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.filters.AttributeFilters;
 import org.eclipse.milo.opcua.stack.core.AttributeId;
 import org.eclipse.milo.opcua.stack.core.Identifiers;
 import org.eclipse.milo.opcua.stack.core.StatusCodes;
 import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
 import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
 import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.FilterOperator;
 import org.eclipse.milo.opcua.stack.core.types.structured.ContentFilter;
+import org.eclipse.milo.opcua.stack.core.types.structured.ContentFilterElement;
+import org.eclipse.milo.opcua.stack.core.types.structured.ElementOperand;
 import org.eclipse.milo.opcua.stack.core.types.structured.EventFilter;
+import org.eclipse.milo.opcua.stack.core.types.structured.FilterOperand;
+import org.eclipse.milo.opcua.stack.core.types.structured.LiteralOperand;
 import org.eclipse.milo.opcua.stack.core.types.structured.SimpleAttributeOperand;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -90,6 +108,147 @@ public class ManagedEventItemTest extends AbstractManagedItemTest {
         assertTrue(latch.await(5, TimeUnit.SECONDS));
     }
 
+    @Test
+    public void eventValueListenerWithWhereClause() throws UaException, InterruptedException {
+        OpcUaClient client = subscription.getClient();
+
+        SimpleAttributeOperand severity = new SimpleAttributeOperand(
+            Identifiers.BaseEventType,
+            new QualifiedName[]{new QualifiedName(0, "Severity")},
+            AttributeId.Value.uid(),
+            null
+        );
+
+        // Not(Not(Severity == 2)), so ElementOperands are resolved against the compiled elements.
+        ContentFilter whereClause = new ContentFilter(new ContentFilterElement[]{
+            new ContentFilterElement(
+                FilterOperator.Not,
+                new ExtensionObject[]{encode(client, new ElementOperand(uint(1)))}
+            ),
+            new ContentFilterElement(
+                FilterOperator.Not,
+                new ExtensionObject[]{encode(client, new ElementOperand(uint(2)))}
+            ),
+            new ContentFilterElement(
+                FilterOperator.Equals,
+                new ExtensionObject[]{
+                    encode(client, severity),
+                    encode(client, new LiteralOperand(new Variant(ushort(2))))
+                }
+            )
+        });
+
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        ManagedEventItem eventItem = subscription.createEventItem(
+            Identifiers.Server,
+            new EventFilter(eventFilter.getSelectClauses(), whereClause),
+            item -> item.addEventValueListener((i, value) -> {
+                if ("event message!".equals(((LocalizedText) value[2].getValue()).getText())) {
+                    latch.countDown();
+                }
+            })
+        );
+
+        assertTrue(eventItem.getStatusCode().isGood());
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void eventRecordWithWhereClause() throws UaException, InterruptedException {
+        OpcUaClient client = subscription.getClient();
+
+        SimpleAttributeOperand severity = new SimpleAttributeOperand(
+            Identifiers.BaseEventType,
+            new QualifiedName[]{new QualifiedName(0, "Severity")},
+            AttributeId.Value.uid(),
+            null
+        );
+
+        ContentFilter whereClause = new ContentFilter(new ContentFilterElement[]{
+            new ContentFilterElement(
+                FilterOperator.GreaterThan,
+                new ExtensionObject[]{
+                    encode(client, severity),
+                    encode(client, new LiteralOperand(new Variant(ushort(500))))
+                }
+            )
+        });
+
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        ManagedEventItem eventItem = subscription.createEventItem(
+            Identifiers.Server,
+            new EventFilter(eventFilter.getSelectClauses(), whereClause),
+            item -> item.addEventValueListener((i, value) -> {
+                if ("event record!".equals(((LocalizedText) value[2].getValue()).getText())) {
+                    latch.countDown();
+                }
+            })
+        );
+
+        assertTrue(eventItem.getStatusCode().isGood());
+
+        EventRecord event = EventRecord.builder(Identifiers.BaseEventType)
+            .setEventId(ByteString.of(new byte[]{1, 2, 3, 4}))
+            .setSourceNode(Identifiers.Server)
+            .setSourceName("Server")
+            .setTime(DateTime.now())
+            .setReceiveTime(DateTime.NULL_VALUE)
+            .setMessage(LocalizedText.english("event record!"))
+            .setSeverity(ushort(700))
+            .build();
+
+        server.getEventDispatcher().post(event);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void eventNodeFieldsReadThroughFilters() throws UaException, InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        ManagedEventItem eventItem = subscription.createEventItem(
+            Identifiers.Server,
+            eventFilter,
+            item -> item.addEventValueListener((i, value) -> {
+                if ("filtered message!".equals(((LocalizedText) value[2].getValue()).getText())) {
+                    latch.countDown();
+                }
+            })
+        );
+
+        assertTrue(eventItem.getStatusCode().isGood());
+
+        BaseEventTypeNode eventNode = server.getEventFactory().createEvent(
+            new NodeId(1, UUID.randomUUID()),
+            Identifiers.BaseEventType
+        );
+
+        try {
+            eventNode.setEventId(ByteString.of(new byte[]{1, 2, 3, 4}));
+            eventNode.setSourceNode(Identifiers.Server);
+            eventNode.setTime(DateTime.now());
+            eventNode.setMessage(LocalizedText.english("unfiltered message!"));
+            eventNode.setSeverity(ushort(2));
+
+            eventNode.getMessageNode().getFilterChain().addLast(
+                AttributeFilters.getValue(ctx -> new DataValue(new Variant(LocalizedText.english("filtered message!"))))
+            );
+
+            server.getEventDispatcher().post(eventNode);
+        } finally {
+            eventNode.delete();
+        }
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    private static ExtensionObject encode(OpcUaClient client, FilterOperand operand) {
+        return ExtensionObject.encode(client.getStaticSerializationContext(), operand);
+    }
+
     @Test
     public void addRemoveEventValueListener() throws UaException {
         ManagedEventItem eventItem = subscription.createEventItem(Identifiers.Server, eventFilter);
@@ -11,6 +11,7 @@
 package org.eclipse.milo.opcua.sdk.client;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -18,10 +19,12 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import org.eclipse.milo.opcua.sdk.client.ObjectTypeManager.ObjectNodeConstructor;
 import org.eclipse.milo.opcua.sdk.client.nodes.UaDataTypeNode;
@@ -55,6 +58,7 @@ import org.eclipse.milo.opcua.stack.core.types.structured.BrowseResult;
 import org.eclipse.milo.opcua.stack.core.types.structured.ReadResponse;
 import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
 import org.eclipse.milo.opcua.stack.core.types.structured.ReferenceDescription;
+import org.eclipse.milo.opcua.stack.core.util.FutureUtils;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -118,6 +122,95 @@ public class AddressSpace {
         }
     }
 
+    /**
+     * Get {@link UaNode} instances for the Nodes identified by {@code nodeIds}.
+     *
+     * @param nodeIds the {@link NodeId}s identifying the Nodes to get.
+     * @return a List of {@link UaNode} instances, in the same order as {@code nodeIds}. The entry
+     * for any Node that could not be created, including because a Read or Browse request failed,
+     * is {@code null}.
+     * @throws UaException if no session is available.
+     * @see #getNodesAsync(List)
+     */
+    public List<UaNode> getNodes(List<NodeId> nodeIds) throws UaException {
+        try {
+            return getNodesAsync(nodeIds).get();
+        } catch (ExecutionException | InterruptedException e) {
+            throw UaException.extract(e)
+                .orElse(new UaException(StatusCodes.Bad_UnexpectedError, e));
+        }
+    }
+
+    /**
+     * Get {@link UaNode} instances for the Nodes identified by {@code nodeIds}.
+     * <p>
+     * Nodes already in the {@link NodeCache} are returned from it. The attributes of the remaining
+     * Nodes are read using as few Read requests as the server's {@link OperationLimits} allow, and
+     * the type definitions of any Object and Variable Nodes are read in a single batch of Browse
+     * requests. Every Node created is added to the {@link NodeCache}.
+     * <p>
+     * A Read or Browse request that fails doesn't fail the whole call; the Nodes it covered are
+     * returned as {@code null} entries instead.
+     * <p>
+     * This call completes asynchronously.
+     *
+     * @param nodeIds the {@link NodeId}s identifying the Nodes to get.
+     * @return a CompletableFuture that completes successfully with a List of {@link UaNode}
+     * instances, in the same order as {@code nodeIds}, or completes exceptionally if no session
+     * is available. The entry for any Node that could not be created is {@code null}.
+     */
+    public CompletableFuture<List<UaNode>> getNodesAsync(List<NodeId> nodeIds) {
+        List<NodeRequest> requests = new ArrayList<>(nodeIds.size());
+
+        for (int i = 0; i < nodeIds.size(); i++) {
+            requests.add(new NodeRequest(i, nodeIds.get(i), null, null));
+        }
+
+        return createNodes(requests);
+    }
+
+    /**
+     * Get {@link UaNode} instances for the Nodes targeted by {@code references}.
+     * <p>
+     * This behaves like {@link #getNodesAsync(List)}, but the {@link NodeClass} and type definition
+     * in each {@link ReferenceDescription} are used instead of being read from the server.
+     * <p>
+     * This call completes asynchronously.
+     *
+     * @param references the {@link ReferenceDescription}s targeting the Nodes to get.
+     * @return a CompletableFuture that completes successfully with a List of {@link UaNode}
+     * instances, in the same order as {@code references}, or completes exceptionally if no
+     * session is available. The entry for any Node that could not be created is {@code null}.
+     */
+    public CompletableFuture<List<UaNode>> getReferencedNodesAsync(List<ReferenceDescription> references) {
+        List<CompletableFuture<NodeRequest>> requests = new ArrayList<>(references.size());
+
+        for (int i = 0; i < references.size(); i++) {
+            int index = i;
+            ReferenceDescription reference = references.get(i);
+            NodeClass nodeClass = reference.getNodeClass();
+
+            CompletableFuture<NodeId> typeDefinitionFuture =
+                nodeClass == NodeClass.Object || nodeClass == NodeClass.Variable ?
+                    toNodeIdAsync(reference.getTypeDefinition()) :
+                    completedFuture(NodeId.NULL_VALUE);
+
+            requests.add(
+                toNodeIdAsync(reference.getNodeId()).thenCombine(
+                    typeDefinitionFuture,
+                    (nodeId, typeDefinitionId) -> new NodeRequest(
+                        index,
+                        nodeId,
+                        nodeClass == null || nodeClass == NodeClass.Unspecified ? null : nodeClass,
+                        typeDefinitionId.isNull() ? null : typeDefinitionId
+                    )
+                )
+            );
+        }
+
+        return FutureUtils.sequence(requests).thenCompose(this::createNodes);
+    }
+
     /**
      * Get a {@link UaObjectNode} instance for the ObjectNode identified by {@code nodeId}.
      * <p>
@@ -462,7 +555,24 @@ public class AddressSpace {
             uint(BrowseResultMask.All.getValue())
         );
 
-        return BrowseHelper.browse(client, browseDescription, browseOptions.getMaxReferencesPerNode());
+        NodeCache nodeCache = getNodeCache();
+
+        if (!nodeCache.isBrowseCachingEnabled()) {
+            return BrowseHelper.browse(client, browseDescription, browseOptions.getMaxReferencesPerNode());
+        }
+
+        List<ReferenceDescription> cachedReferences = nodeCache.getReferencesIfPresent(nodeId, browseOptions);
+
+        if (cachedReferences != null) {
+            return completedFuture(cachedReferences);
+        } else {
+            return BrowseHelper.browse(client, browseDescription, browseOptions.getMaxReferencesPerNode())
+                .thenApply(references -> {
+                    nodeCache.putReferences(nodeId, browseOptions, references);
+
+                    return references;
+                });
+        }
     }
 
     /**
@@ -594,93 +704,55 @@ public class AddressSpace {
      * exceptionally if a service-level error occurs.
      */
     public CompletableFuture<List<? extends UaNode>> browseNodesAsync(NodeId nodeId, BrowseOptions browseOptions) {
-        BrowseDescription browseDescription = new BrowseDescription(
-            nodeId,
-            browseOptions.getBrowseDirection(),
-            browseOptions.getReferenceTypeId(),
-            browseOptions.isIncludeSubtypes(),
-            browseOptions.getNodeClassMask(),
-            uint(BrowseResultMask.All.getValue())
-        );
+        return browseAsync(nodeId, browseOptions)
+            .thenCompose(this::getReferencedNodesAsync)
+            .thenApply(nodes -> nodes.stream().filter(Objects::nonNull).collect(Collectors.toList()));
+    }
 
-        CompletableFuture<List<ReferenceDescription>> browse = BrowseHelper.browse(
-            client,
-            browseDescription,
-            browseOptions.getMaxReferencesPerNode()
+    /**
+     * Crawl the hierarchy below {@code nodeId} using the currently configured {@link BrowseOptions}.
+     * <p>
+     * This call completes asynchronously.
+     *
+     * @param nodeId   the {@link NodeId} to start the crawl from.
+     * @param consumer the consumer that receives each browsed Node and its references.
+     * @return a CompletableFuture that completes successfully with the number of Nodes browsed or
+     * completes exceptionally if a service-level error occurs.
+     * @see #crawlAsync(NodeId, BrowseOptions, int, BiConsumer)
+     */
+    public CompletableFuture<Long> crawlAsync(NodeId nodeId, BiConsumer<NodeId, ReferenceDescription> consumer) {
+        return crawlAsync(
+            nodeId,
+            getBrowseOptions(),
+            AddressSpaceCrawler.DEFAULT_MAX_REQUESTS_IN_FLIGHT,
+            consumer
         );
-
-        return browse.thenCompose(references -> {
-            List<CompletableFuture<? extends UaNode>> cfs = references.stream()
-                .map(reference -> {
-                    NodeClass nodeClass = reference.getNodeClass();
-                    ExpandedNodeId xNodeId = reference.getNodeId();
-                    ExpandedNodeId xTypeDefinitionId = reference.getTypeDefinition();
-
-                    switch (nodeClass) {
-                        case Object:
-                        case Variable: {
-                            CompletableFuture<CompletableFuture<? extends UaNode>> ff =
-                                toNodeIdAsync(xNodeId).thenCombine(
-                                    toNodeIdAsync(xTypeDefinitionId),
-                                    (targetNodeId, typeDefinitionId) -> {
-                                        if (nodeClass == NodeClass.Object) {
-                                            return getObjectNodeAsync(targetNodeId, typeDefinitionId);
-                                        } else {
-                                            return getVariableNodeAsync(targetNodeId, typeDefinitionId);
-                                        }
-                                    }
-                                );
-
-                            return unwrap(ff).exceptionally(ex -> {
-                                logger.warn("Failed to create Node from Reference to {}", reference.getNodeId(), ex);
-                                return null;
-                            });
-                        }
-                        default: {
-                            // TODO specialized getNode for other NodeClasses?
-                            return toNodeIdAsync(xNodeId).thenCompose(this::getNodeAsync).exceptionally(ex -> {
-                                logger.warn("Failed to create Node from Reference to {}", reference.getNodeId(), ex);
-                                return null;
-                            });
-                        }
-                    }
-                })
-                .collect(Collectors.toList());
-
-            return sequence(cfs);
-        });
     }
 
-    private static CompletableFuture<List<? extends UaNode>> sequence(
-        List<CompletableFuture<? extends UaNode>> cfs
+    /**
+     * Crawl the hierarchy below {@code nodeId} using {@code browseOptions}, browsing many Nodes per
+     * request with up to {@code maxRequestsInFlight} requests outstanding.
+     * <p>
+     * This call completes asynchronously.
+     *
+     * @param nodeId              the {@link NodeId} to start the crawl from.
+     * @param browseOptions       the {@link BrowseOptions} selecting the references to follow.
+     * @param maxRequestsInFlight the maximum number of requests outstanding at any time.
+     * @param consumer            the consumer that receives each browsed Node and its references.
+     * @return a CompletableFuture that completes successfully with the number of Nodes browsed or
+     * completes exceptionally if a service-level error occurs.
+     * @see AddressSpaceCrawler#crawl(List, BiConsumer)
+     */
+    public CompletableFuture<Long> crawlAsync(
+        NodeId nodeId,
+        BrowseOptions browseOptions,
+        int maxRequestsInFlight,
+        BiConsumer<NodeId, ReferenceDescription> consumer
     ) {
 
-        if (cfs.isEmpty()) {
-            return completedFuture(Collections.emptyList());
-        }
-
-        @SuppressWarnings("rawtypes")
-        CompletableFuture[] fa = cfs.toArray(new CompletableFuture[0]);
-
-        return CompletableFuture.allOf(fa).thenApply(v -> {
-            List<UaNode> results = new ArrayList<>(cfs.size());
-
-            for (CompletableFuture<? extends UaNode> cf : cfs) {
-                UaNode node = cf.join();
-                if (node != null) {
-                    results.add(node);
-                }
-            }
-
-            return results;
-        });
-    }
-
-    private static CompletableFuture<? extends UaNode> unwrap(
-        CompletableFuture<CompletableFuture<? extends UaNode>> future
-    ) {
+        AddressSpaceCrawler crawler = new AddressSpaceCrawler(client, browseOptions, maxRequestsInFlight);
 
-        return future.thenCompose(node -> node);
+        return crawler.crawl(Collections.singletonList(nodeId), consumer);
     }
 
     /**
@@ -791,22 +863,131 @@ public class AddressSpace {
             uint(BrowseResultMask.All.getValue())
         ));
 
-        return browseFuture.thenCompose(result -> {
-            if (result.getStatusCode().isGood()) {
-                Optional<ExpandedNodeId> typeDefinitionId = l(result.getReferences())
-                    .stream()
-                    .filter(r -> Objects.equals(Identifiers.HasTypeDefinition, r.getReferenceTypeId()))
-                    .map(ReferenceDescription::getNodeId)
-                    .findFirst();
+        return browseFuture.thenCompose(this::getTypeDefinitionId);
+    }
 
-                return typeDefinitionId.map(this::toNodeIdAsync)
-                    .orElse(completedFuture(NodeId.NULL_VALUE));
-            } else {
-                return completedFuture(NodeId.NULL_VALUE);
-            }
+    private CompletableFuture<NodeId> getTypeDefinitionId(@Nullable BrowseResult result) {
+        if (result != null && result.getStatusCode().isGood()) {
+            Optional<ExpandedNodeId> typeDefinitionId = l(result.getReferences())
+                .stream()
+                .filter(r -> Objects.equals(Identifiers.HasTypeDefinition, r.getReferenceTypeId()))
+                .map(ReferenceDescription::getNodeId)
+                .findFirst();
+
+            return typeDefinitionId.map(this::toNodeIdAsync)
+                .orElse(completedFuture(NodeId.NULL_VALUE));
+        } else {
+            return completedFuture(NodeId.NULL_VALUE);
+        }
+    }
+
+    /**
+     * Read the type definitions of the Nodes identified by {@code nodeIds}, using as few Browse
+     * requests as the server's {@link OperationLimits} allow.
+     *
+     * @param nodeIds the {@link NodeId}s of the Nodes to read the type definition of.
+     * @return the type definition of each Node, in the same order as {@code nodeIds}, or
+     * {@link NodeId#NULL_VALUE} if it could not be read.
+     */
+    private CompletableFuture<List<NodeId>> readTypeDefinitions(List<NodeId> nodeIds) {
+        if (nodeIds.isEmpty()) {
+            return completedFuture(Collections.emptyList());
+        }
+
+        List<BrowseDescription> nodesToBrowse = nodeIds.stream()
+            .map(nodeId ->
+                new BrowseDescription(
+                    nodeId,
+                    BrowseDirection.Forward,
+                    Identifiers.HasTypeDefinition,
+                    false,
+                    uint(NodeClass.ObjectType.getValue() | NodeClass.VariableType.getValue()),
+                    uint(BrowseResultMask.All.getValue())
+                )
+            )
+            .collect(Collectors.toList());
+
+        return getOperationLimits().thenCompose(limits -> {
+            List<CompletableFuture<List<BrowseResult>>> futures = partition(
+                nodesToBrowse,
+                limits.getMaxNodesPerBrowse()
+            ).stream().map(partition ->
+                client.browse(partition).exceptionally(ex -> {
+                    logger.warn("Failed to browse type definitions", ex);
+                    return Collections.nCopies(partition.size(), null);
+                })
+            ).collect(Collectors.toList());
+
+            return FutureUtils.sequence(futures).thenCompose(results -> {
+                List<CompletableFuture<NodeId>> typeDefinitionIds = results.stream()
+                    .flatMap(List::stream)
+                    .map(this::getTypeDefinitionId)
+                    .collect(Collectors.toList());
+
+                return FutureUtils.sequence(typeDefinitionIds);
+            });
         });
     }
 
+    /**
+     * Read {@code readValueIds} using as few Read requests as the server's {@link OperationLimits}
+     * allow.
+     * <p>
+     * The results of a request that fails are filled in with a bad {@link DataValue} rather than
+     * failing the whole read.
+     *
+     * @param readValueIds the {@link ReadValueId}s to read.
+     * @return the value of each {@link ReadValueId}, in the same order as {@code readValueIds}.
+     */
+    private CompletableFuture<List<DataValue>> readValues(List<ReadValueId> readValueIds) {
+        if (readValueIds.isEmpty()) {
+            return completedFuture(Collections.emptyList());
+        }
+
+        return getOperationLimits().thenCompose(limits -> {
+            List<CompletableFuture<List<DataValue>>> futures = partition(
+                readValueIds,
+                limits.getMaxNodesPerRead()
+            ).stream().map(partition ->
+                client.read(0.0, TimestampsToReturn.Neither, partition)
+                    .thenApply(response -> {
+                        List<DataValue> results = l(response.getResults());
+
+                        if (results.size() == partition.size()) {
+                            return results;
+                        } else {
+                            return Collections.nCopies(
+                                partition.size(),
+                                new DataValue(new StatusCode(StatusCodes.Bad_UnexpectedError))
+                            );
+                        }
+                    })
+                    .exceptionally(ex -> {
+                        StatusCode statusCode = UaException.extractStatusCode(ex)
+                            .orElse(new StatusCode(StatusCodes.Bad_UnexpectedError));
+
+                        return Collections.nCopies(partition.size(), new DataValue(statusCode));
+                    })
+            ).collect(Collectors.toList());
+
+            return FutureUtils.sequence(futures).thenApply(results ->
+                results.stream()
+                    .flatMap(List::stream)
+                    .collect(Collectors.toList())
+            );
+        });
+    }
+
+    private CompletableFuture<OperationLimits> getOperationLimits() {
+        return client.getSession().thenCompose(
+            session -> OperationLimits.get(client.getStackClient(), session)
+        );
+    }
+
+    private static <T> List<List<T>> partition(List<T> list, int size) {
+        return size > 0 ? Lists.partition(list, size) : Collections.singletonList(list);
+    }
+
     /**
      * Create a {@link UaNode} instance without prior knowledge of the {@link NodeClass} or type
      * definition, if applicable.
@@ -1099,6 +1280,172 @@ public class AddressSpace {
         });
     }
 
+    /**
+     * Create {@link UaNode} instances for {@code requests}, reading the attributes of every Node
+     * together rather than Node by Node.
+     * <p>
+     * Nodes whose {@link NodeClass} isn't known have their base attributes read first; the rest of
+     * the attributes for every Node are then read together, alongside the type definitions of any
+     * Object and Variable Nodes whose type definition isn't known.
+     *
+     * @param requests the {@link NodeRequest}s to create Nodes for.
+     * @return the created Nodes, indexed by {@link NodeRequest#index}. The entry for any Node that
+     * could not be created is {@code null}.
+     */
+    private CompletableFuture<List<UaNode>> createNodes(List<NodeRequest> requests) {
+        UaNode[] nodes = new UaNode[requests.size()];
+
+        List<NodeRequest> classified = new ArrayList<>();
+        List<NodeRequest> unclassified = new ArrayList<>();
+
+        for (NodeRequest request : requests) {
+            if (request.nodeId.isNull()) {
+                continue;
+            }
+
+            UaNode cachedNode = nodeCache.getIfPresent(request.nodeId);
+
+            if (cachedNode != null) {
+                nodes[request.index] = cachedNode;
+            } else if (request.nodeClass != null) {
+                classified.add(request);
+            } else {
+                unclassified.add(request);
+            }
+        }
+
+        List<ReadValueId> baseReadValueIds = new ArrayList<>();
+        unclassified.forEach(request -> addReadValueIds(baseReadValueIds, request.nodeId, AttributeId.BASE_ATTRIBUTES));
+
+        return readValues(baseReadValueIds).thenCompose(baseValues -> {
+            int baseAttributeCount = AttributeId.BASE_ATTRIBUTES.size();
+
+            for (int i = 0; i < unclassified.size(); i++) {
+                NodeRequest request = unclassified.get(i);
+
+                List<DataValue> baseAttributeValues = baseValues.subList(
+                    i * baseAttributeCount,
+                    (i + 1) * baseAttributeCount
+                );
+
+                NodeClass nodeClass = getNodeClass(baseAttributeValues);
+
+                if (nodeClass != null) {
+                    request.nodeClass = nodeClass;
+                    request.attributeValues.addAll(baseAttributeValues);
+                    classified.add(request);
+                } else {
+                    logger.warn("Failed to create Node {}: {}", request.nodeId, baseAttributeValues.get(0));
+                }
+            }
+
+            List<ReadValueId> readValueIds = new ArrayList<>();
+            List<Integer> attributeCounts = new ArrayList<>(classified.size());
+            List<NodeRequest> untyped = new ArrayList<>();
+
+            for (NodeRequest request : classified) {
+                Set<AttributeId> attributeIds = AttributeId.getAttributes(request.nodeClass);
+
+                if (!request.attributeValues.isEmpty()) {
+                    attributeIds = Sets.difference(attributeIds, AttributeId.BASE_ATTRIBUTES);
+                }
+
+                addReadValueIds(readValueIds, request.nodeId, attributeIds);
+                attributeCounts.add(attributeIds.size());
+
+                if ((request.nodeClass == NodeClass.Object || request.nodeClass == NodeClass.Variable) &&
+                    request.typeDefinitionId == null) {
+
+                    untyped.add(request);
+                }
+            }
+
+            CompletableFuture<List<DataValue>> valuesFuture = readValues(readValueIds);
+
+            CompletableFuture<List<NodeId>> typeDefinitionsFuture = readTypeDefinitions(
+                untyped.stream().map(request -> request.nodeId).collect(Collectors.toList())
+            );
+
+            return valuesFuture.thenCombine(typeDefinitionsFuture, (values, typeDefinitionIds) -> {
+                for (int i = 0; i < untyped.size(); i++) {
+                    untyped.get(i).typeDefinitionId = typeDefinitionIds.get(i);
+                }
+
+                int offset = 0;
+
+                for (int i = 0; i < classified.size(); i++) {
+                    NodeRequest request = classified.get(i);
+                    int attributeCount = attributeCounts.get(i);
+
+                    request.attributeValues.addAll(values.subList(offset, offset + attributeCount));
+                    offset += attributeCount;
+
+                    try {
+                        UaNode node = newNode(request);
+
+                        nodeCache.put(node.getNodeId(), node);
+
+                        nodes[request.index] = node;
+                    } catch (UaException e) {
+                        logger.warn("Failed to create Node {}", request.nodeId, e);
+                    }
+                }
+
+                return Arrays.asList(nodes);
+            });
+        });
+    }
+
+    private UaNode newNode(NodeRequest request) throws UaException {
+        NodeId nodeId = request.nodeId;
+        NodeId typeDefinitionId = request.typeDefinitionId != null ? request.typeDefinitionId : NodeId.NULL_VALUE;
+        List<DataValue> attributeValues = request.attributeValues;
+
+        switch (Objects.requireNonNull(request.nodeClass)) {
+            case DataType:
+                return newDataTypeNode(nodeId, attributeValues);
+            case Method:
+                return newMethodNode(nodeId, attributeValues);
+            case Object:
+                return newObjectNode(nodeId, typeDefinitionId, attributeValues);
+            case ObjectType:
+                return newObjectTypeNode(nodeId, attributeValues);
+            case ReferenceType:
+                return newReferenceTypeNode(nodeId, attributeValues);
+            case Variable:
+                return newVariableNode(nodeId, typeDefinitionId, attributeValues);
+            case VariableType:
+                return newVariableTypeNode(nodeId, attributeValues);
+            case View:
+                return newViewNode(nodeId, attributeValues);
+            default:
+                throw new UaException(StatusCodes.Bad_NodeClassInvalid, "NodeClass: " + request.nodeClass);
+        }
+    }
+
+    @Nullable
+    private static NodeClass getNodeClass(List<DataValue> baseAttributeValues) {
+        StatusCode nodeIdStatusCode = baseAttributeValues.get(0).getStatusCode();
+        if (nodeIdStatusCode != null && nodeIdStatusCode.isBad()) {
+            return null;
+        }
+
+        Integer nodeClassValue = getAttributeOrNull(baseAttributeValues.get(1), Integer.class);
+        if (nodeClassValue == null) {
+            return null;
+        }
+
+        NodeClass nodeClass = NodeClass.from(nodeClassValue);
+
+        return nodeClass != NodeClass.Unspecified ? nodeClass : null;
+    }
+
+    private static void addReadValueIds(List<ReadValueId> readValueIds, NodeId nodeId, Set<AttributeId> attributeIds) {
+        for (AttributeId attributeId : attributeIds) {
+            readValueIds.add(new ReadValueId(nodeId, attributeId.uid(), null, QualifiedName.NULL_VALUE));
+        }
+    }
+
     private CompletableFuture<ReadResponse> readAttributes(NodeId nodeId, Set<AttributeId> attributeIds) {
         List<ReadValueId> readValueIds = attributeIds.stream()
             .map(id ->
@@ -1503,6 +1850,28 @@ public class AddressSpace {
         }
     }
 
+    /**
+     * A Node to be created by {@link #createNodes(List)}, along with whatever is already known
+     * about it.
+     */
+    private static class NodeRequest {
+
+        final int index;
+        final NodeId nodeId;
+        final List<DataValue> attributeValues = new ArrayList<>();
+
+        @Nullable NodeClass nodeClass;
+        @Nullable NodeId typeDefinitionId;
+
+        NodeRequest(int index, NodeId nodeId, @Nullable NodeClass nodeClass, @Nullable NodeId typeDefinitionId) {
+            this.index = index;
+            this.nodeId = nodeId;
+            this.nodeClass = nodeClass;
+            this.typeDefinitionId = typeDefinitionId;
+        }
+
+    }
+
     public static class BrowseOptions {
 
         private final BrowseDirection browseDirection;
@@ -1550,6 +1919,23 @@ public class AddressSpace {
             return maxReferencesPerNode;
         }
 
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            BrowseOptions that = (BrowseOptions) o;
+            return includeSubtypes == that.includeSubtypes &&
+                browseDirection == that.browseDirection &&
+                Objects.equals(referenceTypeId, that.referenceTypeId) &&
+                Objects.equals(nodeClassMask, that.nodeClassMask) &&
+                Objects.equals(maxReferencesPerNode, that.maxReferencesPerNode);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(browseDirection, referenceTypeId, includeSubtypes, nodeClassMask, maxReferencesPerNode);
+        }
+
         public BrowseOptions copy(Consumer<Builder> builderConsumer) {
             Builder builder = new Builder(this);
 
@@ -0,0 +1,426 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.client;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import com.google.common.base.Preconditions;
+import org.eclipse.milo.opcua.sdk.client.AddressSpace.BrowseOptions;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.BrowseResultMask;
+import org.eclipse.milo.opcua.stack.core.types.structured.BrowseDescription;
+import org.eclipse.milo.opcua.stack.core.types.structured.BrowseResult;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReferenceDescription;
+import org.eclipse.milo.opcua.stack.core.types.structured.ViewDescription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.eclipse.milo.opcua.stack.core.util.ConversionUtil.l;
+
+/**
+ * Crawls the hierarchy of an address space, starting from one or more Nodes and following the
+ * references selected by a {@link BrowseOptions} until no unvisited Nodes remain.
+ * <p>
+ * Many Nodes are browsed in each Browse request, as many as the server's {@link OperationLimits}
+ * allow, and up to {@code maxRequestsInFlight} Browse and BrowseNext requests are outstanding at
+ * any time. Continuation points are followed with BrowseNext and every Node is browsed only once.
+ * <p>
+ * References are handed to a consumer as each response arrives rather than collected, so the
+ * only state kept for a crawl is the set of Nodes visited and the Nodes still to be browsed.
+ * <p>
+ * A Node the server can't browse because it's out of continuation points is browsed again after
+ * a delay that doubles with each attempt, up to {@link #MAX_BROWSE_RETRIES} times. If the crawl
+ * fails, every continuation point it still holds is released with BrowseNext.
+ */
+public class AddressSpaceCrawler {
+
+    /**
+     * The number of Nodes browsed per request when the server doesn't report a MaxNodesPerBrowse.
+     */
+    public static final int DEFAULT_MAX_NODES_PER_BROWSE = 250;
+
+    /**
+     * The default maximum number of Browse and BrowseNext requests outstanding at any time.
+     */
+    public static final int DEFAULT_MAX_REQUESTS_IN_FLIGHT = 4;
+
+    /**
+     * The number of times a Node is browsed again after the server reports Bad_NoContinuationPoints.
+     */
+    public static final int MAX_BROWSE_RETRIES = 5;
+
+    /**
+     * The delay, in milliseconds, before the first retry of a Node the server couldn't browse for
+     * lack of continuation points.
+     */
+    public static final long BROWSE_RETRY_DELAY_MILLIS = 100L;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final OpcUaClient client;
+    private final BrowseOptions browseOptions;
+    private final int maxRequestsInFlight;
+
+    /**
+     * Create an {@link AddressSpaceCrawler}.
+     *
+     * @param client              the {@link OpcUaClient} to browse with.
+     * @param browseOptions       the {@link BrowseOptions} selecting the references to follow.
+     * @param maxRequestsInFlight the maximum number of Browse and BrowseNext requests outstanding
+     *                            at any time.
+     */
+    public AddressSpaceCrawler(OpcUaClient client, BrowseOptions browseOptions, int maxRequestsInFlight) {
+        Preconditions.checkArgument(maxRequestsInFlight > 0, "maxRequestsInFlight must be > 0");
+
+        this.client = client;
+        this.browseOptions = browseOptions;
+        this.maxRequestsInFlight = maxRequestsInFlight;
+    }
+
+    /**
+     * Crawl the hierarchy below {@code nodeIds}.
+     * <p>
+     * {@code consumer} receives the {@link NodeId} of each browsed Node along with each of its
+     * {@link ReferenceDescription}s. It is never invoked concurrently, but may be invoked from
+     * different threads, and should return quickly because no further responses are processed
+     * while it runs. If it throws the crawl is stopped and the returned future fails.
+     *
+     * @param nodeIds  the {@link NodeId}s of the Nodes to start crawling from.
+     * @param consumer the consumer that receives each browsed Node and its references.
+     * @return a CompletableFuture that completes successfully with the number of Nodes browsed
+     * once no unvisited Nodes remain, or completes exceptionally if a service-level error occurs.
+     */
+    public CompletableFuture<Long> crawl(
+        List<NodeId> nodeIds,
+        BiConsumer<NodeId, ReferenceDescription> consumer
+    ) {
+
+        return client.getSession()
+            .thenCompose(session -> OperationLimits.get(client.getStackClient(), session))
+            .thenCompose(limits -> {
+                int maxNodesPerBrowse = limits.getMaxNodesPerBrowse() > 0 ?
+                    limits.getMaxNodesPerBrowse() : DEFAULT_MAX_NODES_PER_BROWSE;
+
+                return new Crawl(maxNodesPerBrowse, consumer).start(nodeIds);
+            });
+    }
+
+    private class Crawl {
+
+        private final Set<NodeId> visited = new HashSet<>();
+        private final Queue<NodeId> nodesToBrowse = new ArrayDeque<>();
+        private final Queue<ContinuationPoint> continuationPoints = new ArrayDeque<>();
+        private final Map<NodeId, Integer> retries = new HashMap<>();
+
+        private final CompletableFuture<Long> future = new CompletableFuture<>();
+
+        private long browsed = 0L;
+        private int requestsInFlight = 0;
+        private int retriesPending = 0;
+
+        private final int maxNodesPerBrowse;
+        private final BiConsumer<NodeId, ReferenceDescription> consumer;
+
+        Crawl(int maxNodesPerBrowse, BiConsumer<NodeId, ReferenceDescription> consumer) {
+            this.maxNodesPerBrowse = maxNodesPerBrowse;
+            this.consumer = consumer;
+        }
+
+        synchronized CompletableFuture<Long> start(List<NodeId> nodeIds) {
+            for (NodeId nodeId : nodeIds) {
+                if (visited.add(nodeId)) {
+                    nodesToBrowse.add(nodeId);
+                }
+            }
+
+            sendRequests();
+
+            return future;
+        }
+
+        /**
+         * Send requests until {@code maxRequestsInFlight} are outstanding or there's nothing left
+         * to send. Continuation points are followed before new Nodes are browsed so the server
+         * can release them as soon as possible.
+         * <p>
+         * Must be called while holding this {@link Crawl}'s lock.
+         */
+        private void sendRequests() {
+            if (future.isDone()) {
+                return;
+            }
+
+            while (requestsInFlight < maxRequestsInFlight) {
+                if (!continuationPoints.isEmpty()) {
+                    sendBrowseNext(poll(continuationPoints));
+                } else if (!nodesToBrowse.isEmpty()) {
+                    sendBrowse(poll(nodesToBrowse));
+                } else {
+                    break;
+                }
+            }
+
+            if (requestsInFlight == 0 && retriesPending == 0) {
+                future.complete(browsed);
+            }
+        }
+
+        private <T> List<T> poll(Queue<T> queue) {
+            List<T> items = new ArrayList<>(Math.min(queue.size(), maxNodesPerBrowse));
+
+            while (items.size() < maxNodesPerBrowse && !queue.isEmpty()) {
+                items.add(queue.poll());
+            }
+
+            return items;
+        }
+
+        private void sendBrowse(List<NodeId> nodeIds) {
+            List<BrowseDescription> browseDescriptions = new ArrayList<>(nodeIds.size());
+
+            for (NodeId nodeId : nodeIds) {
+                browseDescriptions.add(new BrowseDescription(
+                    nodeId,
+                    browseOptions.getBrowseDirection(),
+                    browseOptions.getReferenceTypeId(),
+                    browseOptions.isIncludeSubtypes(),
+                    browseOptions.getNodeClassMask(),
+                    uint(BrowseResultMask.All.getValue())
+                ));
+            }
+
+            requestsInFlight++;
+
+            client.browse(
+                new ViewDescription(NodeId.NULL_VALUE, DateTime.MIN_VALUE, uint(0)),
+                browseOptions.getMaxReferencesPerNode(),
+                browseDescriptions
+            ).whenComplete((response, ex) -> {
+                if (response != null) {
+                    onResults(nodeIds, l(response.getResults()), false);
+                } else {
+                    onFailure(ex, new ArrayList<>());
+                }
+            });
+        }
+
+        private void sendBrowseNext(List<ContinuationPoint> continuationPoints) {
+            List<NodeId> nodeIds = new ArrayList<>(continuationPoints.size());
+            List<ByteString> bytes = new ArrayList<>(continuationPoints.size());
+
+            for (ContinuationPoint continuationPoint : continuationPoints) {
+                nodeIds.add(continuationPoint.nodeId);
+                bytes.add(continuationPoint.bytes);
+            }
+
+            requestsInFlight++;
+
+            client.browseNext(false, bytes).whenComplete((response, ex) -> {
+                if (response != null) {
+                    onResults(nodeIds, l(response.getResults()), true);
+                } else {
+                    // the server may still hold the continuation points that were sent
+                    onFailure(ex, bytes);
+                }
+            });
+        }
+
+        private synchronized void onResults(List<NodeId> nodeIds, List<BrowseResult> results, boolean next) {
+            requestsInFlight--;
+
+            if (future.isDone()) {
+                // the crawl failed while this request was outstanding
+                release(continuationPoints(results, 0));
+                return;
+            }
+
+            if (results.size() != nodeIds.size()) {
+                fail(new IllegalStateException(
+                    String.format("expected %d results, got %d", nodeIds.size(), results.size())
+                ));
+                release(continuationPoints(results, 0));
+                return;
+            }
+
+            List<NodeId> retryNodeIds = new ArrayList<>();
+            int retryAttempt = 0;
+
+            for (int i = 0; i < results.size(); i++) {
+                NodeId nodeId = nodeIds.get(i);
+                BrowseResult result = results.get(i);
+                StatusCode statusCode = result.getStatusCode();
+
+                if (statusCode != null && statusCode.isBad()) {
+                    if (!next && statusCode.getValue() == StatusCodes.Bad_NoContinuationPoints) {
+                        // the server is out of continuation points; browse again once some are released
+                        int attempt = retries.merge(nodeId, 1, Integer::sum);
+
+                        if (attempt <= MAX_BROWSE_RETRIES) {
+                            retryNodeIds.add(nodeId);
+                            retryAttempt = Math.max(retryAttempt, attempt);
+                        } else {
+                            logger.debug(
+                                "Browse of {} failed after {} retries: {}",
+                                nodeId, MAX_BROWSE_RETRIES, statusCode
+                            );
+                        }
+                    } else {
+                        logger.debug("Browse of {} failed: {}", nodeId, statusCode);
+                    }
+                    continue;
+                }
+
+                if (!next) {
+                    browsed++;
+                }
+
+                for (ReferenceDescription reference : l(result.getReferences())) {
+                    try {
+                        consumer.accept(nodeId, reference);
+                    } catch (Throwable t) {
+                        fail(t);
+                        release(continuationPoints(results, i));
+                        return;
+                    }
+
+                    Optional<NodeId> targetNodeId = reference.getNodeId().toNodeId(client.getNamespaceTable());
+
+                    targetNodeId.ifPresent(id -> {
+                        if (visited.add(id)) {
+                            nodesToBrowse.add(id);
+                        }
+                    });
+                }
+
+                ByteString continuationPoint = result.getContinuationPoint();
+
+                if (continuationPoint != null && continuationPoint.isNotNull()) {
+                    continuationPoints.add(new ContinuationPoint(nodeId, continuationPoint));
+                }
+            }
+
+            if (!retryNodeIds.isEmpty()) {
+                scheduleRetry(retryNodeIds, retryAttempt);
+            }
+
+            sendRequests();
+        }
+
+        private synchronized void onFailure(Throwable ex, List<ByteString> sent) {
+            requestsInFlight--;
+
+            fail(ex);
+            release(sent);
+        }
+
+        /**
+         * Browse {@code nodeIds} again after a delay that doubles with each {@code attempt}.
+         * <p>
+         * Must be called while holding this {@link Crawl}'s lock.
+         */
+        private void scheduleRetry(List<NodeId> nodeIds, int attempt) {
+            retriesPending++;
+
+            long delay = BROWSE_RETRY_DELAY_MILLIS << (attempt - 1);
+
+            client.getConfig().getScheduledExecutor().schedule(
+                () -> onRetry(nodeIds),
+                delay,
+                TimeUnit.MILLISECONDS
+            );
+        }
+
+        private synchronized void onRetry(List<NodeId> nodeIds) {
+            retriesPending--;
+
+            nodesToBrowse.addAll(nodeIds);
+
+            sendRequests();
+        }
+
+        /**
+         * Fail the crawl and release the continuation points waiting to be followed.
+         * <p>
+         * Must be called while holding this {@link Crawl}'s lock.
+         */
+        private void fail(Throwable ex) {
+            if (future.completeExceptionally(ex)) {
+                List<ByteString> bytes = new ArrayList<>(continuationPoints.size());
+
+                for (ContinuationPoint continuationPoint : continuationPoints) {
+                    bytes.add(continuationPoint.bytes);
+                }
+                continuationPoints.clear();
+
+                release(bytes);
+            }
+        }
+
+        /**
+         * Release {@code bytes} with BrowseNext, as many per request as a Browse would hold.
+         */
+        private void release(List<ByteString> bytes) {
+            for (int i = 0; i < bytes.size(); i += maxNodesPerBrowse) {
+                List<ByteString> batch = bytes.subList(i, Math.min(i + maxNodesPerBrowse, bytes.size()));
+
+                client.browseNext(true, new ArrayList<>(batch)).whenComplete((response, ex) -> {
+                    if (ex != null) {
+                        logger.debug("Failed to release {} continuation points: {}", batch.size(), ex.getMessage());
+                    }
+                });
+            }
+        }
+
+        private List<ByteString> continuationPoints(List<BrowseResult> results, int fromIndex) {
+            List<ByteString> bytes = new ArrayList<>();
+
+            for (int i = fromIndex; i < results.size(); i++) {
+                ByteString continuationPoint = results.get(i).getContinuationPoint();
+
+                if (continuationPoint != null && continuationPoint.isNotNull()) {
+                    bytes.add(continuationPoint);
+                }
+            }
+
+            return bytes;
+        }
+
+    }
+
+    private static class ContinuationPoint {
+
+        final NodeId nodeId;
+        final ByteString bytes;
+
+        ContinuationPoint(NodeId nodeId, ByteString bytes) {
+            this.nodeId = nodeId;
+            this.bytes = bytes;
+        }
+
+    }
+
+}
@@ -10,6 +10,14 @@
 
 package org.eclipse.milo.opcua.sdk.client;
 
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
@@ -17,29 +25,93 @@ import java.util.function.Consumer;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Weigher;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.eclipse.milo.opcua.sdk.client.AddressSpace.BrowseOptions;
 import org.eclipse.milo.opcua.sdk.client.nodes.UaNode;
+import org.eclipse.milo.opcua.sdk.client.nodes.UaVariableNode;
+import org.eclipse.milo.opcua.sdk.client.nodes.UaVariableTypeNode;
+import org.eclipse.milo.opcua.stack.core.UaSerializationException;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamDecoder;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamEncoder;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
 import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.BrowseDirection;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReferenceDescription;
 import org.jetbrains.annotations.Nullable;
 
+/**
+ * A cache of the {@link UaNode}s and browse results obtained through an {@link AddressSpace}.
+ * <p>
+ * The default cache expires entries 2 minutes after they are written. {@link #NodeCache(long)}
+ * creates a cache bounded only by the estimated memory size of its entries, meant to be kept up
+ * to date by a {@link NodeCacheInvalidator} instead.
+ * <p>
+ * {@link AddressSpace} only serves browses from the cache while browse caching is enabled, which a
+ * {@link NodeCacheInvalidator} does for as long as it's keeping the cache up to date. Otherwise
+ * every browse goes to the server.
+ * <p>
+ * Browse results can be saved to and loaded from a file with {@link #save(Path, OpcUaClient)} and
+ * {@link #load(Path, OpcUaClient)}, so a client restarted against the same server doesn't need to
+ * browse again.
+ */
 public class NodeCache {
 
-    private final Cache<NodeId, UaNode> cachedNodes;
+    /**
+     * The default maximum weight, in estimated bytes, of the entries in a {@link NodeCache}.
+     */
+    public static final long DEFAULT_MAXIMUM_WEIGHT = 64L * 1024L * 1024L;
+
+    private static final int FILE_FORMAT_VERSION = 1;
+
+    private final Cache<NodeId, Entry> cachedEntries;
     private final ConcurrentMap<NodeId, UaNode> canonicalNodes;
 
+    private volatile boolean browseCachingEnabled = false;
+
     public NodeCache() {
         this(builder -> {
             builder.expireAfterWrite(2, TimeUnit.MINUTES);
-            builder.maximumSize(16384);
+            builder.maximumWeight(DEFAULT_MAXIMUM_WEIGHT);
+            builder.weigher(weigher());
+            builder.recordStats();
+        });
+    }
+
+    /**
+     * Create a {@link NodeCache} whose entries are evicted only when their estimated memory size
+     * exceeds {@code maximumWeight} bytes, or when they are invalidated.
+     *
+     * @param maximumWeight the maximum estimated memory size of the cache, in bytes.
+     */
+    public NodeCache(long maximumWeight) {
+        this(builder -> {
+            builder.maximumWeight(maximumWeight);
+            builder.weigher(weigher());
             builder.recordStats();
         });
     }
 
+    /**
+     * Create a {@link NodeCache} configured by {@code consumer}.
+     * <p>
+     * To bound the cache by estimated memory size configure the builder with a maximum weight and
+     * {@link #weigher()}.
+     *
+     * @param consumer a callback that configures the {@link CacheBuilder}.
+     */
     public NodeCache(Consumer<CacheBuilder<Object, Object>> consumer) {
         CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder();
 
         consumer.accept(builder);
 
-        this.cachedNodes = builder.build();
+        this.cachedEntries = builder.build();
         this.canonicalNodes = new ConcurrentHashMap<>();
     }
 
@@ -62,19 +134,346 @@ public class NodeCache {
 
     @Nullable
     public UaNode getIfPresent(NodeId nodeId) {
-        return canonicalNodes.getOrDefault(
+        UaNode canonicalNode = canonicalNodes.get(nodeId);
+
+        if (canonicalNode != null) {
+            return canonicalNode;
+        } else {
+            Entry entry = cachedEntries.getIfPresent(nodeId);
+
+            return entry != null ? entry.node : null;
+        }
+    }
+
+    public void put(NodeId nodeId, UaNode node) {
+        cachedEntries.asMap().compute(
             nodeId,
-            cachedNodes.getIfPresent(nodeId)
+            (id, entry) -> new Entry(node, entry != null ? entry.references : ImmutableMap.of())
         );
     }
 
-    public void put(NodeId nodeId, UaNode node) {
-        cachedNodes.put(nodeId, node);
+    /**
+     * Get whether {@link AddressSpace} serves browses from, and saves browse results to, this cache.
+     *
+     * @return {@code true} if browse caching is enabled.
+     */
+    public boolean isBrowseCachingEnabled() {
+        return browseCachingEnabled;
+    }
+
+    /**
+     * Set whether {@link AddressSpace} serves browses from, and saves browse results to, this
+     * cache.
+     * <p>
+     * A {@link NodeCacheInvalidator} enables browse caching when it's created and disables it when
+     * it's deleted. Enabling it without one means browse results only change when they expire or
+     * are evicted.
+     *
+     * @param browseCachingEnabled {@code true} to enable browse caching.
+     */
+    public void setBrowseCachingEnabled(boolean browseCachingEnabled) {
+        this.browseCachingEnabled = browseCachingEnabled;
+    }
+
+    /**
+     * Get the cached result of browsing {@code nodeId} using {@code browseOptions}, if present.
+     *
+     * @param nodeId        the {@link NodeId} that was browsed.
+     * @param browseOptions the {@link BrowseOptions} that were used.
+     * @return the cached {@link ReferenceDescription}s, or {@code null} if not present.
+     */
+    @Nullable
+    public List<ReferenceDescription> getReferencesIfPresent(NodeId nodeId, BrowseOptions browseOptions) {
+        Entry entry = cachedEntries.getIfPresent(nodeId);
+
+        return entry != null ? entry.references.get(browseOptions) : null;
     }
 
+    /**
+     * Cache the result of browsing {@code nodeId} using {@code browseOptions}.
+     *
+     * @param nodeId        the {@link NodeId} that was browsed.
+     * @param browseOptions the {@link BrowseOptions} that were used.
+     * @param references    the {@link ReferenceDescription}s the browse returned.
+     */
+    public void putReferences(NodeId nodeId, BrowseOptions browseOptions, List<ReferenceDescription> references) {
+        ImmutableList<ReferenceDescription> copy = ImmutableList.copyOf(references);
+
+        cachedEntries.asMap().compute(nodeId, (id, entry) -> {
+            if (entry == null) {
+                return new Entry(null, ImmutableMap.of(browseOptions, copy));
+            } else {
+                ImmutableMap.Builder<BrowseOptions, ImmutableList<ReferenceDescription>> builder =
+                    ImmutableMap.builder();
+
+                entry.references.forEach((options, refs) -> {
+                    if (!options.equals(browseOptions)) {
+                        builder.put(options, refs);
+                    }
+                });
+                builder.put(browseOptions, copy);
+
+                return new Entry(entry.node, builder.build());
+            }
+        });
+    }
+
+    /**
+     * Invalidate the cached {@link UaNode} and browse results for {@code nodeId}, and its status
+     * as a canonical Node.
+     *
+     * @param nodeId the {@link NodeId} to invalidate.
+     */
     public void invalidate(NodeId nodeId) {
         canonicalNodes.remove(nodeId);
-        cachedNodes.invalidate(nodeId);
+        cachedEntries.invalidate(nodeId);
+    }
+
+    /**
+     * Invalidate the cached browse results for {@code nodeId}, keeping its cached {@link UaNode}.
+     *
+     * @param nodeId the {@link NodeId} to invalidate the browse results of.
+     */
+    public void invalidateReferences(NodeId nodeId) {
+        cachedEntries.asMap().computeIfPresent(nodeId, (id, entry) -> entry.withoutReferences());
+    }
+
+    /**
+     * Invalidate every cached browse result that contains a reference to {@code targetNodeId}.
+     *
+     * @param targetNodeId the {@link NodeId} targeted by the browse results to invalidate.
+     */
+    public void invalidateReferencesTo(NodeId targetNodeId) {
+        for (Map.Entry<NodeId, Entry> e : cachedEntries.asMap().entrySet()) {
+            boolean targeted = e.getValue().references.values().stream()
+                .flatMap(List::stream)
+                .anyMatch(r -> r.getNodeId().equalTo(targetNodeId));
+
+            if (targeted) {
+                invalidateReferences(e.getKey());
+            }
+        }
+    }
+
+    /**
+     * Invalidate every cached browse result, keeping the cached {@link UaNode}s.
+     */
+    public void invalidateAllReferences() {
+        cachedEntries.asMap().keySet().forEach(this::invalidateReferences);
+    }
+
+    /**
+     * Invalidate every cached {@link UaNode} and browse result, and every canonical Node.
+     */
+    public void invalidateAll() {
+        canonicalNodes.clear();
+        cachedEntries.invalidateAll();
+    }
+
+    /**
+     * Save the cached browse results to {@code path}.
+     * <p>
+     * The server's namespace array is saved along with the results so that {@link #load} can
+     * ignore a file saved against a different server or namespace layout.
+     *
+     * @param path   the {@link Path} of the file to write.
+     * @param client the {@link OpcUaClient} the results were browsed with.
+     * @throws IOException if the file can't be written.
+     */
+    public void save(Path path, OpcUaClient client) throws IOException {
+        ByteBuf buffer = Unpooled.buffer();
+
+        try {
+            OpcUaBinaryStreamEncoder encoder = new OpcUaBinaryStreamEncoder(client.getStaticSerializationContext())
+                .setBuffer(buffer);
+
+            encoder.writeInt32(FILE_FORMAT_VERSION);
+
+            String[] namespaces = client.getNamespaceTable().toArray();
+            encoder.writeInt32(namespaces.length);
+            for (String namespace : namespaces) {
+                encoder.writeString(namespace);
+            }
+
+            Map<NodeId, Entry> entries = cachedEntries.asMap();
+            int count = entries.values().stream().mapToInt(e -> e.references.size()).sum();
+            encoder.writeInt32(count);
+
+            entries.forEach((nodeId, entry) -> entry.references.forEach((options, references) -> {
+                encoder.writeNodeId(nodeId);
+                encoder.writeInt32(options.getBrowseDirection().getValue());
+                encoder.writeNodeId(options.getReferenceTypeId());
+                encoder.writeBoolean(options.isIncludeSubtypes());
+                encoder.writeUInt32(options.getNodeClassMask());
+                encoder.writeUInt32(options.getMaxReferencesPerNode());
+                encoder.writeStructArray(
+                    null,
+                    references.toArray(new ReferenceDescription[0]),
+                    ReferenceDescription.TYPE_ID
+                );
+            }));
+
+            byte[] bytes = new byte[buffer.readableBytes()];
+            buffer.readBytes(bytes);
+
+            Files.write(path, bytes);
+        } catch (UaSerializationException e) {
+            throw new IOException(e);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Load browse results previously saved by {@link #save(Path, OpcUaClient)} into this cache.
+     * <p>
+     * Nothing is loaded if the server's namespace array no longer matches the one the results were
+     * saved with.
+     *
+     * @param path   the {@link Path} of the file to read.
+     * @param client the {@link OpcUaClient} the results will be used with.
+     * @return the number of browse results loaded.
+     * @throws IOException if the file can't be read or isn't a saved {@link NodeCache}.
+     */
+    public int load(Path path, OpcUaClient client) throws IOException {
+        ByteBuf buffer = Unpooled.wrappedBuffer(Files.readAllBytes(path));
+
+        try {
+            OpcUaBinaryStreamDecoder decoder = new OpcUaBinaryStreamDecoder(client.getStaticSerializationContext())
+                .setBuffer(buffer);
+
+            int version = decoder.readInt32();
+            if (version != FILE_FORMAT_VERSION) {
+                throw new IOException("unsupported NodeCache file version: " + version);
+            }
+
+            String[] namespaces = new String[decoder.readInt32()];
+            for (int i = 0; i < namespaces.length; i++) {
+                namespaces[i] = decoder.readString();
+            }
+
+            if (!Arrays.equals(namespaces, client.getNamespaceTable().toArray())) {
+                return 0;
+            }
+
+            int count = decoder.readInt32();
+
+            for (int i = 0; i < count; i++) {
+                NodeId nodeId = decoder.readNodeId();
+
+                BrowseOptions options = new BrowseOptions(
+                    BrowseDirection.from(decoder.readInt32()),
+                    decoder.readNodeId(),
+                    decoder.readBoolean(),
+                    decoder.readUInt32(),
+                    decoder.readUInt32()
+                );
+
+                Object[] references = decoder.readStructArray(null, ReferenceDescription.TYPE_ID);
+
+                List<ReferenceDescription> list = references != null ?
+                    Arrays.asList((ReferenceDescription[]) references) :
+                    Collections.emptyList();
+
+                putReferences(nodeId, options, list);
+            }
+
+            return count;
+        } catch (UaSerializationException | ClassCastException e) {
+            throw new IOException(e);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Get a {@link Weigher} that weighs {@link NodeCache} entries by their estimated memory size,
+     * in bytes.
+     *
+     * @return a {@link Weigher} that weighs {@link NodeCache} entries by estimated memory size.
+     */
+    public static Weigher<Object, Object> weigher() {
+        return (key, value) -> value instanceof Entry ? ((Entry) value).weight : 1;
+    }
+
+    private static int estimateSize(UaNode node) {
+        int size = 256 +
+            estimateSize(node.getBrowseName()) +
+            estimateSize(node.getDisplayName()) +
+            estimateSize(node.getDescription());
+
+        DataValue value = null;
+        if (node instanceof UaVariableNode) {
+            value = ((UaVariableNode) node).getValue();
+        } else if (node instanceof UaVariableTypeNode) {
+            value = ((UaVariableTypeNode) node).getValue();
+        }
+
+        if (value != null) {
+            size += 64 + estimateSize(value.getValue().getValue());
+        }
+
+        return size;
+    }
+
+    private static int estimateSize(ReferenceDescription reference) {
+        return 128 + estimateSize(reference.getBrowseName()) + estimateSize(reference.getDisplayName());
+    }
+
+    private static int estimateSize(@Nullable Object value) {
+        if (value == null) {
+            return 0;
+        } else if (value instanceof String) {
+            return 40 + 2 * ((String) value).length();
+        } else if (value instanceof ByteString) {
+            return 24 + ((ByteString) value).length();
+        } else if (value instanceof QualifiedName) {
+            return 24 + estimateSize(((QualifiedName) value).getName());
+        } else if (value instanceof LocalizedText) {
+            LocalizedText text = (LocalizedText) value;
+
+            return 24 + estimateSize(text.getLocale()) + estimateSize(text.getText());
+        } else if (value instanceof Object[]) {
+            int size = 16;
+            for (Object o : (Object[]) value) {
+                size += 8 + estimateSize(o);
+            }
+            return size;
+        } else if (value.getClass().isArray()) {
+            return 16 + 8 * Array.getLength(value);
+        } else {
+            return 16;
+        }
+    }
+
+    private static class Entry {
+
+        final @Nullable UaNode node;
+        final ImmutableMap<BrowseOptions, ImmutableList<ReferenceDescription>> references;
+        final int weight;
+
+        Entry(
+            @Nullable UaNode node,
+            ImmutableMap<BrowseOptions, ImmutableList<ReferenceDescription>> references
+        ) {
+
+            this.node = node;
+            this.references = references;
+
+            long weight = node != null ? estimateSize(node) : 0;
+            for (List<ReferenceDescription> refs : references.values()) {
+                for (ReferenceDescription reference : refs) {
+                    weight += estimateSize(reference);
+                }
+            }
+            this.weight = (int) Math.min(weight, Integer.MAX_VALUE);
+        }
+
+        @Nullable
+        Entry withoutReferences() {
+            return node != null ? new Entry(node, ImmutableMap.of()) : null;
+        }
+
     }
 
 }
@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+import org.eclipse.milo.opcua.sdk.client.api.UaSession;
+import org.eclipse.milo.opcua.sdk.client.subscriptions.ManagedEventItem;
+import org.eclipse.milo.opcua.sdk.client.subscriptions.ManagedSubscription;
+import org.eclipse.milo.opcua.stack.client.UaStackClient;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.FilterOperator;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.ModelChangeStructureVerbMask;
+import org.eclipse.milo.opcua.stack.core.types.structured.ContentFilter;
+import org.eclipse.milo.opcua.stack.core.types.structured.ContentFilterElement;
+import org.eclipse.milo.opcua.stack.core.types.structured.ElementOperand;
+import org.eclipse.milo.opcua.stack.core.types.structured.EventFilter;
+import org.eclipse.milo.opcua.stack.core.types.structured.LiteralOperand;
+import org.eclipse.milo.opcua.stack.core.types.structured.ModelChangeStructureDataType;
+import org.eclipse.milo.opcua.stack.core.types.structured.SemanticChangeStructureDataType;
+import org.eclipse.milo.opcua.stack.core.types.structured.SimpleAttributeOperand;
+import org.eclipse.milo.opcua.stack.core.util.Unit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.Collections.singletonList;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+
+/**
+ * Keeps the {@link NodeCache} of an {@link OpcUaClient}'s {@link AddressSpace} up to date by
+ * subscribing to the GeneralModelChangeEventType and SemanticChangeEventType events the server
+ * generates, and invalidating only the entries each change affects.
+ * <p>
+ * The whole cache is invalidated when a change event doesn't say what changed, and whenever a
+ * session becomes active or notifications are lost, because change events may have been missed.
+ * <p>
+ * Browse results are only cached while an invalidator is keeping the cache up to date: creating
+ * one enables {@link NodeCache#setBrowseCachingEnabled(boolean) browse caching} on the client's
+ * current {@link NodeCache}, and deleting it disables browse caching and drops the cached results.
+ *
+ * @see NodeCache#NodeCache(long)
+ */
+public class NodeCacheInvalidator {
+
+    private static final QualifiedName CHANGES = new QualifiedName(0, "Changes");
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final SessionActivityListener sessionActivityListener = new SessionActivityListener() {
+        @Override
+        public void onSessionActive(UaSession session) {
+            getNodeCache().invalidateAll();
+        }
+    };
+
+    private final OpcUaClient client;
+    private final ManagedSubscription subscription;
+
+    private NodeCacheInvalidator(OpcUaClient client, ManagedSubscription subscription) {
+        this.client = client;
+        this.subscription = subscription;
+    }
+
+    /**
+     * Delete this {@link NodeCacheInvalidator}'s subscription and stop invalidating the cache.
+     *
+     * @throws UaException if a service-level error occurs.
+     */
+    public void delete() throws UaException {
+        try {
+            deleteAsync().get();
+        } catch (ExecutionException | InterruptedException e) {
+            throw UaException.extract(e)
+                .orElse(new UaException(StatusCodes.Bad_UnexpectedError, e));
+        }
+    }
+
+    /**
+     * Delete this {@link NodeCacheInvalidator}'s subscription and stop invalidating the cache.
+     * <p>
+     * This call completes asynchronously.
+     *
+     * @return a CompletableFuture that completes successfully once the subscription is deleted or
+     * completes exceptionally if a service-level error occurs.
+     */
+    public CompletableFuture<Unit> deleteAsync() {
+        client.removeSessionActivityListener(sessionActivityListener);
+
+        NodeCache nodeCache = getNodeCache();
+        nodeCache.setBrowseCachingEnabled(false);
+        nodeCache.invalidateAllReferences();
+
+        return subscription.deleteAsync();
+    }
+
+    private NodeCache getNodeCache() {
+        return client.getAddressSpace().getNodeCache();
+    }
+
+    private void onEvent(Variant[] eventValues) {
+        Object modelChanges = eventValues[0].getValue();
+        Object semanticChanges = eventValues[1].getValue();
+
+        List<Object> changes = new ArrayList<>();
+
+        for (Object value : new Object[]{modelChanges, semanticChanges}) {
+            if (value instanceof ExtensionObject[]) {
+                for (ExtensionObject xo : (ExtensionObject[]) value) {
+                    changes.add(xo.decodeOrNull(client.getStaticSerializationContext()));
+                }
+            }
+        }
+
+        NodeCache nodeCache = getNodeCache();
+
+        if (changes.isEmpty()) {
+            // a change event without Changes means anything may have changed
+            nodeCache.invalidateAll();
+            return;
+        }
+
+        boolean nodeAdded = false;
+        boolean referenceAdded = false;
+
+        for (Object change : changes) {
+            if (change instanceof ModelChangeStructureDataType) {
+                ModelChangeStructureDataType modelChange = (ModelChangeStructureDataType) change;
+                NodeId affected = modelChange.getAffected();
+                int verb = modelChange.getVerb() != null ? modelChange.getVerb().intValue() : 0;
+
+                if (isSet(verb, ModelChangeStructureVerbMask.NodeAdded)) {
+                    nodeAdded = true;
+                    nodeCache.invalidate(affected);
+                }
+                if (isSet(verb, ModelChangeStructureVerbMask.NodeDeleted)) {
+                    nodeCache.invalidate(affected);
+                    nodeCache.invalidateReferencesTo(affected);
+                }
+                if (isSet(verb, ModelChangeStructureVerbMask.ReferenceAdded) ||
+                    isSet(verb, ModelChangeStructureVerbMask.ReferenceDeleted)) {
+
+                    referenceAdded |= isSet(verb, ModelChangeStructureVerbMask.ReferenceAdded);
+
+                    // the source's browse results, and inverse browse results naming the source
+                    nodeCache.invalidateReferences(affected);
+                    nodeCache.invalidateReferencesTo(affected);
+                }
+                if (isSet(verb, ModelChangeStructureVerbMask.DataTypeChanged)) {
+                    nodeCache.invalidate(affected);
+                }
+            } else if (change instanceof SemanticChangeStructureDataType) {
+                nodeCache.invalidate(((SemanticChangeStructureDataType) change).getAffected());
+            } else {
+                logger.debug("Unrecognized change, invalidating NodeCache: {}", change);
+                nodeCache.invalidateAll();
+                return;
+            }
+        }
+
+        if (nodeAdded && !referenceAdded) {
+            // the new Node's parent is unknown without a ReferenceAdded change
+            nodeCache.invalidateAllReferences();
+        }
+    }
+
+    private static boolean isSet(int verb, ModelChangeStructureVerbMask mask) {
+        return (verb & mask.getValue()) != 0;
+    }
+
+    /**
+     * Create a {@link NodeCacheInvalidator} for {@code client}.
+     *
+     * @param client the {@link OpcUaClient} whose {@link NodeCache} should be kept up to date.
+     * @return a new {@link NodeCacheInvalidator}.
+     * @throws UaException if a service-level error occurs creating the subscription.
+     */
+    public static NodeCacheInvalidator create(OpcUaClient client) throws UaException {
+        try {
+            return createAsync(client).get();
+        } catch (ExecutionException | InterruptedException e) {
+            throw UaException.extract(e)
+                .orElse(new UaException(StatusCodes.Bad_UnexpectedError, e));
+        }
+    }
+
+    /**
+     * Create a {@link NodeCacheInvalidator} for {@code client}.
+     * <p>
+     * This call completes asynchronously.
+     *
+     * @param client the {@link OpcUaClient} whose {@link NodeCache} should be kept up to date.
+     * @return a CompletableFuture that completes successfully with the new
+     * {@link NodeCacheInvalidator} or completes exceptionally if a service-level error occurs
+     * creating the subscription or its event item.
+     */
+    public static CompletableFuture<NodeCacheInvalidator> createAsync(OpcUaClient client) {
+        return ManagedSubscription.createAsync(client, ManagedSubscription.DEFAULT_PUBLISHING_INTERVAL)
+            .thenCompose(subscription -> {
+                NodeCacheInvalidator invalidator = new NodeCacheInvalidator(client, subscription);
+
+                subscription.addStatusListener(new ManagedSubscription.StatusListener() {
+                    @Override
+                    public void onNotificationDataLost(ManagedSubscription subscription) {
+                        invalidator.getNodeCache().invalidateAll();
+                    }
+
+                    @Override
+                    public void onSubscriptionTransferFailed(ManagedSubscription subscription, StatusCode statusCode) {
+                        invalidator.getNodeCache().invalidateAll();
+                    }
+                });
+
+                return subscription.createEventItemsAsync(
+                    singletonList(Identifiers.Server),
+                    singletonList(newEventFilter(client.getStackClient()))
+                ).thenCompose(items -> {
+                    ManagedEventItem item = items.get(0);
+
+                    if (item.getStatusCode().isGood()) {
+                        item.addEventValueListener(invalidator::onEvent);
+                        client.addSessionActivityListener(invalidator.sessionActivityListener);
+                        invalidator.getNodeCache().setBrowseCachingEnabled(true);
+
+                        return CompletableFuture.completedFuture(invalidator);
+                    } else {
+                        return subscription.deleteAsync().handle((u, ex) -> {
+                            throw new CompletionException(new UaException(item.getStatusCode()));
+                        });
+                    }
+                });
+            });
+    }
+
+    /**
+     * Build an {@link EventFilter} that selects the Changes of GeneralModelChangeEventType and
+     * SemanticChangeEventType events and passes only model change and semantic change events.
+     */
+    private static EventFilter newEventFilter(UaStackClient client) {
+        SimpleAttributeOperand[] selectClauses = new SimpleAttributeOperand[]{
+            new SimpleAttributeOperand(
+                Identifiers.GeneralModelChangeEventType,
+                new QualifiedName[]{CHANGES},
+                AttributeId.Value.uid(),
+                null
+            ),
+            new SimpleAttributeOperand(
+                Identifiers.SemanticChangeEventType,
+                new QualifiedName[]{CHANGES},
+                AttributeId.Value.uid(),
+                null
+            )
+        };
+
+        ContentFilter whereClause = new ContentFilter(new ContentFilterElement[]{
+            new ContentFilterElement(
+                FilterOperator.Or,
+                new ExtensionObject[]{
+                    ExtensionObject.encode(client.getStaticSerializationContext(), new ElementOperand(uint(1))),
+                    ExtensionObject.encode(client.getStaticSerializationContext(), new ElementOperand(uint(2)))
+                }
+            ),
+            new ContentFilterElement(
+                FilterOperator.OfType,
+                new ExtensionObject[]{
+                    ExtensionObject.encode(
+                        client.getStaticSerializationContext(),
+                        new LiteralOperand(new Variant(Identifiers.BaseModelChangeEventType))
+                    )
+                }
+            ),
+            new ContentFilterElement(
+                FilterOperator.OfType,
+                new ExtensionObject[]{
+                    ExtensionObject.encode(
+                        client.getStaticSerializationContext(),
+                        new LiteralOperand(new Variant(Identifiers.SemanticChangeEventType))
+                    )
+                }
+            )
+        });
+
+        return new EventFilter(selectClauses, whereClause);
+    }
+
+}
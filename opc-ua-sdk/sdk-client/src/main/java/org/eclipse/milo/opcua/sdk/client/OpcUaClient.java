@@ -254,6 +254,8 @@ public class OpcUaClient implements UaClient {
 
     private final SessionFsm sessionFsm;
 
+    private final RequestCoalescer requestCoalescer;
+
     private final OpcUaClientConfig config;
     private final UaStackClient stackClient;
 
@@ -293,6 +295,23 @@ public class OpcUaClient implements UaClient {
         });
 
 
+        long coalescingWindow = config.getRequestCoalescingWindow().longValue();
+
+        if (coalescingWindow > 0) {
+            requestCoalescer = new RequestCoalescer(
+                this,
+                coalescingWindow,
+                config.getRequestCoalescingMaxSize().intValue()
+            );
+
+            sessionFsm.addInitializer(
+                (client, session) ->
+                    OperationLimits.read(client, session).thenApply(limits -> Unit.VALUE)
+            );
+        } else {
+            requestCoalescer = null;
+        }
+
         faultNotificationQueue = new ExecutionQueue(config.getExecutor());
 
         addressSpace = new AddressSpace(this);
@@ -510,6 +529,10 @@ public class OpcUaClient implements UaClient {
                                                 TimestampsToReturn timestampsToReturn,
                                                 List<ReadValueId> readValueIds) {
 
+        if (requestCoalescer != null && !readValueIds.isEmpty()) {
+            return requestCoalescer.read(maxAge, timestampsToReturn, readValueIds);
+        }
+
         return getSession().thenCompose(session -> {
             ReadRequest request = new ReadRequest(
                 newRequestHeader(session.getAuthenticationToken()),
@@ -524,6 +547,10 @@ public class OpcUaClient implements UaClient {
 
     @Override
     public CompletableFuture<WriteResponse> write(List<WriteValue> writeValues) {
+        if (requestCoalescer != null && !writeValues.isEmpty()) {
+            return requestCoalescer.write(writeValues);
+        }
+
         return getSession().thenCompose(session -> {
             WriteRequest request = new WriteRequest(
                 newRequestHeader(session.getAuthenticationToken()),
@@ -639,6 +666,10 @@ public class OpcUaClient implements UaClient {
 
     @Override
     public CompletableFuture<CallResponse> call(List<CallMethodRequest> methodsToCall) {
+        if (requestCoalescer != null && !methodsToCall.isEmpty()) {
+            return requestCoalescer.call(methodsToCall);
+        }
+
         return getSession().thenCompose(session -> {
             CallRequest request = new CallRequest(
                 newRequestHeader(session.getAuthenticationToken()),
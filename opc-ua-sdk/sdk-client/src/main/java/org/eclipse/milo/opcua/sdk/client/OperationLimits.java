@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.client;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+import com.google.common.base.MoreObjects;
+import org.eclipse.milo.opcua.stack.client.UaStackClient;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The limits a server places on the number of operations in one service request, as reported by the
+ * Server/ServerCapabilities/OperationLimits Object. A limit of 0 means the server reports no limit.
+ * <p>
+ * The limits are read once per session and stored on the {@link OpcUaSession} under
+ * {@link #SESSION_ATTRIBUTE_KEY}.
+ */
+public class OperationLimits {
+
+    /**
+     * The attribute key that the {@link OperationLimits} are stored under in the {@link OpcUaSession}.
+     *
+     * @see OpcUaSession#getAttribute(String)
+     */
+    public static final String SESSION_ATTRIBUTE_KEY = "operationLimits";
+
+    /**
+     * {@link OperationLimits} with no limits, used when the server's limits can't be read.
+     */
+    public static final OperationLimits NONE = new OperationLimits(0, 0, 0, 0);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OperationLimits.class);
+
+    private final int maxNodesPerRead;
+    private final int maxNodesPerWrite;
+    private final int maxNodesPerMethodCall;
+    private final int maxNodesPerBrowse;
+
+    public OperationLimits(
+        int maxNodesPerRead,
+        int maxNodesPerWrite,
+        int maxNodesPerMethodCall,
+        int maxNodesPerBrowse
+    ) {
+        this.maxNodesPerRead = maxNodesPerRead;
+        this.maxNodesPerWrite = maxNodesPerWrite;
+        this.maxNodesPerMethodCall = maxNodesPerMethodCall;
+        this.maxNodesPerBrowse = maxNodesPerBrowse;
+    }
+
+    public int getMaxNodesPerRead() {
+        return maxNodesPerRead;
+    }
+
+    public int getMaxNodesPerWrite() {
+        return maxNodesPerWrite;
+    }
+
+    public int getMaxNodesPerMethodCall() {
+        return maxNodesPerMethodCall;
+    }
+
+    public int getMaxNodesPerBrowse() {
+        return maxNodesPerBrowse;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+            .add("maxNodesPerRead", maxNodesPerRead)
+            .add("maxNodesPerWrite", maxNodesPerWrite)
+            .add("maxNodesPerMethodCall", maxNodesPerMethodCall)
+            .add("maxNodesPerBrowse", maxNodesPerBrowse)
+            .toString();
+    }
+
+    /**
+     * Get the {@link OperationLimits} stored on {@code session}, reading them from the server if this is the first
+     * time they've been requested for this session.
+     *
+     * @param stackClient the {@link UaStackClient} to read with.
+     * @param session     the {@link OpcUaSession} to read in and store the limits on.
+     * @return the server's {@link OperationLimits}, or {@link #NONE} if they could not be read.
+     */
+    public static CompletableFuture<OperationLimits> get(UaStackClient stackClient, OpcUaSession session) {
+        Object attribute = session.getAttribute(SESSION_ATTRIBUTE_KEY);
+
+        if (attribute instanceof OperationLimits) {
+            return CompletableFuture.completedFuture((OperationLimits) attribute);
+        } else {
+            return read(stackClient, session);
+        }
+    }
+
+    /**
+     * Read the server's {@link OperationLimits} in one request and store them on {@code session}.
+     * <p>
+     * If the limits can't be read {@link #NONE} is stored instead, so they aren't read again for this session.
+     *
+     * @param stackClient the {@link UaStackClient} to read with.
+     * @param session     the {@link OpcUaSession} to read in and store the limits on.
+     * @return the server's {@link OperationLimits}, or {@link #NONE} if they could not be read.
+     */
+    public static CompletableFuture<OperationLimits> read(UaStackClient stackClient, OpcUaSession session) {
+        ReadRequest request = new ReadRequest(
+            stackClient.newRequestHeader(session.getAuthenticationToken()),
+            0.0,
+            TimestampsToReturn.Neither,
+            new ReadValueId[]{
+                newReadValueId(Identifiers.Server_ServerCapabilities_OperationLimits_MaxNodesPerRead),
+                newReadValueId(Identifiers.Server_ServerCapabilities_OperationLimits_MaxNodesPerWrite),
+                newReadValueId(Identifiers.Server_ServerCapabilities_OperationLimits_MaxNodesPerMethodCall),
+                newReadValueId(Identifiers.Server_ServerCapabilities_OperationLimits_MaxNodesPerBrowse)
+            }
+        );
+
+        return stackClient.sendRequest(request)
+            .thenApply(ReadResponse.class::cast)
+            .thenApply(response -> {
+                DataValue[] results = Objects.requireNonNull(response.getResults());
+
+                return new OperationLimits(
+                    limitValue(results[0]),
+                    limitValue(results[1]),
+                    limitValue(results[2]),
+                    limitValue(results[3])
+                );
+            })
+            .exceptionally(ex -> {
+                LOGGER.warn("Failed to read OperationLimits", ex);
+                return NONE;
+            })
+            .thenApply(limits -> {
+                session.setAttribute(SESSION_ATTRIBUTE_KEY, limits);
+                return limits;
+            });
+    }
+
+    private static ReadValueId newReadValueId(NodeId nodeId) {
+        return new ReadValueId(nodeId, AttributeId.Value.uid(), null, QualifiedName.NULL_VALUE);
+    }
+
+    private static int limitValue(DataValue value) {
+        Object o = value.getValue().getValue();
+
+        if (value.getStatusCode() != null && value.getStatusCode().isGood() && o instanceof UInteger) {
+            long limit = ((UInteger) o).longValue();
+
+            return limit > Integer.MAX_VALUE ? 0 : (int) limit;
+        } else {
+            return 0;
+        }
+    }
+
+}
@@ -0,0 +1,364 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.client;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+import com.google.common.collect.Lists;
+import org.eclipse.milo.opcua.sdk.client.api.config.OpcUaClientConfig;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.CallMethodRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.CallMethodResult;
+import org.eclipse.milo.opcua.stack.core.types.structured.CallRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.CallResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.eclipse.milo.opcua.stack.core.types.structured.ResponseHeader;
+import org.eclipse.milo.opcua.stack.core.types.structured.WriteRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.WriteResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.WriteValue;
+import org.eclipse.milo.opcua.stack.core.util.Unit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.eclipse.milo.opcua.stack.core.util.ConversionUtil.a;
+import static org.eclipse.milo.opcua.stack.core.util.ConversionUtil.l;
+
+/**
+ * Coalesces the Read, Write and Call operations made through an {@link OpcUaClient} into as few requests as
+ * possible.
+ * <p>
+ * Operations are collected for {@link OpcUaClientConfig#getRequestCoalescingWindow()} milliseconds, or until
+ * {@link OpcUaClientConfig#getRequestCoalescingMaxSize()} operations have been collected, and are then sent together.
+ * The collected operations are split into as many requests as the server's {@link OperationLimits} require. Each
+ * caller receives a response of its own that contains only the results of its own operations.
+ * <p>
+ * Reads are only coalesced with other reads that have the same maxAge and {@link TimestampsToReturn}.
+ */
+public class RequestCoalescer {
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final OperationQueue<ReadKey, ReadValueId, DataValue> reads;
+    private final OperationQueue<Unit, WriteValue, StatusCode> writes;
+    private final OperationQueue<Unit, CallMethodRequest, CallMethodResult> calls;
+
+    private final OpcUaClient client;
+    private final long window;
+    private final int maxSize;
+
+    /**
+     * @param client  the {@link OpcUaClient} to send requests with.
+     * @param window  the time, in milliseconds, that operations are collected for.
+     * @param maxSize the number of collected operations at which they are sent without waiting.
+     */
+    public RequestCoalescer(OpcUaClient client, long window, int maxSize) {
+        this.client = client;
+        this.window = window;
+        this.maxSize = Math.max(1, maxSize);
+
+        reads = new OperationQueue<>(
+            OperationLimits::getMaxNodesPerRead,
+            (session, key, operations) -> {
+                ReadRequest request = new ReadRequest(
+                    client.newRequestHeader(session.getAuthenticationToken()),
+                    key.maxAge,
+                    key.timestamps,
+                    a(operations, ReadValueId.class)
+                );
+
+                return client.<ReadResponse>sendRequest(request)
+                    .thenApply(r -> new Reply<>(r.getResponseHeader(), l(r.getResults())));
+            }
+        );
+
+        writes = new OperationQueue<>(
+            OperationLimits::getMaxNodesPerWrite,
+            (session, key, operations) -> {
+                WriteRequest request = new WriteRequest(
+                    client.newRequestHeader(session.getAuthenticationToken()),
+                    a(operations, WriteValue.class)
+                );
+
+                return client.<WriteResponse>sendRequest(request)
+                    .thenApply(r -> new Reply<>(r.getResponseHeader(), l(r.getResults())));
+            }
+        );
+
+        calls = new OperationQueue<>(
+            OperationLimits::getMaxNodesPerMethodCall,
+            (session, key, operations) -> {
+                CallRequest request = new CallRequest(
+                    client.newRequestHeader(session.getAuthenticationToken()),
+                    a(operations, CallMethodRequest.class)
+                );
+
+                return client.<CallResponse>sendRequest(request)
+                    .thenApply(r -> new Reply<>(r.getResponseHeader(), l(r.getResults())));
+            }
+        );
+    }
+
+    public CompletableFuture<ReadResponse> read(
+        double maxAge,
+        TimestampsToReturn timestampsToReturn,
+        List<ReadValueId> readValueIds) {
+
+        return reads.submit(new ReadKey(maxAge, timestampsToReturn), readValueIds).thenApply(
+            reply -> new ReadResponse(reply.header, a(reply.results, DataValue.class), null)
+        );
+    }
+
+    public CompletableFuture<WriteResponse> write(List<WriteValue> writeValues) {
+        return writes.submit(Unit.VALUE, writeValues).thenApply(
+            reply -> new WriteResponse(reply.header, a(reply.results, StatusCode.class), null)
+        );
+    }
+
+    public CompletableFuture<CallResponse> call(List<CallMethodRequest> methodsToCall) {
+        return calls.submit(Unit.VALUE, methodsToCall).thenApply(
+            reply -> new CallResponse(reply.header, a(reply.results, CallMethodResult.class), null)
+        );
+    }
+
+    private interface Sender<K, T, R> {
+
+        CompletableFuture<Reply<R>> send(OpcUaSession session, K key, List<T> operations);
+
+    }
+
+    private static class Reply<R> {
+
+        final ResponseHeader header;
+        final List<R> results;
+
+        Reply(ResponseHeader header, List<R> results) {
+            this.header = header;
+            this.results = results;
+        }
+
+    }
+
+    /**
+     * The operations of one caller, and the future its results complete.
+     */
+    private static class Pending<T, R> {
+
+        final List<T> operations;
+        final CompletableFuture<Reply<R>> future = new CompletableFuture<>();
+
+        Pending(List<T> operations) {
+            this.operations = operations;
+        }
+
+    }
+
+    private static class Batch<T, R> {
+
+        final List<Pending<T, R>> pending = new ArrayList<>();
+
+        int size = 0;
+
+    }
+
+    /**
+     * Collects the operations for one service into batches, one per key, and sends each batch once it is full or
+     * its window has elapsed.
+     */
+    private class OperationQueue<K, T, R> {
+
+        private final Map<K, Batch<T, R>> batches = new HashMap<>();
+
+        private final ToIntFunction<OperationLimits> limit;
+        private final Sender<K, T, R> sender;
+
+        OperationQueue(ToIntFunction<OperationLimits> limit, Sender<K, T, R> sender) {
+            this.limit = limit;
+            this.sender = sender;
+        }
+
+        CompletableFuture<Reply<R>> submit(K key, List<T> operations) {
+            Pending<T, R> pending = new Pending<>(new ArrayList<>(operations));
+
+            Batch<T, R> full = null;
+
+            synchronized (batches) {
+                Batch<T, R> batch = batches.get(key);
+
+                if (batch == null) {
+                    Batch<T, R> newBatch = batch = new Batch<>();
+                    batches.put(key, newBatch);
+
+                    client.getConfig().getScheduledExecutor().schedule(
+                        () -> flush(key, newBatch),
+                        window,
+                        TimeUnit.MILLISECONDS
+                    );
+                }
+
+                batch.pending.add(pending);
+                batch.size += operations.size();
+
+                if (batch.size >= maxSize) {
+                    batches.remove(key);
+                    full = batch;
+                }
+            }
+
+            if (full != null) {
+                send(key, full);
+            }
+
+            return pending.future;
+        }
+
+        private void flush(K key, Batch<T, R> batch) {
+            synchronized (batches) {
+                if (!batches.remove(key, batch)) {
+                    // already sent because it was full
+                    return;
+                }
+            }
+
+            send(key, batch);
+        }
+
+        private void send(K key, Batch<T, R> batch) {
+            client.getSession()
+                .thenCompose(session ->
+                    OperationLimits.get(client.getStackClient(), session)
+                        .thenAccept(limits -> send(session, limits, key, batch))
+                )
+                .exceptionally(ex -> {
+                    batch.pending.forEach(p -> p.future.completeExceptionally(ex));
+                    return null;
+                });
+        }
+
+        private void send(OpcUaSession session, OperationLimits limits, K key, Batch<T, R> batch) {
+            List<T> operations = new ArrayList<>(batch.size);
+            batch.pending.forEach(p -> operations.addAll(p.operations));
+
+            int partitionSize = limit.applyAsInt(limits);
+
+            List<List<T>> partitions = partitionSize > 0 ?
+                Lists.partition(operations, partitionSize) : Collections.singletonList(operations);
+
+            logger.debug(
+                "Sending {} operations from {} callers in {} requests",
+                operations.size(), batch.pending.size(), partitions.size()
+            );
+
+            List<CompletableFuture<Reply<R>>> replies = new ArrayList<>(partitions.size());
+            for (List<T> partition : partitions) {
+                replies.add(sender.send(session, key, partition));
+            }
+
+            CompletableFuture.allOf(replies.toArray(new CompletableFuture[0])).whenComplete((v, ex) -> {
+                int offset = 0;
+
+                for (Pending<T, R> pending : batch.pending) {
+                    int count = pending.operations.size();
+
+                    try {
+                        pending.future.complete(collect(replies, partitions, offset, count));
+                    } catch (CompletionException e) {
+                        pending.future.completeExceptionally(e.getCause() != null ? e.getCause() : e);
+                    } catch (Throwable t) {
+                        pending.future.completeExceptionally(t);
+                    }
+
+                    offset += count;
+                }
+            });
+        }
+
+        /**
+         * Collect the results for the {@code count} operations starting at {@code offset}, which may span more than
+         * one partition.
+         */
+        private Reply<R> collect(
+            List<CompletableFuture<Reply<R>>> replies,
+            List<List<T>> partitions,
+            int offset,
+            int count) throws UaException {
+
+            List<R> results = new ArrayList<>(count);
+            ResponseHeader header = null;
+
+            int partitionStart = 0;
+
+            for (int i = 0; i < partitions.size() && results.size() < count; i++) {
+                int partitionSize = partitions.get(i).size();
+                int partitionEnd = partitionStart + partitionSize;
+
+                int from = Math.max(offset + results.size(), partitionStart);
+                int to = Math.min(offset + count, partitionEnd);
+
+                if (from < to) {
+                    Reply<R> reply = replies.get(i).join();
+
+                    if (reply.results.size() != partitionSize) {
+                        throw new UaException(StatusCodes.Bad_UnexpectedError, "unexpected number of results");
+                    }
+
+                    results.addAll(reply.results.subList(from - partitionStart, to - partitionStart));
+                    header = reply.header;
+                }
+
+                partitionStart = partitionEnd;
+            }
+
+            return new Reply<>(header, results);
+        }
+
+    }
+
+    private static class ReadKey {
+
+        final double maxAge;
+        final TimestampsToReturn timestamps;
+
+        ReadKey(double maxAge, TimestampsToReturn timestamps) {
+            this.maxAge = maxAge;
+            this.timestamps = timestamps;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ReadKey readKey = (ReadKey) o;
+            return Double.compare(readKey.maxAge, maxAge) == 0 && timestamps == readKey.timestamps;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(maxAge, timestamps);
+        }
+
+    }
+
+}
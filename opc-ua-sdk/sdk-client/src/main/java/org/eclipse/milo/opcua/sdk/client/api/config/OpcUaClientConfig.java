@@ -91,6 +91,24 @@ public interface OpcUaClientConfig extends UaStackClientConfig {
      */
     double getSubscriptionWatchdogMultiplier();
 
+    /**
+     * Get the time, in milliseconds, that Read, Write and Call operations are collected for before being sent to the
+     * server together in as few requests as its OperationLimits allow.
+     * <p>
+     * A value of 0 disables coalescing; every service call is sent as its own request.
+     *
+     * @return the time, in milliseconds, that operations are collected for, or 0 if coalescing is disabled.
+     */
+    UInteger getRequestCoalescingWindow();
+
+    /**
+     * Get the number of collected operations at which they are sent without waiting for the rest of the coalescing
+     * window.
+     *
+     * @return the number of collected operations at which they are sent without waiting.
+     */
+    UInteger getRequestCoalescingMaxSize();
+
     /**
      * @return a new {@link OpcUaClientConfigBuilder}.
      */
@@ -122,6 +140,7 @@ public interface OpcUaClientConfig extends UaStackClientConfig {
         builder.setExecutor(config.getExecutor());
         builder.setScheduledExecutor(config.getScheduledExecutor());
         builder.setEventLoop(config.getEventLoop());
+        builder.setTransport(config.getTransport());
         builder.setWheelTimer(config.getWheelTimer());
         builder.setConnectTimeout(config.getConnectTimeout());
         builder.setAcknowledgeTimeout(config.getAcknowledgeTimeout());
@@ -139,6 +158,8 @@ public interface OpcUaClientConfig extends UaStackClientConfig {
         builder.setKeepAliveTimeout(config.getKeepAliveTimeout());
         builder.setSessionLocaleIds(config.getSessionLocaleIds());
         builder.setSubscriptionWatchdogMultiplier(config.getSubscriptionWatchdogMultiplier());
+        builder.setRequestCoalescingWindow(config.getRequestCoalescingWindow());
+        builder.setRequestCoalescingMaxSize(config.getRequestCoalescingMaxSize());
 
         return builder;
     }
@@ -25,6 +25,7 @@ import org.eclipse.milo.opcua.stack.client.UaStackClientConfig;
 import org.eclipse.milo.opcua.stack.client.UaStackClientConfigBuilder;
 import org.eclipse.milo.opcua.stack.client.security.ClientCertificateValidator;
 import org.eclipse.milo.opcua.stack.core.channel.EncodingLimits;
+import org.eclipse.milo.opcua.stack.core.transport.NettyTransport;
 import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
 import org.eclipse.milo.opcua.stack.core.types.structured.EndpointDescription;
@@ -51,6 +52,9 @@ public class OpcUaClientConfigBuilder extends UaStackClientConfigBuilder {
     private UInteger keepAliveTimeout = uint(5000);
     private double subscriptionWatchdogMultiplier = 2.0;
 
+    private UInteger requestCoalescingWindow = uint(0);
+    private UInteger requestCoalescingMaxSize = uint(1000);
+
     public OpcUaClientConfigBuilder setApplicationName(LocalizedText applicationName) {
         this.applicationName = applicationName;
         return this;
@@ -116,6 +120,16 @@ public class OpcUaClientConfigBuilder extends UaStackClientConfigBuilder {
         return this;
     }
 
+    public OpcUaClientConfigBuilder setRequestCoalescingWindow(UInteger requestCoalescingWindow) {
+        this.requestCoalescingWindow = requestCoalescingWindow;
+        return this;
+    }
+
+    public OpcUaClientConfigBuilder setRequestCoalescingMaxSize(UInteger requestCoalescingMaxSize) {
+        this.requestCoalescingMaxSize = requestCoalescingMaxSize;
+        return this;
+    }
+
     @Override
     public OpcUaClientConfigBuilder setEndpoint(EndpointDescription endpoint) {
         super.setEndpoint(endpoint);
@@ -164,6 +178,12 @@ public class OpcUaClientConfigBuilder extends UaStackClientConfigBuilder {
         return this;
     }
 
+    @Override
+    public OpcUaClientConfigBuilder setTransport(NettyTransport transport) {
+        super.setTransport(transport);
+        return this;
+    }
+
     @Override
     public OpcUaClientConfigBuilder setScheduledExecutor(ScheduledExecutorService scheduledExecutor) {
         super.setScheduledExecutor(scheduledExecutor);
@@ -225,7 +245,9 @@ public class OpcUaClientConfigBuilder extends UaStackClientConfigBuilder {
             keepAliveFailuresAllowed,
             keepAliveInterval,
             keepAliveTimeout,
-            subscriptionWatchdogMultiplier
+            subscriptionWatchdogMultiplier,
+            requestCoalescingWindow,
+            requestCoalescingMaxSize
         );
     }
 
@@ -245,6 +267,8 @@ public class OpcUaClientConfigBuilder extends UaStackClientConfigBuilder {
         private final UInteger keepAliveInterval;
         private final UInteger keepAliveTimeout;
         private final double subscriptionWatchdogMultiplier;
+        private final UInteger requestCoalescingWindow;
+        private final UInteger requestCoalescingMaxSize;
 
         OpcUaClientConfigImpl(
             UaStackClientConfig stackClientConfig,
@@ -260,7 +284,9 @@ public class OpcUaClientConfigBuilder extends UaStackClientConfigBuilder {
             UInteger keepAliveFailuresAllowed,
             UInteger keepAliveInterval,
             UInteger keepAliveTimeout,
-            double subscriptionWatchdogMultiplier
+            double subscriptionWatchdogMultiplier,
+            UInteger requestCoalescingWindow,
+            UInteger requestCoalescingMaxSize
         ) {
 
             this.stackClientConfig = stackClientConfig;
@@ -277,6 +303,8 @@ public class OpcUaClientConfigBuilder extends UaStackClientConfigBuilder {
             this.keepAliveInterval = keepAliveInterval;
             this.keepAliveTimeout = keepAliveTimeout;
             this.subscriptionWatchdogMultiplier = subscriptionWatchdogMultiplier;
+            this.requestCoalescingWindow = requestCoalescingWindow;
+            this.requestCoalescingMaxSize = requestCoalescingMaxSize;
         }
 
         @Override
@@ -344,6 +372,16 @@ public class OpcUaClientConfigBuilder extends UaStackClientConfigBuilder {
             return subscriptionWatchdogMultiplier;
         }
 
+        @Override
+        public UInteger getRequestCoalescingWindow() {
+            return requestCoalescingWindow;
+        }
+
+        @Override
+        public UInteger getRequestCoalescingMaxSize() {
+            return requestCoalescingMaxSize;
+        }
+
         @Override
         public EndpointDescription getEndpoint() {
             return stackClientConfig.getEndpoint();
@@ -394,6 +432,11 @@ public class OpcUaClientConfigBuilder extends UaStackClientConfigBuilder {
             return stackClientConfig.getEventLoop();
         }
 
+        @Override
+        public NettyTransport getTransport() {
+            return stackClientConfig.getTransport();
+        }
+
         @Override
         public HashedWheelTimer getWheelTimer() {
             return stackClientConfig.getWheelTimer();
@@ -58,7 +58,7 @@ import org.eclipse.milo.opcua.stack.core.types.structured.RepublishResponse;
 import org.eclipse.milo.opcua.stack.core.types.structured.RequestHeader;
 import org.eclipse.milo.opcua.stack.core.types.structured.StatusChangeNotification;
 import org.eclipse.milo.opcua.stack.core.types.structured.SubscriptionAcknowledgement;
-import org.eclipse.milo.opcua.stack.core.util.ExecutionQueue;
+import org.eclipse.milo.opcua.stack.core.util.MpscExecutionQueue;
 import org.eclipse.milo.opcua.stack.core.util.Unit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -83,16 +83,16 @@ public class OpcUaSubscriptionManager implements UaSubscriptionManager {
 
     private final ConcurrentMap<NodeId, AtomicLong> pendingCountMap = Maps.newConcurrentMap();
 
-    private final ExecutionQueue deliveryQueue;
-    private final ExecutionQueue processingQueue;
+    private final MpscExecutionQueue deliveryQueue;
+    private final MpscExecutionQueue processingQueue;
 
     private final OpcUaClient client;
 
     public OpcUaSubscriptionManager(OpcUaClient client) {
         this.client = client;
 
-        deliveryQueue = new ExecutionQueue(client.getConfig().getExecutor());
-        processingQueue = new ExecutionQueue(client.getConfig().getExecutor());
+        deliveryQueue = new MpscExecutionQueue(client.getConfig().getExecutor());
+        processingQueue = new MpscExecutionQueue(client.getConfig().getExecutor());
 
         client.addSessionActivityListener(new SessionActivityListener() {
             @Override
@@ -29,8 +29,11 @@ import org.eclipse.milo.opcua.sdk.core.ServerTable;
 import org.eclipse.milo.opcua.sdk.server.api.AddressSpaceManager;
 import org.eclipse.milo.opcua.sdk.server.api.config.OpcUaServerConfig;
 import org.eclipse.milo.opcua.sdk.server.diagnostics.ServerDiagnosticsSummary;
+import org.eclipse.milo.opcua.sdk.server.events.EventDispatcher;
+import org.eclipse.milo.opcua.sdk.server.events.EventRecord;
 import org.eclipse.milo.opcua.sdk.server.model.ObjectTypeInitializer;
 import org.eclipse.milo.opcua.sdk.server.model.VariableTypeInitializer;
+import org.eclipse.milo.opcua.sdk.server.model.nodes.objects.BaseEventTypeNode;
 import org.eclipse.milo.opcua.sdk.server.namespaces.OpcUaNamespace;
 import org.eclipse.milo.opcua.sdk.server.namespaces.ServerNamespace;
 import org.eclipse.milo.opcua.sdk.server.nodes.factories.EventFactory;
@@ -94,6 +97,7 @@ public class OpcUaServer {
     private final EventFactory eventFactory = new EventFactory(this);
 
     private final UaStackServer stackServer;
+    private final EventDispatcher eventDispatcher;
 
     private final OpcUaNamespace opcUaNamespace;
     private final ServerNamespace serverNamespace;
@@ -105,6 +109,8 @@ public class OpcUaServer {
 
         stackServer = new UaStackServer(config);
 
+        eventDispatcher = new EventDispatcher(this);
+
         Stream<String> paths = stackServer.getConfig().getEndpoints()
             .stream()
             .map(e -> EndpointUtil.getPath(e.getEndpointUrl()))
@@ -144,6 +150,7 @@ public class OpcUaServer {
 
     public CompletableFuture<OpcUaServer> startup() {
         eventFactory.startup();
+        eventDispatcher.startup();
 
         return stackServer.startup()
             .thenApply(s -> OpcUaServer.this);
@@ -154,6 +161,7 @@ public class OpcUaServer {
         opcUaNamespace.shutdown();
 
         eventFactory.shutdown();
+        eventDispatcher.shutdown();
 
         subscriptions.values()
             .forEach(Subscription::deleteSubscription);
@@ -205,7 +213,9 @@ public class OpcUaServer {
     /**
      * Get the Server-wide {@link EventBus}.
      * <p>
-     * Events posted to the EventBus are delivered synchronously to registered subscribers.
+     * Events posted to the EventBus are delivered synchronously to registered subscribers. Events in
+     * {@link BaseEventTypeNode} or {@link EventRecord} form are forwarded to the {@link EventDispatcher}; Event
+     * producers should post to {@link #getEventDispatcher()} directly.
      *
      * @return the Server-wide {@link EventBus}.
      */
@@ -213,6 +223,15 @@ public class OpcUaServer {
         return eventBus;
     }
 
+    /**
+     * Get the {@link EventDispatcher} that delivers Events to MonitoredItems.
+     *
+     * @return the {@link EventDispatcher} that delivers Events to MonitoredItems.
+     */
+    public EventDispatcher getEventDispatcher() {
+        return eventDispatcher;
+    }
+
     /**
      * Get the shared {@link EventFactory}.
      *
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server;
+
+import java.security.SecureRandom;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.milo.opcua.sdk.server.api.AddressSpaceFragment;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The NodeIds a {@link Session} has registered using the RegisterNodes service.
+ * <p>
+ * Each registered NodeId is handed out as a GUID handle in the same namespace. The most significant bits of every
+ * handle are a random prefix chosen for this Session and the least significant bits are a counter, so a handle can
+ * only shadow a Node in the address space if that Node's GUID identifier happens to share the prefix. A handle maps
+ * directly to the original NodeId, the {@link AddressSpaceFragment} that owns it and, when the fragment is a
+ * {@link UaNodeManager} backed address space, the Node it resolved to at registration. Operations on a handle are
+ * routed without evaluating any {@link AddressSpaceFragment} filters or looking the Node up again.
+ * <p>
+ * Handles are only valid for the Session that registered them, and are released by UnregisterNodes or when the
+ * Session is closed.
+ */
+public class RegisteredNodes {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final long handlePrefix = RANDOM.nextLong();
+
+    private long nextHandle = 0L;
+
+    private final Map<NodeId, RegisteredNode> registered = new ConcurrentHashMap<>();
+
+    private final int maxRegisteredNodes;
+
+    /**
+     * @param maxRegisteredNodes the maximum number of NodeIds that can be registered at once.
+     */
+    public RegisteredNodes(int maxRegisteredNodes) {
+        this.maxRegisteredNodes = maxRegisteredNodes;
+    }
+
+    /**
+     * Register {@code nodeId} and get a handle for it.
+     *
+     * @param nodeId      the {@link NodeId} to register.
+     * @param fragment    the {@link AddressSpaceFragment} that owns {@code nodeId}.
+     * @param nodeManager the {@link UaNodeManager} {@code fragment} reads its Nodes from, if it has one.
+     * @return the handle for {@code nodeId}, or {@code nodeId} itself if the registration limit has been reached.
+     */
+    public synchronized NodeId register(
+        NodeId nodeId,
+        AddressSpaceFragment fragment,
+        @Nullable UaNodeManager nodeManager
+    ) {
+
+        if (registered.size() >= maxRegisteredNodes) {
+            return nodeId;
+        }
+
+        NodeId handle = new NodeId(nodeId.getNamespaceIndex(), new UUID(handlePrefix, nextHandle++));
+
+        RegisteredNode registeredNode;
+
+        if (nodeManager != null) {
+            // Read the count first so a removal racing the lookup
+            // leaves the resolved Node already marked as stale.
+            long removalCount = nodeManager.getRemovalCount();
+            UaNode node = nodeManager.get(nodeId);
+
+            registeredNode = new RegisteredNode(handle, nodeId, fragment, node, nodeManager, removalCount);
+        } else {
+            registeredNode = new RegisteredNode(handle, nodeId, fragment, null, null, 0L);
+        }
+
+        registered.put(handle, registeredNode);
+
+        return handle;
+    }
+
+    /**
+     * Release {@code handle}.
+     *
+     * @param handle the handle previously returned by
+     *               {@link #register(NodeId, AddressSpaceFragment, UaNodeManager)}.
+     * @return the {@link RegisteredNode} that was released, or {@code null} if {@code handle} isn't registered.
+     */
+    @Nullable
+    public RegisteredNode unregister(NodeId handle) {
+        return isHandle(handle) ? registered.remove(handle) : null;
+    }
+
+    /**
+     * Get the {@link RegisteredNode} for {@code nodeId}, if it's a handle registered by this Session.
+     *
+     * @param nodeId a {@link NodeId} that may be a handle.
+     * @return the {@link RegisteredNode} for {@code nodeId}, or {@code null} if it's not a handle.
+     */
+    @Nullable
+    public RegisteredNode get(NodeId nodeId) {
+        return isHandle(nodeId) ? registered.get(nodeId) : null;
+    }
+
+    /**
+     * Get the original {@link NodeId} if {@code nodeId} is a handle, otherwise {@code nodeId} itself.
+     *
+     * @param nodeId a {@link NodeId} that may be a handle.
+     * @return the original {@link NodeId} if {@code nodeId} is a handle, otherwise {@code nodeId}.
+     */
+    public NodeId resolve(NodeId nodeId) {
+        RegisteredNode node = get(nodeId);
+
+        return node != null ? node.getNodeId() : nodeId;
+    }
+
+    public boolean isEmpty() {
+        return registered.isEmpty();
+    }
+
+    public int size() {
+        return registered.size();
+    }
+
+    /**
+     * Release every handle.
+     */
+    public void clear() {
+        registered.clear();
+    }
+
+    private boolean isHandle(@Nullable NodeId nodeId) {
+        if (nodeId == null) return false;
+
+        Object identifier = nodeId.getIdentifier();
+
+        return identifier instanceof UUID && ((UUID) identifier).getMostSignificantBits() == handlePrefix;
+    }
+
+    public static final class RegisteredNode {
+
+        private final NodeId handle;
+        private final NodeId nodeId;
+        private final AddressSpaceFragment fragment;
+        private final UaNode node;
+        private final UaNodeManager nodeManager;
+        private final long removalCount;
+
+        RegisteredNode(
+            NodeId handle,
+            NodeId nodeId,
+            AddressSpaceFragment fragment,
+            @Nullable UaNode node,
+            @Nullable UaNodeManager nodeManager,
+            long removalCount
+        ) {
+
+            this.handle = handle;
+            this.nodeId = nodeId;
+            this.fragment = fragment;
+            this.node = node;
+            this.nodeManager = nodeManager;
+            this.removalCount = removalCount;
+        }
+
+        /**
+         * @return the handle given to the client.
+         */
+        public NodeId getHandle() {
+            return handle;
+        }
+
+        /**
+         * @return the original {@link NodeId} that was registered.
+         */
+        public NodeId getNodeId() {
+            return nodeId;
+        }
+
+        /**
+         * @return the {@link AddressSpaceFragment} that owns the registered {@link NodeId}.
+         */
+        public AddressSpaceFragment getFragment() {
+            return fragment;
+        }
+
+        /**
+         * Get the Node the registered {@link NodeId} resolved to, if it's still the Node managed under that
+         * {@link NodeId}.
+         *
+         * @return the resolved {@link UaNode}, or {@code null} if the fragment has no {@link UaNodeManager}, the
+         * {@link NodeId} didn't resolve, or a Node may have been removed or replaced since registration.
+         */
+        @Nullable
+        public UaNode getNode() {
+            if (node != null && nodeManager.getRemovalCount() == removalCount) {
+                return node;
+            } else {
+                return null;
+            }
+        }
+
+    }
+
+}
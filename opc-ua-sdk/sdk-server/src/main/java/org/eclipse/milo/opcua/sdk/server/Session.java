@@ -72,6 +72,8 @@ public class Session implements SessionServiceSet {
 
     private final Map<ByteString, BrowseContinuationPoint> browseContinuationPoints = Maps.newConcurrentMap();
 
+    private final RegisteredNodes registeredNodes;
+
     private volatile Object identityObject;
     private volatile UserIdentityToken identityToken;
 
@@ -137,6 +139,9 @@ public class Session implements SessionServiceSet {
 
         subscriptionManager = new SubscriptionManager(this, server);
 
+        long maxRegisteredNodes = server.getConfig().getLimits().getMaxRegisteredNodesPerSession().longValue();
+        registeredNodes = new RegisteredNodes((int) Math.min(maxRegisteredNodes, Integer.MAX_VALUE));
+
         attributeServiceSet = new DefaultAttributeServiceSet();
         attributeHistoryServiceSet = new DefaultAttributeHistoryServiceSet();
         methodServiceSet = new DefaultMethodServiceSet();
@@ -292,6 +297,13 @@ public class Session implements SessionServiceSet {
         return maxResponseMessageSize;
     }
 
+    /**
+     * @return the {@link RegisteredNodes} for the NodeIds this Session has registered.
+     */
+    public RegisteredNodes getRegisteredNodes() {
+        return registeredNodes;
+    }
+
     public DateTime getConnectionTime() {
         return connectTime;
     }
@@ -403,6 +415,8 @@ public class Session implements SessionServiceSet {
 
         subscriptionManager.sessionClosed(deleteSubscriptions);
 
+        registeredNodes.clear();
+
         listeners.forEach(listener -> listener.onSessionClosed(this, deleteSubscriptions));
     }
 
@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -32,6 +33,8 @@ public class AbstractNodeManager<T extends Node> implements NodeManager<T> {
     private final ConcurrentMap<NodeId, T> nodeMap;
     private final ConcurrentMap<NodeId, LinkedHashMultiset<Reference>> referenceMap;
 
+    private final AtomicLong removalCount = new AtomicLong();
+
     public AbstractNodeManager() {
         nodeMap = makeNodeMap(new MapMaker());
 
@@ -84,6 +87,17 @@ public class AbstractNodeManager<T extends Node> implements NodeManager<T> {
         return new ArrayList<>(nodeMap.keySet());
     }
 
+    /**
+     * Get the number of times a Node has been removed or replaced in this {@link NodeManager}.
+     * <p>
+     * A Node looked up before this count last changed may no longer be the Node managed under its {@link NodeId}.
+     *
+     * @return the number of times a Node has been removed or replaced.
+     */
+    public long getRemovalCount() {
+        return removalCount.get();
+    }
+
     @Override
     public boolean containsNode(NodeId nodeId) {
         return nodeMap.containsKey(nodeId);
@@ -98,7 +112,13 @@ public class AbstractNodeManager<T extends Node> implements NodeManager<T> {
 
     @Override
     public Optional<T> addNode(T node) {
-        return Optional.ofNullable(nodeMap.put(node.getNodeId(), node));
+        T previous = nodeMap.put(node.getNodeId(), node);
+
+        if (previous != null) {
+            removalCount.incrementAndGet();
+        }
+
+        return Optional.ofNullable(previous);
     }
 
     @Override
@@ -113,7 +133,13 @@ public class AbstractNodeManager<T extends Node> implements NodeManager<T> {
 
     @Override
     public Optional<T> removeNode(NodeId nodeId) {
-        return Optional.ofNullable(nodeMap.remove(nodeId));
+        T removed = nodeMap.remove(nodeId);
+
+        if (removed != null) {
+            removalCount.incrementAndGet();
+        }
+
+        return Optional.ofNullable(removed);
     }
 
     @Override
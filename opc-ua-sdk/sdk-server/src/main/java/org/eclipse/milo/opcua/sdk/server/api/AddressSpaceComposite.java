@@ -11,18 +11,29 @@
 package org.eclipse.milo.opcua.sdk.server.api;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.eclipse.milo.opcua.sdk.core.Reference;
 import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.RegisteredNodes;
+import org.eclipse.milo.opcua.sdk.server.RegisteredNodes.RegisteredNode;
+import org.eclipse.milo.opcua.sdk.server.Session;
+import org.eclipse.milo.opcua.sdk.server.UaNodeManager;
 import org.eclipse.milo.opcua.sdk.server.api.services.MonitoredItemServices;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaServerNode;
 import org.eclipse.milo.opcua.stack.core.StatusCodes;
 import org.eclipse.milo.opcua.stack.core.UaException;
 import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
@@ -47,11 +58,11 @@ import org.eclipse.milo.opcua.stack.core.types.structured.ViewDescription;
 import org.eclipse.milo.opcua.stack.core.types.structured.WriteValue;
 import org.eclipse.milo.opcua.stack.core.util.FutureUtils;
 import org.eclipse.milo.opcua.stack.core.util.Unit;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static java.util.Collections.emptyList;
-import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
 import static org.eclipse.milo.opcua.sdk.core.util.GroupMapCollate.groupMapCollate;
 import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
@@ -70,10 +81,15 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
 
     private final CompositeAddressSpaceFilter filter = new CompositeAddressSpaceFilter(addressSpaces);
 
+    private volatile FragmentIndex index = new FragmentIndex(emptyList());
+
     private final OpcUaServer server;
+    private final EmptyAddressSpaceFragment emptyFragment;
 
     public AddressSpaceComposite(OpcUaServer server) {
         this.server = server;
+
+        emptyFragment = new EmptyAddressSpaceFragment(server);
     }
 
     @Override
@@ -91,6 +107,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
     public synchronized void register(AddressSpaceFragment addressSpace) {
         if (!addressSpaces.contains(addressSpace)) {
             addressSpaces.add(addressSpace);
+            index = new FragmentIndex(addressSpaces);
 
             logger.debug("registered {}", addressSpace);
         } else {
@@ -108,6 +125,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
     public synchronized void registerFirst(AddressSpaceFragment addressSpace) {
         if (!addressSpaces.contains(addressSpace)) {
             addressSpaces.add(0, addressSpace);
+            index = new FragmentIndex(addressSpaces);
 
             logger.debug("registered {} at index 0", addressSpace);
         } else {
@@ -123,6 +141,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
     public synchronized void unregister(AddressSpaceFragment addressSpace) {
         if (addressSpaces.contains(addressSpace)) {
             addressSpaces.remove(addressSpace);
+            index = new FragmentIndex(addressSpaces);
 
             logger.debug("unregistered {}", addressSpace);
         } else {
@@ -152,13 +171,226 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
         return addressSpaces.stream()
             .filter(filter)
             .findFirst()
-            .orElse(new EmptyAddressSpaceFragment(server));
+            .orElse(emptyFragment);
+    }
+
+    /**
+     * Get the first {@link AddressSpaceFragment} whose filter matches {@code item}, considering only the fragments
+     * whose {@link FilterScope} could contain {@code nodeId}.
+     */
+    private <T> AddressSpaceFragment getAddressSpace(
+        @Nullable NodeId nodeId,
+        T item,
+        BiPredicate<AddressSpaceFilter, T> filter
+    ) {
+
+        AddressSpaceFragment fragment = index.route(nodeId, item, filter);
+
+        return fragment != null ? fragment : emptyFragment;
+    }
+
+    /**
+     * Partition {@code items} by the {@link AddressSpaceFragment} that handles each one, preserving order within
+     * each partition.
+     */
+    private <T> Map<AddressSpaceFragment, List<T>> partition(
+        List<T> items,
+        Function<T, NodeId> getNodeId,
+        BiPredicate<AddressSpaceFilter, T> filter
+    ) {
+
+        AddressSpaceFragment[] fragments = new AddressSpaceFragment[items.size()];
+
+        boolean single = true;
+
+        for (int i = 0; i < fragments.length; i++) {
+            T item = items.get(i);
+            fragments[i] = getAddressSpace(getNodeId.apply(item), item, filter);
+            single &= fragments[i] == fragments[0];
+        }
+
+        if (fragments.length == 0) {
+            return Collections.emptyMap();
+        } else if (single) {
+            return Collections.singletonMap(fragments[0], items);
+        } else {
+            Map<AddressSpaceFragment, List<T>> partitions = new IdentityHashMap<>();
+
+            for (int i = 0; i < fragments.length; i++) {
+                partitions.computeIfAbsent(fragments[i], f -> new ArrayList<>()).add(items.get(i));
+            }
+
+            return partitions;
+        }
+    }
+
+    /**
+     * Get the {@link RegisteredNodes} for {@code session}, or {@code null} if there's no Session or it hasn't
+     * registered any NodeIds.
+     */
+    @Nullable
+    private static RegisteredNodes getRegisteredNodes(@Nullable Session session) {
+        if (session != null) {
+            RegisteredNodes registeredNodes = session.getRegisteredNodes();
+
+            return registeredNodes.isEmpty() ? null : registeredNodes;
+        } else {
+            return null;
+        }
+    }
+
+    private static NodeId resolve(AccessContext context, NodeId nodeId) {
+        RegisteredNodes registeredNodes = getRegisteredNodes(context.getSession().orElse(null));
+
+        return registeredNodes != null ? registeredNodes.resolve(nodeId) : nodeId;
+    }
+
+    /**
+     * Route each operation in {@code items} to the {@link AddressSpaceFragment} that handles it.
+     * <p>
+     * Operations on a registered node handle are rewritten to reference the original NodeId and routed directly to
+     * the fragment it was registered with, along with the Node it resolved to if there is one; everything else is
+     * routed to the first fragment whose filter matches.
+     */
+    private <T, R> CompletableFuture<List<R>> route(
+        @Nullable Session session,
+        List<T> items,
+        Function<T, NodeId> getNodeId,
+        BiFunction<T, NodeId, T> withNodeId,
+        BiPredicate<AddressSpaceFilter, T> filter,
+        FragmentMapper<T, R> mapper
+    ) {
+
+        RegisteredNodes registeredNodes = getRegisteredNodes(session);
+
+        List<T> resolved = registeredNodes != null ? new ArrayList<>(items) : items;
+        AddressSpaceFragment[] fragments = new AddressSpaceFragment[items.size()];
+        UaServerNode[] nodes = null;
+
+        for (int i = 0; i < fragments.length; i++) {
+            T item = items.get(i);
+            NodeId nodeId = getNodeId.apply(item);
+            RegisteredNode registered = registeredNodes != null ? registeredNodes.get(nodeId) : null;
+
+            if (registered != null) {
+                resolved.set(i, withNodeId.apply(item, registered.getNodeId()));
+                fragments[i] = registered.getFragment();
+
+                UaServerNode node = registered.getNode();
+                if (node != null) {
+                    if (nodes == null) nodes = new UaServerNode[items.size()];
+                    nodes[i] = node;
+                }
+            } else {
+                fragments[i] = getAddressSpace(nodeId, item, filter);
+            }
+        }
+
+        return collate(resolved, fragments, nodes, mapper);
+    }
+
+    /**
+     * Map each partition of {@code items} with {@code mapper}, then collate the results back into the order of
+     * {@code items}.
+     *
+     * @param items     the operations.
+     * @param fragments the {@link AddressSpaceFragment} each operation was routed to.
+     * @param nodes     the Node each operation was already resolved to, or {@code null} if none were.
+     * @param mapper    executes a partition on its fragment.
+     */
+    private static <T, R> CompletableFuture<List<R>> collate(
+        List<T> items,
+        AddressSpaceFragment[] fragments,
+        @Nullable UaServerNode[] nodes,
+        FragmentMapper<T, R> mapper
+    ) {
+
+        if (fragments.length == 0) {
+            return CompletableFuture.completedFuture(emptyList());
+        }
+
+        // First pass: size each partition and note each operation's position in it.
+        Map<AddressSpaceFragment, int[]> partitions = new IdentityHashMap<>();
+        int[] counts = new int[fragments.length];
+
+        for (int i = 0; i < fragments.length; i++) {
+            int[] count = partitions.computeIfAbsent(fragments[i], f -> new int[1]);
+            counts[i] = count[0]++;
+        }
+
+        if (partitions.size() == 1) {
+            // Common case: the whole batch belongs to one fragment.
+            return mapper.map(fragments[0], items, nodes != null ? Arrays.asList(nodes) : null);
+        }
+
+        // Second pass: place each operation's index directly at its position in its partition.
+        partitions.replaceAll((fragment, count) -> new int[count[0]]);
+
+        for (int i = 0; i < fragments.length; i++) {
+            partitions.get(fragments[i])[counts[i]] = i;
+        }
+
+        Object[] results = new Object[fragments.length];
+        List<CompletableFuture<Void>> futures = new ArrayList<>(partitions.size());
+
+        partitions.forEach((fragment, indices) -> {
+            List<T> partition = new ArrayList<>(indices.length);
+            List<UaServerNode> partitionNodes = nodes != null ? new ArrayList<>(indices.length) : null;
+
+            for (int index : indices) {
+                partition.add(items.get(index));
+                if (partitionNodes != null) partitionNodes.add(nodes[index]);
+            }
+
+            futures.add(mapper.map(fragment, partition, partitionNodes).thenAccept(partitionResults -> {
+                if (partitionResults.size() != indices.length) {
+                    String message = String.format(
+                        "result size (%s) does not match pending size (%s)",
+                        partitionResults.size(), indices.length);
+                    LoggerFactory.getLogger(AddressSpaceComposite.class).error(message);
+                    throw new RuntimeException(message);
+                }
+
+                for (int i = 0; i < indices.length; i++) {
+                    results[indices[i]] = partitionResults.get(i);
+                }
+            }));
+        });
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenApply(v -> {
+            @SuppressWarnings("unchecked")
+            List<R> collated = (List<R>) Arrays.asList(results);
+
+            return collated;
+        });
+    }
+
+    /**
+     * Executes a partition of operations on the {@link AddressSpaceFragment} they were routed to.
+     */
+    @FunctionalInterface
+    private interface FragmentMapper<T, R> {
+
+        /**
+         * @param fragment the {@link AddressSpaceFragment} the operations were routed to.
+         * @param items    the operations.
+         * @param nodes    the Node each operation was already resolved to, or {@code null} if none were.
+         * @return the results, in the order of {@code items}.
+         */
+        CompletableFuture<List<R>> map(
+            AddressSpaceFragment fragment,
+            List<T> items,
+            @Nullable List<UaServerNode> nodes
+        );
+
     }
 
     //region ViewServices
 
     @Override
-    public void browse(BrowseContext context, ViewDescription view, NodeId nodeId) {
+    public void browse(BrowseContext context, ViewDescription view, NodeId browseNodeId) {
+        NodeId nodeId = resolve(context, browseNodeId);
+
         List<AddressSpaceFragment> addressSpaces = getAddressSpaces();
 
         AddressSpace firstMatch;
@@ -220,7 +452,9 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
     }
 
     @Override
-    public void getReferences(BrowseContext context, ViewDescription view, NodeId nodeId) {
+    public void getReferences(BrowseContext context, ViewDescription view, NodeId browseNodeId) {
+        NodeId nodeId = resolve(context, browseNodeId);
+
         List<CompletableFuture<List<Reference>>> futures = new ArrayList<>();
 
         for (AddressSpace asx : addressSpaces) {
@@ -249,13 +483,19 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
 
     @Override
     public void registerNodes(RegisterNodesContext context, List<NodeId> nodeIds) {
-        CompletableFuture<List<NodeId>> registeredNodeIds = groupMapCollate(
+        AddressSpaceFragment[] fragments = new AddressSpaceFragment[nodeIds.size()];
+
+        for (int i = 0; i < fragments.length; i++) {
+            NodeId nodeId = nodeIds.get(i);
+
+            fragments[i] = getAddressSpace(nodeId, nodeId, (f, id) -> f.filterRegisterNode(server, id));
+        }
+
+        CompletableFuture<List<NodeId>> registeredNodeIds = collate(
             nodeIds,
-            nodeId -> getAddressSpace(
-                asx ->
-                    asx.getFilter().filterRegisterNode(server, nodeId)
-            ),
-            (AddressSpace asx) -> group -> {
+            fragments,
+            null,
+            (asx, group, nodes) -> {
                 RegisterNodesContext ctx = new RegisterNodesContext(
                     server,
                     context.getSession().orElse(null),
@@ -268,17 +508,52 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
             }
         );
 
-        registeredNodeIds.thenAccept(context::success);
+        Session session = context.getSession().orElse(null);
+
+        if (session == null) {
+            registeredNodeIds.thenAccept(context::success);
+            return;
+        }
+
+        // Hand out a handle for each NodeId a fragment accepted; the handle
+        // remembers the owning fragment, and the Node when the fragment is a
+        // ManagedAddressSpace, so later operations skip the filters and lookup.
+        registeredNodeIds.thenApply(registered -> {
+            List<NodeId> handles = new ArrayList<>(registered.size());
+
+            for (int i = 0; i < registered.size(); i++) {
+                NodeId nodeId = registered.get(i);
+                AddressSpaceFragment fragment = fragments[i];
+
+                if (nodeId == null || nodeId.isNull() || fragment instanceof EmptyAddressSpaceFragment) {
+                    handles.add(nodeId);
+                } else {
+                    UaNodeManager nodeManager = fragment instanceof ManagedAddressSpace ?
+                        ((ManagedAddressSpace) fragment).getNodeManager() : null;
+
+                    handles.add(session.getRegisteredNodes().register(nodeId, fragment, nodeManager));
+                }
+            }
+
+            return handles;
+        }).thenAccept(context::success);
     }
 
     @Override
-    public void unregisterNodes(UnregisterNodesContext context, List<NodeId> nodeIds) {
+    public void unregisterNodes(UnregisterNodesContext context, List<NodeId> handles) {
+        RegisteredNodes registeredNodes = getRegisteredNodes(context.getSession().orElse(null));
+
+        List<NodeId> nodeIds = new ArrayList<>(handles.size());
+
+        for (NodeId handle : handles) {
+            RegisteredNode registered = registeredNodes != null ? registeredNodes.unregister(handle) : null;
+
+            nodeIds.add(registered != null ? registered.getNodeId() : handle);
+        }
+
         CompletableFuture<List<Unit>> units = groupMapCollate(
             nodeIds,
-            nodeId -> getAddressSpace(
-                asx ->
-                    asx.getFilter().filterUnregisterNode(server, nodeId)
-            ),
+            nodeId -> getAddressSpace(nodeId, nodeId, (f, id) -> f.filterUnregisterNode(server, id)),
             (AddressSpace asx) -> group -> {
                 UnregisterNodesContext ctx = new UnregisterNodesContext(
                     server,
@@ -314,17 +589,23 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
         List<ReadValueId> readValueIds
     ) {
 
-        CompletableFuture<List<DataValue>> values = groupMapCollate(
+        CompletableFuture<List<DataValue>> values = route(
+            context.getSession().orElse(null),
             readValueIds,
-            readValueId -> getAddressSpace(
-                asx ->
-                    asx.getFilter().filterRead(server, readValueId)
+            ReadValueId::getNodeId,
+            (readValueId, nodeId) -> new ReadValueId(
+                nodeId,
+                readValueId.getAttributeId(),
+                readValueId.getIndexRange(),
+                readValueId.getDataEncoding()
             ),
-            (AddressSpace asx) -> group -> {
+            (filter, readValueId) -> filter.filterRead(server, readValueId),
+            (asx, group, nodes) -> {
                 ReadContext ctx = new ReadContext(
                     server,
                     context.getSession().orElse(null),
-                    context.getDiagnosticsContext()
+                    context.getDiagnosticsContext(),
+                    nodes
                 );
 
                 asx.read(ctx, maxAge, timestamps, group);
@@ -342,18 +623,24 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
         List<WriteValue> writeValues
     ) {
 
-        CompletableFuture<List<StatusCode>> results = groupMapCollate(
+        CompletableFuture<List<StatusCode>> results = route(
+            context.getSession().orElse(null),
             writeValues,
-            writeValue -> getAddressSpace(
-                asx ->
-                    asx.getFilter().filterWrite(server, writeValue)
+            WriteValue::getNodeId,
+            (writeValue, nodeId) -> new WriteValue(
+                nodeId,
+                writeValue.getAttributeId(),
+                writeValue.getIndexRange(),
+                writeValue.getValue()
             ),
-            (AddressSpace asx) -> group -> {
+            (filter, writeValue) -> filter.filterWrite(server, writeValue),
+            (asx, group, nodes) -> {
 
                 WriteContext ctx = new WriteContext(
                     server,
                     context.getSession().orElse(null),
-                    context.getDiagnosticsContext()
+                    context.getDiagnosticsContext(),
+                    nodes
                 );
 
                 asx.write(ctx, group);
@@ -377,13 +664,18 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
         List<HistoryReadValueId> readValueIds
     ) {
 
-        CompletableFuture<List<HistoryReadResult>> results = groupMapCollate(
+        CompletableFuture<List<HistoryReadResult>> results = route(
+            context.getSession().orElse(null),
             readValueIds,
-            readValueId -> getAddressSpace(
-                asx ->
-                    asx.getFilter().filterHistoryRead(server, readValueId)
+            HistoryReadValueId::getNodeId,
+            (readValueId, nodeId) -> new HistoryReadValueId(
+                nodeId,
+                readValueId.getIndexRange(),
+                readValueId.getDataEncoding(),
+                readValueId.getContinuationPoint()
             ),
-            (AddressSpace asx) -> group -> {
+            (filter, readValueId) -> filter.filterHistoryRead(server, readValueId),
+            (asx, group, nodes) -> {
 
                 HistoryReadContext ctx = new HistoryReadContext(
                     server,
@@ -444,13 +736,13 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
         List<CallMethodRequest> requests
     ) {
 
-        CompletableFuture<List<CallMethodResult>> results = groupMapCollate(
-            requests,
-            request -> getAddressSpace(
-                asx ->
-                    asx.getFilter().filterCall(server, request)
-            ),
-            (AddressSpace asx) -> group -> {
+        CompletableFuture<List<CallMethodResult>> results = route(
+            null,
+            resolve(context, requests),
+            CallMethodRequest::getObjectId,
+            (request, objectId) -> request,
+            (filter, request) -> filter.filterCall(server, request),
+            (asx, group, nodes) -> {
 
                 CallContext ctx = new CallContext(
                     server,
@@ -467,6 +759,27 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
         results.thenAccept(context::success);
     }
 
+    private static List<CallMethodRequest> resolve(AccessContext context, List<CallMethodRequest> requests) {
+        RegisteredNodes registeredNodes = getRegisteredNodes(context.getSession().orElse(null));
+
+        if (registeredNodes == null) return requests;
+
+        List<CallMethodRequest> resolved = new ArrayList<>(requests.size());
+
+        for (CallMethodRequest request : requests) {
+            NodeId objectId = registeredNodes.resolve(request.getObjectId());
+            NodeId methodId = registeredNodes.resolve(request.getMethodId());
+
+            if (objectId != request.getObjectId() || methodId != request.getMethodId()) {
+                resolved.add(new CallMethodRequest(objectId, methodId, request.getInputArguments()));
+            } else {
+                resolved.add(request);
+            }
+        }
+
+        return resolved;
+    }
+
     //endregion
 
     //region MonitoredItemServices
@@ -480,8 +793,9 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
     ) {
 
         AddressSpace addressSpace = getAddressSpace(
-            asx ->
-                asx.getFilter().filterOnCreateDataItem(server, itemToMonitor)
+            itemToMonitor.getNodeId(),
+            itemToMonitor,
+            (filter, item) -> filter.filterOnCreateDataItem(server, item)
         );
 
         addressSpace.onCreateDataItem(
@@ -501,8 +815,9 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
     ) {
 
         AddressSpace addressSpace = getAddressSpace(
-            asx ->
-                asx.getFilter().filterOnModifyDataItem(server, itemToModify)
+            itemToModify.getNodeId(),
+            itemToModify,
+            (filter, item) -> filter.filterOnModifyDataItem(server, item)
         );
 
         addressSpace.onModifyDataItem(
@@ -521,8 +836,9 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
     ) {
 
         AddressSpace addressSpace = getAddressSpace(
-            asx ->
-                asx.getFilter().filterOnCreateEventItem(server, itemToMonitor)
+            itemToMonitor.getNodeId(),
+            itemToMonitor,
+            (filter, item) -> filter.filterOnCreateEventItem(server, item)
         );
 
         addressSpace.onCreateEventItem(
@@ -540,8 +856,9 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
     ) {
 
         AddressSpace addressSpace = getAddressSpace(
-            asx ->
-                asx.getFilter().filterOnModifyEventItem(server, itemToModify)
+            itemToModify.getNodeId(),
+            itemToModify,
+            (filter, item) -> filter.filterOnModifyEventItem(server, item)
         );
 
         addressSpace.onModifyEventItem(
@@ -553,84 +870,77 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
 
     @Override
     public void onDataItemsCreated(List<DataItem> dataItems) {
-        Map<AddressSpace, List<DataItem>> byAddressSpace = dataItems.stream().collect(groupingBy(item ->
-            getAddressSpace(
-                asx ->
-                    asx.getFilter().filterOnDataItemsCreated(server, item.getReadValueId())
-            )
-        ));
+        Map<AddressSpaceFragment, List<DataItem>> byAddressSpace = partition(
+            dataItems,
+            item -> item.getReadValueId().getNodeId(),
+            (filter, item) -> filter.filterOnDataItemsCreated(server, item.getReadValueId())
+        );
 
         byAddressSpace.forEach(MonitoredItemServices::onDataItemsCreated);
     }
 
     @Override
     public void onDataItemsModified(List<DataItem> dataItems) {
-        Map<AddressSpace, List<DataItem>> byAddressSpace = dataItems.stream().collect(groupingBy(item ->
-            getAddressSpace(
-                asx ->
-                    asx.getFilter().filterOnDataItemsModified(server, item.getReadValueId())
-            )
-        ));
+        Map<AddressSpaceFragment, List<DataItem>> byAddressSpace = partition(
+            dataItems,
+            item -> item.getReadValueId().getNodeId(),
+            (filter, item) -> filter.filterOnDataItemsModified(server, item.getReadValueId())
+        );
 
         byAddressSpace.forEach(MonitoredItemServices::onDataItemsModified);
     }
 
     @Override
     public void onDataItemsDeleted(List<DataItem> dataItems) {
-        Map<AddressSpace, List<DataItem>> byAddressSpace = dataItems.stream().collect(groupingBy(item ->
-            getAddressSpace(
-                asx ->
-                    asx.getFilter().filterOnDataItemsDeleted(server, item.getReadValueId())
-            )
-        ));
+        Map<AddressSpaceFragment, List<DataItem>> byAddressSpace = partition(
+            dataItems,
+            item -> item.getReadValueId().getNodeId(),
+            (filter, item) -> filter.filterOnDataItemsDeleted(server, item.getReadValueId())
+        );
 
         byAddressSpace.forEach(MonitoredItemServices::onDataItemsDeleted);
     }
 
     @Override
     public void onEventItemsCreated(List<EventItem> eventItems) {
-        Map<AddressSpace, List<EventItem>> byAddressSpace = eventItems.stream().collect(groupingBy(item ->
-            getAddressSpace(
-                asx ->
-                    asx.getFilter().filterOnEventItemsCreated(server, item.getReadValueId())
-            )
-        ));
+        Map<AddressSpaceFragment, List<EventItem>> byAddressSpace = partition(
+            eventItems,
+            item -> item.getReadValueId().getNodeId(),
+            (filter, item) -> filter.filterOnEventItemsCreated(server, item.getReadValueId())
+        );
 
         byAddressSpace.forEach(MonitoredItemServices::onEventItemsCreated);
     }
 
     @Override
     public void onEventItemsModified(List<EventItem> eventItems) {
-        Map<AddressSpace, List<EventItem>> byAddressSpace = eventItems.stream().collect(groupingBy(item ->
-            getAddressSpace(
-                asx ->
-                    asx.getFilter().filterOnEventItemsModified(server, item.getReadValueId())
-            )
-        ));
+        Map<AddressSpaceFragment, List<EventItem>> byAddressSpace = partition(
+            eventItems,
+            item -> item.getReadValueId().getNodeId(),
+            (filter, item) -> filter.filterOnEventItemsModified(server, item.getReadValueId())
+        );
 
         byAddressSpace.forEach(MonitoredItemServices::onEventItemsModified);
     }
 
     @Override
     public void onEventItemsDeleted(List<EventItem> eventItems) {
-        Map<AddressSpace, List<EventItem>> byAddressSpace = eventItems.stream().collect(groupingBy(item ->
-            getAddressSpace(
-                asx ->
-                    asx.getFilter().filterOnEventItemsDeleted(server, item.getReadValueId())
-            )
-        ));
+        Map<AddressSpaceFragment, List<EventItem>> byAddressSpace = partition(
+            eventItems,
+            item -> item.getReadValueId().getNodeId(),
+            (filter, item) -> filter.filterOnEventItemsDeleted(server, item.getReadValueId())
+        );
 
         byAddressSpace.forEach(MonitoredItemServices::onEventItemsDeleted);
     }
 
     @Override
     public void onMonitoringModeChanged(List<MonitoredItem> monitoredItems) {
-        Map<AddressSpace, List<MonitoredItem>> byAddressSpace = monitoredItems.stream().collect(groupingBy(item ->
-            getAddressSpace(
-                asx ->
-                    asx.getFilter().filterOnMonitoringModeChanged(server, item.getReadValueId())
-            )
-        ));
+        Map<AddressSpaceFragment, List<MonitoredItem>> byAddressSpace = partition(
+            monitoredItems,
+            item -> item.getReadValueId().getNodeId(),
+            (filter, item) -> filter.filterOnMonitoringModeChanged(server, item.getReadValueId())
+        );
 
         byAddressSpace.forEach(MonitoredItemServices::onMonitoringModeChanged);
     }
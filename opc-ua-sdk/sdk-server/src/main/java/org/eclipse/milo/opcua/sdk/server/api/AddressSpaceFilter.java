@@ -51,6 +51,18 @@ import static org.eclipse.milo.opcua.sdk.server.api.services.ViewServices.Unregi
 
 public interface AddressSpaceFilter {
 
+    /**
+     * Get the {@link FilterScope} of NodeIds this filter can match.
+     * <p>
+     * {@link AddressSpaceComposite} uses the scope to skip filters that can't match an operation, and to skip
+     * evaluating exact filters entirely. The scope is read once, when the fragment is registered.
+     *
+     * @return the {@link FilterScope} of NodeIds this filter can match.
+     */
+    default FilterScope getScope() {
+        return FilterScope.UNBOUNDED;
+    }
+
     //region ViewServices
 
     /**
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.api;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+
+/**
+ * A cache of attribute values, keyed by NodeId and AttributeId, used to honor the maxAge parameter of the Read
+ * service.
+ * <p>
+ * A read is served from the cache if the cached value is younger than the requested maxAge. Otherwise the value is
+ * read from the node and cached. Concurrent misses for the same attribute are coalesced: the first reads the node
+ * and the others get a future that completes with its result, so one slow read serves them all without blocking
+ * the threads that asked for it.
+ * <p>
+ * Values are cached without timestamps applied. Access checks still happen on every read. The cached value
+ * itself must not depend on the Session that read it.
+ */
+public class AttributeValueCache {
+
+    private final Cache<Key, CachedValue> cachedValues;
+    private final ConcurrentMap<Key, InFlightRead> inFlightReads = new ConcurrentHashMap<>();
+
+    private final LongSupplier nanoTime;
+
+    public AttributeValueCache() {
+        this(builder -> {
+            builder.expireAfterWrite(1, TimeUnit.MINUTES);
+            builder.maximumSize(16384);
+        });
+    }
+
+    /**
+     * @param consumer a callback that configures size and eviction on the underlying {@link CacheBuilder}.
+     */
+    public AttributeValueCache(Consumer<CacheBuilder<Object, Object>> consumer) {
+        this(consumer, System::nanoTime);
+    }
+
+    AttributeValueCache(Consumer<CacheBuilder<Object, Object>> consumer, LongSupplier nanoTime) {
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder();
+
+        consumer.accept(builder);
+
+        this.cachedValues = builder.build();
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Get the value of an attribute, from the cache if the cached value is younger than {@code maxAge}, otherwise
+     * from {@code reader}.
+     * <p>
+     * If a read of the same attribute is already in flight and started no more than {@code maxAge} ago, the returned
+     * future completes with its result instead of calling {@code reader} again.
+     *
+     * @param nodeId      the {@link NodeId} of the node being read.
+     * @param attributeId the id of the attribute being read.
+     * @param maxAge      the maximum age, in milliseconds, of a cached value that can be returned.
+     * @param reader      reads the attribute from the node on a miss.
+     * @return a {@link CompletableFuture} containing the attribute value.
+     */
+    public CompletableFuture<DataValue> read(
+        NodeId nodeId,
+        UInteger attributeId,
+        double maxAge,
+        Supplier<DataValue> reader
+    ) {
+
+        Key key = new Key(nodeId, attributeId);
+
+        if (maxAge <= 0) {
+            return CompletableFuture.completedFuture(load(key, reader, nanoTime.getAsLong()));
+        }
+
+        long maxAgeNanos = maxAgeNanos(maxAge);
+
+        CachedValue cached = cachedValues.getIfPresent(key);
+
+        if (cached != null && nanoTime.getAsLong() - cached.readTime <= maxAgeNanos) {
+            return CompletableFuture.completedFuture(cached.value);
+        }
+
+        InFlightRead read = new InFlightRead(nanoTime.getAsLong());
+        InFlightRead inFlight = inFlightReads.putIfAbsent(key, read);
+
+        if (inFlight != null) {
+            if (read.readTime - inFlight.readTime <= maxAgeNanos) {
+                return inFlight.future;
+            } else {
+                // Too old to serve this request; read without replacing it.
+                return CompletableFuture.completedFuture(load(key, reader, read.readTime));
+            }
+        }
+
+        try {
+            read.future.complete(load(key, reader, read.readTime));
+        } catch (Throwable t) {
+            read.future.completeExceptionally(t);
+        } finally {
+            inFlightReads.remove(key, read);
+        }
+
+        return read.future;
+    }
+
+    private DataValue load(Key key, Supplier<DataValue> reader, long readTime) {
+        DataValue value = reader.get();
+
+        // Keep whichever of two racing reads started last.
+        cachedValues.asMap().merge(
+            key,
+            new CachedValue(value, readTime),
+            (previous, current) -> current.readTime - previous.readTime >= 0 ? current : previous
+        );
+
+        return value;
+    }
+
+    /**
+     * Remove the cached value of an attribute, e.g. after it's been written.
+     *
+     * @param nodeId      the {@link NodeId} of the node.
+     * @param attributeId the id of the attribute.
+     */
+    public void invalidate(NodeId nodeId, UInteger attributeId) {
+        cachedValues.invalidate(new Key(nodeId, attributeId));
+    }
+
+    /**
+     * Remove all cached values.
+     */
+    public void invalidateAll() {
+        cachedValues.invalidateAll();
+    }
+
+    /**
+     * @return the approximate number of cached values.
+     */
+    public long size() {
+        return cachedValues.size();
+    }
+
+    private static long maxAgeNanos(double maxAge) {
+        double nanos = maxAge * 1_000_000d;
+
+        return nanos >= Long.MAX_VALUE ? Long.MAX_VALUE : (long) nanos;
+    }
+
+    private static final class Key {
+
+        private final NodeId nodeId;
+        private final UInteger attributeId;
+
+        Key(NodeId nodeId, UInteger attributeId) {
+            this.nodeId = nodeId;
+            this.attributeId = attributeId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return nodeId.equals(key.nodeId) && attributeId.equals(key.attributeId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(nodeId, attributeId);
+        }
+
+    }
+
+    private static final class InFlightRead {
+
+        final CompletableFuture<DataValue> future = new CompletableFuture<>();
+        final long readTime;
+
+        InFlightRead(long readTime) {
+            this.readTime = readTime;
+        }
+
+    }
+
+    private static final class CachedValue {
+
+        final DataValue value;
+        final long readTime;
+
+        CachedValue(DataValue value, long readTime) {
+            this.value = value;
+            this.readTime = readTime;
+        }
+
+    }
+
+}
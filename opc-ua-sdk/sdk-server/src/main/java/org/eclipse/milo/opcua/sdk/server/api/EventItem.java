@@ -11,11 +11,40 @@
 package org.eclipse.milo.opcua.sdk.server.api;
 
 import com.google.common.eventbus.Subscribe;
+import org.eclipse.milo.opcua.sdk.server.events.EventRecord;
 import org.eclipse.milo.opcua.sdk.server.model.nodes.objects.BaseEventTypeNode;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.slf4j.LoggerFactory;
 
 public interface EventItem extends MonitoredItem {
 
     @Subscribe
     void onEvent(BaseEventTypeNode eventNode);
 
+    /**
+     * Handle an Event posted as an {@link EventRecord}.
+     * <p>
+     * The default implementation converts {@code event} to a {@link BaseEventTypeNode}, passes it to
+     * {@link #onEvent(BaseEventTypeNode)}, and then deletes it. Implementations that can evaluate an
+     * {@link EventRecord} directly should override this to avoid creating the Node.
+     *
+     * @param event the {@link EventRecord} that was posted.
+     */
+    @Subscribe
+    default void onEventRecord(EventRecord event) {
+        BaseEventTypeNode eventNode;
+        try {
+            eventNode = event.toEventNode(getSession().getServer());
+        } catch (UaException e) {
+            LoggerFactory.getLogger(getClass()).error("Failed to create Event Node: {}", e.getMessage(), e);
+            return;
+        }
+
+        try {
+            onEvent(eventNode);
+        } finally {
+            eventNode.delete();
+        }
+    }
+
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.api;
+
+import java.util.Objects;
+
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UShort;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Describes the NodeIds an {@link AddressSpaceFilter} can match, so that {@link AddressSpaceComposite} can route
+ * operations without evaluating every registered filter.
+ * <p>
+ * A filter must not match an operation whose NodeId is outside its scope. If the scope is <em>exact</em> the filter
+ * matches every operation whose NodeId is inside the scope, and it isn't evaluated at all.
+ * <p>
+ * The NodeId of an operation is the one {@link SimpleAddressSpaceFilter} uses, e.g. the NodeId of a ReadValueId
+ * or the ObjectId of a CallMethodRequest.
+ */
+public final class FilterScope {
+
+    /**
+     * A scope that contains every NodeId; the filter is evaluated for every operation.
+     */
+    public static final FilterScope UNBOUNDED = new FilterScope(null, null, false);
+
+    @Nullable
+    private final UShort namespaceIndex;
+
+    @Nullable
+    private final String prefix;
+
+    private final boolean exact;
+
+    private FilterScope(@Nullable UShort namespaceIndex, @Nullable String prefix, boolean exact) {
+        this.namespaceIndex = namespaceIndex;
+        this.prefix = prefix;
+        this.exact = exact;
+    }
+
+    /**
+     * @return the namespace index every NodeId in this scope belongs to, or {@code null} if any.
+     */
+    @Nullable
+    public UShort getNamespaceIndex() {
+        return namespaceIndex;
+    }
+
+    /**
+     * @return the prefix every String identifier in this scope starts with, or {@code null} if any identifier.
+     */
+    @Nullable
+    public String getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * @return {@code true} if the filter matches every NodeId in this scope.
+     */
+    public boolean isExact() {
+        return exact;
+    }
+
+    public boolean isUnbounded() {
+        return namespaceIndex == null && prefix == null;
+    }
+
+    /**
+     * @param nodeId the {@link NodeId} to test.
+     * @return {@code true} if {@code nodeId} is in this scope.
+     */
+    public boolean contains(@Nullable NodeId nodeId) {
+        if (nodeId == null) {
+            return isUnbounded();
+        }
+
+        if (namespaceIndex != null && !namespaceIndex.equals(nodeId.getNamespaceIndex())) {
+            return false;
+        }
+
+        if (prefix != null) {
+            Object identifier = nodeId.getIdentifier();
+
+            return identifier instanceof String && ((String) identifier).startsWith(prefix);
+        }
+
+        return true;
+    }
+
+    /**
+     * Get a copy of this scope that still narrows which NodeIds can match, but requires the filter to be
+     * evaluated for NodeIds inside it.
+     *
+     * @return a copy of this scope that isn't exact.
+     */
+    public FilterScope inexact() {
+        return exact ? new FilterScope(namespaceIndex, prefix, false) : this;
+    }
+
+    /**
+     * Create an exact scope containing every NodeId in a namespace.
+     *
+     * @param namespaceIndex the namespace index.
+     * @return an exact scope containing every NodeId in {@code namespaceIndex}.
+     */
+    public static FilterScope namespace(UShort namespaceIndex) {
+        return new FilterScope(namespaceIndex, null, true);
+    }
+
+    /**
+     * Create an exact scope containing every NodeId in a namespace with a String identifier that starts with
+     * {@code prefix}.
+     *
+     * @param namespaceIndex the namespace index.
+     * @param prefix         the identifier prefix.
+     * @return an exact scope containing every NodeId in {@code namespaceIndex} whose identifier starts with
+     * {@code prefix}.
+     */
+    public static FilterScope prefix(UShort namespaceIndex, String prefix) {
+        return new FilterScope(namespaceIndex, prefix, true);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        FilterScope that = (FilterScope) o;
+        return exact == that.exact &&
+            Objects.equals(namespaceIndex, that.namespaceIndex) &&
+            Objects.equals(prefix, that.prefix);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(namespaceIndex, prefix, exact);
+    }
+
+    @Override
+    public String toString() {
+        return "FilterScope{" +
+            "namespaceIndex=" + namespaceIndex +
+            ", prefix=" + prefix +
+            ", exact=" + exact +
+            '}';
+    }
+
+}
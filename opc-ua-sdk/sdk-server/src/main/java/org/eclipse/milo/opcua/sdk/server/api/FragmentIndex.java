@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.api;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiPredicate;
+
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UShort;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An immutable index of {@link AddressSpaceFragment}s by the namespace index of their {@link FilterScope}.
+ * <p>
+ * Routing a NodeId only visits the fragments whose scope could contain it, in registration order, and doesn't
+ * evaluate the filter of a fragment with an exact scope. The first fragment that matches is the same one a linear
+ * scan over every filter would find.
+ */
+final class FragmentIndex {
+
+    private final Map<UShort, Candidate[]> byNamespace = new HashMap<>();
+
+    /**
+     * Candidates for a NodeId in a namespace that no scope names explicitly.
+     */
+    private final Candidate[] anyNamespace;
+
+    /**
+     * Candidates for a {@code null} NodeId: every fragment, each still evaluated by its filter.
+     */
+    private final Candidate[] all;
+
+    FragmentIndex(List<AddressSpaceFragment> fragments) {
+        List<Candidate> candidates = new ArrayList<>(fragments.size());
+        Set<UShort> namespaces = new LinkedHashSet<>();
+
+        for (AddressSpaceFragment fragment : fragments) {
+            FilterScope scope = fragment.getFilter().getScope();
+
+            candidates.add(new Candidate(fragment, scope));
+
+            if (scope.getNamespaceIndex() != null) {
+                namespaces.add(scope.getNamespaceIndex());
+            }
+        }
+
+        for (UShort namespaceIndex : namespaces) {
+            byNamespace.put(
+                namespaceIndex,
+                candidates.stream()
+                    .filter(c -> c.namespaceIndex == null || c.namespaceIndex.equals(namespaceIndex))
+                    .toArray(Candidate[]::new)
+            );
+        }
+
+        anyNamespace = candidates.stream()
+            .filter(c -> c.namespaceIndex == null)
+            .toArray(Candidate[]::new);
+
+        all = candidates.stream()
+            .map(c -> new Candidate(c.fragment, FilterScope.UNBOUNDED))
+            .toArray(Candidate[]::new);
+    }
+
+    /**
+     * Find the first {@link AddressSpaceFragment} whose filter matches {@code item}.
+     *
+     * @param nodeId the NodeId {@code item} targets, used to narrow the fragments considered.
+     * @param item   the operation being routed.
+     * @param filter evaluates an {@link AddressSpaceFilter} against {@code item}.
+     * @return the first matching {@link AddressSpaceFragment}, or {@code null} if none match.
+     */
+    @Nullable
+    <T> AddressSpaceFragment route(@Nullable NodeId nodeId, T item, BiPredicate<AddressSpaceFilter, T> filter) {
+        Candidate[] candidates;
+
+        if (nodeId == null) {
+            candidates = all;
+        } else {
+            candidates = byNamespace.getOrDefault(nodeId.getNamespaceIndex(), anyNamespace);
+        }
+
+        for (Candidate candidate : candidates) {
+            if (candidate.unbounded) {
+                if (filter.test(candidate.fragment.getFilter(), item)) {
+                    return candidate.fragment;
+                }
+            } else if (candidate.scope.contains(nodeId)) {
+                if (candidate.scope.isExact() || filter.test(candidate.fragment.getFilter(), item)) {
+                    return candidate.fragment;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    static final class Candidate {
+
+        final AddressSpaceFragment fragment;
+        final FilterScope scope;
+        final boolean unbounded;
+
+        @Nullable
+        final UShort namespaceIndex;
+
+        Candidate(AddressSpaceFragment fragment, FilterScope scope) {
+            this.fragment = fragment;
+            this.scope = scope;
+            this.unbounded = scope.isUnbounded();
+            this.namespaceIndex = scope.getNamespaceIndex();
+        }
+
+    }
+
+}
@@ -12,8 +12,11 @@ package org.eclipse.milo.opcua.sdk.server.api;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import com.google.common.collect.Lists;
+import org.eclipse.milo.opcua.sdk.core.AccessLevel;
 import org.eclipse.milo.opcua.sdk.core.Reference;
 import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
 import org.eclipse.milo.opcua.sdk.server.UaNodeManager;
@@ -27,6 +30,8 @@ import org.eclipse.milo.opcua.sdk.server.nodes.UaObjectNode;
 import org.eclipse.milo.opcua.sdk.server.nodes.UaObjectTypeNode;
 import org.eclipse.milo.opcua.sdk.server.nodes.UaServerNode;
 import org.eclipse.milo.opcua.sdk.server.nodes.factories.NodeFactory;
+import org.eclipse.milo.opcua.sdk.server.nodes.filters.AttributeFilter;
+import org.eclipse.milo.opcua.sdk.server.util.AttributeUtil;
 import org.eclipse.milo.opcua.stack.core.AttributeId;
 import org.eclipse.milo.opcua.stack.core.StatusCodes;
 import org.eclipse.milo.opcua.stack.core.UaException;
@@ -35,13 +40,16 @@ import org.eclipse.milo.opcua.stack.core.types.builtin.DiagnosticInfo;
 import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
 import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
 import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.NodeClass;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
 import org.eclipse.milo.opcua.stack.core.types.structured.CallMethodRequest;
 import org.eclipse.milo.opcua.stack.core.types.structured.CallMethodResult;
 import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
 import org.eclipse.milo.opcua.stack.core.types.structured.ViewDescription;
 import org.eclipse.milo.opcua.stack.core.types.structured.WriteValue;
+import org.eclipse.milo.opcua.stack.core.util.FutureUtils;
 import org.eclipse.milo.opcua.stack.core.util.Unit;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -55,6 +63,8 @@ public abstract class ManagedAddressSpace implements AddressSpace {
     private final OpcUaServer server;
     private final UaNodeManager nodeManager;
 
+    private volatile AttributeValueCache attributeValueCache;
+
     public ManagedAddressSpace(OpcUaServer server) {
         this(server, new UaNodeManager());
     }
@@ -99,6 +109,31 @@ public abstract class ManagedAddressSpace implements AddressSpace {
         return nodeManager;
     }
 
+    /**
+     * Get the {@link AttributeValueCache} used to serve reads with a non-zero maxAge, if one has been set.
+     *
+     * @return the {@link AttributeValueCache}, or {@code null} if reads always go to the node.
+     */
+    @Nullable
+    public AttributeValueCache getAttributeValueCache() {
+        return attributeValueCache;
+    }
+
+    /**
+     * Set an {@link AttributeValueCache} used to serve reads with a non-zero maxAge.
+     * <p>
+     * Only Session-independent attributes are cached: the User* attributes, and any attribute not known to
+     * {@link AttributeId} such as RolePermissions, are always read from the node. So is every attribute of a node
+     * with an {@link AttributeFilter} installed, unless every filter opts in with
+     * {@link AttributeFilter#isCacheable()}.
+     * Reads of the Value attribute still check the UserAccessLevel of the reading Session.
+     *
+     * @param attributeValueCache the {@link AttributeValueCache}, or {@code null} to disable caching.
+     */
+    public void setAttributeValueCache(@Nullable AttributeValueCache attributeValueCache) {
+        this.attributeValueCache = attributeValueCache;
+    }
+
     @Override
     public void browse(BrowseContext context, ViewDescription viewDescription, NodeId nodeId) {
         if (nodeManager.containsNode(nodeId)) {
@@ -139,34 +174,131 @@ public abstract class ManagedAddressSpace implements AddressSpace {
         List<ReadValueId> readValueIds
     ) {
 
-        List<DataValue> results = Lists.newArrayListWithCapacity(readValueIds.size());
+        List<CompletableFuture<DataValue>> results = Lists.newArrayListWithCapacity(readValueIds.size());
 
-        for (ReadValueId readValueId : readValueIds) {
-            UaServerNode node = nodeManager.get(readValueId.getNodeId());
+        AttributeValueCache cache = maxAge != null && maxAge > 0 ? attributeValueCache : null;
+
+        for (int i = 0; i < readValueIds.size(); i++) {
+            ReadValueId readValueId = readValueIds.get(i);
+            UaServerNode node = getNode(context, i, readValueId.getNodeId());
 
             if (node != null) {
-                DataValue value = node.readAttribute(
-                    new AttributeContext(context),
-                    readValueId.getAttributeId(),
-                    timestamps,
-                    readValueId.getIndexRange(),
-                    readValueId.getDataEncoding()
-                );
+                CompletableFuture<DataValue> value;
 
-                logger.debug("Read value {} from attribute {} of {}",
-                    value.getValue().getValue(),
-                    AttributeId.from(readValueId.getAttributeId())
-                        .map(Object::toString).orElse("unknown"),
-                    node.getNodeId()
-                );
+                if (cache != null && isCacheable(node, readValueId)) {
+                    value = readCached(cache, context, node, readValueId, maxAge, timestamps);
+                } else {
+                    value = CompletableFuture.completedFuture(node.readAttribute(
+                        new AttributeContext(context),
+                        readValueId.getAttributeId(),
+                        timestamps,
+                        readValueId.getIndexRange(),
+                        readValueId.getDataEncoding()
+                    ));
+                }
 
-                results.add(value);
+                results.add(value.thenApply(v -> {
+                    logger.debug("Read value {} from attribute {} of {}",
+                        v.getValue().getValue(),
+                        AttributeId.from(readValueId.getAttributeId())
+                            .map(Object::toString).orElse("unknown"),
+                        node.getNodeId()
+                    );
+
+                    return v;
+                }));
             } else {
-                results.add(new DataValue(StatusCodes.Bad_NodeIdUnknown));
+                results.add(CompletableFuture.completedFuture(new DataValue(StatusCodes.Bad_NodeIdUnknown)));
             }
         }
 
-        context.success(results);
+        FutureUtils.sequence(results).whenComplete((values, ex) -> {
+            if (values != null) {
+                context.success(values);
+            } else {
+                context.failure(
+                    UaException.extract(ex)
+                        .orElse(new UaException(ex))
+                );
+            }
+        });
+    }
+
+    /**
+     * Get the Node for the operation at {@code index}, using the Node it was already resolved to if there is one.
+     */
+    @Nullable
+    private UaServerNode getNode(ServiceOperationContext<?, ?> context, int index, NodeId nodeId) {
+        UaServerNode node = context.getResolvedNode(index);
+
+        return node != null ? node : nodeManager.get(nodeId);
+    }
+
+    private static boolean isCacheable(UaServerNode node, ReadValueId readValueId) {
+        String indexRange = readValueId.getIndexRange();
+
+        if (indexRange != null && !indexRange.isEmpty()) return false;
+        if (readValueId.getDataEncoding() != null && !readValueId.getDataEncoding().isNull()) return false;
+
+        // Values are read without a Session and shared by every Session, so anything the Session's
+        // identity can affect is out, as is any node with a filter that hasn't declared itself cacheable.
+        if (!(node instanceof UaNode) || !((UaNode) node).getFilterChain().isCacheable()) return false;
+
+        AttributeId attributeId = AttributeId.from(readValueId.getAttributeId()).orElse(null);
+
+        // Unknown ids, including the RolePermissions attributes, are never cached.
+        if (attributeId == null) return false;
+
+        switch (attributeId) {
+            case UserAccessLevel:
+            case UserWriteMask:
+            case UserExecutable:
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    private CompletableFuture<DataValue> readCached(
+        AttributeValueCache cache,
+        ReadContext context,
+        UaServerNode node,
+        ReadValueId readValueId,
+        double maxAge,
+        @Nullable TimestampsToReturn timestamps
+    ) {
+
+        AttributeId attributeId = AttributeId.from(readValueId.getAttributeId()).orElse(null);
+
+        if (attributeId == null) {
+            return CompletableFuture.completedFuture(new DataValue(StatusCodes.Bad_AttributeIdInvalid));
+        }
+
+        // The cached value is shared by every Session, so the
+        // Session-specific access check has to happen here.
+        if (attributeId == AttributeId.Value && node.getNodeClass() == NodeClass.Variable) {
+            try {
+                Set<AccessLevel> userAccessLevels =
+                    AttributeUtil.getUserAccessLevels(node, new AttributeContext(context));
+
+                if (!userAccessLevels.contains(AccessLevel.CurrentRead)) {
+                    return CompletableFuture.completedFuture(new DataValue(StatusCodes.Bad_UserAccessDenied));
+                }
+            } catch (UaException e) {
+                return CompletableFuture.completedFuture(new DataValue(e.getStatusCode()));
+            }
+        }
+
+        CompletableFuture<DataValue> value = cache.read(
+            node.getNodeId(),
+            readValueId.getAttributeId(),
+            maxAge,
+            () -> node.readAttribute(new AttributeContext(server), attributeId, null, null, null)
+        );
+
+        return timestamps != null ?
+            value.thenApply(v -> v.copy(b -> b.applyTimestamps(attributeId, timestamps))) :
+            value;
     }
 
     @Override
@@ -177,8 +309,9 @@ public abstract class ManagedAddressSpace implements AddressSpace {
 
         List<StatusCode> results = Lists.newArrayListWithCapacity(writeValues.size());
 
-        for (WriteValue writeValue : writeValues) {
-            UaServerNode node = nodeManager.get(writeValue.getNodeId());
+        for (int i = 0; i < writeValues.size(); i++) {
+            WriteValue writeValue = writeValues.get(i);
+            UaServerNode node = getNode(context, i, writeValue.getNodeId());
 
             if (node != null) {
                 try {
@@ -189,6 +322,11 @@ public abstract class ManagedAddressSpace implements AddressSpace {
                         writeValue.getIndexRange()
                     );
 
+                    AttributeValueCache cache = attributeValueCache;
+                    if (cache != null) {
+                        cache.invalidate(node.getNodeId(), writeValue.getAttributeId());
+                    }
+
                     results.add(StatusCode.GOOD);
 
                     logger.debug(
@@ -46,10 +46,7 @@ public abstract class ManagedNamespace extends ManagedAddressSpaceFragment imple
         this.namespaceUri = namespaceUri;
         this.namespaceIndex = server.getNamespaceTable().addUri(namespaceUri);
 
-        filter = SimpleAddressSpaceFilter.create(
-            nodeId ->
-                nodeId.getNamespaceIndex().equals(getNamespaceIndex())
-        );
+        filter = SimpleAddressSpaceFilter.create(FilterScope.namespace(namespaceIndex));
     }
 
     @Override
@@ -16,12 +16,14 @@ import java.util.Optional;
 import org.eclipse.milo.opcua.sdk.server.DiagnosticsContext;
 import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
 import org.eclipse.milo.opcua.sdk.server.Session;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaServerNode;
 import org.jetbrains.annotations.Nullable;
 
 public class ServiceOperationContext<T, R> extends AsyncOperationContext<List<R>> implements AccessContext {
 
     private final Session session;
     private final DiagnosticsContext<T> diagnosticsContext;
+    private final List<UaServerNode> resolvedNodes;
 
     public ServiceOperationContext(
         OpcUaServer server,
@@ -37,10 +39,28 @@ public class ServiceOperationContext<T, R> extends AsyncOperationContext<List<R>
         DiagnosticsContext<T> diagnosticsContext
     ) {
 
+        this(server, session, diagnosticsContext, null);
+    }
+
+    /**
+     * @param server             the {@link OpcUaServer}.
+     * @param session            the {@link Session} the operations are on behalf of, if any.
+     * @param diagnosticsContext the {@link DiagnosticsContext}.
+     * @param resolvedNodes      the Node each operation was already resolved to, in operation order, with
+     *                           {@code null} for operations that weren't; or {@code null} if none were.
+     */
+    public ServiceOperationContext(
+        OpcUaServer server,
+        @Nullable Session session,
+        DiagnosticsContext<T> diagnosticsContext,
+        @Nullable List<UaServerNode> resolvedNodes
+    ) {
+
         super(server);
 
         this.session = session;
         this.diagnosticsContext = diagnosticsContext;
+        this.resolvedNodes = resolvedNodes;
     }
 
     /**
@@ -55,4 +75,16 @@ public class ServiceOperationContext<T, R> extends AsyncOperationContext<List<R>
         return diagnosticsContext;
     }
 
+    /**
+     * Get the Node the operation at {@code index} was already resolved to, e.g. because it referenced a registered
+     * node handle.
+     *
+     * @param index the index of the operation.
+     * @return the {@link UaServerNode} the operation was resolved to, or {@code null} if it must be looked up.
+     */
+    @Nullable
+    public UaServerNode getResolvedNode(int index) {
+        return resolvedNodes != null ? resolvedNodes.get(index) : null;
+    }
+
 }
@@ -68,6 +68,31 @@ public abstract class SimpleAddressSpaceFilter implements AddressSpaceFilter {
         };
     }
 
+    /**
+     * Create a new {@link SimpleAddressSpaceFilter} that matches every {@link NodeId} in {@code scope}.
+     *
+     * @param scope the exact {@link FilterScope} to match.
+     * @return a new {@link SimpleAddressSpaceFilter} that matches every {@link NodeId} in {@code scope}.
+     */
+    public static SimpleAddressSpaceFilter create(FilterScope scope) {
+        return new SimpleAddressSpaceFilter() {
+            @Override
+            public FilterScope getScope() {
+                return scope;
+            }
+
+            @Override
+            protected boolean filterNode(NodeId nodeId) {
+                return scope.contains(nodeId);
+            }
+
+            @Override
+            protected boolean filterMonitoredItem(NodeId nodeId) {
+                return scope.contains(nodeId);
+            }
+        };
+    }
+
     /**
      * Return {@code true} if the operation {@code nodeId} belongs to should be handled this filter's
      * {@link AddressSpace}.
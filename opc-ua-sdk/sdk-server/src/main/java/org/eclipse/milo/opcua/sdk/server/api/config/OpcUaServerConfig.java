@@ -115,6 +115,8 @@ public interface OpcUaServerConfig extends UaStackServerConfig {
         builder.setHttpsKeyPair(config.getHttpsKeyPair().orElse(null));
         builder.setHttpsCertificateChain(config.getHttpsCertificateChain().orElse(null));
         builder.setExecutor(config.getExecutor());
+        builder.setTransport(config.getTransport());
+        builder.setAcceptorCount(config.getAcceptorCount());
 
         // OpcUaServerConfig values
         builder.setIdentityValidator(config.getIdentityValidator());
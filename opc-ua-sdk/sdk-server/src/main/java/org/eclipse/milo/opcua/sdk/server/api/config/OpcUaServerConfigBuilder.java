@@ -23,6 +23,7 @@ import org.eclipse.milo.opcua.stack.core.Stack;
 import org.eclipse.milo.opcua.stack.core.channel.EncodingLimits;
 import org.eclipse.milo.opcua.stack.core.security.CertificateManager;
 import org.eclipse.milo.opcua.stack.core.security.TrustListManager;
+import org.eclipse.milo.opcua.stack.core.transport.NettyTransport;
 import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
 import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
@@ -139,6 +140,18 @@ public class OpcUaServerConfigBuilder extends UaStackServerConfigBuilder {
         return this;
     }
 
+    @Override
+    public OpcUaServerConfigBuilder setTransport(NettyTransport transport) {
+        super.setTransport(transport);
+        return this;
+    }
+
+    @Override
+    public OpcUaServerConfigBuilder setAcceptorCount(int acceptorCount) {
+        super.setAcceptorCount(acceptorCount);
+        return this;
+    }
+
     @Override
     public OpcUaServerConfigBuilder setEncodingLimits(EncodingLimits encodingLimits) {
         super.setEncodingLimits(encodingLimits);
@@ -270,6 +283,16 @@ public class OpcUaServerConfigBuilder extends UaStackServerConfigBuilder {
             return stackServerConfig.getExecutor();
         }
 
+        @Override
+        public NettyTransport getTransport() {
+            return stackServerConfig.getTransport();
+        }
+
+        @Override
+        public int getAcceptorCount() {
+            return stackServerConfig.getAcceptorCount();
+        }
+
         @Override
         public EncodingLimits getEncodingLimits() {
             return stackServerConfig.getEncodingLimits();
@@ -139,6 +139,31 @@ public interface OpcUaServerConfigLimits {
         return uint(Integer.MAX_VALUE);
     }
 
+    /**
+     * Get whether MonitoredItem queues store scalar Boolean and numeric values in primitive arrays instead of holding
+     * on to each sampled DataValue.
+     * <p>
+     * Compact queues use less memory when queues are large, at the cost of creating a new DataValue each time a
+     * queued value is taken.
+     *
+     * @return {@code true} if MonitoredItem queues should store values compactly.
+     */
+    default Boolean isCompactMonitoredItemQueueEnabled() {
+        return false;
+    }
+
+    /**
+     * Get the maximum number of NodeIds, per Session, that can be registered using the RegisterNodes service.
+     * <p>
+     * Once a Session reaches this limit, further NodeIds are returned to the client unchanged instead of being given
+     * a handle.
+     *
+     * @return the maximum number of NodeIds, per Session, that can be registered.
+     */
+    default UInteger getMaxRegisteredNodesPerSession() {
+        return uint(10_000);
+    }
+
     //region ServerCapabilities
 
     default Double getMinSupportedSampleRate() {
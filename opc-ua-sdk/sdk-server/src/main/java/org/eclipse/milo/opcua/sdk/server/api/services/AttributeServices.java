@@ -16,6 +16,7 @@ import org.eclipse.milo.opcua.sdk.server.DiagnosticsContext;
 import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
 import org.eclipse.milo.opcua.sdk.server.Session;
 import org.eclipse.milo.opcua.sdk.server.api.ServiceOperationContext;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaServerNode;
 import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
 import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
@@ -65,6 +66,16 @@ public interface AttributeServices {
             super(server, session, diagnosticsContext);
         }
 
+        public ReadContext(
+            OpcUaServer server,
+            @Nullable Session session,
+            DiagnosticsContext<ReadValueId> diagnosticsContext,
+            @Nullable List<UaServerNode> resolvedNodes
+        ) {
+
+            super(server, session, diagnosticsContext, resolvedNodes);
+        }
+
     }
 
     final class WriteContext extends ServiceOperationContext<WriteValue, StatusCode> {
@@ -82,6 +93,16 @@ public interface AttributeServices {
             super(server, session, diagnosticsContext);
         }
 
+        public WriteContext(
+            OpcUaServer server,
+            @Nullable Session session,
+            DiagnosticsContext<WriteValue> diagnosticsContext,
+            @Nullable List<UaServerNode> resolvedNodes
+        ) {
+
+            super(server, session, diagnosticsContext, resolvedNodes);
+        }
+
     }
 
 }
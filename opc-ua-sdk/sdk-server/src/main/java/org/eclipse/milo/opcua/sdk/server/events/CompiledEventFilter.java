@@ -0,0 +1,594 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.events;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.collect.ImmutableList;
+import org.eclipse.milo.opcua.sdk.core.NumericRange;
+import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.Session;
+import org.eclipse.milo.opcua.sdk.server.api.AddressSpaceManager;
+import org.eclipse.milo.opcua.sdk.server.events.operators.Operator;
+import org.eclipse.milo.opcua.sdk.server.model.nodes.objects.BaseEventTypeNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.AttributeContext;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
+import org.eclipse.milo.opcua.sdk.server.util.AttributeReader;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.FilterOperator;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.NodeClass;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.AttributeOperand;
+import org.eclipse.milo.opcua.stack.core.types.structured.ContentFilter;
+import org.eclipse.milo.opcua.stack.core.types.structured.ContentFilterElement;
+import org.eclipse.milo.opcua.stack.core.types.structured.ElementOperand;
+import org.eclipse.milo.opcua.stack.core.types.structured.EventFilter;
+import org.eclipse.milo.opcua.stack.core.types.structured.FilterOperand;
+import org.eclipse.milo.opcua.stack.core.types.structured.LiteralOperand;
+import org.eclipse.milo.opcua.stack.core.types.structured.SimpleAttributeOperand;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An {@link EventFilter} compiled for repeated evaluation against events, in either {@link BaseEventTypeNode} or
+ * {@link EventRecord} form.
+ * <p>
+ * The where clause operands are decoded, the {@link Operator}s looked up, and the select clause and where clause
+ * {@link SimpleAttributeOperand}s prepared once, when the filter is compiled. Evaluating an event then only walks the
+ * browse paths of the operands and reads the target attributes, or looks the fields up in the {@link EventRecord}.
+ * <p>
+ * A compiled filter holds no per-event state and may be evaluated concurrently.
+ *
+ * @see EventContentFilter#validate(FilterContext, EventFilter)
+ */
+public class CompiledEventFilter {
+
+    private final EventFilter filter;
+    private final CompiledOperand[] selectClauses;
+    private final CompiledElement[] elements;
+    private final CompiledOperatorContext operatorContext;
+
+    private CompiledEventFilter(
+        EventFilter filter,
+        CompiledOperand[] selectClauses,
+        CompiledElement[] elements,
+        CompiledOperatorContext operatorContext) {
+
+        this.filter = filter;
+        this.selectClauses = selectClauses;
+        this.elements = elements;
+        this.operatorContext = operatorContext;
+    }
+
+    /**
+     * @return the {@link EventFilter} this filter was compiled from.
+     */
+    public EventFilter getFilter() {
+        return filter;
+    }
+
+    /**
+     * Evaluate the where clause of this filter against {@code eventNode}.
+     *
+     * @param eventNode the event to evaluate.
+     * @return {@code true} if the event passes the where clause.
+     * @throws UaException if the where clause could not be evaluated.
+     */
+    public boolean evaluate(@NotNull BaseEventTypeNode eventNode) throws UaException {
+        if (elements.length == 0) {
+            return true;
+        }
+
+        Object result = elements[0].apply(operatorContext, eventNode);
+
+        if (result == null) {
+            return false;
+        } else if (result instanceof Boolean) {
+            return (Boolean) result;
+        } else {
+            throw new UaException(StatusCodes.Bad_ContentFilterInvalid);
+        }
+    }
+
+    /**
+     * Evaluate the where clause of this filter against {@code event}.
+     *
+     * @param event the event to evaluate.
+     * @return {@code true} if the event passes the where clause.
+     * @throws UaException if the where clause could not be evaluated.
+     */
+    public boolean evaluate(@NotNull EventRecord event) throws UaException {
+        if (elements.length == 0) {
+            return true;
+        }
+
+        RecordOperatorContext context = new RecordOperatorContext(operatorContext, event);
+
+        Object result = elements[0].apply(context, null);
+
+        if (result == null) {
+            return false;
+        } else if (result instanceof Boolean) {
+            return (Boolean) result;
+        } else {
+            throw new UaException(StatusCodes.Bad_ContentFilterInvalid);
+        }
+    }
+
+    /**
+     * Select the fields identified by the select clauses of this filter from {@code eventNode}.
+     *
+     * @param eventNode the event to select fields from.
+     * @return the selected fields, one per select clause.
+     */
+    public Variant[] select(@NotNull BaseEventTypeNode eventNode) {
+        Variant[] fields = new Variant[selectClauses.length];
+
+        for (int i = 0; i < selectClauses.length; i++) {
+            try {
+                fields[i] = new Variant(selectClauses[i].getValue(operatorContext, eventNode));
+            } catch (UaException e) {
+                fields[i] = Variant.NULL_VALUE;
+            }
+        }
+
+        return fields;
+    }
+
+    /**
+     * Select the fields identified by the select clauses of this filter from {@code event}.
+     *
+     * @param event the event to select fields from.
+     * @return the selected fields, one per select clause.
+     */
+    public Variant[] select(@NotNull EventRecord event) {
+        Variant[] fields = new Variant[selectClauses.length];
+
+        for (int i = 0; i < selectClauses.length; i++) {
+            try {
+                fields[i] = new Variant(selectClauses[i].getValue(operatorContext, event));
+            } catch (UaException e) {
+                fields[i] = Variant.NULL_VALUE;
+            }
+        }
+
+        return fields;
+    }
+
+    /**
+     * Compile {@code filter} for evaluation against events.
+     * <p>
+     * The filter should have been validated first; operands that cannot be decoded or operators that are unknown
+     * cause {@link #evaluate(BaseEventTypeNode)} to fail rather than this method.
+     *
+     * @param context the {@link FilterContext} events will be evaluated in.
+     * @param filter  the {@link EventFilter} to compile.
+     * @return a {@link CompiledEventFilter}.
+     */
+    public static CompiledEventFilter compile(FilterContext context, EventFilter filter) {
+        CompiledOperatorContext operatorContext = new CompiledOperatorContext(context);
+
+        SimpleAttributeOperand[] selectClauses = filter.getSelectClauses();
+
+        CompiledOperand[] compiledSelectClauses = new CompiledOperand[selectClauses != null ? selectClauses.length : 0];
+
+        for (int i = 0; i < compiledSelectClauses.length; i++) {
+            compiledSelectClauses[i] = new CompiledOperand(selectClauses[i]);
+        }
+
+        ContentFilter whereClause = filter.getWhereClause();
+
+        ContentFilterElement[] elements = whereClause != null ? whereClause.getElements() : null;
+        if (elements == null) elements = new ContentFilterElement[0];
+
+        CompiledElement[] compiledElements = new CompiledElement[elements.length];
+
+        for (int i = 0; i < elements.length; i++) {
+            compiledElements[i] = compileElement(context, elements[i], operatorContext.operands);
+        }
+
+        operatorContext.elements = elements;
+        operatorContext.compiledElements = compiledElements;
+
+        return new CompiledEventFilter(filter, compiledSelectClauses, compiledElements, operatorContext);
+    }
+
+    private static CompiledElement compileElement(
+        FilterContext context,
+        ContentFilterElement element,
+        Map<FilterOperand, CompiledOperand> compiledOperands) {
+
+        FilterOperator filterOperator = element.getFilterOperator();
+
+        if (filterOperator == null) {
+            return new CompiledElement(new UaException(StatusCodes.Bad_FilterOperatorInvalid));
+        }
+
+        ExtensionObject[] xos = element.getFilterOperands();
+        FilterOperand[] operands = new FilterOperand[xos != null ? xos.length : 0];
+
+        for (int i = 0; i < operands.length; i++) {
+            Object operand;
+            try {
+                operand = xos[i].decode(context.getServer().getSerializationContext());
+            } catch (Throwable t) {
+                return new CompiledElement(new UaException(StatusCodes.Bad_FilterOperandInvalid, t));
+            }
+
+            if (!(operand instanceof FilterOperand)) {
+                return new CompiledElement(new UaException(StatusCodes.Bad_FilterOperandInvalid));
+            }
+
+            operands[i] = (FilterOperand) operand;
+
+            if (operand instanceof SimpleAttributeOperand) {
+                compiledOperands.put(operands[i], new CompiledOperand((SimpleAttributeOperand) operand));
+            }
+        }
+
+        return new CompiledElement(EventContentFilter.getOperator(filterOperator), operands);
+    }
+
+    /**
+     * A {@link ContentFilterElement} with its operands decoded and its {@link Operator} resolved.
+     */
+    private static class CompiledElement {
+
+        private final Operator<?> operator;
+        private final FilterOperand[] operands;
+        private final UaException error;
+
+        CompiledElement(Operator<?> operator, FilterOperand[] operands) {
+            this.operator = operator;
+            this.operands = operands;
+            this.error = null;
+        }
+
+        CompiledElement(UaException error) {
+            this.operator = null;
+            this.operands = null;
+            this.error = error;
+        }
+
+        @Nullable
+        Object apply(OperatorContext context, @Nullable BaseEventTypeNode eventNode) throws UaException {
+            if (error != null) {
+                throw error;
+            }
+
+            return operator.apply(context, eventNode, operands);
+        }
+
+    }
+
+    /**
+     * A {@link SimpleAttributeOperand} with its type definition, browse path, and attribute prepared for evaluation.
+     */
+    private static class CompiledOperand {
+
+        /**
+         * Cache of event type id to whether it is the same type as, or a subtype of, {@link #typeDefinitionId}.
+         */
+        private final ConcurrentMap<NodeId, Boolean> typeMatches = new ConcurrentHashMap<>();
+
+        private final NodeId typeDefinitionId;
+        private final QualifiedName[] browsePath;
+        private final ImmutableList<QualifiedName> browsePathKey;
+        private final AttributeId attributeId;
+        private final String indexRange;
+
+        private NumericRange range;
+        private UaException rangeError;
+
+        CompiledOperand(SimpleAttributeOperand operand) {
+            NodeId typeDefinitionId = operand.getTypeDefinitionId();
+
+            this.typeDefinitionId = Identifiers.BaseEventType.equals(typeDefinitionId) ? null : typeDefinitionId;
+            this.browsePath = operand.getBrowsePath() != null ? operand.getBrowsePath() : new QualifiedName[0];
+            this.browsePathKey = ImmutableList.copyOf(browsePath);
+            this.attributeId = AttributeId.from(operand.getAttributeId()).orElse(null);
+            this.indexRange = operand.getIndexRange();
+
+            if (indexRange != null) {
+                try {
+                    range = NumericRange.parse(indexRange);
+                } catch (UaException e) {
+                    rangeError = e;
+                }
+            }
+        }
+
+        @Nullable
+        Object getValue(CompiledOperatorContext context, EventRecord event) throws UaException {
+            if (typeDefinitionId != null && !typeMatches(context.getServer(), event.getEventTypeId())) {
+                return null;
+            }
+
+            if (attributeId == null) {
+                throw new UaException(StatusCodes.Bad_AttributeIdInvalid);
+            }
+
+            if (attributeId == AttributeId.NodeId && browsePath.length == 0) {
+                return event.getNodeId();
+            } else if (attributeId != AttributeId.Value) {
+                return null;
+            }
+
+            Variant value = event.getField(browsePathKey);
+
+            if (value == null) {
+                return null;
+            } else if (rangeError != null) {
+                throw rangeError;
+            } else if (range != null) {
+                return NumericRange.readFromValueAtRange(value, range);
+            } else {
+                return value.getValue();
+            }
+        }
+
+        @Nullable
+        Object getValue(CompiledOperatorContext context, @Nullable BaseEventTypeNode eventNode) throws UaException {
+            if (typeDefinitionId != null) {
+                NodeId eventTypeId = context.getEventTypeId(eventNode);
+
+                if (eventTypeId == null || !typeMatches(context.getServer(), eventTypeId)) {
+                    return null;
+                }
+            }
+
+            UaNode targetNode = eventNode;
+
+            for (QualifiedName browseName : browsePath) {
+                targetNode = context.findNode(targetNode, browseName);
+
+                if (targetNode == null) {
+                    return null;
+                }
+            }
+
+            if (attributeId == null) {
+                throw new UaException(StatusCodes.Bad_AttributeIdInvalid);
+            }
+
+            DataValue value = AttributeReader.readAttribute(
+                context.attributeContext,
+                targetNode,
+                attributeId,
+                TimestampsToReturn.Neither,
+                indexRange,
+                QualifiedName.NULL_VALUE
+            );
+
+            return value.getValue().getValue();
+        }
+
+        private boolean typeMatches(OpcUaServer server, NodeId eventTypeId) {
+            Boolean matches = typeMatches.get(eventTypeId);
+
+            if (matches == null) {
+                matches = typeDefinitionId.equals(eventTypeId) ||
+                    EventContentFilter.subtypeOf(eventTypeId, typeDefinitionId, server);
+
+                typeMatches.put(eventTypeId, matches);
+            }
+
+            return matches;
+        }
+
+    }
+
+    /**
+     * The {@link OperatorContext} shared by every evaluation of a {@link CompiledEventFilter}.
+     */
+    private static class CompiledOperatorContext implements OperatorContext {
+
+        /**
+         * Cache of reference type id to whether it is a subtype of HierarchicalReferences.
+         */
+        private final ConcurrentMap<NodeId, Boolean> hierarchical = new ConcurrentHashMap<>();
+
+        /**
+         * Compiled {@link SimpleAttributeOperand}s of the where clause, by identity of the decoded operand.
+         * <p>
+         * Only written while compiling.
+         */
+        private final Map<FilterOperand, CompiledOperand> operands = new IdentityHashMap<>();
+
+        private ContentFilterElement[] elements;
+        private CompiledElement[] compiledElements;
+
+        private final FilterContext filterContext;
+        private final AttributeContext attributeContext;
+
+        CompiledOperatorContext(FilterContext filterContext) {
+            this.filterContext = filterContext;
+
+            attributeContext = new AttributeContext(
+                filterContext.getServer(),
+                filterContext.getSession().orElse(null)
+            );
+        }
+
+        @Override
+        public Optional<Session> getSession() {
+            return filterContext.getSession();
+        }
+
+        @Override
+        public OpcUaServer getServer() {
+            return filterContext.getServer();
+        }
+
+        @Override
+        public ContentFilterElement[] getElements() {
+            return elements;
+        }
+
+        @Nullable
+        @Override
+        public Object resolve(FilterOperand operand, BaseEventTypeNode eventNode) throws UaException {
+            return resolve(this, operand, eventNode, null);
+        }
+
+        /**
+         * Resolve {@code operand} against either {@code eventNode} or {@code event}, whichever is not null.
+         *
+         * @param context the {@link OperatorContext} to apply referenced elements in.
+         */
+        @Nullable
+        Object resolve(
+            OperatorContext context,
+            FilterOperand operand,
+            @Nullable BaseEventTypeNode eventNode,
+            @Nullable EventRecord event) throws UaException {
+
+            if (operand instanceof LiteralOperand) {
+                return ((LiteralOperand) operand).getValue().getValue();
+            } else if (operand instanceof ElementOperand) {
+                long index = ((ElementOperand) operand).getIndex().longValue();
+
+                if (index >= compiledElements.length) {
+                    throw new UaException(StatusCodes.Bad_FilterOperandInvalid);
+                }
+
+                return compiledElements[(int) index].apply(context, eventNode);
+            } else if (operand instanceof SimpleAttributeOperand) {
+                CompiledOperand compiled = operands.get(operand);
+
+                if (compiled == null) {
+                    // not one of the operands this filter was compiled with
+                    compiled = new CompiledOperand((SimpleAttributeOperand) operand);
+                }
+
+                return event != null ? compiled.getValue(this, event) : compiled.getValue(this, eventNode);
+            } else if (operand instanceof AttributeOperand) {
+                // AttributeOperand is only allowed in the Query services.
+                throw new UaException(StatusCodes.Bad_EventFilterInvalid);
+            } else {
+                throw new UaException(StatusCodes.Bad_FilterOperandInvalid);
+            }
+        }
+
+        @Nullable
+        @Override
+        public NodeId getEventTypeId(BaseEventTypeNode eventNode) {
+            for (Reference reference : getReferences(eventNode.getNodeId())) {
+                if (Reference.HAS_TYPE_DEFINITION_PREDICATE.test(reference)) {
+                    return reference.getTargetNodeId().toNodeId(getServer().getNamespaceTable()).orElse(null);
+                }
+            }
+
+            return null;
+        }
+
+        /**
+         * Find the Object or Variable Node with {@code browseName} that is the target of a forward hierarchical
+         * reference from {@code node}.
+         */
+        @Nullable
+        UaNode findNode(UaNode node, QualifiedName browseName) {
+            AddressSpaceManager addressSpaceManager = getServer().getAddressSpaceManager();
+
+            for (Reference reference : getReferences(node.getNodeId())) {
+                if (!reference.isForward() || !isHierarchical(reference)) continue;
+
+                UaNode target = addressSpaceManager.getManagedNode(reference.getTargetNodeId()).orElse(null);
+
+                if (target != null &&
+                    (target.getNodeClass() == NodeClass.Object || target.getNodeClass() == NodeClass.Variable) &&
+                    target.getBrowseName().equals(browseName)) {
+
+                    return target;
+                }
+            }
+
+            return null;
+        }
+
+        private List<Reference> getReferences(NodeId nodeId) {
+            return getServer().getAddressSpaceManager().getManagedReferences(nodeId);
+        }
+
+        private boolean isHierarchical(Reference reference) {
+            NodeId referenceTypeId = reference.getReferenceTypeId();
+
+            Boolean hierarchical = this.hierarchical.get(referenceTypeId);
+
+            if (hierarchical == null) {
+                hierarchical = reference.subtypeOf(Identifiers.HierarchicalReferences, getServer().getReferenceTypes());
+
+                this.hierarchical.put(referenceTypeId, hierarchical);
+            }
+
+            return hierarchical;
+        }
+
+    }
+
+    /**
+     * The {@link OperatorContext} for evaluating one {@link EventRecord}.
+     * <p>
+     * Operators are passed a {@code null} event Node; operands are resolved against the record instead.
+     */
+    private static class RecordOperatorContext implements OperatorContext {
+
+        private final CompiledOperatorContext context;
+        private final EventRecord event;
+
+        RecordOperatorContext(CompiledOperatorContext context, EventRecord event) {
+            this.context = context;
+            this.event = event;
+        }
+
+        @Override
+        public Optional<Session> getSession() {
+            return context.getSession();
+        }
+
+        @Override
+        public OpcUaServer getServer() {
+            return context.getServer();
+        }
+
+        @Override
+        public ContentFilterElement[] getElements() {
+            return context.getElements();
+        }
+
+        @Nullable
+        @Override
+        public Object resolve(FilterOperand operand, @Nullable BaseEventTypeNode eventNode) throws UaException {
+            return context.resolve(this, operand, null, event);
+        }
+
+        @Override
+        public NodeId getEventTypeId(@Nullable BaseEventTypeNode eventNode) {
+            return event.getEventTypeId();
+        }
+
+    }
+
+}
@@ -324,6 +324,26 @@ public class EventContentFilter {
         }
     }
 
+    public static Variant[] select(
+        @NotNull FilterContext context,
+        @NotNull SimpleAttributeOperand[] selectClauses,
+        @NotNull EventRecord event) {
+
+        EventFilter filter = new EventFilter(selectClauses, null);
+
+        return CompiledEventFilter.compile(context, filter).select(event);
+    }
+
+    public static boolean evaluate(
+        @NotNull FilterContext context,
+        @NotNull ContentFilter whereClause,
+        @NotNull EventRecord event) throws UaException {
+
+        EventFilter filter = new EventFilter(new SimpleAttributeOperand[0], whereClause);
+
+        return CompiledEventFilter.compile(context, filter).evaluate(event);
+    }
+
     @Nullable
     private static Object evaluate(
         @NotNull OperatorContext context,
@@ -361,7 +381,7 @@ public class EventContentFilter {
     }
 
     @NotNull
-    private static Operator<?> getOperator(@NotNull FilterOperator filterOperator) {
+    static Operator<?> getOperator(@NotNull FilterOperator filterOperator) {
         //@formatter:off
         switch (filterOperator) {
             // Basic FilterOperators
@@ -378,23 +398,23 @@ public class EventContentFilter {
             case LessThanOrEqual:
                 return Operators.LESS_THAN_OR_EQUAL;
             case Like:
-                return Operators.UNSUPPORTED;
+                return Operators.LIKE;
             case Not:
                 return Operators.NOT;
             case Between:
-                return Operators.UNSUPPORTED;
+                return Operators.BETWEEN;
             case InList:
-                return Operators.UNSUPPORTED;
+                return Operators.IN_LIST;
             case And:
-                return Operators.UNSUPPORTED;
+                return Operators.AND;
             case Or:
-                return Operators.UNSUPPORTED;
+                return Operators.OR;
             case Cast:
                 return Operators.CAST;
             case BitwiseAnd:
-                return Operators.UNSUPPORTED;
+                return Operators.BITWISE_AND;
             case BitwiseOr:
-                return Operators.UNSUPPORTED;
+                return Operators.BITWISE_OR;
 
             // Complex FilterOperators
             case InView:
@@ -402,7 +422,7 @@ public class EventContentFilter {
             case OfType:
                 return Operators.OF_TYPE;
             case RelatedTo:
-                return Operators.UNSUPPORTED;
+                return Operators.RELATED_TO;
             default:
                 return Operators.UNSUPPORTED;
         }
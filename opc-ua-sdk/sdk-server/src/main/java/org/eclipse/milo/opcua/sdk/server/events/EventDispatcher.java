@@ -0,0 +1,399 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.events;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.common.eventbus.Subscribe;
+import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.api.EventItem;
+import org.eclipse.milo.opcua.sdk.server.model.nodes.objects.BaseEventTypeNode;
+import org.eclipse.milo.opcua.sdk.server.model.nodes.variables.PropertyTypeNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.AttributeContext;
+import org.eclipse.milo.opcua.sdk.server.subscriptions.Subscription;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delivers Events to the {@link EventItem}s monitoring the Event's notifiers.
+ * <p>
+ * Posting an Event only places it on the queue of one shard, chosen by the Event's SourceNode, so the posting thread
+ * does not pay for evaluating the filter of every {@link EventItem}. Each shard is drained on the server's
+ * {@link Executor} by at most one task at a time, so Events with the same SourceNode are delivered in the order they
+ * were posted.
+ * <p>
+ * {@link EventItem}s are indexed by the Node they monitor. An Event is only delivered to items monitoring its
+ * SourceNode, or a notifier that the SourceNode is reachable from by inverse HasEventSource or HasNotifier
+ * References. Items monitoring the Server Object receive every Event.
+ * <p>
+ * Shard queues are bounded. When a queue is full the Event is dropped, {@link #post(EventRecord)} returns
+ * {@code false}, and the EventQueueOverflowCount of every Subscription that would have received the Event is
+ * incremented.
+ */
+public class EventDispatcher {
+
+    public static final int DEFAULT_SHARD_COUNT =
+        Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), 8));
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 8192;
+
+    /**
+     * The maximum number of Events a shard delivers before yielding its thread back to the {@link Executor}.
+     */
+    private static final int MAX_BATCH_SIZE = 256;
+
+    /**
+     * The maximum number of notifiers visited when resolving the notifiers of an Event's SourceNode.
+     */
+    private static final int MAX_NOTIFIERS = 1024;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final Map<NodeId, Set<EventItem>> items = new ConcurrentHashMap<>();
+
+    private final LongAdder overflowCount = new LongAdder();
+
+    private final EventBusSubscriber eventBusSubscriber = new EventBusSubscriber();
+
+    private final OpcUaServer server;
+    private final Executor executor;
+    private final Shard[] shards;
+
+    public EventDispatcher(OpcUaServer server) {
+        this(server, server.getExecutorService(), DEFAULT_SHARD_COUNT, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * @param server        the {@link OpcUaServer}.
+     * @param executor      the {@link Executor} that shards are drained on.
+     * @param shardCount    the number of shards.
+     * @param queueCapacity the maximum number of Events queued per shard.
+     */
+    public EventDispatcher(OpcUaServer server, Executor executor, int shardCount, int queueCapacity) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("shardCount: " + shardCount);
+        }
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("queueCapacity: " + queueCapacity);
+        }
+
+        this.server = server;
+        this.executor = executor;
+
+        shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(queueCapacity);
+        }
+    }
+
+    /**
+     * Forward Events posted to {@link OpcUaServer#getEventBus()} to this dispatcher.
+     */
+    public void startup() {
+        server.getEventBus().register(eventBusSubscriber);
+    }
+
+    public void shutdown() {
+        server.getEventBus().unregister(eventBusSubscriber);
+    }
+
+    /**
+     * Start delivering Events to {@code item}.
+     *
+     * @param item the {@link EventItem} to register.
+     */
+    public void register(EventItem item) {
+        items.computeIfAbsent(getNotifierId(item), k -> ConcurrentHashMap.newKeySet()).add(item);
+    }
+
+    /**
+     * Stop delivering Events to {@code item}.
+     *
+     * @param item the {@link EventItem} to unregister.
+     */
+    public void unregister(EventItem item) {
+        items.computeIfPresent(getNotifierId(item), (k, set) -> {
+            set.remove(item);
+
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /**
+     * Post an Event in Node form.
+     * <p>
+     * The field values are copied into an {@link EventRecord} before this method returns, so the caller may delete
+     * {@code eventNode} as soon as it does. If no {@link EventItem} monitors the Event's notifiers, nothing is copied.
+     *
+     * @param eventNode the Event to post.
+     * @return {@code true} if the Event was queued or no item would receive it, {@code false} if it was dropped
+     * because the queue was full.
+     */
+    public boolean post(BaseEventTypeNode eventNode) {
+        if (!hasItems(getSourceNode(eventNode))) {
+            return true;
+        }
+
+        return post(EventRecord.fromEventNode(eventNode));
+    }
+
+    /**
+     * Post an Event.
+     *
+     * @param event the Event to post.
+     * @return {@code true} if the Event was queued or no item would receive it, {@code false} if it was dropped
+     * because the queue was full.
+     */
+    public boolean post(EventRecord event) {
+        NodeId sourceNode = getSourceNode(event);
+
+        if (!hasItems(sourceNode)) {
+            return true;
+        }
+
+        Shard shard = shards[Math.floorMod(sourceNode != null ? sourceNode.hashCode() : 0, shards.length)];
+
+        if (shard.offer(event)) {
+            return true;
+        } else {
+            onOverflow(sourceNode);
+
+            return false;
+        }
+    }
+
+    /**
+     * Get the number of Events dropped because a shard queue was full.
+     *
+     * @return the number of Events dropped because a shard queue was full.
+     */
+    public long getOverflowCount() {
+        return overflowCount.sum();
+    }
+
+    private void deliver(EventRecord event) {
+        for (NodeId notifierId : getNotifiers(getSourceNode(event))) {
+            Set<EventItem> notifierItems = items.get(notifierId);
+
+            if (notifierItems == null) continue;
+
+            for (EventItem item : notifierItems) {
+                try {
+                    item.onEventRecord(event);
+                } catch (Throwable t) {
+                    logger.error("Error delivering event to item id={}: {}", item.getId(), t.getMessage(), t);
+                }
+            }
+        }
+    }
+
+    private void onOverflow(@Nullable NodeId sourceNode) {
+        overflowCount.increment();
+
+        Set<Subscription> subscriptions = new HashSet<>();
+
+        for (NodeId notifierId : getNotifiers(sourceNode)) {
+            Set<EventItem> notifierItems = items.get(notifierId);
+
+            if (notifierItems == null) continue;
+
+            for (EventItem item : notifierItems) {
+                Subscription subscription = item.getSession()
+                    .getSubscriptionManager()
+                    .getSubscription(item.getSubscriptionId());
+
+                if (subscription != null && subscriptions.add(subscription)) {
+                    subscription.getSubscriptionDiagnostics().getEventQueueOverflowCount().increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the notifiers an Event from {@code sourceNode} is reported to: the Server Object, {@code sourceNode}
+     * itself, and every Node it is reachable from by inverse HasEventSource or HasNotifier References.
+     */
+    private Set<NodeId> getNotifiers(@Nullable NodeId sourceNode) {
+        if (sourceNode == null || !hasItemsBelowServer()) {
+            return Collections.singleton(Identifiers.Server);
+        }
+
+        Set<NodeId> notifiers = new LinkedHashSet<>();
+        notifiers.add(Identifiers.Server);
+
+        Deque<NodeId> queue = new ArrayDeque<>();
+        queue.add(sourceNode);
+
+        while (!queue.isEmpty() && notifiers.size() < MAX_NOTIFIERS) {
+            NodeId nodeId = queue.poll();
+
+            if (!notifiers.add(nodeId)) continue;
+
+            for (Reference reference : server.getAddressSpaceManager().getManagedReferences(nodeId)) {
+                if (reference.isInverse() && isEventSourceReference(reference)) {
+                    reference.getTargetNodeId()
+                        .toNodeId(server.getNamespaceTable())
+                        .filter(id -> !notifiers.contains(id))
+                        .ifPresent(queue::add);
+                }
+            }
+        }
+
+        return notifiers;
+    }
+
+    /**
+     * @return {@code true} if any {@link EventItem} monitors a notifier an Event from {@code sourceNode} is reported
+     * to.
+     */
+    private boolean hasItems(@Nullable NodeId sourceNode) {
+        if (items.isEmpty()) {
+            return false;
+        } else if (items.containsKey(Identifiers.Server)) {
+            return true;
+        } else {
+            return getNotifiers(sourceNode).stream().anyMatch(items::containsKey);
+        }
+    }
+
+    private boolean hasItemsBelowServer() {
+        int size = items.size();
+
+        return size > 1 || (size == 1 && !items.containsKey(Identifiers.Server));
+    }
+
+    private static boolean isEventSourceReference(Reference reference) {
+        NodeId referenceTypeId = reference.getReferenceTypeId();
+
+        return Identifiers.HasEventSource.equals(referenceTypeId) ||
+            Identifiers.HasNotifier.equals(referenceTypeId);
+    }
+
+    private static NodeId getNotifierId(EventItem item) {
+        return item.getReadValueId().getNodeId();
+    }
+
+    @Nullable
+    private NodeId getSourceNode(BaseEventTypeNode eventNode) {
+        PropertyTypeNode sourceNodeNode = eventNode.getSourceNodeNode();
+
+        if (sourceNodeNode == null) return null;
+
+        Object value = sourceNodeNode.readAttribute(
+            new AttributeContext(server),
+            AttributeId.Value,
+            null,
+            null,
+            null
+        ).getValue().getValue();
+
+        return value instanceof NodeId ? (NodeId) value : null;
+    }
+
+    @Nullable
+    private static NodeId getSourceNode(EventRecord event) {
+        Variant value = event.getField(EventRecord.SOURCE_NODE);
+
+        if (value != null && value.getValue() instanceof NodeId) {
+            return (NodeId) value.getValue();
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * A bounded queue of Events, drained by at most one task at a time.
+     */
+    private class Shard {
+
+        private final Queue<EventRecord> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger(0);
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+        private final int capacity;
+
+        Shard(int capacity) {
+            this.capacity = capacity;
+        }
+
+        boolean offer(EventRecord event) {
+            if (size.incrementAndGet() > capacity) {
+                size.decrementAndGet();
+
+                return false;
+            }
+
+            queue.add(event);
+
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+
+            return true;
+        }
+
+        private void drain() {
+            int delivered = 0;
+            EventRecord event;
+
+            while (delivered < MAX_BATCH_SIZE && (event = queue.poll()) != null) {
+                size.decrementAndGet();
+                delivered++;
+
+                deliver(event);
+            }
+
+            scheduled.set(false);
+
+            if (!queue.isEmpty() && scheduled.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+    }
+
+    /**
+     * Forwards Events posted to the server's EventBus.
+     */
+    private class EventBusSubscriber {
+
+        @Subscribe
+        public void onEvent(BaseEventTypeNode eventNode) {
+            post(eventNode);
+        }
+
+        @Subscribe
+        public void onEventRecord(EventRecord event) {
+            post(event);
+        }
+
+    }
+
+}
@@ -0,0 +1,339 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.events;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.sdk.core.nodes.ObjectTypeNode;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.api.AddressSpaceManager;
+import org.eclipse.milo.opcua.sdk.server.api.EventItem;
+import org.eclipse.milo.opcua.sdk.server.model.nodes.objects.BaseEventTypeNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.AttributeContext;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaObjectNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaVariableNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.factories.EventFactory;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UShort;
+import org.jetbrains.annotations.Nullable;
+
+import static org.eclipse.milo.opcua.sdk.core.Reference.HAS_COMPONENT_PREDICATE;
+import static org.eclipse.milo.opcua.sdk.core.Reference.HAS_PROPERTY_PREDICATE;
+
+/**
+ * A compact, immutable Event: the NodeId of its type and a flat map of field values keyed by browse path relative to
+ * the Event, e.g. {@code [0:Severity]} or {@code [0:EnabledState, 0:Id]}.
+ * <p>
+ * Unlike an Event created by {@link EventFactory}, an EventRecord does not instantiate a {@link BaseEventTypeNode} and
+ * its child Nodes, so there is nothing to add to or remove from a NodeManager. Post it to
+ * {@link OpcUaServer#getEventDispatcher()} the same way as an Event Node; {@link EventItem}s evaluate their filters
+ * against the fields directly.
+ * <p>
+ * Code that needs the Node form can use {@link #toEventNode(OpcUaServer)}.
+ */
+public final class EventRecord {
+
+    public static final QualifiedName EVENT_ID = new QualifiedName(0, "EventId");
+    public static final QualifiedName EVENT_TYPE = new QualifiedName(0, "EventType");
+    public static final QualifiedName SOURCE_NODE = new QualifiedName(0, "SourceNode");
+    public static final QualifiedName SOURCE_NAME = new QualifiedName(0, "SourceName");
+    public static final QualifiedName TIME = new QualifiedName(0, "Time");
+    public static final QualifiedName RECEIVE_TIME = new QualifiedName(0, "ReceiveTime");
+    public static final QualifiedName MESSAGE = new QualifiedName(0, "Message");
+    public static final QualifiedName SEVERITY = new QualifiedName(0, "Severity");
+
+    /**
+     * The maximum length of the browse paths copied by {@link #fromEventNode(BaseEventTypeNode)}.
+     */
+    private static final int MAX_FIELD_DEPTH = 4;
+
+    private final NodeId nodeId;
+    private final NodeId eventTypeId;
+    private final ImmutableMap<List<QualifiedName>, Variant> fields;
+
+    private EventRecord(
+        @Nullable NodeId nodeId,
+        NodeId eventTypeId,
+        ImmutableMap<List<QualifiedName>, Variant> fields) {
+
+        this.nodeId = nodeId;
+        this.eventTypeId = eventTypeId;
+        this.fields = fields;
+    }
+
+    /**
+     * Get the NodeId selected by a select clause with an empty browse path and the NodeId attribute, e.g. the
+     * ConditionId of a Condition Event.
+     *
+     * @return the NodeId of the Node this Event is about, or {@code null} if not set.
+     */
+    @Nullable
+    public NodeId getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * @return the NodeId of the EventType of this Event.
+     */
+    public NodeId getEventTypeId() {
+        return eventTypeId;
+    }
+
+    /**
+     * @return the field values of this Event, keyed by browse path.
+     */
+    public ImmutableMap<List<QualifiedName>, Variant> getFields() {
+        return fields;
+    }
+
+    /**
+     * Get the value of the field at {@code browsePath}.
+     *
+     * @param browsePath the browse path of the field, relative to the Event.
+     * @return the value of the field, or {@code null} if this Event has no such field.
+     */
+    @Nullable
+    public Variant getField(QualifiedName... browsePath) {
+        return fields.get(Arrays.asList(browsePath));
+    }
+
+    /**
+     * Get the value of the field at {@code browsePath}.
+     *
+     * @param browsePath the browse path of the field, relative to the Event.
+     * @return the value of the field, or {@code null} if this Event has no such field.
+     */
+    @Nullable
+    public Variant getField(List<QualifiedName> browsePath) {
+        return fields.get(browsePath);
+    }
+
+    /**
+     * Create a {@link BaseEventTypeNode} with the type and field values of this Event.
+     * <p>
+     * Fields with no corresponding Variable in the Event type are ignored. As with any Node created by the
+     * {@link EventFactory}, the caller must delete it when it is no longer needed.
+     *
+     * @param server the {@link OpcUaServer} whose {@link EventFactory} creates the Node.
+     * @return a {@link BaseEventTypeNode} equivalent to this Event.
+     * @throws UaException if the Event Node could not be created.
+     */
+    public BaseEventTypeNode toEventNode(OpcUaServer server) throws UaException {
+        BaseEventTypeNode eventNode = server.getEventFactory().createEvent(
+            nodeId != null ? nodeId : new NodeId(1, UUID.randomUUID()),
+            eventTypeId
+        );
+
+        fields.forEach((browsePath, value) -> {
+            UaNode node = eventNode;
+
+            for (QualifiedName browseName : browsePath) {
+                node = node.findNode(browseName).orElse(null);
+
+                if (node == null) break;
+            }
+
+            if (node instanceof UaVariableNode) {
+                ((UaVariableNode) node).setValue(new DataValue(value));
+            }
+        });
+
+        return eventNode;
+    }
+
+    /**
+     * Create an EventRecord with the type and field values of {@code eventNode}.
+     * <p>
+     * The values of the Variables below the Event, following HasProperty and HasComponent References, are copied, so
+     * the record remains valid after the Event Node is deleted. Values are read without a Session, through each
+     * Variable's {@link org.eclipse.milo.opcua.sdk.server.nodes.filters.AttributeFilter}s, so they're the values a Read
+     * of the Variable would return.
+     *
+     * @param eventNode the Event Node to copy.
+     * @return an EventRecord equivalent to {@code eventNode}.
+     */
+    public static EventRecord fromEventNode(BaseEventTypeNode eventNode) {
+        ObjectTypeNode typeDefinitionNode = eventNode.getTypeDefinitionNode();
+
+        NodeId eventTypeId = typeDefinitionNode != null ?
+            typeDefinitionNode.getNodeId() : Identifiers.BaseEventType;
+
+        Builder builder = builder(eventTypeId).setNodeId(eventNode.getNodeId());
+
+        OpcUaServer server = eventNode.getNodeContext().getServer();
+
+        copyFields(new AttributeContext(server), eventNode, new ArrayList<>(), builder);
+
+        return builder.build();
+    }
+
+    private static void copyFields(
+        AttributeContext context,
+        UaNode node,
+        List<QualifiedName> browsePath,
+        Builder builder) {
+
+        if (browsePath.size() >= MAX_FIELD_DEPTH) return;
+
+        AddressSpaceManager addressSpaceManager = context.getServer().getAddressSpaceManager();
+
+        for (Reference reference : node.getReferences()) {
+            if (HAS_PROPERTY_PREDICATE.test(reference) || HAS_COMPONENT_PREDICATE.test(reference)) {
+                UaNode child = addressSpaceManager.getManagedNode(reference.getTargetNodeId()).orElse(null);
+
+                if (child instanceof UaVariableNode || child instanceof UaObjectNode) {
+                    List<QualifiedName> childPath = new ArrayList<>(browsePath);
+                    childPath.add(child.getBrowseName());
+
+                    if (child instanceof UaVariableNode) {
+                        DataValue value = child.readAttribute(context, AttributeId.Value, null, null, null);
+
+                        builder.setField(childPath, value.getValue());
+                    }
+
+                    copyFields(context, child, childPath, builder);
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+            .add("nodeId", nodeId)
+            .add("eventTypeId", eventTypeId)
+            .add("fields", fields)
+            .toString();
+    }
+
+    /**
+     * Create a {@link Builder} for an Event of the type identified by {@code eventTypeId}.
+     * <p>
+     * The EventType field is set to {@code eventTypeId}.
+     *
+     * @param eventTypeId the NodeId of the EventType.
+     * @return a new {@link Builder}.
+     */
+    public static Builder builder(NodeId eventTypeId) {
+        return new Builder(eventTypeId);
+    }
+
+    public static class Builder {
+
+        private final Map<List<QualifiedName>, Variant> fields = new LinkedHashMap<>();
+
+        private NodeId nodeId;
+
+        private final NodeId eventTypeId;
+
+        Builder(NodeId eventTypeId) {
+            this.eventTypeId = eventTypeId;
+
+            setField(EVENT_TYPE, eventTypeId);
+        }
+
+        public Builder setNodeId(@Nullable NodeId nodeId) {
+            this.nodeId = nodeId;
+            return this;
+        }
+
+        public Builder setEventId(ByteString eventId) {
+            return setField(EVENT_ID, eventId);
+        }
+
+        public Builder setSourceNode(NodeId sourceNode) {
+            return setField(SOURCE_NODE, sourceNode);
+        }
+
+        public Builder setSourceName(String sourceName) {
+            return setField(SOURCE_NAME, sourceName);
+        }
+
+        public Builder setTime(DateTime time) {
+            return setField(TIME, time);
+        }
+
+        public Builder setReceiveTime(DateTime receiveTime) {
+            return setField(RECEIVE_TIME, receiveTime);
+        }
+
+        public Builder setMessage(LocalizedText message) {
+            return setField(MESSAGE, message);
+        }
+
+        public Builder setSeverity(UShort severity) {
+            return setField(SEVERITY, severity);
+        }
+
+        /**
+         * Set the value of a field that is a direct child of the Event.
+         *
+         * @param browseName the browse name of the field.
+         * @param value      the value of the field; a {@link Variant} or a value to wrap in one.
+         * @return this {@link Builder}.
+         */
+        public Builder setField(QualifiedName browseName, @Nullable Object value) {
+            return setField(ImmutableList.of(browseName), value);
+        }
+
+        /**
+         * Set the value of the field at {@code browsePath}.
+         *
+         * @param browsePath the browse path of the field, relative to the Event.
+         * @param value      the value of the field; a {@link Variant} or a value to wrap in one.
+         * @return this {@link Builder}.
+         */
+        public Builder setField(QualifiedName[] browsePath, @Nullable Object value) {
+            return setField(ImmutableList.copyOf(browsePath), value);
+        }
+
+        /**
+         * Set the value of the field at {@code browsePath}.
+         *
+         * @param browsePath the browse path of the field, relative to the Event.
+         * @param value      the value of the field; a {@link Variant} or a value to wrap in one.
+         * @return this {@link Builder}.
+         */
+        public Builder setField(List<QualifiedName> browsePath, @Nullable Object value) {
+            fields.put(
+                ImmutableList.copyOf(browsePath),
+                value instanceof Variant ? (Variant) value : new Variant(value)
+            );
+
+            return this;
+        }
+
+        public EventRecord build() {
+            return new EventRecord(nodeId, eventTypeId, ImmutableMap.copyOf(fields));
+        }
+
+    }
+
+}
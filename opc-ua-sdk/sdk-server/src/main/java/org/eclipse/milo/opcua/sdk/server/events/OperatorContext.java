@@ -10,12 +10,15 @@
 
 package org.eclipse.milo.opcua.sdk.server.events;
 
+import org.eclipse.milo.opcua.sdk.core.nodes.ObjectTypeNode;
 import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
 import org.eclipse.milo.opcua.sdk.server.api.AccessContext;
 import org.eclipse.milo.opcua.sdk.server.model.nodes.objects.BaseEventTypeNode;
 import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
 import org.eclipse.milo.opcua.stack.core.types.structured.ContentFilterElement;
 import org.eclipse.milo.opcua.stack.core.types.structured.FilterOperand;
+import org.jetbrains.annotations.Nullable;
 
 public interface OperatorContext extends AccessContext, FilterContext {
 
@@ -26,4 +29,17 @@ public interface OperatorContext extends AccessContext, FilterContext {
 
     Object resolve(FilterOperand operand, BaseEventTypeNode eventNode) throws UaException;
 
+    /**
+     * Get the NodeId of the EventType of the event being evaluated.
+     *
+     * @param eventNode the event being evaluated.
+     * @return the NodeId of the EventType, or {@code null} if it could not be determined.
+     */
+    @Nullable
+    default NodeId getEventTypeId(BaseEventTypeNode eventNode) {
+        ObjectTypeNode typeDefinitionNode = eventNode.getTypeDefinitionNode();
+
+        return typeDefinitionNode != null ? typeDefinitionNode.getNodeId() : null;
+    }
+
 }
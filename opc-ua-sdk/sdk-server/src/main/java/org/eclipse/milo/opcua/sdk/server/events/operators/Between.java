@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.events.operators;
+
+import org.eclipse.milo.opcua.sdk.server.events.FilterContext;
+import org.eclipse.milo.opcua.sdk.server.events.OperatorContext;
+import org.eclipse.milo.opcua.sdk.server.events.ValidationException;
+import org.eclipse.milo.opcua.sdk.server.model.nodes.objects.BaseEventTypeNode;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.types.structured.FilterOperand;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * TRUE if operand[0] is greater than or equal to operand[1] and less than or equal to operand[2].
+ * <p>
+ * operand[0] is resolved once and converted to a common type with each bound in turn. operand[2] is not resolved if
+ * the lower bound comparison is already FALSE.
+ */
+public class Between implements Operator<Boolean> {
+
+    Between() {}
+
+    @Override
+    public void validate(FilterContext context, FilterOperand[] operands) throws ValidationException {
+        if (operands.length < 3) {
+            throw new ValidationException(StatusCodes.Bad_FilterOperandCountMismatch);
+        }
+    }
+
+    @Nullable
+    @Override
+    public Boolean apply(
+        OperatorContext context,
+        BaseEventTypeNode eventNode,
+        FilterOperand[] operands) throws UaException {
+
+        validate(context, operands);
+
+        Object value = context.resolve(operands[0], eventNode);
+
+        if (value == null) {
+            return null;
+        }
+
+        Object lowerBound = context.resolve(operands[1], eventNode);
+
+        Boolean lower = Operators.GREATER_THAN_OR_EQUAL.applyValues(context, eventNode, value, lowerBound);
+
+        if (lower == null || !lower) {
+            return lower;
+        }
+
+        Object upperBound = context.resolve(operands[2], eventNode);
+
+        return Operators.LESS_THAN_OR_EQUAL.applyValues(context, eventNode, value, upperBound);
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.events.operators;
+
+import org.eclipse.milo.opcua.sdk.server.events.OperatorContext;
+import org.eclipse.milo.opcua.sdk.server.model.nodes.objects.BaseEventTypeNode;
+import org.eclipse.milo.opcua.stack.core.BuiltinDataType;
+import org.jetbrains.annotations.Nullable;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ulong;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+
+/**
+ * A bitwise operator on two integer operands. The result has the type both operands were converted to.
+ */
+abstract class BitwiseOperator extends ImplicitConversionBinaryOperator<Object> {
+
+    @Nullable
+    @Override
+    protected Object apply(
+        OperatorContext context,
+        BaseEventTypeNode eventNode,
+        BuiltinDataType dataType,
+        @Nullable Object operand0,
+        @Nullable Object operand1) {
+
+        if (operand0 instanceof Number && operand1 instanceof Number) {
+            long result = apply(((Number) operand0).longValue(), ((Number) operand1).longValue());
+
+            switch (dataType) {
+                case SByte:
+                    return (byte) result;
+                case Int16:
+                    return (short) result;
+                case Int32:
+                    return (int) result;
+                case Int64:
+                    return result;
+                case Byte:
+                    return ubyte(result & 0xFFL);
+                case UInt16:
+                    return ushort((int) (result & 0xFFFFL));
+                case UInt32:
+                    return uint(result & 0xFFFFFFFFL);
+                case UInt64:
+                    return ulong(result);
+
+                default:
+                    return null;
+            }
+        } else {
+            return null;
+        }
+    }
+
+    protected abstract long apply(long operand0, long operand1);
+
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.events.operators;
+
+public class BitwiseOr extends BitwiseOperator {
+
+    BitwiseOr() {}
+
+    @Override
+    protected long apply(long operand0, long operand1) {
+        return operand0 | operand1;
+    }
+
+}
@@ -52,6 +52,19 @@ public class Equals implements Operator<Boolean> {
         Object value0 = context.resolve(op0, eventNode);
         Object value1 = context.resolve(op1, eventNode);
 
+        return applyValues(value0, value1);
+    }
+
+    /**
+     * Compare two already resolved operand values, converting them to a common type first.
+     *
+     * @param value0 the first operand value.
+     * @param value1 the second operand value.
+     * @return {@code null} if either value is {@code null}, otherwise whether the values are equal.
+     * @throws UaException if either value is not of a builtin type.
+     */
+    @Nullable
+    Boolean applyValues(@Nullable Object value0, @Nullable Object value1) throws UaException {
         if (value0 == null || value1 == null) {
             return null;
         }
@@ -53,6 +53,26 @@ abstract class ImplicitConversionBinaryOperator<T> implements Operator<T> {
         Object value0 = context.resolve(op0, eventNode);
         Object value1 = context.resolve(op1, eventNode);
 
+        return applyValues(context, eventNode, value0, value1);
+    }
+
+    /**
+     * Apply this operator to two already resolved operand values, converting them to a common type first.
+     *
+     * @param context   the {@link OperatorContext}.
+     * @param eventNode the event being evaluated.
+     * @param value0    the first operand value.
+     * @param value1    the second operand value.
+     * @return the result, or {@code null} if either value is {@code null}.
+     * @throws UaException if either value is not of a builtin type.
+     */
+    @Nullable
+    T applyValues(
+        OperatorContext context,
+        BaseEventTypeNode eventNode,
+        @Nullable Object value0,
+        @Nullable Object value1) throws UaException {
+
         if (value0 == null || value1 == null) {
             return null;
         }
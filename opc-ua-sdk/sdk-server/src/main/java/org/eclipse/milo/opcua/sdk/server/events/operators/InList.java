@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.events.operators;
+
+import org.eclipse.milo.opcua.sdk.server.events.FilterContext;
+import org.eclipse.milo.opcua.sdk.server.events.OperatorContext;
+import org.eclipse.milo.opcua.sdk.server.events.ValidationException;
+import org.eclipse.milo.opcua.sdk.server.model.nodes.objects.BaseEventTypeNode;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.types.structured.FilterOperand;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * TRUE if operand[0] is equal to any of the remaining operands.
+ * <p>
+ * operand[0] is resolved once and the remaining operands are resolved in order until one of them matches.
+ */
+public class InList implements Operator<Boolean> {
+
+    InList() {}
+
+    @Override
+    public void validate(FilterContext context, FilterOperand[] operands) throws ValidationException {
+        if (operands.length < 2) {
+            throw new ValidationException(StatusCodes.Bad_FilterOperandCountMismatch);
+        }
+    }
+
+    @Nullable
+    @Override
+    public Boolean apply(
+        OperatorContext context,
+        BaseEventTypeNode eventNode,
+        FilterOperand[] operands) throws UaException {
+
+        validate(context, operands);
+
+        Object value = context.resolve(operands[0], eventNode);
+
+        if (value == null) {
+            return null;
+        }
+
+        for (int i = 1; i < operands.length; i++) {
+            Object element = context.resolve(operands[i], eventNode);
+
+            if (Boolean.TRUE.equals(Operators.EQUALS.applyValues(value, element))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+}
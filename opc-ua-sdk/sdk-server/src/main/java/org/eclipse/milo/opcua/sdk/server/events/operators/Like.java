@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.events.operators;
+
+import java.util.regex.Pattern;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import org.eclipse.milo.opcua.sdk.server.events.FilterContext;
+import org.eclipse.milo.opcua.sdk.server.events.OperatorContext;
+import org.eclipse.milo.opcua.sdk.server.events.ValidationException;
+import org.eclipse.milo.opcua.sdk.server.events.conversions.ImplicitConversions;
+import org.eclipse.milo.opcua.sdk.server.model.nodes.objects.BaseEventTypeNode;
+import org.eclipse.milo.opcua.stack.core.BuiltinDataType;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.types.structured.FilterOperand;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * TRUE if operand[0] matches the pattern in operand[1].
+ * <p>
+ * Both operands are converted to String. Pattern syntax, as defined in OPC UA Part 4:
+ * <ul>
+ *     <li>{@code %} matches any string of zero or more characters.</li>
+ *     <li>{@code _} matches any single character.</li>
+ *     <li>{@code \} escapes the character that follows it.</li>
+ *     <li>{@code [ ]} matches any single character in the list or range, e.g. {@code [abc]} or {@code [a-c]}.</li>
+ *     <li>{@code [^ ]} matches any single character not in the list or range.</li>
+ * </ul>
+ * <p>
+ * Patterns are compiled once and cached, since the same pattern is usually matched against every event.
+ */
+public class Like implements Operator<Boolean> {
+
+    private static final int MAX_CACHED_PATTERNS = 1024;
+
+    private final LoadingCache<String, Pattern> patterns = CacheBuilder.newBuilder()
+        .maximumSize(MAX_CACHED_PATTERNS)
+        .build(CacheLoader.from(Like::compile));
+
+    Like() {}
+
+    @Override
+    public void validate(FilterContext context, FilterOperand[] operands) throws ValidationException {
+        if (operands.length < 2) {
+            throw new ValidationException(StatusCodes.Bad_FilterOperandCountMismatch);
+        }
+    }
+
+    @Nullable
+    @Override
+    public Boolean apply(
+        OperatorContext context,
+        BaseEventTypeNode eventNode,
+        FilterOperand[] operands) throws UaException {
+
+        validate(context, operands);
+
+        String value = toString(context.resolve(operands[0], eventNode));
+        String pattern = toString(context.resolve(operands[1], eventNode));
+
+        if (value == null || pattern == null) {
+            return null;
+        }
+
+        return patterns.getUnchecked(pattern).matcher(value).matches();
+    }
+
+    @Nullable
+    private static String toString(@Nullable Object value) {
+        if (value == null || value instanceof String) {
+            return (String) value;
+        }
+
+        Object converted = value.getClass().isArray() ?
+            null : ImplicitConversions.convert(value, BuiltinDataType.String);
+
+        return converted instanceof String ? (String) converted : null;
+    }
+
+    /**
+     * Translate a Like pattern into an equivalent {@link Pattern}.
+     *
+     * @param pattern the Like pattern.
+     * @return a {@link Pattern} that matches the same strings as {@code pattern}.
+     */
+    static Pattern compile(String pattern) {
+        StringBuilder regex = new StringBuilder();
+
+        int length = pattern.length();
+
+        for (int i = 0; i < length; i++) {
+            char c = pattern.charAt(i);
+
+            if (c == '\\' && i + 1 < length) {
+                appendLiteral(regex, pattern.charAt(++i));
+            } else if (c == '%') {
+                regex.append(".*");
+            } else if (c == '_') {
+                regex.append('.');
+            } else if (c == '[') {
+                int end = pattern.indexOf(']', i + 2);
+
+                if (end < 0) {
+                    appendLiteral(regex, c);
+                } else {
+                    appendCharacterClass(regex, pattern.substring(i + 1, end));
+                    i = end;
+                }
+            } else {
+                appendLiteral(regex, c);
+            }
+        }
+
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    private static void appendCharacterClass(StringBuilder regex, String list) {
+        regex.append('[');
+
+        int start = 0;
+        if (list.length() > 1 && list.charAt(0) == '^') {
+            regex.append('^');
+            start = 1;
+        }
+
+        for (int i = start; i < list.length(); i++) {
+            char c = list.charAt(i);
+
+            if (c == '-' && i > start && i < list.length() - 1) {
+                regex.append('-');
+            } else {
+                appendLiteral(regex, c);
+            }
+        }
+
+        regex.append(']');
+    }
+
+    private static void appendLiteral(StringBuilder regex, char c) {
+        if (!Character.isLetterOrDigit(c) && !Character.isWhitespace(c)) {
+            regex.append('\\');
+        }
+
+        regex.append(c);
+    }
+
+}
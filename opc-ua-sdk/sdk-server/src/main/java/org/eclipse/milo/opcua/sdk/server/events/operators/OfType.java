@@ -46,8 +46,11 @@ public class OfType implements Operator<Boolean> {
         Object value = context.resolve(operands[0], eventNode);
 
         if (value instanceof NodeId) {
-            NodeId eventTypeDefinitionId =
-                eventNode.getTypeDefinitionNode().getNodeId();
+            NodeId eventTypeDefinitionId = context.getEventTypeId(eventNode);
+
+            if (eventTypeDefinitionId == null) {
+                return false;
+            }
 
             NodeId targetTypeDefinitionId = (NodeId) value;
 
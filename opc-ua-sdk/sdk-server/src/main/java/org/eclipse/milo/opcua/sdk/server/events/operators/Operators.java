@@ -32,6 +32,14 @@ public class Operators {
     public static final Not NOT = new Not();
     public static final Cast CAST = new Cast();
     public static final OfType OF_TYPE = new OfType();
+    public static final And AND = new And();
+    public static final Or OR = new Or();
+    public static final Between BETWEEN = new Between();
+    public static final InList IN_LIST = new InList();
+    public static final Like LIKE = new Like();
+    public static final BitwiseAnd BITWISE_AND = new BitwiseAnd();
+    public static final BitwiseOr BITWISE_OR = new BitwiseOr();
+    public static final RelatedTo RELATED_TO = new RelatedTo();
 
     public static final Operator<Object> UNSUPPORTED = new Operator<Object>() {
         @Nullable
@@ -60,6 +68,14 @@ public class Operators {
         .add(FilterOperator.Not)
         .add(FilterOperator.Cast)
         .add(FilterOperator.OfType)
+        .add(FilterOperator.And)
+        .add(FilterOperator.Or)
+        .add(FilterOperator.Between)
+        .add(FilterOperator.InList)
+        .add(FilterOperator.Like)
+        .add(FilterOperator.BitwiseAnd)
+        .add(FilterOperator.BitwiseOr)
+        .add(FilterOperator.RelatedTo)
         .build();
 
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.events.operators;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.api.AddressSpaceManager;
+import org.eclipse.milo.opcua.sdk.server.events.FilterContext;
+import org.eclipse.milo.opcua.sdk.server.events.OperatorContext;
+import org.eclipse.milo.opcua.sdk.server.events.ValidationException;
+import org.eclipse.milo.opcua.sdk.server.model.nodes.objects.BaseEventTypeNode;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExpandedNodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.structured.FilterOperand;
+import org.jetbrains.annotations.Nullable;
+
+import static org.eclipse.milo.opcua.sdk.server.events.EventContentFilter.subtypeOf;
+
+/**
+ * TRUE if the Node in operand[0] is related to the Node in operand[1] by forward References of the type in
+ * operand[2].
+ * <p>
+ * Operands:
+ * <ol start="0">
+ *     <li>the source NodeId.</li>
+ *     <li>the target NodeId. If it identifies a type, instances of that type also match.</li>
+ *     <li>the ReferenceType NodeId.</li>
+ *     <li>optional: the maximum number of hops to follow, default 1. 0 or less means unlimited.</li>
+ *     <li>optional: whether instances of subtypes of the target type also match, default TRUE.</li>
+ *     <li>optional: whether subtypes of the ReferenceType are followed, default TRUE.</li>
+ * </ol>
+ * Only Nodes managed by this server's {@link AddressSpaceManager} are visited, and at most {@link #MAX_VISITED_NODES}
+ * of them.
+ */
+public class RelatedTo implements Operator<Boolean> {
+
+    static final int MAX_VISITED_NODES = 10_000;
+
+    RelatedTo() {}
+
+    @Override
+    public void validate(FilterContext context, FilterOperand[] operands) throws ValidationException {
+        if (operands.length < 3 || operands.length > 6) {
+            throw new ValidationException(StatusCodes.Bad_FilterOperandCountMismatch);
+        }
+    }
+
+    @Nullable
+    @Override
+    public Boolean apply(
+        OperatorContext context,
+        BaseEventTypeNode eventNode,
+        FilterOperand[] operands) throws UaException {
+
+        validate(context, operands);
+
+        OpcUaServer server = context.getServer();
+
+        NodeId sourceId = toNodeId(server, context.resolve(operands[0], eventNode));
+        NodeId targetId = toNodeId(server, context.resolve(operands[1], eventNode));
+        NodeId referenceTypeId = toNodeId(server, context.resolve(operands[2], eventNode));
+
+        if (sourceId == null || targetId == null || referenceTypeId == null) {
+            return false;
+        }
+
+        int hops = operands.length > 3 ?
+            toInt(context.resolve(operands[3], eventNode), 1) : 1;
+
+        boolean includeTypeSubtypes = operands.length <= 4 ||
+            !Boolean.FALSE.equals(context.resolve(operands[4], eventNode));
+
+        boolean includeReferenceSubtypes = operands.length <= 5 ||
+            !Boolean.FALSE.equals(context.resolve(operands[5], eventNode));
+
+        AddressSpaceManager addressSpaceManager = server.getAddressSpaceManager();
+
+        Set<NodeId> visited = new HashSet<>();
+        visited.add(sourceId);
+
+        List<NodeId> frontier = new ArrayList<>();
+        frontier.add(sourceId);
+
+        for (int hop = 0; (hops <= 0 || hop < hops) && !frontier.isEmpty(); hop++) {
+            List<NodeId> next = new ArrayList<>();
+
+            for (NodeId nodeId : frontier) {
+                for (Reference reference : addressSpaceManager.getManagedReferences(nodeId)) {
+                    if (!reference.isForward() ||
+                        !isReferenceType(server, reference, referenceTypeId, includeReferenceSubtypes)) {
+
+                        continue;
+                    }
+
+                    NodeId relatedId = reference.getTargetNodeId()
+                        .toNodeId(server.getNamespaceTable())
+                        .orElse(null);
+
+                    if (relatedId == null) continue;
+
+                    if (matchesTarget(server, relatedId, targetId, includeTypeSubtypes)) {
+                        return true;
+                    }
+
+                    if (visited.size() < MAX_VISITED_NODES && visited.add(relatedId)) {
+                        next.add(relatedId);
+                    }
+                }
+            }
+
+            frontier = next;
+        }
+
+        return false;
+    }
+
+    private static boolean isReferenceType(
+        OpcUaServer server,
+        Reference reference,
+        NodeId referenceTypeId,
+        boolean includeSubtypes) {
+
+        return reference.getReferenceTypeId().equals(referenceTypeId) ||
+            (includeSubtypes && reference.subtypeOf(referenceTypeId, server.getReferenceTypes()));
+    }
+
+    private static boolean matchesTarget(
+        OpcUaServer server,
+        NodeId nodeId,
+        NodeId targetId,
+        boolean includeSubtypes) {
+
+        if (nodeId.equals(targetId)) {
+            return true;
+        }
+
+        for (Reference reference : server.getAddressSpaceManager().getManagedReferences(nodeId)) {
+            if (Reference.HAS_TYPE_DEFINITION_PREDICATE.test(reference)) {
+                NodeId typeDefinitionId = reference.getTargetNodeId()
+                    .toNodeId(server.getNamespaceTable())
+                    .orElse(null);
+
+                return typeDefinitionId != null &&
+                    (typeDefinitionId.equals(targetId) ||
+                        (includeSubtypes && subtypeOf(typeDefinitionId, targetId, server)));
+            }
+        }
+
+        return false;
+    }
+
+    @Nullable
+    private static NodeId toNodeId(OpcUaServer server, @Nullable Object value) {
+        if (value instanceof NodeId) {
+            return (NodeId) value;
+        } else if (value instanceof ExpandedNodeId) {
+            return ((ExpandedNodeId) value).toNodeId(server.getNamespaceTable()).orElse(null);
+        } else {
+            return null;
+        }
+    }
+
+    private static int toInt(@Nullable Object value, int defaultValue) {
+        return value instanceof Number ? ((Number) value).intValue() : defaultValue;
+    }
+
+}
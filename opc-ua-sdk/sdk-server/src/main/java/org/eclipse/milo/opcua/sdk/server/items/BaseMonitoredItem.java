@@ -13,6 +13,8 @@ package org.eclipse.milo.opcua.sdk.server.items;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.Consumer;
 
 import com.google.common.primitives.Ints;
 import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
@@ -27,11 +29,19 @@ import org.eclipse.milo.opcua.stack.core.types.enumerated.MonitoringMode;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
 import org.eclipse.milo.opcua.stack.core.types.structured.MonitoringFilter;
 import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.jetbrains.annotations.Nullable;
 
 public abstract class BaseMonitoredItem<T> implements MonitoredItem {
 
     private static final int MAX_QUEUE_SIZE = 0xFFFF;
 
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<BaseMonitoredItem> DIRTY_UPDATER =
+        AtomicIntegerFieldUpdater.newUpdater(BaseMonitoredItem.class, "dirty");
+
+    private volatile int dirty = 0;
+    private volatile Consumer<BaseMonitoredItem<?>> dirtyListener;
+
     protected volatile Map<UInteger, BaseMonitoredItem<?>> triggeredItems;
     protected volatile boolean triggered = false;
 
@@ -76,7 +86,19 @@ public abstract class BaseMonitoredItem<T> implements MonitoredItem {
 
         setQueueSize(queueSize);
 
-        queue = new RingBuffer<>(this.queueSize);
+        queue = createQueue(this.queueSize);
+    }
+
+    /**
+     * Create the queue that holds values waiting to be reported.
+     * <p>
+     * Called from the constructor, and again whenever the queue size is modified.
+     *
+     * @param maxSize the maximum number of values the queue can hold.
+     * @return a new, empty, queue.
+     */
+    protected RingBuffer<T> createQueue(int maxSize) {
+        return new RingBuffer<>(maxSize);
     }
 
     protected void setQueueSize(UInteger queueSize) {
@@ -127,7 +149,7 @@ public abstract class BaseMonitoredItem<T> implements MonitoredItem {
             setQueueSize(queueSize);
 
             RingBuffer<T> oldQueue = queue;
-            queue = new RingBuffer<>(this.queueSize);
+            queue = createQueue(this.queueSize);
 
             while (oldQueue.size() > 0) {
                 enqueue(oldQueue.remove());
@@ -135,13 +157,74 @@ public abstract class BaseMonitoredItem<T> implements MonitoredItem {
         }
     }
 
-    protected abstract void enqueue(T value);
+    /**
+     * Add {@code value} to this item's queue and notify the dirty listener.
+     * <p>
+     * Subclasses decide how the value is queued in {@link #addToQueue(Object)}; the dirty listener is always
+     * notified here, so an item can't enqueue a value without the Subscription noticing it.
+     *
+     * @param value the value to enqueue.
+     */
+    protected final synchronized void enqueue(T value) {
+        addToQueue(value);
+
+        markDirty();
+    }
+
+    /**
+     * Add {@code value} to {@link #queue}, handling overflow if the queue is full.
+     * <p>
+     * Called from {@link #enqueue(Object)} while holding this item's lock.
+     *
+     * @param value the value to add.
+     */
+    protected abstract void addToQueue(T value);
 
     public void setMonitoringMode(MonitoringMode monitoringMode) {
         this.monitoringMode = monitoringMode;
 
         if (monitoringMode == MonitoringMode.Disabled) {
             queue.clear();
+        } else if (monitoringMode == MonitoringMode.Reporting) {
+            markDirty();
+        }
+    }
+
+    /**
+     * Set the listener notified when this item may have new notifications, or {@code null} to stop notifying.
+     * <p>
+     * The listener is notified at most once until {@link #clearDirty()} is called, and is notified immediately if
+     * this item already has queued notifications.
+     *
+     * @param dirtyListener the listener to notify, or {@code null}.
+     */
+    public void setDirtyListener(@Nullable Consumer<BaseMonitoredItem<?>> dirtyListener) {
+        this.dirtyListener = dirtyListener;
+
+        if (dirtyListener != null) {
+            DIRTY_UPDATER.set(this, 0);
+            markDirty();
+        }
+    }
+
+    /**
+     * Clear the dirty flag so the dirty listener is notified again the next time this item may have new
+     * notifications.
+     * <p>
+     * Call this before checking {@link #hasNotifications()} and {@link #isTriggered()} so no change is missed.
+     */
+    public void clearDirty() {
+        DIRTY_UPDATER.set(this, 0);
+    }
+
+    /**
+     * Notify the dirty listener, if one is set and it hasn't been notified since the last {@link #clearDirty()}.
+     */
+    protected void markDirty() {
+        Consumer<BaseMonitoredItem<?>> listener = dirtyListener;
+
+        if (listener != null && DIRTY_UPDATER.compareAndSet(this, 0, 1)) {
+            listener.accept(this);
         }
     }
 
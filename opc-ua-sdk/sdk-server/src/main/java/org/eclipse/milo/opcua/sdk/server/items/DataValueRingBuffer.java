@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.items;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import org.eclipse.milo.opcua.sdk.server.api.config.OpcUaServerConfigLimits;
+import org.eclipse.milo.opcua.sdk.server.util.RingBuffer;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UByte;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.ULong;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UShort;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+
+/**
+ * A {@link RingBuffer} of {@link DataValue}s that stores scalar boolean and numeric values in parallel primitive
+ * arrays instead of holding on to the sampled {@link DataValue}.
+ * <p>
+ * Any other value, or a value carrying picoseconds, is held as-is, and the item applies its
+ * {@link TimestampsToReturn} when it builds the notification, as it does for the generic queue.
+ * <p>
+ * Compact values are turned back into a {@link DataValue} only when they're loaded for a notification, by
+ * {@link #get(int)} or {@link #remove()}, and that {@link DataValue} is already in the form the notification needs:
+ * only the timestamps the item requests are materialized, a requested server timestamp that's missing is set to the
+ * current time, and the shared {@link StatusCode} and boolean {@link Variant} constants are reused, so the item
+ * doesn't copy it again.
+ * <p>
+ * Used only when {@link OpcUaServerConfigLimits#isCompactMonitoredItemQueueEnabled()} is {@code true}.
+ */
+class DataValueRingBuffer extends RingBuffer<DataValue> {
+
+    private static final long NULL_TIME = Long.MIN_VALUE;
+
+    private static final Variant TRUE = new Variant(true);
+    private static final Variant FALSE = new Variant(false);
+
+    private static final byte OBJECT = 0;
+    private static final byte BOOLEAN = 1;
+    private static final byte SBYTE = 2;
+    private static final byte BYTE = 3;
+    private static final byte INT16 = 4;
+    private static final byte UINT16 = 5;
+    private static final byte INT32 = 6;
+    private static final byte UINT32 = 7;
+    private static final byte INT64 = 8;
+    private static final byte UINT64 = 9;
+    private static final byte FLOAT = 10;
+    private static final byte DOUBLE = 11;
+
+    private final byte[] types;
+    private final long[] values;
+    private final long[] statuses;
+    private final long[] sourceTimes;
+    private final long[] serverTimes;
+
+    private DataValue[] objects;
+
+    private final Supplier<TimestampsToReturn> timestamps;
+
+    DataValueRingBuffer(int maxSize, Supplier<TimestampsToReturn> timestamps) {
+        super(maxSize, false);
+
+        this.timestamps = timestamps;
+
+        types = new byte[maxSize];
+        values = new long[maxSize];
+        statuses = new long[maxSize];
+        sourceTimes = new long[maxSize];
+        serverTimes = new long[maxSize];
+    }
+
+    @Override
+    protected DataValue load(int slot) {
+        byte type = types[slot];
+
+        if (type == OBJECT) {
+            return objects[slot];
+        }
+
+        TimestampsToReturn timestamps = this.timestamps.get();
+
+        boolean includeSource = timestamps == TimestampsToReturn.Source || timestamps == TimestampsToReturn.Both;
+        boolean includeServer = timestamps == TimestampsToReturn.Server || timestamps == TimestampsToReturn.Both;
+
+        DateTime sourceTime = null;
+        if (includeSource && sourceTimes[slot] != NULL_TIME) {
+            sourceTime = new DateTime(sourceTimes[slot]);
+        }
+
+        DateTime serverTime = null;
+        if (includeServer) {
+            serverTime = serverTimes[slot] != NULL_TIME ? new DateTime(serverTimes[slot]) : DateTime.now();
+        }
+
+        Variant variant = type == BOOLEAN ?
+            (values[slot] != 0L ? TRUE : FALSE) :
+            new Variant(decode(type, values[slot]));
+
+        return new DataValue(variant, statusCode(statuses[slot]), sourceTime, serverTime);
+    }
+
+    @Override
+    protected void store(int slot, DataValue value) {
+        byte type = compactType(value);
+
+        types[slot] = type;
+
+        if (type == OBJECT) {
+            if (objects == null) {
+                objects = new DataValue[maxSize()];
+            }
+            objects[slot] = value;
+        } else {
+            values[slot] = encode(type, value.getValue().getValue());
+            statuses[slot] = value.getStatusCode().getValue();
+            sourceTimes[slot] = value.getSourceTime() != null ? value.getSourceTime().getUtcTime() : NULL_TIME;
+            serverTimes[slot] = value.getServerTime() != null ? value.getServerTime().getUtcTime() : NULL_TIME;
+
+            if (objects != null) {
+                objects[slot] = null;
+            }
+        }
+    }
+
+    @Override
+    protected void release(int slot) {
+        if (objects != null) {
+            objects[slot] = null;
+        }
+    }
+
+    @Override
+    protected void releaseAll() {
+        if (objects != null) {
+            Arrays.fill(objects, null);
+        }
+    }
+
+    private static StatusCode statusCode(long value) {
+        if (value == StatusCode.GOOD.getValue()) {
+            return StatusCode.GOOD;
+        } else if (value == StatusCode.BAD.getValue()) {
+            return StatusCode.BAD;
+        } else if (value == StatusCode.UNCERTAIN.getValue()) {
+            return StatusCode.UNCERTAIN;
+        } else {
+            return new StatusCode(value);
+        }
+    }
+
+    private static byte compactType(DataValue value) {
+        if (value.getStatusCode() == null ||
+            value.getSourcePicoseconds() != null ||
+            value.getServerPicoseconds() != null) {
+
+            return OBJECT;
+        }
+
+        Object o = value.getValue().getValue();
+
+        if (o == null) return OBJECT;
+
+        Class<?> clazz = o.getClass();
+
+        if (clazz == Boolean.class) return BOOLEAN;
+        if (clazz == Byte.class) return SBYTE;
+        if (clazz == UByte.class) return BYTE;
+        if (clazz == Short.class) return INT16;
+        if (clazz == UShort.class) return UINT16;
+        if (clazz == Integer.class) return INT32;
+        if (clazz == UInteger.class) return UINT32;
+        if (clazz == Long.class) return INT64;
+        if (clazz == ULong.class) return UINT64;
+        if (clazz == Float.class) return FLOAT;
+        if (clazz == Double.class) return DOUBLE;
+
+        return OBJECT;
+    }
+
+    private static long encode(byte type, Object o) {
+        switch (type) {
+            case BOOLEAN:
+                return ((Boolean) o) ? 1L : 0L;
+            case FLOAT:
+                return Float.floatToRawIntBits((Float) o);
+            case DOUBLE:
+                return Double.doubleToRawLongBits((Double) o);
+            default:
+                return ((Number) o).longValue();
+        }
+    }
+
+    private static Object decode(byte type, long bits) {
+        switch (type) {
+            case BOOLEAN:
+                return bits != 0L;
+            case SBYTE:
+                return (byte) bits;
+            case BYTE:
+                return UByte.valueOf(bits);
+            case INT16:
+                return (short) bits;
+            case UINT16:
+                return UShort.valueOf((int) bits);
+            case INT32:
+                return (int) bits;
+            case UINT32:
+                return UInteger.valueOf(bits);
+            case INT64:
+                return bits;
+            case UINT64:
+                return ULong.valueOf(bits);
+            case FLOAT:
+                return Float.intBitsToFloat((int) bits);
+            case DOUBLE:
+                return Double.longBitsToDouble(bits);
+            default:
+                throw new IllegalArgumentException("type: " + type);
+        }
+    }
+
+}
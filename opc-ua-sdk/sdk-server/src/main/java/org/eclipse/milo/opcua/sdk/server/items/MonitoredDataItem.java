@@ -15,6 +15,7 @@ import org.eclipse.milo.opcua.sdk.server.Session;
 import org.eclipse.milo.opcua.sdk.server.api.DataItem;
 import org.eclipse.milo.opcua.sdk.server.subscriptions.Subscription;
 import org.eclipse.milo.opcua.sdk.server.util.DataChangeMonitoringFilter;
+import org.eclipse.milo.opcua.sdk.server.util.RingBuffer;
 import org.eclipse.milo.opcua.stack.core.StatusCodes;
 import org.eclipse.milo.opcua.stack.core.UaException;
 import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
@@ -66,6 +67,15 @@ public class MonitoredDataItem extends BaseMonitoredItem<DataValue> implements D
             timestamps, clientHandle, samplingInterval, queueSize, discardOldest);
     }
 
+    @Override
+    protected RingBuffer<DataValue> createQueue(int maxSize) {
+        if (server.getConfig().getLimits().isCompactMonitoredItemQueueEnabled()) {
+            return new DataValueRingBuffer(maxSize, this::getTimestampsToReturn);
+        } else {
+            return super.createQueue(maxSize);
+        }
+    }
+
     @Override
     public synchronized void setValue(DataValue value) {
         boolean valuePassesFilter = DataChangeMonitoringFilter.filter(lastValue, value, filter);
@@ -76,13 +86,16 @@ public class MonitoredDataItem extends BaseMonitoredItem<DataValue> implements D
             enqueue(value);
 
             if (triggeredItems != null) {
-                triggeredItems.values().forEach(item -> item.triggered = true);
+                triggeredItems.values().forEach(item -> {
+                    item.triggered = true;
+                    item.markDirty();
+                });
             }
         }
     }
 
     @Override
-    protected synchronized void enqueue(@NotNull DataValue value) {
+    protected void addToQueue(@NotNull DataValue value) {
         if (queue.size() < queue.maxSize()) {
             queue.add(value);
         } else {
@@ -19,7 +19,9 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
 import org.eclipse.milo.opcua.sdk.server.Session;
 import org.eclipse.milo.opcua.sdk.server.api.EventItem;
+import org.eclipse.milo.opcua.sdk.server.events.CompiledEventFilter;
 import org.eclipse.milo.opcua.sdk.server.events.EventContentFilter;
+import org.eclipse.milo.opcua.sdk.server.events.EventRecord;
 import org.eclipse.milo.opcua.sdk.server.events.FilterContext;
 import org.eclipse.milo.opcua.sdk.server.model.nodes.objects.BaseEventTypeNode;
 import org.eclipse.milo.opcua.sdk.server.subscriptions.Subscription;
@@ -32,20 +34,17 @@ import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
 import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
 import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
 import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
-import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
 import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
 import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.MonitoringMode;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
-import org.eclipse.milo.opcua.stack.core.types.structured.ContentFilter;
 import org.eclipse.milo.opcua.stack.core.types.structured.ContentFilterElementResult;
 import org.eclipse.milo.opcua.stack.core.types.structured.EventFieldList;
 import org.eclipse.milo.opcua.stack.core.types.structured.EventFilter;
 import org.eclipse.milo.opcua.stack.core.types.structured.EventFilterResult;
 import org.eclipse.milo.opcua.stack.core.types.structured.MonitoringFilter;
 import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
-import org.eclipse.milo.opcua.stack.core.types.structured.SimpleAttributeOperand;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -58,7 +57,7 @@ public class MonitoredEventItem extends BaseMonitoredItem<Variant[]> implements
 
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
-    private volatile EventFilter filter;
+    private volatile CompiledEventFilter filter;
     private volatile EventFilterResult filterResult;
     private volatile boolean filterResultGood;
 
@@ -100,15 +99,7 @@ public class MonitoredEventItem extends BaseMonitoredItem<Variant[]> implements
     public void onEvent(BaseEventTypeNode eventNode) {
         try {
             if (filterResultGood) {
-                ContentFilter whereClause = filter.getWhereClause();
-
-                boolean matches = EventContentFilter.evaluate(
-                    filterContext,
-                    whereClause,
-                    eventNode
-                );
-
-                if (matches) {
+                if (filter.evaluate(eventNode)) {
                     enqueue(selectEventFields(eventNode));
                 }
             }
@@ -117,24 +108,26 @@ public class MonitoredEventItem extends BaseMonitoredItem<Variant[]> implements
         }
     }
 
+    @Override
+    public void onEventRecord(EventRecord event) {
+        try {
+            if (filterResultGood) {
+                if (filter.evaluate(event)) {
+                    enqueue(filter.select(event));
+                }
+            }
+        } catch (UaException e) {
+            logger.error("Filter evaluation failed: {}", e.getMessage(), e);
+        }
+    }
 
     @NotNull
     private Variant[] selectEventFields(BaseEventTypeNode eventNode) {
-        SimpleAttributeOperand[] selectClauses = filter.getSelectClauses();
-
-        if (selectClauses != null) {
-            return EventContentFilter.select(
-                filterContext,
-                selectClauses,
-                eventNode
-            );
-        } else {
-            return new Variant[0];
-        }
+        return filter.select(eventNode);
     }
 
     @Override
-    protected synchronized void enqueue(Variant[] value) {
+    protected void addToQueue(Variant[] value) {
         if (queue.size() < queue.maxSize()) {
             queue.add(value);
         } else {
@@ -180,42 +173,24 @@ public class MonitoredEventItem extends BaseMonitoredItem<Variant[]> implements
 
     @NotNull
     private Variant[] generateOverflowEventFields() {
-        BaseEventTypeNode overflowEvent = null;
-
-        try {
-            UUID eventId = UUID.randomUUID();
-
-            overflowEvent = server.getEventFactory().createEvent(
-                new NodeId(1, eventId),
-                Identifiers.EventQueueOverflowEventType
-            );
-
-            overflowEvent.setBrowseName(new QualifiedName(1, "EventQueueOverflow"));
-            overflowEvent.setDisplayName(LocalizedText.english("EventQueueOverflow"));
-
-            ByteBuffer buffer = ByteBuffer.allocate(64);
-            buffer.putLong(eventId.getMostSignificantBits());
-            buffer.putLong(eventId.getLeastSignificantBits());
-
-            overflowEvent.setEventId(ByteString.of(buffer.array()));
-            overflowEvent.setEventType(Identifiers.EventQueueOverflowEventType);
-            overflowEvent.setSourceNode(Identifiers.Server);
-            overflowEvent.setSourceName("Server");
-            overflowEvent.setTime(DateTime.now());
-            overflowEvent.setReceiveTime(DateTime.NULL_VALUE);
-            overflowEvent.setMessage(LocalizedText.english("Event Queue Overflow"));
-            overflowEvent.setSeverity(ushort(0));
-
-            return selectEventFields(overflowEvent);
-        } catch (UaException e) {
-            logger.error("Error creating overflow event: {}", e.getMessage(), e);
-
-            return new Variant[0];
-        } finally {
-            if (overflowEvent != null) {
-                overflowEvent.delete();
-            }
-        }
+        UUID eventId = UUID.randomUUID();
+
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        buffer.putLong(eventId.getMostSignificantBits());
+        buffer.putLong(eventId.getLeastSignificantBits());
+
+        EventRecord overflowEvent = EventRecord.builder(Identifiers.EventQueueOverflowEventType)
+            .setNodeId(new NodeId(1, eventId))
+            .setEventId(ByteString.of(buffer.array()))
+            .setSourceNode(Identifiers.Server)
+            .setSourceName("Server")
+            .setTime(DateTime.now())
+            .setReceiveTime(DateTime.NULL_VALUE)
+            .setMessage(LocalizedText.english("Event Queue Overflow"))
+            .setSeverity(ushort(0))
+            .build();
+
+        return filter.select(overflowEvent);
     }
 
     @Override
@@ -226,9 +201,12 @@ public class MonitoredEventItem extends BaseMonitoredItem<Variant[]> implements
     @Override
     public void installFilter(MonitoringFilter filter) throws UaException {
         if (filter instanceof EventFilter) {
-            this.filter = (EventFilter) filter;
+            EventFilter eventFilter = (EventFilter) filter;
+
+            filterResult = EventContentFilter.validate(filterContext, eventFilter);
 
-            filterResult = EventContentFilter.validate(filterContext, this.filter);
+            // compiled once here so operands aren't decoded and resolved again for every event
+            this.filter = CompiledEventFilter.compile(filterContext, eventFilter);
 
             boolean selectClauseGood = l(filterResult.getSelectClauseResults())
                 .stream()
@@ -26,12 +26,12 @@ import org.eclipse.milo.opcua.sdk.server.api.MonitoredItem;
 import org.eclipse.milo.opcua.sdk.server.api.config.OpcUaServerConfigLimits;
 import org.eclipse.milo.opcua.sdk.server.api.methods.AbstractMethodInvocationHandler;
 import org.eclipse.milo.opcua.sdk.server.api.methods.Out;
+import org.eclipse.milo.opcua.sdk.server.events.EventRecord;
 import org.eclipse.milo.opcua.sdk.server.items.BaseMonitoredItem;
 import org.eclipse.milo.opcua.sdk.server.items.MonitoredDataItem;
 import org.eclipse.milo.opcua.sdk.server.model.methods.ConditionRefreshMethod;
 import org.eclipse.milo.opcua.sdk.server.model.methods.GetMonitoredItemsMethod;
 import org.eclipse.milo.opcua.sdk.server.model.methods.ResendDataMethod;
-import org.eclipse.milo.opcua.sdk.server.model.nodes.objects.BaseEventTypeNode;
 import org.eclipse.milo.opcua.sdk.server.model.nodes.objects.OperationLimitsTypeNode;
 import org.eclipse.milo.opcua.sdk.server.model.nodes.objects.ServerCapabilitiesTypeNode;
 import org.eclipse.milo.opcua.sdk.server.model.nodes.objects.ServerTypeNode;
@@ -51,7 +51,6 @@ import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
 import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
 import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
 import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
-import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
 import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.RedundancySupport;
@@ -125,23 +124,23 @@ public class OpcUaNamespace extends ManagedNamespaceWithLifecycle {
     public void onEventItemsCreated(List<EventItem> eventItems) {
         eventItems.stream()
             .filter(MonitoredItem::isSamplingEnabled)
-            .forEach(item -> server.getEventBus().register(item));
+            .forEach(item -> server.getEventDispatcher().register(item));
     }
 
     @Override
     public void onEventItemsModified(List<EventItem> eventItems) {
         for (EventItem item : eventItems) {
             if (item.isSamplingEnabled()) {
-                server.getEventBus().register(item);
+                server.getEventDispatcher().register(item);
             } else {
-                server.getEventBus().unregister(item);
+                server.getEventDispatcher().unregister(item);
             }
         }
     }
 
     @Override
     public void onEventItemsDeleted(List<EventItem> eventItems) {
-        eventItems.forEach(item -> server.getEventBus().unregister(item));
+        eventItems.forEach(item -> server.getEventDispatcher().unregister(item));
     }
 
     private void loadNodes() {
@@ -328,43 +327,31 @@ public class OpcUaNamespace extends ManagedNamespaceWithLifecycle {
                 Subscription subscription = session.getSubscriptionManager().getSubscription(subscriptionId);
 
                 if (subscription != null) {
-                    BaseEventTypeNode refreshStart = server.getEventFactory().createEvent(
-                        new NodeId(1, UUID.randomUUID()),
-                        Identifiers.RefreshStartEventType
-                    );
-
-                    refreshStart.setBrowseName(new QualifiedName(1, "RefreshStart"));
-                    refreshStart.setDisplayName(LocalizedText.english("RefreshStart"));
-                    refreshStart.setEventId(NonceUtil.generateNonce(16));
-                    refreshStart.setEventType(Identifiers.RefreshStartEventType);
-                    refreshStart.setSourceNode(Identifiers.Server);
-                    refreshStart.setSourceName("Server");
-                    refreshStart.setTime(DateTime.now());
-                    refreshStart.setReceiveTime(DateTime.NULL_VALUE);
-                    refreshStart.setMessage(LocalizedText.english("RefreshStart"));
-                    refreshStart.setSeverity(ushort(0));
-
-                    BaseEventTypeNode refreshEnd = server.getEventFactory().createEvent(
-                        new NodeId(1, UUID.randomUUID()),
-                        Identifiers.RefreshEndEventType
-                    );
-
-                    refreshEnd.setBrowseName(new QualifiedName(1, "RefreshEnd"));
-                    refreshEnd.setDisplayName(LocalizedText.english("RefreshEnd"));
-                    refreshEnd.setEventId(NonceUtil.generateNonce(16));
-                    refreshEnd.setEventType(Identifiers.RefreshEndEventType);
-                    refreshEnd.setSourceNode(Identifiers.Server);
-                    refreshEnd.setSourceName("Server");
-                    refreshEnd.setTime(DateTime.now());
-                    refreshEnd.setReceiveTime(DateTime.NULL_VALUE);
-                    refreshEnd.setMessage(LocalizedText.english("RefreshEnd"));
-                    refreshEnd.setSeverity(ushort(0));
-
-                    server.getEventBus().post(refreshStart);
-                    server.getEventBus().post(refreshEnd);
-
-                    refreshStart.delete();
-                    refreshEnd.delete();
+                    EventRecord refreshStart = EventRecord.builder(Identifiers.RefreshStartEventType)
+                        .setNodeId(new NodeId(1, UUID.randomUUID()))
+                        .setEventId(NonceUtil.generateNonce(16))
+                        .setSourceNode(Identifiers.Server)
+                        .setSourceName("Server")
+                        .setTime(DateTime.now())
+                        .setReceiveTime(DateTime.NULL_VALUE)
+                        .setMessage(LocalizedText.english("RefreshStart"))
+                        .setSeverity(ushort(0))
+                        .build();
+
+                    EventRecord refreshEnd = EventRecord.builder(Identifiers.RefreshEndEventType)
+                        .setNodeId(new NodeId(1, UUID.randomUUID()))
+                        .setEventId(NonceUtil.generateNonce(16))
+                        .setSourceNode(Identifiers.Server)
+                        .setSourceName("Server")
+                        .setTime(DateTime.now())
+                        .setReceiveTime(DateTime.NULL_VALUE)
+                        .setMessage(LocalizedText.english("RefreshEnd"))
+                        .setSeverity(ushort(0))
+                        .build();
+
+                    // same SourceNode, so both are delivered in order by the same shard
+                    server.getEventDispatcher().post(refreshStart);
+                    server.getEventDispatcher().post(refreshEnd);
                 } else {
                     throw new UaException(StatusCodes.Bad_SubscriptionIdInvalid);
                 }
@@ -10,6 +10,7 @@
 
 package org.eclipse.milo.opcua.sdk.server.nodes.filters;
 
+import org.eclipse.milo.opcua.sdk.server.api.AttributeValueCache;
 import org.eclipse.milo.opcua.sdk.server.nodes.DefaultAttributeFilter;
 import org.eclipse.milo.opcua.sdk.server.nodes.filters.AttributeFilterContext.GetAttributeContext;
 import org.eclipse.milo.opcua.sdk.server.nodes.filters.AttributeFilterContext.SetAttributeContext;
@@ -48,4 +49,14 @@ public interface AttributeFilter {
         ctx.setAttribute(attributeId, value);
     }
 
+    /**
+     * Whether the values this filter gets are the same for every Session, so they can be served to any Session from
+     * an {@link AttributeValueCache}. Filters are not cacheable unless they override this to opt in.
+     *
+     * @return {@code true} if the values this filter gets don't depend on the Session reading them.
+     */
+    default boolean isCacheable() {
+        return false;
+    }
+
 }
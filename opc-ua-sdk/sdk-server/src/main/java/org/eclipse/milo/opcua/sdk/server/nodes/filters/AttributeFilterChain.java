@@ -200,4 +200,12 @@ public class AttributeFilterChain {
         return new ArrayList<>(filters);
     }
 
+    /**
+     * @return {@code true} if every {@link AttributeFilter} belonging to this chain is cacheable.
+     * @see AttributeFilter#isCacheable()
+     */
+    public boolean isCacheable() {
+        return filters.stream().allMatch(AttributeFilter::isCacheable);
+    }
+
 }
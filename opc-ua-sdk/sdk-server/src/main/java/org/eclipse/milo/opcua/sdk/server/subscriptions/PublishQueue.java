@@ -10,13 +10,16 @@
 
 package org.eclipse.milo.opcua.sdk.server.subscriptions;
 
+import java.util.ArrayDeque;
+import java.util.Comparator;
 import java.util.Date;
-import java.util.LinkedHashMap;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
 import java.util.concurrent.TimeUnit;
 
-import com.google.common.collect.Lists;
+import io.netty.util.Timeout;
+import org.eclipse.milo.opcua.stack.core.Stack;
 import org.eclipse.milo.opcua.stack.core.StatusCodes;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
 import org.eclipse.milo.opcua.stack.core.types.structured.RequestHeader;
@@ -25,13 +28,29 @@ import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Holds the Publish requests of a Session that have not been used yet, and the Subscriptions that are waiting for
+ * one.
+ * <p>
+ * Waiting Subscriptions are kept ordered by priority, highest first, and then by how long they've been waiting, so
+ * handing a request to the next Subscription is O(log n). Requests with a timeout hint are expired by a shared timer
+ * rather than by scanning the queue.
+ */
 public class PublishQueue {
 
+    private static final Comparator<WaitingSubscription> WAITING_ORDER =
+        Comparator.comparingInt((WaitingSubscription w) -> w.priority).reversed()
+            .thenComparingLong(w -> w.sequence);
+
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
-    private final LinkedList<ServiceRequest> serviceQueue = new LinkedList<>();
+    private final ArrayDeque<QueuedRequest> serviceQueue = new ArrayDeque<>();
 
-    private final LinkedHashMap<UInteger, WaitingSubscription> waitList = new LinkedHashMap<>();
+    private final TreeSet<WaitingSubscription> waitList = new TreeSet<>(WAITING_ORDER);
+    private final Map<UInteger, WaitingSubscription> waitListById = new HashMap<>();
+
+    private long waitSequence = 0L;
+    private int queuedCount = 0;
 
     /**
      * Add a Publish {@link ServiceRequest} to the queue.
@@ -41,70 +60,38 @@ public class PublishQueue {
      *
      * @param service the Publish {@link ServiceRequest}.
      */
-    public synchronized void addRequest(ServiceRequest service) {
-        List<WaitingSubscription> waitingSubscriptions = Lists.newArrayList(waitList.values());
-
-        if (waitingSubscriptions.isEmpty()) {
-            serviceQueue.add(service);
+    public void addRequest(ServiceRequest service) {
+        WaitingSubscription waiting;
 
-            logger.debug(
-                "Queued PublishRequest requestHandle={}, size={}",
-                service.getRequest().getRequestHeader().getRequestHandle(),
-                serviceQueue.size()
-            );
-        } else {
-            logger.debug("{} subscriptions waiting", waitingSubscriptions.size());
-
-            WaitingSubscription subscription = null;
+        synchronized (this) {
+            waiting = waitList.pollFirst();
 
-            int maxPriority = 0;
-            long minWaitingSince = Long.MAX_VALUE;
-
-            for (WaitingSubscription waiting : waitingSubscriptions) {
-                final int priority = waiting.getSubscription().getPriority();
-                final long waitingSince = waiting.getWaitingSince().getTime();
+            if (waiting == null) {
+                enqueue(service);
 
                 logger.debug(
-                    "subscription id={} priority={} waitingSince={}",
-                    waiting.getSubscription().getId(),
-                    priority,
-                    waitingSince
+                    "Queued PublishRequest requestHandle={}, size={}",
+                    service.getRequest().getRequestHeader().getRequestHandle(),
+                    queuedCount
                 );
 
-                if (priority > maxPriority) {
-                    maxPriority = priority;
-                    minWaitingSince = Long.MAX_VALUE;
-                }
-                if (priority >= maxPriority && waitingSince < minWaitingSince) {
-                    minWaitingSince = waitingSince;
-                    subscription = waiting;
-
-                    logger.debug(
-                        "subscription id={} priority={} now next in line",
-                        waiting.getSubscription().getId(),
-                        priority
-                    );
-                }
+                return;
             }
 
-            if (subscription != null) {
-                waitList.remove(subscription.subscription.getId());
+            waitListById.remove(waiting.subscription.getId());
+        }
 
-                logger.debug(
-                    "delivering PublishRequest to subscription id={} priority={}",
-                    subscription.getSubscription().getId(),
-                    subscription.getSubscription().getPriority()
-                );
+        logger.debug(
+            "delivering PublishRequest to subscription id={} priority={}",
+            waiting.subscription.getId(),
+            waiting.priority
+        );
 
-                final WaitingSubscription ws = subscription;
+        final Subscription subscription = waiting.subscription;
 
-                service.getServer().getConfig().getExecutor().execute(
-                    () -> ws.subscription.onPublish(service)
-                );
-            } else {
-                serviceQueue.add(service);
-            }
-        }
+        service.getServer().getConfig().getExecutor().execute(
+            () -> subscription.onPublish(service)
+        );
     }
 
     /**
@@ -120,25 +107,33 @@ public class PublishQueue {
      *
      * @param subscription the subscription to wait-list.
      */
-    public synchronized void addSubscription(Subscription subscription) {
-        if (waitList.isEmpty() && !serviceQueue.isEmpty()) {
-            ServiceRequest request = poll();
-
-            if (request != null) {
-                request.getServer().getConfig().getExecutor().execute(
-                    () ->
-                        subscription.onPublish(request)
-                );
-            } else {
-                waitList.putIfAbsent(subscription.getId(), new WaitingSubscription(subscription));
+    public void addSubscription(Subscription subscription) {
+        ServiceRequest request = null;
+
+        synchronized (this) {
+            if (waitList.isEmpty()) {
+                request = poll();
+            }
+
+            if (request == null && !waitListById.containsKey(subscription.getId())) {
+                WaitingSubscription waiting = new WaitingSubscription(subscription, waitSequence++);
+
+                waitList.add(waiting);
+                waitListById.put(subscription.getId(), waiting);
             }
-        } else {
-            waitList.putIfAbsent(subscription.getId(), new WaitingSubscription(subscription));
+        }
+
+        if (request != null) {
+            final ServiceRequest service = request;
+
+            service.getServer().getConfig().getExecutor().execute(
+                () -> subscription.onPublish(service)
+            );
         }
     }
 
     public synchronized boolean isEmpty() {
-        return serviceQueue.isEmpty();
+        return queuedCount == 0;
     }
 
     public synchronized boolean isNotEmpty() {
@@ -154,34 +149,29 @@ public class PublishQueue {
         long nowNanos = System.nanoTime();
 
         while (true) {
-            ServiceRequest serviceRequest = serviceQueue.poll();
+            QueuedRequest queued = serviceQueue.poll();
 
-            if (serviceRequest == null) {
+            if (queued == null) {
                 return null;
-            } else {
-                RequestHeader requestHeader = serviceRequest
-                    .getRequest()
-                    .getRequestHeader();
+            } else if (queued.expired) {
+                // already counted out and faulted by the timer
+                continue;
+            }
 
-                long millisSinceReceived = TimeUnit.MILLISECONDS.convert(
-                    nowNanos - serviceRequest.getReceivedAtNanos(),
-                    TimeUnit.NANOSECONDS
-                );
+            queued.taken = true;
+            queuedCount--;
 
-                long timeoutHint = requestHeader.getTimeoutHint().longValue();
+            if (queued.timeout != null) {
+                queued.timeout.cancel();
+            }
 
-                if (timeoutHint == 0 || millisSinceReceived < timeoutHint) {
-                    return serviceRequest;
-                } else {
-                    logger.debug(
-                        "Discarding expired PublishRequest requestHandle={} timestamp={} timeoutHint={}",
-                        serviceRequest.getRequest().getRequestHeader().getRequestHandle(),
-                        requestHeader.getTimestamp().getJavaDate(),
-                        timeoutHint
-                    );
+            ServiceRequest serviceRequest = queued.service;
 
-                    serviceRequest.setServiceFault(StatusCodes.Bad_Timeout);
-                }
+            if (isExpired(serviceRequest, nowNanos)) {
+                // the timer hasn't caught up yet
+                expire(serviceRequest);
+            } else {
+                return serviceRequest;
             }
         }
     }
@@ -192,7 +182,83 @@ public class PublishQueue {
      * @return the number of queued Publish ServiceRequests.
      */
     public synchronized int size() {
-        return serviceQueue.size();
+        return queuedCount;
+    }
+
+    private void enqueue(ServiceRequest service) {
+        QueuedRequest queued = new QueuedRequest(service);
+
+        long timeoutHint = service.getRequest().getRequestHeader().getTimeoutHint().longValue();
+
+        if (timeoutHint > 0) {
+            long elapsedMillis = TimeUnit.MILLISECONDS.convert(
+                System.nanoTime() - service.getReceivedAtNanos(),
+                TimeUnit.NANOSECONDS
+            );
+
+            queued.timeout = Stack.sharedWheelTimer().newTimeout(
+                t -> onTimeout(queued),
+                Math.max(0L, timeoutHint - elapsedMillis),
+                TimeUnit.MILLISECONDS
+            );
+        }
+
+        serviceQueue.add(queued);
+        queuedCount++;
+    }
+
+    private void onTimeout(QueuedRequest queued) {
+        synchronized (this) {
+            if (queued.taken || queued.expired) {
+                return;
+            }
+
+            // Leave the entry in place; poll() skips expired entries.
+            queued.expired = true;
+            queuedCount--;
+        }
+
+        queued.service.getServer().getConfig().getExecutor().execute(() -> expire(queued.service));
+    }
+
+    private void expire(ServiceRequest serviceRequest) {
+        RequestHeader requestHeader = serviceRequest.getRequest().getRequestHeader();
+
+        logger.debug(
+            "Discarding expired PublishRequest requestHandle={} timestamp={} timeoutHint={}",
+            requestHeader.getRequestHandle(),
+            requestHeader.getTimestamp().getJavaDate(),
+            requestHeader.getTimeoutHint()
+        );
+
+        serviceRequest.setServiceFault(StatusCodes.Bad_Timeout);
+    }
+
+    private static boolean isExpired(ServiceRequest serviceRequest, long nowNanos) {
+        long timeoutHint = serviceRequest.getRequest().getRequestHeader().getTimeoutHint().longValue();
+
+        long millisSinceReceived = TimeUnit.MILLISECONDS.convert(
+            nowNanos - serviceRequest.getReceivedAtNanos(),
+            TimeUnit.NANOSECONDS
+        );
+
+        return timeoutHint != 0 && millisSinceReceived >= timeoutHint;
+    }
+
+    private static class QueuedRequest {
+
+        private volatile Timeout timeout;
+
+        // guarded by the PublishQueue
+        private boolean taken = false;
+        private boolean expired = false;
+
+        private final ServiceRequest service;
+
+        QueuedRequest(ServiceRequest service) {
+            this.service = service;
+        }
+
     }
 
     public static class WaitingSubscription {
@@ -200,9 +266,17 @@ public class PublishQueue {
         private final Date waitingSince = new Date();
 
         private final Subscription subscription;
+        private final int priority;
+        private final long sequence;
 
         public WaitingSubscription(Subscription subscription) {
+            this(subscription, 0L);
+        }
+
+        WaitingSubscription(Subscription subscription, long sequence) {
             this.subscription = subscription;
+            this.priority = subscription.getPriority();
+            this.sequence = sequence;
         }
 
         public Subscription getSubscription() {
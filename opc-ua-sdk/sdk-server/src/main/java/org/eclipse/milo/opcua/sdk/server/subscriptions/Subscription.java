@@ -13,16 +13,18 @@ package org.eclipse.milo.opcua.sdk.server.subscriptions;
 import java.math.RoundingMode;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
 import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
@@ -76,7 +78,13 @@ public class Subscription {
 
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
-    private volatile Iterator<BaseMonitoredItem<?>> lastIterator = Collections.emptyIterator();
+    private volatile List<BaseMonitoredItem<?>> lastItems = Collections.emptyList();
+
+    /**
+     * MonitoredItems that may have notifications since they were last gathered. Items add themselves when they
+     * enqueue a value or are triggered, so publishing only visits items that changed.
+     */
+    private final Queue<BaseMonitoredItem<?>> dirtyItems = new ConcurrentLinkedQueue<>();
 
     private final AtomicLong itemIds = new AtomicLong(1L);
     private final Map<UInteger, BaseMonitoredItem<?>> itemsById = Maps.newConcurrentMap();
@@ -194,6 +202,7 @@ public class Subscription {
     public synchronized void addMonitoredItems(List<BaseMonitoredItem<?>> createdItems) {
         for (BaseMonitoredItem<?> item : createdItems) {
             itemsById.put(item.getId(), item);
+            item.setDirtyListener(dirtyItems::add);
         }
 
         resetLifetimeCounter();
@@ -204,6 +213,7 @@ public class Subscription {
     public synchronized void removeMonitoredItems(List<BaseMonitoredItem<?>> deletedItems) {
         for (BaseMonitoredItem<?> item : deletedItems) {
             itemsById.remove(item.getId());
+            item.setDirtyListener(null);
         }
 
         resetLifetimeCounter();
@@ -429,17 +439,22 @@ public class Subscription {
     private void returnNotifications(ServiceRequest service) {
         LinkedHashSet<BaseMonitoredItem<?>> items = new LinkedHashSet<>();
 
-        lastIterator.forEachRemaining(items::add);
+        items.addAll(lastItems);
+
+        BaseMonitoredItem<?> item;
+        while ((item = dirtyItems.poll()) != null) {
+            item.clearDirty();
 
-        itemsById.values().stream()
-            .filter(item -> item.hasNotifications() || item.isTriggered())
-            .forEach(items::add);
+            if (isCurrent(item) && (item.hasNotifications() || item.isTriggered())) {
+                items.add(item);
+            }
+        }
 
         PeekingIterator<BaseMonitoredItem<?>> iterator = Iterators.peekingIterator(items.iterator());
 
         gatherAndSend(iterator, service);
 
-        lastIterator = iterator.hasNext() ? iterator : Collections.emptyIterator();
+        lastItems = iterator.hasNext() ? Lists.newArrayList(iterator) : Collections.emptyList();
     }
 
     /**
@@ -580,8 +595,12 @@ public class Subscription {
     }
 
     private boolean notificationsAvailable() {
-        return itemsById.values().stream()
-            .anyMatch(item -> item.hasNotifications() || item.isTriggered());
+        return Stream.concat(lastItems.stream(), dirtyItems.stream())
+            .anyMatch(item -> isCurrent(item) && (item.hasNotifications() || item.isTriggered()));
+    }
+
+    private boolean isCurrent(BaseMonitoredItem<?> item) {
+        return itemsById.get(item.getId()) == item;
     }
 
     private void setState(State state) {
@@ -31,6 +31,7 @@ import org.eclipse.milo.opcua.sdk.core.AccessLevel;
 import org.eclipse.milo.opcua.sdk.core.NumericRange;
 import org.eclipse.milo.opcua.sdk.core.Reference;
 import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.RegisteredNodes;
 import org.eclipse.milo.opcua.sdk.server.Session;
 import org.eclipse.milo.opcua.sdk.server.api.DataItem;
 import org.eclipse.milo.opcua.sdk.server.api.EventItem;
@@ -339,7 +340,7 @@ public class SubscriptionManager {
         UInteger subscriptionId = request.getSubscriptionId();
         Subscription subscription = subscriptions.get(subscriptionId);
         TimestampsToReturn timestamps = request.getTimestampsToReturn();
-        List<MonitoredItemCreateRequest> itemsToCreate = l(request.getItemsToCreate());
+        List<MonitoredItemCreateRequest> itemsToCreate = resolveRegisteredNodes(l(request.getItemsToCreate()));
 
         if (subscription == null) {
             throw new UaException(StatusCodes.Bad_SubscriptionIdInvalid);
@@ -926,6 +927,40 @@ public class SubscriptionManager {
         return samplingInterval;
     }
 
+    /**
+     * Replace any registered node handles in {@code itemsToCreate} with the NodeIds they were registered for, so
+     * the MonitoredItems sample, and share samples by, the original NodeId.
+     */
+    private List<MonitoredItemCreateRequest> resolveRegisteredNodes(List<MonitoredItemCreateRequest> itemsToCreate) {
+        RegisteredNodes registeredNodes = session.getRegisteredNodes();
+
+        if (registeredNodes.isEmpty()) return itemsToCreate;
+
+        List<MonitoredItemCreateRequest> resolved = new ArrayList<>(itemsToCreate.size());
+
+        for (MonitoredItemCreateRequest item : itemsToCreate) {
+            ReadValueId itemToMonitor = item.getItemToMonitor();
+            NodeId nodeId = registeredNodes.resolve(itemToMonitor.getNodeId());
+
+            if (nodeId != itemToMonitor.getNodeId()) {
+                resolved.add(new MonitoredItemCreateRequest(
+                    new ReadValueId(
+                        nodeId,
+                        itemToMonitor.getAttributeId(),
+                        itemToMonitor.getIndexRange(),
+                        itemToMonitor.getDataEncoding()
+                    ),
+                    item.getMonitoringMode(),
+                    item.getRequestedParameters()
+                ));
+            } else {
+                resolved.add(item);
+            }
+        }
+
+        return resolved;
+    }
+
     private CompletableFuture<Map<NodeId, AttributeGroup>> readMonitoringAttributes(List<NodeId> nodeIds) {
         List<ReadValueId> attributesToRead = nodeIds.stream()
             .flatMap(nodeId -> {
@@ -25,10 +25,23 @@ public class RingBuffer<E> {
     private final int maxSize;
 
     public RingBuffer(int maxSize) {
+        this(maxSize, true);
+    }
+
+    /**
+     * Create a RingBuffer, optionally without allocating the default element storage.
+     * <p>
+     * Subclasses that pass {@code false} for {@code allocateStorage} must override {@link #load(int)},
+     * {@link #store(int, Object)}, {@link #release(int)}, and {@link #releaseAll()}.
+     *
+     * @param maxSize         the maximum allowed size (number of elements).
+     * @param allocateStorage {@code true} if the default element storage should be allocated.
+     */
+    protected RingBuffer(int maxSize, boolean allocateStorage) {
         this.maxSize = maxSize;
 
         //noinspection unchecked
-        buffer = (E[]) new Object[maxSize];
+        buffer = allocateStorage ? (E[]) new Object[maxSize] : null;
     }
 
     /**
@@ -42,7 +55,7 @@ public class RingBuffer<E> {
         if (index >= count) {
             throw new IndexOutOfBoundsException("index=" + index);
         } else {
-            return buffer[(read + index) % maxSize];
+            return load((read + index) % maxSize);
         }
     }
 
@@ -57,7 +70,7 @@ public class RingBuffer<E> {
         if (index >= count) {
             throw new IndexOutOfBoundsException("index=" + index);
         } else {
-            buffer[(read + index) % maxSize] = e;
+            store((read + index) % maxSize, e);
         }
     }
 
@@ -67,7 +80,7 @@ public class RingBuffer<E> {
      * @param e element to add.
      */
     public void add(@NotNull E e) {
-        buffer[write] = e;
+        store(write, e);
         write = (write + 1) % maxSize;
 
         if (count == maxSize) {
@@ -85,8 +98,8 @@ public class RingBuffer<E> {
         if (count <= 0) {
             throw new NoSuchElementException();
         } else {
-            final E e = buffer[read];
-            buffer[read] = null;
+            final E e = load(read);
+            release(read);
             read = (read + 1) % maxSize;
             count -= 1;
             return e;
@@ -98,7 +111,7 @@ public class RingBuffer<E> {
      */
     public void clear() {
         read = write = count = 0;
-        Arrays.fill(buffer, null);
+        releaseAll();
     }
 
     /**
@@ -122,4 +135,36 @@ public class RingBuffer<E> {
         return count;
     }
 
+    /**
+     * @param slot the storage slot.
+     * @return the element stored in {@code slot}.
+     */
+    protected E load(int slot) {
+        return buffer[slot];
+    }
+
+    /**
+     * @param slot the storage slot.
+     * @param e    the element to store in {@code slot}.
+     */
+    protected void store(int slot, E e) {
+        buffer[slot] = e;
+    }
+
+    /**
+     * Release any reference held by {@code slot} after its element has been removed.
+     *
+     * @param slot the storage slot.
+     */
+    protected void release(int slot) {
+        buffer[slot] = null;
+    }
+
+    /**
+     * Release any references held by every storage slot.
+     */
+    protected void releaseAll() {
+        Arrays.fill(buffer, null);
+    }
+
 }
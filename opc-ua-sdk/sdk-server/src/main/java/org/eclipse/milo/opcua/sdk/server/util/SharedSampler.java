@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.milo.opcua.sdk.core.AccessLevel;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.Session;
+import org.eclipse.milo.opcua.sdk.server.api.DataItem;
+import org.eclipse.milo.opcua.sdk.server.api.services.AttributeServices;
+import org.eclipse.milo.opcua.sdk.server.api.services.AttributeServices.ReadContext;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UByte;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+
+/**
+ * Reads the current values of a batch of {@link DataItem}s, sharing one read between every item that has an
+ * identical {@link ReadValueId}, even when the items belong to different Sessions.
+ * <p>
+ * The value for each unique {@link ReadValueId} is read in the context of the first Session that samples it. Items
+ * belonging to other Sessions are only given the shared value if their own Session passes the same UserAccessLevel
+ * check that {@link AttributeReader} applies to the Value attribute. That check is a read of the UserAccessLevel
+ * attribute, batched into the same per-Session read call. When the owning Session was denied access but another
+ * Session is allowed, that Session falls back to reading the value itself.
+ */
+final class SharedSampler {
+
+    private SharedSampler() {}
+
+    /**
+     * Read the current values of {@code items}.
+     *
+     * @param server            the {@link OpcUaServer}.
+     * @param attributeServices the {@link AttributeServices} to read through.
+     * @param items             the {@link DataItem}s to read.
+     * @param shared            {@code true} to share reads across Sessions, {@code false} to read each Session's
+     *                          items in that Session only.
+     * @return the values read, in the same order as {@code items}.
+     */
+    static CompletableFuture<List<DataValue>> read(
+        OpcUaServer server,
+        AttributeServices attributeServices,
+        List<DataItem> items,
+        boolean shared
+    ) {
+
+        Map<ReadValueId, Session> owners = new HashMap<>();
+        Map<Session, SessionReads> reads = new LinkedHashMap<>();
+
+        for (DataItem item : items) {
+            Session session = item.getSession();
+            ReadValueId readValueId = item.getReadValueId();
+
+            Session owner = shared ? owners.computeIfAbsent(readValueId, k -> session) : session;
+
+            SessionReads sessionReads = reads.computeIfAbsent(session, SessionReads::new);
+
+            if (owner == session) {
+                sessionReads.add(readValueId);
+            } else if (requiresAccessCheck(readValueId)) {
+                sessionReads.add(accessCheckId(readValueId));
+            }
+        }
+
+        CompletableFuture<?>[] futures = reads.values().stream()
+            .map(r -> r.read(server, attributeServices))
+            .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(futures).thenCompose(v -> {
+            List<DataValue> values = new ArrayList<>(items.size());
+            Map<Session, SessionReads> fallbacks = new LinkedHashMap<>();
+
+            for (DataItem item : items) {
+                Session session = item.getSession();
+                ReadValueId readValueId = item.getReadValueId();
+
+                Session owner = shared ? owners.get(readValueId) : session;
+
+                DataValue value = reads.get(owner).get(readValueId);
+
+                if (owner != session && requiresAccessCheck(readValueId)) {
+                    DataValue accessCheck = reads.get(session).get(accessCheckId(readValueId));
+
+                    if (isReadable(accessCheck)) {
+                        if (isUserAccessDenied(value)) {
+                            fallbacks.computeIfAbsent(session, SessionReads::new).add(readValueId);
+                            value = null;
+                        }
+                    } else if (!isBadNotUserAccessDenied(value)) {
+                        value = new DataValue(StatusCodes.Bad_UserAccessDenied);
+                    }
+                }
+
+                values.add(value);
+            }
+
+            if (fallbacks.isEmpty()) {
+                return CompletableFuture.completedFuture(values);
+            }
+
+            CompletableFuture<?>[] fallbackFutures = fallbacks.values().stream()
+                .map(r -> r.read(server, attributeServices))
+                .toArray(CompletableFuture[]::new);
+
+            return CompletableFuture.allOf(fallbackFutures).thenApply(vv -> {
+                for (int i = 0; i < items.size(); i++) {
+                    if (values.get(i) == null) {
+                        DataItem item = items.get(i);
+
+                        values.set(i, fallbacks.get(item.getSession()).get(item.getReadValueId()));
+                    }
+                }
+                return values;
+            });
+        });
+    }
+
+    private static boolean requiresAccessCheck(ReadValueId readValueId) {
+        return AttributeId.Value.isEqual(readValueId.getAttributeId());
+    }
+
+    private static ReadValueId accessCheckId(ReadValueId readValueId) {
+        return new ReadValueId(
+            readValueId.getNodeId(),
+            AttributeId.UserAccessLevel.uid(),
+            null,
+            QualifiedName.NULL_VALUE
+        );
+    }
+
+    private static boolean isReadable(DataValue accessCheck) {
+        StatusCode status = accessCheck.getStatusCode();
+
+        if (status != null && status.getValue() == StatusCodes.Bad_AttributeIdInvalid) {
+            // Not a Variable; AttributeReader only checks UserAccessLevel for Variable Values.
+            return true;
+        }
+
+        if (status != null && !status.isGood()) {
+            return false;
+        }
+
+        Object value = accessCheck.getValue().getValue();
+
+        return value instanceof UByte &&
+            (((UByte) value).intValue() & AccessLevel.CurrentRead.getValue()) != 0;
+    }
+
+    private static boolean isUserAccessDenied(DataValue value) {
+        StatusCode status = value.getStatusCode();
+
+        return status != null && status.getValue() == StatusCodes.Bad_UserAccessDenied;
+    }
+
+    private static boolean isBadNotUserAccessDenied(DataValue value) {
+        StatusCode status = value.getStatusCode();
+
+        return status != null && status.isBad() && status.getValue() != StatusCodes.Bad_UserAccessDenied;
+    }
+
+    private static final class SessionReads {
+
+        private final List<ReadValueId> readValueIds = new ArrayList<>();
+        private final Map<ReadValueId, Integer> indices = new HashMap<>();
+
+        private volatile List<DataValue> values;
+
+        private final Session session;
+
+        SessionReads(Session session) {
+            this.session = session;
+        }
+
+        void add(ReadValueId readValueId) {
+            indices.computeIfAbsent(readValueId, k -> {
+                readValueIds.add(k);
+                return readValueIds.size() - 1;
+            });
+        }
+
+        DataValue get(ReadValueId readValueId) {
+            return values.get(indices.get(readValueId));
+        }
+
+        CompletableFuture<Void> read(OpcUaServer server, AttributeServices attributeServices) {
+            ReadContext context = new ReadContext(server, session);
+
+            attributeServices.read(context, 0d, TimestampsToReturn.Both, readValueIds);
+
+            return context.getFuture().thenAccept(v -> values = v);
+        }
+
+    }
+
+}
@@ -11,43 +11,74 @@
 package org.eclipse.milo.opcua.sdk.server.util;
 
 import java.math.RoundingMode;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
-import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.math.DoubleMath;
-import org.eclipse.milo.opcua.sdk.core.util.GroupMapCollate;
 import org.eclipse.milo.opcua.sdk.server.AbstractLifecycle;
 import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
 import org.eclipse.milo.opcua.sdk.server.api.DataItem;
 import org.eclipse.milo.opcua.sdk.server.api.MonitoredItem;
 import org.eclipse.milo.opcua.sdk.server.api.services.AttributeServices;
-import org.eclipse.milo.opcua.sdk.server.api.services.AttributeServices.ReadContext;
 import org.eclipse.milo.opcua.stack.core.AttributeId;
 import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
 import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
-import org.eclipse.milo.opcua.stack.core.util.ExecutionQueue;
-
+import org.eclipse.milo.opcua.stack.core.util.MpscExecutionQueue;
+import org.eclipse.milo.opcua.stack.core.util.Unit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Samples the {@link DataItem}s belonging to a namespace by reading them through {@link AttributeServices}.
+ * <p>
+ * Items are kept in buckets keyed by their sampling interval, rounded up to the nearest millisecond. Creating,
+ * modifying, or deleting an item only moves that item between buckets, rather than regrouping every item in the
+ * model.
+ * <p>
+ * Each bucket ticks on deadlines that are multiples of its sampling interval, so buckets with related intervals
+ * sample together and a slow read delays a single tick instead of shifting every later tick. When a tick fires
+ * the bucket's items are read with one {@link AttributeServices#read} call per Session. Items are also sampled once
+ * as soon as they're created or modified, so their first value doesn't wait for the next tick.
+ * <p>
+ * By default, every Session's items are read in that Session. Namespaces whose values don't depend on the Session
+ * reading them can call {@link #setSamplingShared(boolean)} to have items with an identical {@link ReadValueId}
+ * share one read per tick across Sessions.
+ */
 public class SubscriptionModel extends AbstractLifecycle {
 
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
     private final Set<DataItem> itemSet = Collections.newSetFromMap(Maps.newConcurrentMap());
 
-    private final List<ScheduledUpdate> schedule = Lists.newCopyOnWriteArrayList();
+    /**
+     * Buckets keyed by sampling interval in milliseconds. Only accessed from {@link #executionQueue}.
+     */
+    private final Map<Long, SamplingBucket> buckets = new HashMap<>();
+
+    /**
+     * The bucket each sampling item currently belongs to. Only accessed from {@link #executionQueue}.
+     */
+    private final Map<DataItem, SamplingBucket> itemBuckets = new HashMap<>();
+
+    private volatile boolean samplingShared = false;
 
     private final ExecutorService executor;
     private final ScheduledExecutorService scheduler;
-    private final ExecutionQueue executionQueue;
+    private final MpscExecutionQueue executionQueue;
 
     private final OpcUaServer server;
     private final AttributeServices attributeServices;
@@ -60,7 +91,29 @@ public class SubscriptionModel extends AbstractLifecycle {
         executor = server.getExecutorService();
         scheduler = server.getScheduledExecutorService();
 
-        executionQueue = new ExecutionQueue(executor);
+        executionQueue = new MpscExecutionQueue(executor);
+    }
+
+    /**
+     * @return {@code true} if items with identical {@link ReadValueId}s share one read across Sessions.
+     */
+    public boolean isSamplingShared() {
+        return samplingShared;
+    }
+
+    /**
+     * Set whether items with identical {@link ReadValueId}s share one read across Sessions. Defaults to
+     * {@code false}.
+     * <p>
+     * A shared value is read in the context of the first Session that samples it, and other Sessions are only given
+     * the UserAccessLevel check described in {@link SharedSampler}. Only enable sharing when neither the read path
+     * nor any {@link org.eclipse.milo.opcua.sdk.server.nodes.filters.AttributeFilter} of the sampled nodes depends
+     * on the Session, otherwise one Session's value is handed to other Sessions.
+     *
+     * @param samplingShared {@code true} to share reads across Sessions.
+     */
+    public void setSamplingShared(boolean samplingShared) {
+        this.samplingShared = samplingShared;
     }
 
     @Override
@@ -70,8 +123,9 @@ public class SubscriptionModel extends AbstractLifecycle {
     @Override
     protected void onShutdown() {
         executionQueue.submit(() -> {
-            schedule.forEach(ScheduledUpdate::cancel);
-            schedule.clear();
+            buckets.values().forEach(SamplingBucket::cancel);
+            buckets.clear();
+            itemBuckets.clear();
             itemSet.clear();
         });
     }
@@ -83,7 +137,7 @@ public class SubscriptionModel extends AbstractLifecycle {
 
         executionQueue.submit(() -> {
             itemSet.addAll(items);
-            reschedule();
+            updateBuckets(items);
         });
     }
 
@@ -92,7 +146,7 @@ public class SubscriptionModel extends AbstractLifecycle {
             throw new IllegalArgumentException("not running");
         }
 
-        executionQueue.submit(this::reschedule);
+        executionQueue.submit(() -> updateBuckets(items));
     }
 
     public void onDataItemsDeleted(List<DataItem> items) {
@@ -102,7 +156,7 @@ public class SubscriptionModel extends AbstractLifecycle {
 
         executionQueue.submit(() -> {
             itemSet.removeAll(items);
-            reschedule();
+            items.forEach(this::removeFromBucket);
         });
     }
 
@@ -111,69 +165,101 @@ public class SubscriptionModel extends AbstractLifecycle {
             throw new IllegalArgumentException("not running");
         }
 
-        executionQueue.submit(this::reschedule);
-    }
+        executionQueue.submit(() -> {
+            List<DataItem> dataItems = new ArrayList<>();
 
-    private void reschedule() {
-        Map<Double, List<DataItem>> bySamplingInterval = itemSet.stream()
-            .filter(DataItem::isSamplingEnabled)
-            .collect(Collectors.groupingBy(DataItem::getSamplingInterval));
+            for (MonitoredItem item : items) {
+                if (item instanceof DataItem) {
+                    dataItems.add((DataItem) item);
+                }
+            }
 
-        List<ScheduledUpdate> updates = bySamplingInterval.keySet().stream()
-            .map(samplingInterval -> {
-                List<DataItem> items = bySamplingInterval.get(samplingInterval);
+            updateBuckets(dataItems);
+        });
+    }
 
-                return new ScheduledUpdate(samplingInterval, items);
-            })
-            .collect(Collectors.toList());
+    /**
+     * Update the bucket of each of {@code items} and sample the ones that are sampling right away.
+     *
+     * @param items the {@link DataItem}s that were created or changed.
+     */
+    private void updateBuckets(List<DataItem> items) {
+        List<DataItem> sampling = new ArrayList<>(items.size());
+
+        for (DataItem item : items) {
+            if (updateBucket(item)) {
+                sampling.add(item);
+            }
+        }
 
-        schedule.forEach(ScheduledUpdate::cancel);
-        schedule.clear();
-        schedule.addAll(updates);
-        schedule.forEach(scheduler::execute);
+        if (!sampling.isEmpty()) {
+            sample(sampling);
+        }
     }
 
-    private class ScheduledUpdate implements Runnable {
+    /**
+     * Move {@code item} into the bucket matching its current sampling interval, or out of any bucket if it's been
+     * deleted or sampling is disabled.
+     *
+     * @param item the {@link DataItem} that was created or changed.
+     * @return {@code true} if {@code item} is sampling, i.e. it now belongs to a bucket.
+     */
+    private boolean updateBucket(DataItem item) {
+        if (!itemSet.contains(item) || !item.isSamplingEnabled()) {
+            removeFromBucket(item);
+            return false;
+        }
 
-        private volatile boolean cancelled = false;
+        long samplingInterval = Math.max(
+            1L,
+            DoubleMath.roundToLong(item.getSamplingInterval(), RoundingMode.UP)
+        );
 
-        private final long samplingInterval;
-        private final List<DataItem> items;
+        SamplingBucket current = itemBuckets.get(item);
 
-        private ScheduledUpdate(double samplingInterval, List<DataItem> items) {
-            this.samplingInterval = DoubleMath.roundToLong(samplingInterval, RoundingMode.UP);
-            this.items = items;
+        if (current != null && current.samplingInterval == samplingInterval) {
+            return true;
         }
 
-        private void cancel() {
-            cancelled = true;
-        }
+        removeFromBucket(item);
 
-        @Override
-        public void run() {
-            if (cancelled) return;
+        SamplingBucket bucket = buckets.computeIfAbsent(samplingInterval, interval -> {
+            SamplingBucket b = new SamplingBucket(interval);
+            b.schedule();
+            return b;
+        });
 
-            CompletableFuture<List<DataValue>> future = GroupMapCollate.groupMapCollate(
-                items,
-                MonitoredItem::getSession,
-                session -> sessionItems -> {
-                    List<PendingRead> pending = sessionItems.stream()
-                        .map(item -> new PendingRead(item.getReadValueId()))
-                        .collect(Collectors.toList());
+        bucket.items.add(item);
+        itemBuckets.put(item, bucket);
 
-                    List<ReadValueId> ids = pending.stream()
-                        .map(PendingRead::getInput)
-                        .collect(Collectors.toList());
+        return true;
+    }
 
-                    ReadContext context = new ReadContext(server, session);
+    private void removeFromBucket(DataItem item) {
+        SamplingBucket bucket = itemBuckets.remove(item);
 
-                    attributeServices.read(context, 0d, TimestampsToReturn.Both, ids);
+        if (bucket != null) {
+            bucket.items.remove(item);
 
-                    return context.getFuture();
-                }
-            );
+            if (bucket.items.isEmpty()) {
+                buckets.remove(bucket.samplingInterval);
+                bucket.cancel();
+            }
+        }
+    }
 
-            future.thenAcceptAsync(values -> {
+    /**
+     * Read {@code items} and set their values.
+     *
+     * @param items the {@link DataItem}s to sample.
+     * @return a {@link CompletableFuture} that completes once the values have been set, or sampling has failed.
+     */
+    private CompletableFuture<Unit> sample(List<DataItem> items) {
+        CompletableFuture<List<DataValue>> future =
+            SharedSampler.read(server, attributeServices, items, samplingShared);
+
+        return future.handleAsync((values, ex) -> {
+            if (values != null) {
                 Iterator<DataItem> ii = items.iterator();
                 Iterator<DataValue> vi = values.iterator();
 
@@ -193,11 +279,70 @@ public class SubscriptionModel extends AbstractLifecycle {
 
                     item.setValue(value);
                 }
+            } else {
+                logger.warn("Sampling failed for {} items", items.size(), ex);
+            }
 
-                if (!cancelled) {
-                    scheduler.schedule(this, samplingInterval, TimeUnit.MILLISECONDS);
-                }
-            }, executor);
+            return Unit.VALUE;
+        }, executor);
+    }
+
+    /**
+     * Get the delay, in milliseconds, from {@code now} until the next deadline that is a multiple of
+     * {@code samplingInterval}.
+     *
+     * @param now              the current time, in milliseconds.
+     * @param samplingInterval the sampling interval, in milliseconds. Intervals below 1ms are treated as 1ms.
+     * @return the delay, in milliseconds, until the next aligned deadline.
+     */
+    static long nextTickDelay(long now, long samplingInterval) {
+        long interval = Math.max(1L, samplingInterval);
+
+        return interval - (now % interval);
+    }
+
+    private class SamplingBucket implements Runnable {
+
+        private final Set<DataItem> items = ConcurrentHashMap.newKeySet();
+
+        private volatile boolean cancelled = false;
+        private volatile ScheduledFuture<?> nextTick;
+
+        private final long samplingInterval;
+
+        private SamplingBucket(long samplingInterval) {
+            this.samplingInterval = samplingInterval;
+        }
+
+        private void schedule() {
+            if (cancelled) return;
+
+            long delay = nextTickDelay(System.currentTimeMillis(), samplingInterval);
+
+            nextTick = scheduler.schedule(this, delay, TimeUnit.MILLISECONDS);
+        }
+
+        private void cancel() {
+            cancelled = true;
+
+            ScheduledFuture<?> tick = nextTick;
+            if (tick != null) {
+                tick.cancel(false);
+            }
+        }
+
+        @Override
+        public void run() {
+            if (cancelled) return;
+
+            List<DataItem> sampled = new ArrayList<>(items);
+
+            if (sampled.isEmpty()) {
+                schedule();
+                return;
+            }
+
+            sample(sampled).thenRun(this::schedule);
         }
 
     }
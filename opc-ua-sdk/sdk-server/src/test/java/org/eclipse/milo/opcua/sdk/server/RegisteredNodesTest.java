@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server;
+
+import java.util.UUID;
+
+import org.eclipse.milo.opcua.sdk.server.RegisteredNodes.RegisteredNode;
+import org.eclipse.milo.opcua.sdk.server.api.AddressSpaceFragment;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class RegisteredNodesTest {
+
+    private final AddressSpaceFragment fragment = mock(AddressSpaceFragment.class);
+
+    @Test
+    public void testRegisterAndResolve() {
+        RegisteredNodes registeredNodes = new RegisteredNodes(10);
+
+        NodeId nodeId = new NodeId(2, "Demo.Static.Int32");
+        NodeId handle = registeredNodes.register(nodeId, fragment, null);
+
+        assertNotEquals(handle, nodeId);
+        assertEquals(handle.getNamespaceIndex(), nodeId.getNamespaceIndex());
+        assertTrue(handle.getIdentifier() instanceof UUID);
+
+        RegisteredNode registered = registeredNodes.get(handle);
+        assertNotNull(registered);
+        assertSame(registered.getNodeId(), nodeId);
+        assertSame(registered.getFragment(), fragment);
+        assertNull(registered.getNode());
+
+        assertSame(registeredNodes.resolve(handle), nodeId);
+        assertSame(registeredNodes.resolve(nodeId), nodeId);
+        assertNull(registeredNodes.get(new NodeId(2, 1234)));
+    }
+
+    @Test
+    public void testHandlesAreSessionSpecific() {
+        RegisteredNodes session1 = new RegisteredNodes(10);
+        RegisteredNodes session2 = new RegisteredNodes(10);
+
+        NodeId handle = session1.register(new NodeId(2, "Foo"), fragment, null);
+
+        assertNull(session2.get(handle));
+        assertSame(session2.resolve(handle), handle);
+        assertNull(session1.get(new NodeId(2, UUID.randomUUID())));
+    }
+
+    @Test
+    public void testRegisterLimit() {
+        RegisteredNodes registeredNodes = new RegisteredNodes(1);
+
+        NodeId foo = new NodeId(2, "Foo");
+        NodeId bar = new NodeId(2, "Bar");
+
+        assertNotEquals(registeredNodes.register(foo, fragment, null), foo);
+        assertSame(registeredNodes.register(bar, fragment, null), bar);
+        assertEquals(registeredNodes.size(), 1);
+    }
+
+    @Test
+    public void testResolvedNode() {
+        RegisteredNodes registeredNodes = new RegisteredNodes(10);
+
+        NodeId nodeId = new NodeId(2, "Foo");
+        UaNode node = mock(UaNode.class);
+        when(node.getNodeId()).thenReturn(nodeId);
+
+        UaNodeManager nodeManager = new UaNodeManager();
+        nodeManager.addNode(node);
+
+        NodeId handle = registeredNodes.register(nodeId, fragment, nodeManager);
+
+        RegisteredNode registered = registeredNodes.get(handle);
+        assertNotNull(registered);
+        assertSame(registered.getNode(), node);
+
+        // Replacing the Node invalidates the Node resolved at registration.
+        UaNode replacement = mock(UaNode.class);
+        when(replacement.getNodeId()).thenReturn(nodeId);
+        nodeManager.addNode(replacement);
+
+        assertNull(registered.getNode());
+        assertSame(registered.getNodeId(), nodeId);
+    }
+
+    @Test
+    public void testUnregisterAndClear() {
+        RegisteredNodes registeredNodes = new RegisteredNodes(10);
+
+        NodeId h1 = registeredNodes.register(new NodeId(2, "Foo"), fragment, null);
+        NodeId h2 = registeredNodes.register(new NodeId(2, "Bar"), fragment, null);
+        assertEquals(registeredNodes.size(), 2);
+
+        RegisteredNode unregistered = registeredNodes.unregister(h1);
+        assertNotNull(unregistered);
+        assertEquals(unregistered.getNodeId(), new NodeId(2, "Foo"));
+        assertNull(registeredNodes.get(h1));
+        assertNull(registeredNodes.unregister(h1));
+
+        registeredNodes.clear();
+        assertNull(registeredNodes.get(h2));
+        assertTrue(registeredNodes.isEmpty());
+    }
+
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class AttributeValueCacheTest {
+
+    private static final NodeId NODE_ID = new NodeId(2, "Device.Temperature");
+
+    private AtomicLong now;
+    private AttributeValueCache cache;
+
+    @BeforeMethod
+    public void setUp() {
+        now = new AtomicLong(0L);
+        cache = new AttributeValueCache(builder -> builder.maximumSize(2), now::get);
+    }
+
+    @Test
+    public void testServesValuesYoungerThanMaxAge() {
+        AtomicInteger reads = new AtomicInteger(0);
+
+        read(1000.0, () -> value(reads.incrementAndGet()));
+
+        now.set(TimeUnit.MILLISECONDS.toNanos(500));
+        DataValue cached = read(1000.0, () -> value(reads.incrementAndGet()));
+        assertEquals(cached.getValue().getValue(), 1);
+
+        now.set(TimeUnit.MILLISECONDS.toNanos(1500));
+        DataValue fresh = read(1000.0, () -> value(reads.incrementAndGet()));
+        assertEquals(fresh.getValue().getValue(), 2);
+
+        DataValue maxAgeZero = read(0.0, () -> value(reads.incrementAndGet()));
+        assertEquals(maxAgeZero.getValue().getValue(), 3);
+    }
+
+    @Test
+    public void testInvalidate() {
+        read(1000.0, () -> value(1));
+        cache.invalidate(NODE_ID, AttributeId.Value.uid());
+
+        DataValue value = read(1000.0, () -> value(2));
+        assertEquals(value.getValue().getValue(), 2);
+    }
+
+    @Test
+    public void testSizeBounded() {
+        for (int i = 0; i < 10; i++) {
+            cache.read(new NodeId(2, i), AttributeId.Value.uid(), 1000.0, () -> value(0)).join();
+        }
+
+        assertTrue(cache.size() <= 2);
+    }
+
+    @Test
+    public void testConcurrentMissesShareOneRead() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            AtomicInteger reads = new AtomicInteger(0);
+            CountDownLatch readStarted = new CountDownLatch(1);
+            CountDownLatch releaseRead = new CountDownLatch(1);
+
+            Future<CompletableFuture<DataValue>> first = executor.submit(() ->
+                cache.read(NODE_ID, AttributeId.Value.uid(), 1000.0, () -> {
+                    readStarted.countDown();
+                    try {
+                        releaseRead.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return value(reads.incrementAndGet());
+                })
+            );
+
+            assertTrue(readStarted.await(5, TimeUnit.SECONDS));
+
+            // Misses while the first read is in flight return without waiting for it or reading the node.
+            List<CompletableFuture<DataValue>> followers = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                followers.add(
+                    cache.read(NODE_ID, AttributeId.Value.uid(), 1000.0, () -> value(reads.incrementAndGet()))
+                );
+            }
+
+            followers.forEach(f -> assertFalse(f.isDone()));
+            assertEquals(reads.get(), 0);
+
+            releaseRead.countDown();
+
+            assertEquals(first.get(5, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS).getValue().getValue(), 1);
+            for (CompletableFuture<DataValue> f : followers) {
+                assertEquals(f.get(5, TimeUnit.SECONDS).getValue().getValue(), 1);
+            }
+            assertEquals(reads.get(), 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFailedReadIsNotShared() {
+        CompletableFuture<DataValue> failed = cache.read(NODE_ID, AttributeId.Value.uid(), 1000.0, () -> {
+            throw new IllegalStateException("device unavailable");
+        });
+
+        assertTrue(failed.isCompletedExceptionally());
+
+        DataValue value = read(1000.0, () -> value(1));
+        assertEquals(value.getValue().getValue(), 1);
+    }
+
+    private DataValue read(double maxAge, Supplier<DataValue> reader) {
+        return cache.read(NODE_ID, AttributeId.Value.uid(), maxAge, reader).join();
+    }
+
+    private static DataValue value(int i) {
+        return new DataValue(new Variant(i));
+    }
+
+}
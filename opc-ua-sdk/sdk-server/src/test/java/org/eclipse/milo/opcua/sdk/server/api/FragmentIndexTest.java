@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.api;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.testng.annotations.Test;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+public class FragmentIndexTest {
+
+    private final AtomicInteger evaluations = new AtomicInteger(0);
+
+    @Test
+    public void testExactNamespaceSkipsFilterEvaluation() {
+        AddressSpaceFragment ns2 = fragment(SimpleAddressSpaceFilter.create(FilterScope.namespace(ushort(2))));
+        AddressSpaceFragment ns3 = fragment(SimpleAddressSpaceFilter.create(FilterScope.namespace(ushort(3))));
+
+        FragmentIndex index = new FragmentIndex(Arrays.asList(ns2, ns3));
+
+        assertSame(route(index, new NodeId(3, "foo")), ns3);
+        assertSame(route(index, new NodeId(2, 1)), ns2);
+        assertNull(route(index, new NodeId(4, "foo")));
+        assertEquals(evaluations.get(), 0);
+    }
+
+    @Test
+    public void testRegistrationOrderIsPreserved() {
+        AddressSpaceFragment any = fragment(
+            SimpleAddressSpaceFilter.create(nodeId -> "shadow".equals(nodeId.getIdentifier()))
+        );
+        AddressSpaceFragment ns2 = fragment(SimpleAddressSpaceFilter.create(FilterScope.namespace(ushort(2))));
+
+        FragmentIndex index = new FragmentIndex(Arrays.asList(any, ns2));
+
+        assertSame(route(index, new NodeId(2, "shadow")), any);
+        assertSame(route(index, new NodeId(2, "other")), ns2);
+        assertSame(route(index, new NodeId(5, "shadow")), any);
+        assertNull(route(index, new NodeId(5, "other")));
+    }
+
+    @Test
+    public void testPrefixScope() {
+        AddressSpaceFragment devices = fragment(
+            SimpleAddressSpaceFilter.create(FilterScope.prefix(ushort(2), "Devices/"))
+        );
+        AddressSpaceFragment rest = fragment(SimpleAddressSpaceFilter.create(FilterScope.namespace(ushort(2))));
+
+        FragmentIndex index = new FragmentIndex(Arrays.asList(devices, rest));
+
+        assertSame(route(index, new NodeId(2, "Devices/Pump1")), devices);
+        assertSame(route(index, new NodeId(2, "Pump1")), rest);
+        assertSame(route(index, new NodeId(2, 42)), rest);
+    }
+
+    @Test
+    public void testInexactScopeEvaluatesFilter() {
+        Predicate<NodeId> even = nodeId -> nodeId.getIdentifier().hashCode() % 2 == 0;
+
+        AddressSpaceFragment fragment = fragment(new ScopedFilter(FilterScope.namespace(ushort(2)).inexact(), even));
+
+        FragmentIndex index = new FragmentIndex(Arrays.asList(fragment));
+
+        assertNull(route(index, new NodeId(3, 2)));
+        assertEquals(evaluations.get(), 0);
+
+        assertSame(route(index, new NodeId(2, 2)), fragment);
+        assertNull(route(index, new NodeId(2, 3)));
+        assertEquals(evaluations.get(), 2);
+    }
+
+    private AddressSpaceFragment route(FragmentIndex index, NodeId nodeId) {
+        return index.route(nodeId, nodeId, (filter, id) -> {
+            if (!filter.getScope().isExact()) {
+                evaluations.incrementAndGet();
+            }
+            return filter.filterBrowse(null, id);
+        });
+    }
+
+    private static AddressSpaceFragment fragment(AddressSpaceFilter filter) {
+        AddressSpaceFragment fragment = mock(AddressSpaceFragment.class);
+        when(fragment.getFilter()).thenReturn(filter);
+        return fragment;
+    }
+
+    private static class ScopedFilter extends SimpleAddressSpaceFilter {
+
+        private final FilterScope scope;
+        private final Predicate<NodeId> predicate;
+
+        ScopedFilter(FilterScope scope, Predicate<NodeId> predicate) {
+            this.scope = scope;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public FilterScope getScope() {
+            return scope;
+        }
+
+        @Override
+        protected boolean filterNode(NodeId nodeId) {
+            return scope.contains(nodeId) && predicate.test(nodeId);
+        }
+
+        @Override
+        protected boolean filterMonitoredItem(NodeId nodeId) {
+            return filterNode(nodeId);
+        }
+
+    }
+
+}
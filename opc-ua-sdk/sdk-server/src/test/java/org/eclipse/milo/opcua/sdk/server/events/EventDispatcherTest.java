@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.events;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.Session;
+import org.eclipse.milo.opcua.sdk.server.api.AddressSpaceManager;
+import org.eclipse.milo.opcua.sdk.server.api.EventItem;
+import org.eclipse.milo.opcua.sdk.server.diagnostics.SubscriptionDiagnostics;
+import org.eclipse.milo.opcua.sdk.server.model.nodes.objects.BaseEventTypeNode;
+import org.eclipse.milo.opcua.sdk.server.model.nodes.variables.PropertyTypeNode;
+import org.eclipse.milo.opcua.sdk.server.subscriptions.Subscription;
+import org.eclipse.milo.opcua.sdk.server.subscriptions.SubscriptionManager;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.NamespaceTable;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class EventDispatcherTest {
+
+    private final NodeId area = new NodeId(2, "Area");
+    private final NodeId source = new NodeId(2, "Source");
+    private final NodeId other = new NodeId(2, "Other");
+
+    private final OpcUaServer server = mock(OpcUaServer.class);
+
+    @BeforeMethod
+    public void setUp() {
+        AddressSpaceManager addressSpaceManager = mock(AddressSpaceManager.class);
+
+        when(server.getAddressSpaceManager()).thenReturn(addressSpaceManager);
+        when(server.getNamespaceTable()).thenReturn(new NamespaceTable());
+
+        when(addressSpaceManager.getManagedReferences(any(NodeId.class))).thenReturn(Collections.emptyList());
+
+        // Server -HasNotifier-> Area -HasEventSource-> Source
+        when(addressSpaceManager.getManagedReferences(source)).thenReturn(Collections.singletonList(
+            new Reference(source, Identifiers.HasEventSource, area.expanded(), Reference.Direction.INVERSE)
+        ));
+        when(addressSpaceManager.getManagedReferences(area)).thenReturn(Collections.singletonList(
+            new Reference(area, Identifiers.HasNotifier, Identifiers.Server.expanded(), Reference.Direction.INVERSE)
+        ));
+    }
+
+    @Test
+    public void testDeliveredToSourceAndNotifiers() {
+        EventDispatcher dispatcher = new EventDispatcher(server, Runnable::run, 4, 16);
+
+        EventItem serverItem = newItem(Identifiers.Server);
+        EventItem areaItem = newItem(area);
+        EventItem sourceItem = newItem(source);
+        EventItem otherItem = newItem(other);
+
+        dispatcher.register(serverItem);
+        dispatcher.register(areaItem);
+        dispatcher.register(sourceItem);
+        dispatcher.register(otherItem);
+
+        EventRecord event = newEvent(source);
+
+        assertTrue(dispatcher.post(event));
+
+        verify(serverItem, times(1)).onEventRecord(event);
+        verify(areaItem, times(1)).onEventRecord(event);
+        verify(sourceItem, times(1)).onEventRecord(event);
+        verify(otherItem, never()).onEventRecord(event);
+    }
+
+    @Test
+    public void testUnregister() {
+        EventDispatcher dispatcher = new EventDispatcher(server, Runnable::run, 4, 16);
+
+        EventItem item = newItem(Identifiers.Server);
+
+        dispatcher.register(item);
+        dispatcher.unregister(item);
+
+        EventRecord event = newEvent(source);
+
+        assertTrue(dispatcher.post(event));
+
+        verify(item, never()).onEventRecord(event);
+    }
+
+    @Test
+    public void testEventNodeNotCopiedWithoutItems() {
+        EventDispatcher dispatcher = new EventDispatcher(server, Runnable::run, 4, 16);
+
+        BaseEventTypeNode eventNode = newEventNode(source);
+        assertTrue(dispatcher.post(eventNode));
+
+        // an item monitoring an unrelated notifier doesn't receive it either
+        dispatcher.register(newItem(other));
+        assertTrue(dispatcher.post(eventNode));
+
+        verify(eventNode, never()).getTypeDefinitionNode();
+        verify(eventNode, never()).getReferences();
+    }
+
+    @Test
+    public void testOverflow() {
+        List<Runnable> tasks = new ArrayList<>();
+
+        EventDispatcher dispatcher = new EventDispatcher(server, tasks::add, 1, 2);
+
+        Subscription subscription = mock(Subscription.class);
+        SubscriptionDiagnostics diagnostics = new SubscriptionDiagnostics(subscription);
+        when(subscription.getSubscriptionDiagnostics()).thenReturn(diagnostics);
+
+        SubscriptionManager subscriptionManager = mock(SubscriptionManager.class);
+        when(subscriptionManager.getSubscription(uint(1))).thenReturn(subscription);
+
+        Session session = mock(Session.class);
+        when(session.getSubscriptionManager()).thenReturn(subscriptionManager);
+
+        EventItem item = newItem(Identifiers.Server);
+        when(item.getSession()).thenReturn(session);
+        when(item.getSubscriptionId()).thenReturn(uint(1));
+
+        dispatcher.register(item);
+
+        assertTrue(dispatcher.post(newEvent(source)));
+        assertTrue(dispatcher.post(newEvent(source)));
+        assertFalse(dispatcher.post(newEvent(source)));
+
+        assertEquals(dispatcher.getOverflowCount(), 1L);
+        assertEquals(diagnostics.getEventQueueOverflowCount().sum(), 1L);
+
+        // only one drain task is scheduled per shard
+        assertEquals(tasks.size(), 1);
+        tasks.get(0).run();
+
+        verify(item, times(2)).onEventRecord(any(EventRecord.class));
+
+        assertTrue(dispatcher.post(newEvent(source)));
+    }
+
+    private static EventItem newItem(NodeId nodeId) {
+        EventItem item = mock(EventItem.class);
+
+        when(item.getReadValueId()).thenReturn(new ReadValueId(
+            nodeId,
+            AttributeId.EventNotifier.uid(),
+            null,
+            QualifiedName.NULL_VALUE
+        ));
+
+        return item;
+    }
+
+    private static BaseEventTypeNode newEventNode(NodeId sourceNode) {
+        PropertyTypeNode sourceNodeNode = mock(PropertyTypeNode.class);
+        when(sourceNodeNode.readAttribute(any(), any(AttributeId.class), any(), any(), any()))
+            .thenReturn(new DataValue(new Variant(sourceNode)));
+
+        BaseEventTypeNode eventNode = mock(BaseEventTypeNode.class);
+        when(eventNode.getSourceNodeNode()).thenReturn(sourceNodeNode);
+
+        return eventNode;
+    }
+
+    private static EventRecord newEvent(NodeId sourceNode) {
+        return EventRecord.builder(Identifiers.BaseEventType)
+            .setSourceNode(sourceNode)
+            .build();
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.events.operators;
+
+import org.eclipse.milo.opcua.sdk.server.events.OperatorContext;
+import org.eclipse.milo.opcua.sdk.server.model.nodes.objects.BaseEventTypeNode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.structured.FilterOperand;
+import org.eclipse.milo.opcua.stack.core.types.structured.LiteralOperand;
+import org.testng.annotations.Test;
+
+import static org.eclipse.milo.opcua.sdk.server.events.operators.OperatorFixture.apply;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+public class AndTest {
+
+    @Test
+    public void testTruthTable() throws Exception {
+        assertEquals(apply(Operators.AND, true, true), Boolean.TRUE);
+        assertEquals(apply(Operators.AND, true, false), Boolean.FALSE);
+        assertEquals(apply(Operators.AND, false, true), Boolean.FALSE);
+        assertEquals(apply(Operators.AND, false, false), Boolean.FALSE);
+        assertEquals(apply(Operators.AND, false, null), Boolean.FALSE);
+        assertNull(apply(Operators.AND, true, null));
+        assertNull(apply(Operators.AND, null, null));
+    }
+
+    @Test
+    public void testShortCircuit() throws Exception {
+        OperatorContext context = mock(OperatorContext.class);
+        BaseEventTypeNode eventNode = mock(BaseEventTypeNode.class);
+
+        FilterOperand op0 = new LiteralOperand(new Variant(false));
+        FilterOperand op1 = new LiteralOperand(new Variant(true));
+
+        when(context.resolve(op0, eventNode)).thenReturn(false);
+
+        Boolean result = Operators.AND.apply(
+            context,
+            eventNode,
+            new FilterOperand[]{op0, op1}
+        );
+
+        assertEquals(result, Boolean.FALSE);
+        verify(context, never()).resolve(op1, eventNode);
+    }
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.events.operators;
+
+import org.testng.annotations.Test;
+
+import static org.eclipse.milo.opcua.sdk.server.events.operators.OperatorFixture.apply;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+public class BetweenTest {
+
+    @Test
+    public void testBetween() throws Exception {
+        assertEquals(apply(Operators.BETWEEN, 500, 500, 1000), Boolean.TRUE);
+        assertEquals(apply(Operators.BETWEEN, 750, 500, 1000), Boolean.TRUE);
+        assertEquals(apply(Operators.BETWEEN, 1000, 500, 1000), Boolean.TRUE);
+        assertEquals(apply(Operators.BETWEEN, 499, 500, 1000), Boolean.FALSE);
+        assertEquals(apply(Operators.BETWEEN, 1001, 500, 1000), Boolean.FALSE);
+    }
+
+    @Test
+    public void testBetweenWithImplicitConversion() throws Exception {
+        assertEquals(apply(Operators.BETWEEN, ushort(700), 500, 1000L), Boolean.TRUE);
+        assertEquals(apply(Operators.BETWEEN, 2.5d, 1, 2), Boolean.FALSE);
+    }
+
+    @Test
+    public void testNullValue() throws Exception {
+        assertNull(apply(Operators.BETWEEN, null, 500, 1000));
+    }
+
+}
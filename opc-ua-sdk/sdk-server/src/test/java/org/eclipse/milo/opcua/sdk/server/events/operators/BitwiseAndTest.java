@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.events.operators;
+
+import org.testng.annotations.Test;
+
+import static org.eclipse.milo.opcua.sdk.server.events.operators.OperatorFixture.apply;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ulong;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+public class BitwiseAndTest {
+
+    @Test
+    public void testSignedTypes() throws Exception {
+        assertEquals(apply(Operators.BITWISE_AND, (byte) 0b1100, (byte) 0b1010), (byte) 0b1000);
+        assertEquals(apply(Operators.BITWISE_AND, (short) 0b1100, (short) 0b1010), (short) 0b1000);
+        assertEquals(apply(Operators.BITWISE_AND, 0b1100, 0b1010), 0b1000);
+        assertEquals(apply(Operators.BITWISE_AND, 0b1100L, 0b1010L), 0b1000L);
+        assertEquals(apply(Operators.BITWISE_AND, -1, 0x7F00), 0x7F00);
+    }
+
+    @Test
+    public void testUnsignedTypes() throws Exception {
+        assertEquals(apply(Operators.BITWISE_AND, ubyte(0xF0), ubyte(0x3C)), ubyte(0x30));
+        assertEquals(apply(Operators.BITWISE_AND, ushort(0xFF00), ushort(0x0FF0)), ushort(0x0F00));
+        assertEquals(apply(Operators.BITWISE_AND, uint(0xFFFFFFFFL), uint(0x0F0F0F0FL)), uint(0x0F0F0F0FL));
+        assertEquals(apply(Operators.BITWISE_AND, ulong(0xFFL), ulong(0x0FL)), ulong(0x0FL));
+    }
+
+    @Test
+    public void testImplicitConversion() throws Exception {
+        assertEquals(apply(Operators.BITWISE_AND, 0b1100, 0b1010L), 0b1000L);
+        assertEquals(apply(Operators.BITWISE_AND, (short) 0b1100, 0b1010), 0b1000);
+        assertEquals(apply(Operators.BITWISE_AND, ubyte(0b1100), 0b1010), 0b1000);
+        assertEquals(apply(Operators.BITWISE_AND, ushort(0b1100), uint(0b1010)), uint(0b1000));
+    }
+
+    @Test
+    public void testNonIntegerOperands() throws Exception {
+        assertNull(apply(Operators.BITWISE_AND, 1.0d, 1));
+        assertNull(apply(Operators.BITWISE_AND, 1, 1.0f));
+        assertNull(apply(Operators.BITWISE_AND, null, 1));
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.events.operators;
+
+import org.testng.annotations.Test;
+
+import static org.eclipse.milo.opcua.sdk.server.events.operators.OperatorFixture.apply;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ulong;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+public class BitwiseOrTest {
+
+    @Test
+    public void testSignedTypes() throws Exception {
+        assertEquals(apply(Operators.BITWISE_OR, (byte) 0b1100, (byte) 0b1010), (byte) 0b1110);
+        assertEquals(apply(Operators.BITWISE_OR, (short) 0b1100, (short) 0b1010), (short) 0b1110);
+        assertEquals(apply(Operators.BITWISE_OR, 0b1100, 0b1010), 0b1110);
+        assertEquals(apply(Operators.BITWISE_OR, 0b1100L, 0b1010L), 0b1110L);
+        assertEquals(apply(Operators.BITWISE_OR, (byte) 0x80, (byte) 0x01), (byte) 0x81);
+    }
+
+    @Test
+    public void testUnsignedTypes() throws Exception {
+        assertEquals(apply(Operators.BITWISE_OR, ubyte(0xF0), ubyte(0x3C)), ubyte(0xFC));
+        assertEquals(apply(Operators.BITWISE_OR, ushort(0xFF00), ushort(0x0FF0)), ushort(0xFFF0));
+        assertEquals(apply(Operators.BITWISE_OR, uint(0xF0F0F0F0L), uint(0x0F0F0F0FL)), uint(0xFFFFFFFFL));
+        assertEquals(apply(Operators.BITWISE_OR, ulong(0xF0L), ulong(0x0FL)), ulong(0xFFL));
+    }
+
+    @Test
+    public void testImplicitConversion() throws Exception {
+        assertEquals(apply(Operators.BITWISE_OR, 0b1100, 0b1010L), 0b1110L);
+        assertEquals(apply(Operators.BITWISE_OR, (short) 0b1100, 0b1010), 0b1110);
+        assertEquals(apply(Operators.BITWISE_OR, ubyte(0b1100), 0b1010), 0b1110);
+        assertEquals(apply(Operators.BITWISE_OR, ushort(0b1100), uint(0b1010)), uint(0b1110));
+    }
+
+    @Test
+    public void testNonIntegerOperands() throws Exception {
+        assertNull(apply(Operators.BITWISE_OR, 1.0d, 1));
+        assertNull(apply(Operators.BITWISE_OR, 1, 1.0f));
+        assertNull(apply(Operators.BITWISE_OR, null, 1));
+    }
+
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.events.operators;
+
+import org.testng.annotations.Test;
+
+import static org.eclipse.milo.opcua.sdk.server.events.operators.OperatorFixture.apply;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+public class InListTest {
+
+    @Test
+    public void testInList() throws Exception {
+        assertEquals(apply(Operators.IN_LIST, 2, 1, 2, 3), Boolean.TRUE);
+        assertEquals(apply(Operators.IN_LIST, "b", "a", "b"), Boolean.TRUE);
+        assertEquals(apply(Operators.IN_LIST, 4, 1, 2, 3), Boolean.FALSE);
+    }
+
+    @Test
+    public void testInListWithImplicitConversion() throws Exception {
+        assertEquals(apply(Operators.IN_LIST, 2, 1L, 2L), Boolean.TRUE);
+    }
+
+    @Test
+    public void testNullValue() throws Exception {
+        assertNull(apply(Operators.IN_LIST, null, 1, 2));
+    }
+
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.events.operators;
+
+import org.testng.annotations.Test;
+
+import static org.eclipse.milo.opcua.sdk.server.events.operators.OperatorFixture.apply;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class LikeTest {
+
+    @Test
+    public void testWildcards() throws Exception {
+        assertEquals(apply(Operators.LIKE, "Line4 Conveyor", "Line4%"), Boolean.TRUE);
+        assertEquals(apply(Operators.LIKE, "Line5 Conveyor", "Line4%"), Boolean.FALSE);
+        assertEquals(apply(Operators.LIKE, "Line4", "Line_"), Boolean.TRUE);
+        assertEquals(apply(Operators.LIKE, "Line42", "Line_"), Boolean.FALSE);
+    }
+
+    @Test
+    public void testCharacterLists() throws Exception {
+        assertEquals(apply(Operators.LIKE, "Line4", "Line[3-5]"), Boolean.TRUE);
+        assertEquals(apply(Operators.LIKE, "Line4", "Line[^3-5]"), Boolean.FALSE);
+        assertEquals(apply(Operators.LIKE, "Line4", "Line[147]"), Boolean.TRUE);
+    }
+
+    @Test
+    public void testEscapesAndRegexCharacters() {
+        assertTrue(Like.compile("100\\%").matcher("100%").matches());
+        assertFalse(Like.compile("100\\%").matcher("1000").matches());
+        assertTrue(Like.compile("a.b(c)*").matcher("a.b(c)*").matches());
+        assertFalse(Like.compile("a.b").matcher("axb").matches());
+    }
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.events.operators;
+
+import org.eclipse.milo.opcua.sdk.server.events.OperatorContext;
+import org.eclipse.milo.opcua.sdk.server.model.nodes.objects.BaseEventTypeNode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.structured.FilterOperand;
+import org.eclipse.milo.opcua.stack.core.types.structured.LiteralOperand;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+final class OperatorFixture {
+
+    private OperatorFixture() {}
+
+    /**
+     * Apply {@code operator} to a {@link LiteralOperand} for each of {@code values}, each resolving to its value.
+     */
+    static <T> T apply(Operator<T> operator, Object... values) throws Exception {
+        return apply(mock(OperatorContext.class), operator, values);
+    }
+
+    /**
+     * Apply {@code operator} to a {@link LiteralOperand} for each of {@code values}, each resolving to its value in
+     * {@code context}.
+     */
+    static <T> T apply(OperatorContext context, Operator<T> operator, Object... values) throws Exception {
+        BaseEventTypeNode eventNode = mock(BaseEventTypeNode.class);
+
+        FilterOperand[] operands = new FilterOperand[values.length];
+
+        for (int i = 0; i < values.length; i++) {
+            operands[i] = new LiteralOperand(new Variant(values[i]));
+
+            when(context.resolve(operands[i], eventNode)).thenReturn(values[i]);
+        }
+
+        return operator.apply(context, eventNode, operands);
+    }
+
+}
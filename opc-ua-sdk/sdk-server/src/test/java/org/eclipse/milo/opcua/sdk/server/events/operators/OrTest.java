@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.events.operators;
+
+import org.eclipse.milo.opcua.sdk.server.events.OperatorContext;
+import org.eclipse.milo.opcua.sdk.server.model.nodes.objects.BaseEventTypeNode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.structured.FilterOperand;
+import org.eclipse.milo.opcua.stack.core.types.structured.LiteralOperand;
+import org.testng.annotations.Test;
+
+import static org.eclipse.milo.opcua.sdk.server.events.operators.OperatorFixture.apply;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+public class OrTest {
+
+    @Test
+    public void testTruthTable() throws Exception {
+        assertEquals(apply(Operators.OR, true, true), Boolean.TRUE);
+        assertEquals(apply(Operators.OR, true, false), Boolean.TRUE);
+        assertEquals(apply(Operators.OR, false, true), Boolean.TRUE);
+        assertEquals(apply(Operators.OR, false, false), Boolean.FALSE);
+        assertEquals(apply(Operators.OR, true, null), Boolean.TRUE);
+        assertNull(apply(Operators.OR, false, null));
+        assertNull(apply(Operators.OR, null, null));
+    }
+
+    @Test
+    public void testShortCircuit() throws Exception {
+        OperatorContext context = mock(OperatorContext.class);
+        BaseEventTypeNode eventNode = mock(BaseEventTypeNode.class);
+
+        FilterOperand op0 = new LiteralOperand(new Variant(true));
+        FilterOperand op1 = new LiteralOperand(new Variant(false));
+
+        when(context.resolve(op0, eventNode)).thenReturn(true);
+
+        Boolean result = Operators.OR.apply(
+            context,
+            eventNode,
+            new FilterOperand[]{op0, op1}
+        );
+
+        assertEquals(result, Boolean.TRUE);
+        verify(context, never()).resolve(op1, eventNode);
+    }
+
+}
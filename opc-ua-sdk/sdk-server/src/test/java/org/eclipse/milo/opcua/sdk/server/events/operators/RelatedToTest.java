@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.events.operators;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.api.AddressSpaceManager;
+import org.eclipse.milo.opcua.sdk.server.events.OperatorContext;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaObjectTypeNode;
+import org.eclipse.milo.opcua.stack.core.BuiltinReferenceType;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.NamespaceTable;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.eclipse.milo.opcua.sdk.server.events.operators.OperatorFixture.apply;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+public class RelatedToTest {
+
+    private static final NodeId A = new NodeId(1, "A");
+    private static final NodeId B = new NodeId(1, "B");
+    private static final NodeId C = new NodeId(1, "C");
+    private static final NodeId TYPE = new NodeId(1, "Type");
+    private static final NodeId SUBTYPE = new NodeId(1, "SubType");
+
+    private final Map<NodeId, List<Reference>> references = new HashMap<>();
+
+    private OperatorContext context;
+    private AddressSpaceManager addressSpaceManager;
+
+    @BeforeMethod
+    public void setUp() {
+        references.clear();
+
+        addressSpaceManager = mock(AddressSpaceManager.class);
+
+        when(addressSpaceManager.getManagedReferences(any(NodeId.class))).thenAnswer(
+            invocation -> references.getOrDefault(invocation.getArgument(0), Collections.emptyList())
+        );
+
+        OpcUaServer server = mock(OpcUaServer.class);
+        when(server.getAddressSpaceManager()).thenReturn(addressSpaceManager);
+        when(server.getNamespaceTable()).thenReturn(new NamespaceTable());
+        when(server.getReferenceTypes()).thenReturn(BuiltinReferenceType.getReferenceMap());
+
+        context = mock(OperatorContext.class);
+        when(context.getServer()).thenReturn(server);
+
+        // A -Organizes-> B -Organizes-> C, B is an instance of SUBTYPE, a subtype of TYPE.
+        addReference(A, Identifiers.Organizes, B);
+        addReference(B, Identifiers.Organizes, C);
+        addReference(B, Identifiers.HasTypeDefinition, SUBTYPE);
+        addReference(SUBTYPE, Identifiers.HasSubtype, TYPE, false);
+
+        addTypeNode(TYPE);
+        addTypeNode(SUBTYPE);
+    }
+
+    @Test
+    public void testHops() throws Exception {
+        assertEquals(apply(context, Operators.RELATED_TO, A, B, Identifiers.Organizes), Boolean.TRUE);
+        assertEquals(apply(context, Operators.RELATED_TO, A, C, Identifiers.Organizes), Boolean.FALSE);
+        assertEquals(apply(context, Operators.RELATED_TO, A, C, Identifiers.Organizes, 2), Boolean.TRUE);
+        assertEquals(apply(context, Operators.RELATED_TO, A, C, Identifiers.Organizes, 0), Boolean.TRUE);
+        assertEquals(apply(context, Operators.RELATED_TO, C, A, Identifiers.Organizes, 0), Boolean.FALSE);
+    }
+
+    @Test
+    public void testReferenceSubtypes() throws Exception {
+        NodeId hierarchical = Identifiers.HierarchicalReferences;
+
+        assertEquals(apply(context, Operators.RELATED_TO, A, B, hierarchical), Boolean.TRUE);
+        assertEquals(apply(context, Operators.RELATED_TO, A, B, hierarchical, 1, true, false), Boolean.FALSE);
+        assertEquals(apply(context, Operators.RELATED_TO, A, B, Identifiers.HasComponent), Boolean.FALSE);
+    }
+
+    @Test
+    public void testTypeTargets() throws Exception {
+        assertEquals(apply(context, Operators.RELATED_TO, A, SUBTYPE, Identifiers.Organizes), Boolean.TRUE);
+        assertEquals(apply(context, Operators.RELATED_TO, A, TYPE, Identifiers.Organizes), Boolean.TRUE);
+        assertEquals(apply(context, Operators.RELATED_TO, A, TYPE, Identifiers.Organizes, 1, false), Boolean.FALSE);
+        assertEquals(apply(context, Operators.RELATED_TO, B, TYPE, Identifiers.Organizes), Boolean.FALSE);
+    }
+
+    @Test
+    public void testVisitedNodesAreBounded() throws Exception {
+        int last = RelatedTo.MAX_VISITED_NODES + 1;
+
+        for (int i = 0; i < last; i++) {
+            addReference(new NodeId(2, i), Identifiers.Organizes, new NodeId(2, i + 1));
+        }
+
+        NodeId source = new NodeId(2, 0);
+        NodeId lastVisited = new NodeId(2, RelatedTo.MAX_VISITED_NODES);
+        NodeId unvisited = new NodeId(2, last);
+
+        assertEquals(apply(context, Operators.RELATED_TO, source, lastVisited, Identifiers.Organizes, 0), Boolean.TRUE);
+        assertEquals(apply(context, Operators.RELATED_TO, source, unvisited, Identifiers.Organizes, 0), Boolean.FALSE);
+    }
+
+    private void addReference(NodeId sourceId, NodeId referenceTypeId, NodeId targetId) {
+        addReference(sourceId, referenceTypeId, targetId, true);
+    }
+
+    private void addReference(NodeId sourceId, NodeId referenceTypeId, NodeId targetId, boolean forward) {
+        references.computeIfAbsent(sourceId, id -> new ArrayList<>())
+            .add(new Reference(sourceId, referenceTypeId, targetId.expanded(), forward));
+    }
+
+    private void addTypeNode(NodeId nodeId) {
+        UaObjectTypeNode node = mock(UaObjectTypeNode.class);
+        when(node.getNodeId()).thenReturn(nodeId);
+
+        when(addressSpaceManager.getManagedNode(nodeId)).thenReturn(Optional.of(node));
+    }
+
+}
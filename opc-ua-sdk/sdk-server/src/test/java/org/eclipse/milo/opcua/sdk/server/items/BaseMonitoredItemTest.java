@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.items;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.Session;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.serialization.UaStructure;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.MonitoringMode;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.MonitoringFilter;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.testng.annotations.Test;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+
+public class BaseMonitoredItemTest {
+
+    @Test
+    public void testEnqueueMarksDirty() {
+        TestItem item = new TestItem();
+
+        List<BaseMonitoredItem<?>> dirty = new ArrayList<>();
+        item.setDirtyListener(dirty::add);
+        dirty.clear();
+        item.clearDirty();
+
+        // TestItem.addToQueue doesn't call markDirty(); enqueue does it for every subclass.
+        item.enqueue("a");
+        assertEquals(dirty.size(), 1);
+        assertEquals(item.queue.size(), 1);
+    }
+
+    private static class TestItem extends BaseMonitoredItem<String> {
+
+        TestItem() {
+            super(
+                mock(OpcUaServer.class),
+                mock(Session.class),
+                uint(1),
+                uint(1),
+                new ReadValueId(new NodeId(2, "Tag1"), AttributeId.Value.uid(), null, QualifiedName.NULL_VALUE),
+                MonitoringMode.Reporting,
+                TimestampsToReturn.Both,
+                uint(1),
+                100.0,
+                uint(10),
+                true
+            );
+        }
+
+        @Override
+        protected void addToQueue(String value) {
+            queue.add(value);
+        }
+
+        @Override
+        public ExtensionObject getFilterResult() {
+            return null;
+        }
+
+        @Override
+        public void installFilter(MonitoringFilter filter) {}
+
+        @Override
+        protected UaStructure wrapQueueValue(String value) {
+            return null;
+        }
+
+        @Override
+        public boolean isSamplingEnabled() {
+            return true;
+        }
+
+    }
+
+}
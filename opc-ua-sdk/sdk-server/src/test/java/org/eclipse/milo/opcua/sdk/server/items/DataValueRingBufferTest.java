@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.items;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.sun.management.ThreadMXBean;
+
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ulong;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class DataValueRingBufferTest {
+
+    private static final DateTime SOURCE_TIME = new DateTime(1000L);
+    private static final DateTime SERVER_TIME = new DateTime(2000L);
+
+    @Test
+    public void testCompactValuesRoundTrip() {
+        Object[] values = new Object[]{
+            true, (byte) -1, ubyte(255), (short) -2, ushort(65535), -3, uint(4294967295L),
+            -4L, ulong(-1L), 1.5f, -2.5d
+        };
+
+        DataValueRingBuffer buffer = new DataValueRingBuffer(values.length, () -> TimestampsToReturn.Both);
+
+        for (Object value : values) {
+            buffer.add(new DataValue(new Variant(value), StatusCode.GOOD, SOURCE_TIME, SERVER_TIME));
+        }
+
+        for (Object value : values) {
+            DataValue dataValue = buffer.remove();
+
+            assertEquals(dataValue.getValue().getValue(), value);
+            assertEquals(dataValue.getStatusCode(), StatusCode.GOOD);
+            assertEquals(dataValue.getSourceTime(), SOURCE_TIME);
+            assertEquals(dataValue.getServerTime(), SERVER_TIME);
+        }
+    }
+
+    @Test
+    public void testTimestampsStrippedOnRemove() {
+        AtomicReference<TimestampsToReturn> timestamps = new AtomicReference<>(TimestampsToReturn.Source);
+
+        DataValueRingBuffer buffer = new DataValueRingBuffer(2, timestamps::get);
+
+        buffer.add(new DataValue(new Variant(42), StatusCode.GOOD, SOURCE_TIME, SERVER_TIME));
+        buffer.add(new DataValue(new Variant(43), StatusCode.GOOD, SOURCE_TIME, null));
+
+        DataValue v1 = buffer.remove();
+        assertEquals(v1.getSourceTime(), SOURCE_TIME);
+        assertNull(v1.getServerTime());
+
+        timestamps.set(TimestampsToReturn.Server);
+
+        // a requested server timestamp that's missing is filled in, as the notification would be
+        DataValue v2 = buffer.remove();
+        assertNull(v2.getSourceTime());
+        assertNotNull(v2.getServerTime());
+    }
+
+    @Test
+    public void testLoadReusesConstants() {
+        DataValueRingBuffer buffer = new DataValueRingBuffer(3, () -> TimestampsToReturn.Neither);
+
+        buffer.add(new DataValue(new Variant(true), StatusCode.GOOD, SOURCE_TIME, SERVER_TIME));
+        buffer.add(new DataValue(new Variant(true), StatusCode.UNCERTAIN, SOURCE_TIME, SERVER_TIME));
+        buffer.add(new DataValue(new Variant(1.5d), StatusCode.BAD, SOURCE_TIME, SERVER_TIME));
+
+        DataValue v1 = buffer.remove();
+        DataValue v2 = buffer.remove();
+        DataValue v3 = buffer.remove();
+
+        assertSame(v1.getValue(), v2.getValue());
+        assertSame(v1.getStatusCode(), StatusCode.GOOD);
+        assertSame(v2.getStatusCode(), StatusCode.UNCERTAIN);
+        assertSame(v3.getStatusCode(), StatusCode.BAD);
+        assertNull(v1.getSourceTime());
+        assertNull(v1.getServerTime());
+    }
+
+    @Test
+    public void testLoadAllocations() {
+        ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        if (!threadMXBean.isThreadAllocatedMemorySupported()) {
+            throw new SkipException("thread allocated memory not supported");
+        }
+
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        DataValueRingBuffer buffer = new DataValueRingBuffer(1, () -> TimestampsToReturn.Neither);
+
+        DataValue value = new DataValue(new Variant(true), StatusCode.GOOD, SOURCE_TIME, SERVER_TIME);
+
+        long threadId = Thread.currentThread().getId();
+        int iterations = 100_000;
+
+        // warm up first so the measurement isn't dominated by class loading and interpreter allocations
+        for (int i = 0; i < iterations; i++) {
+            buffer.add(value);
+            buffer.remove();
+        }
+
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+
+        for (int i = 0; i < iterations; i++) {
+            buffer.add(value);
+            buffer.remove();
+        }
+
+        long bytesPerValue = (threadMXBean.getThreadAllocatedBytes(threadId) - before) / iterations;
+
+        // at most the DataValue itself: no Variant, StatusCode or DateTime is allocated for a GOOD boolean
+        assertTrue(bytesPerValue <= 48, "bytesPerValue=" + bytesPerValue);
+    }
+
+    @Test
+    public void testNonCompactValuesHeldAsIs() {
+        DataValueRingBuffer buffer = new DataValueRingBuffer(3, () -> TimestampsToReturn.Neither);
+
+        DataValue string = new DataValue(new Variant("foo"), StatusCode.GOOD, SOURCE_TIME, SERVER_TIME);
+        DataValue bad = new DataValue(StatusCodes.Bad_NodeIdUnknown);
+        DataValue array = new DataValue(new Variant(new int[]{1, 2, 3}));
+
+        buffer.add(string);
+        buffer.add(bad);
+        buffer.add(array);
+
+        assertSame(buffer.remove(), string);
+        assertSame(buffer.remove(), bad);
+        assertSame(buffer.remove(), array);
+    }
+
+    @Test
+    public void testOverwriteAndSet() {
+        DataValueRingBuffer buffer = new DataValueRingBuffer(2, () -> TimestampsToReturn.Neither);
+
+        buffer.add(new DataValue(new Variant("a")));
+        buffer.add(new DataValue(new Variant(1)));
+        buffer.add(new DataValue(new Variant(2)));
+
+        assertEquals(buffer.size(), 2);
+
+        buffer.set(1, new DataValue(new Variant("b")));
+
+        assertEquals(buffer.remove().getValue().getValue(), 1);
+        assertEquals(buffer.remove().getValue().getValue(), "b");
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.items;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.Session;
+import org.eclipse.milo.opcua.sdk.server.api.config.OpcUaServerConfig;
+import org.eclipse.milo.opcua.sdk.server.api.config.OpcUaServerConfigLimits;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.serialization.UaStructure;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.MonitoringMode;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.testng.annotations.Test;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+public class MonitoredDataItemTest {
+
+    @Test
+    public void testDirtyListenerNotifiedOncePerGather() throws Exception {
+        MonitoredDataItem item = newItem(MonitoringMode.Reporting);
+
+        List<BaseMonitoredItem<?>> dirty = new ArrayList<>();
+        item.setDirtyListener(dirty::add);
+        dirty.clear();
+        item.clearDirty();
+
+        item.setValue(new DataValue(new Variant(1)));
+        item.setValue(new DataValue(new Variant(2)));
+        assertEquals(dirty.size(), 1);
+
+        item.clearDirty();
+        List<UaStructure> notifications = new ArrayList<>();
+        item.getNotifications(notifications, Integer.MAX_VALUE);
+        assertEquals(notifications.size(), 2);
+
+        item.setValue(new DataValue(new Variant(3)));
+        assertEquals(dirty.size(), 2);
+    }
+
+    @Test
+    public void testDirtyWhenReportingEnabled() throws Exception {
+        MonitoredDataItem item = newItem(MonitoringMode.Sampling);
+
+        List<BaseMonitoredItem<?>> dirty = new ArrayList<>();
+        item.setDirtyListener(dirty::add);
+        item.setValue(new DataValue(new Variant(1)));
+
+        dirty.clear();
+        item.clearDirty();
+
+        item.setMonitoringMode(MonitoringMode.Reporting);
+        assertEquals(dirty.size(), 1);
+    }
+
+    @Test
+    public void testNoListenerAfterRemoval() throws Exception {
+        MonitoredDataItem item = newItem(MonitoringMode.Reporting);
+
+        List<BaseMonitoredItem<?>> dirty = new ArrayList<>();
+        item.setDirtyListener(dirty::add);
+        item.setDirtyListener(null);
+        dirty.clear();
+
+        item.setValue(new DataValue(new Variant(1)));
+        assertEquals(dirty.size(), 0);
+    }
+
+    private static MonitoredDataItem newItem(MonitoringMode monitoringMode) throws Exception {
+        OpcUaServer server = mock(OpcUaServer.class);
+        OpcUaServerConfig config = mock(OpcUaServerConfig.class);
+        when(server.getConfig()).thenReturn(config);
+        when(config.getLimits()).thenReturn(new OpcUaServerConfigLimits() {});
+
+        MonitoredDataItem item = new MonitoredDataItem(
+            server,
+            mock(Session.class),
+            uint(1),
+            uint(1),
+            new ReadValueId(new NodeId(2, "Tag1"), AttributeId.Value.uid(), null, QualifiedName.NULL_VALUE),
+            monitoringMode,
+            TimestampsToReturn.Both,
+            uint(1),
+            100.0,
+            uint(10),
+            true
+        );
+
+        item.installFilter(MonitoredDataItem.DEFAULT_FILTER);
+
+        return item;
+    }
+
+}
@@ -30,6 +30,7 @@ import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
 import org.testng.annotations.Test;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
 public class AttributeFilterChainTest {
@@ -79,6 +80,23 @@ public class AttributeFilterChainTest {
         assertEquals(value.getValue().getValue(), "Last");
     }
 
+    @Test
+    public void testIsCacheable() {
+        AttributeFilterChain chain = new AttributeFilterChain();
+        assertTrue(chain.isCacheable());
+
+        chain.addLast(new AttributeFilter() {
+            @Override
+            public boolean isCacheable() {
+                return true;
+            }
+        });
+        assertTrue(chain.isCacheable());
+
+        chain.addLast(AttributeFilters.getValue(ctx -> new DataValue(new Variant("A"))));
+        assertFalse(chain.isCacheable());
+    }
+
     @Test
     public void testEmptyChain() {
         UaVariableNode node = new UaVariableNode.UaVariableNodeBuilder(context)
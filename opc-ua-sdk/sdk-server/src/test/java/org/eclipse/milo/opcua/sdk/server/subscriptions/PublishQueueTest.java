@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.subscriptions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.structured.RequestHeader;
+import org.eclipse.milo.opcua.stack.server.services.ServiceRequest;
+import org.testng.annotations.Test;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+public class PublishQueueTest {
+
+    @Test
+    public void testDeliveredByPriorityThenWaitingTime() {
+        PublishQueue publishQueue = new PublishQueue();
+        List<Subscription> delivered = new ArrayList<>();
+
+        Subscription low = subscription(1, 1, delivered);
+        Subscription high1 = subscription(2, 5, delivered);
+        Subscription high2 = subscription(3, 5, delivered);
+
+        publishQueue.addSubscription(low);
+        publishQueue.addSubscription(high1);
+        publishQueue.addSubscription(high2);
+        publishQueue.addSubscription(high1);
+
+        publishQueue.addRequest(request(0));
+        publishQueue.addRequest(request(0));
+        publishQueue.addRequest(request(0));
+        publishQueue.addRequest(request(0));
+
+        assertEquals(delivered.size(), 3);
+        assertEquals(delivered.get(0), high1);
+        assertEquals(delivered.get(1), high2);
+        assertEquals(delivered.get(2), low);
+        assertEquals(publishQueue.size(), 1);
+        assertEquals(publishQueue.isWaitListEmpty(), true);
+    }
+
+    @Test
+    public void testQueuedRequestUsedByNextSubscription() {
+        PublishQueue publishQueue = new PublishQueue();
+        List<Subscription> delivered = new ArrayList<>();
+
+        publishQueue.addRequest(request(0));
+        assertEquals(publishQueue.size(), 1);
+
+        Subscription subscription = subscription(1, 0, delivered);
+        publishQueue.addSubscription(subscription);
+
+        assertEquals(delivered.size(), 1);
+        assertEquals(publishQueue.size(), 0);
+        assertEquals(publishQueue.isWaitListEmpty(), true);
+    }
+
+    @Test
+    public void testExpiredByTimer() {
+        PublishQueue publishQueue = new PublishQueue();
+
+        ServiceRequest expiring = request(50);
+        ServiceRequest waiting = request(0);
+
+        publishQueue.addRequest(expiring);
+        publishQueue.addRequest(waiting);
+
+        verify(expiring, timeout(2000)).setServiceFault(StatusCodes.Bad_Timeout);
+
+        assertEquals(publishQueue.size(), 1);
+        assertEquals(publishQueue.poll(), waiting);
+        assertNull(publishQueue.poll());
+    }
+
+    private static Subscription subscription(long id, int priority, List<Subscription> delivered) {
+        Subscription subscription = mock(Subscription.class);
+        when(subscription.getId()).thenReturn(uint(id));
+        when(subscription.getPriority()).thenReturn(priority);
+        doAnswer(invocation -> delivered.add(subscription)).when(subscription).onPublish(any());
+        return subscription;
+    }
+
+    private static ServiceRequest request(long timeoutHint) {
+        ServiceRequest service = mock(ServiceRequest.class, RETURNS_DEEP_STUBS);
+
+        RequestHeader requestHeader = mock(RequestHeader.class, RETURNS_DEEP_STUBS);
+        when(requestHeader.getTimeoutHint()).thenReturn(uint(timeoutHint));
+        when(requestHeader.getRequestHandle()).thenReturn(uint(0));
+        when(requestHeader.getTimestamp()).thenReturn(DateTime.now());
+
+        when(service.getRequest().getRequestHeader()).thenReturn(requestHeader);
+        when(service.getReceivedAtNanos()).thenReturn(System.nanoTime());
+        when(service.getServer().getConfig().getExecutor()).thenReturn(MoreExecutors.newDirectExecutorService());
+
+        return service;
+    }
+
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.milo.opcua.sdk.core.AccessLevel;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.Session;
+import org.eclipse.milo.opcua.sdk.server.api.DataItem;
+import org.eclipse.milo.opcua.sdk.server.api.services.AttributeServices;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.eclipse.milo.opcua.stack.core.types.structured.WriteValue;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+public class SharedSamplerTest {
+
+    private final OpcUaServer server = mock(OpcUaServer.class);
+
+    private final ReadValueId valueId = new ReadValueId(
+        new NodeId(2, "Tag1"),
+        AttributeId.Value.uid(),
+        null,
+        QualifiedName.NULL_VALUE
+    );
+
+    @Test
+    public void testOneReadPerValueAcrossSessions() throws Exception {
+        Session s1 = mock(Session.class);
+        Session s2 = mock(Session.class);
+        Session s3 = mock(Session.class);
+
+        TestAttributeServices attributeServices = new TestAttributeServices(
+            Arrays.asList(s1, s2, s3),
+            Arrays.asList(s1, s2, s3)
+        );
+
+        List<DataItem> items = Arrays.asList(item(s1), item(s2), item(s3), item(s1));
+
+        List<DataValue> values = SharedSampler.read(server, attributeServices, items, true).get();
+
+        assertEquals(attributeServices.valueReads, 1);
+        values.forEach(v -> assertEquals(v.getValue().getValue(), 42));
+    }
+
+    @Test
+    public void testAccessCheckAppliesToOtherSessions() throws Exception {
+        Session allowed = mock(Session.class);
+        Session denied = mock(Session.class);
+
+        TestAttributeServices attributeServices = new TestAttributeServices(
+            Arrays.asList(allowed, denied),
+            Arrays.asList(allowed)
+        );
+
+        List<DataItem> items = Arrays.asList(item(allowed), item(denied));
+
+        List<DataValue> values = SharedSampler.read(server, attributeServices, items, true).get();
+
+        assertEquals(attributeServices.valueReads, 1);
+        assertEquals(values.get(0).getValue().getValue(), 42);
+        assertEquals(values.get(1).getStatusCode(), new StatusCode(StatusCodes.Bad_UserAccessDenied));
+    }
+
+    @Test
+    public void testFallbackWhenOwningSessionIsDenied() throws Exception {
+        Session denied = mock(Session.class);
+        Session allowed = mock(Session.class);
+
+        TestAttributeServices attributeServices = new TestAttributeServices(
+            Arrays.asList(denied, allowed),
+            Arrays.asList(allowed)
+        );
+
+        List<DataItem> items = Arrays.asList(item(denied), item(allowed));
+
+        List<DataValue> values = SharedSampler.read(server, attributeServices, items, true).get();
+
+        assertEquals(attributeServices.valueReads, 2);
+        assertEquals(values.get(0).getStatusCode(), new StatusCode(StatusCodes.Bad_UserAccessDenied));
+        assertEquals(values.get(1).getValue().getValue(), 42);
+    }
+
+    @Test
+    public void testNotShared() throws Exception {
+        Session s1 = mock(Session.class);
+        Session s2 = mock(Session.class);
+
+        TestAttributeServices attributeServices = new TestAttributeServices(
+            Arrays.asList(s1, s2),
+            Arrays.asList(s1, s2)
+        );
+
+        List<DataItem> items = Arrays.asList(item(s1), item(s2), item(s2));
+
+        List<DataValue> values = SharedSampler.read(server, attributeServices, items, false).get();
+
+        assertEquals(attributeServices.valueReads, 2);
+        assertEquals(values.size(), 3);
+    }
+
+    private DataItem item(Session session) {
+        DataItem item = mock(DataItem.class);
+        when(item.getSession()).thenReturn(session);
+        when(item.getReadValueId()).thenReturn(valueId);
+        return item;
+    }
+
+    private static class TestAttributeServices implements AttributeServices {
+
+        private int valueReads = 0;
+
+        private final List<Session> sessions;
+        private final List<Session> readable;
+
+        TestAttributeServices(List<Session> sessions, List<Session> readable) {
+            this.sessions = sessions;
+            this.readable = readable;
+        }
+
+        @Override
+        public void read(
+            ReadContext context,
+            Double maxAge,
+            TimestampsToReturn timestamps,
+            List<ReadValueId> readValueIds
+        ) {
+
+            Session session = context.getSession().orElseThrow(IllegalStateException::new);
+            boolean canRead = readable.contains(session);
+
+            List<DataValue> values = new ArrayList<>();
+
+            for (ReadValueId readValueId : readValueIds) {
+                UInteger attributeId = readValueId.getAttributeId();
+
+                if (AttributeId.Value.isEqual(attributeId)) {
+                    valueReads++;
+
+                    values.add(canRead ?
+                        new DataValue(new Variant(42)) :
+                        new DataValue(StatusCodes.Bad_UserAccessDenied));
+                } else {
+                    Set<AccessLevel> levels = canRead ? AccessLevel.READ_ONLY : AccessLevel.NONE;
+
+                    values.add(new DataValue(new Variant(AccessLevel.toValue(levels))));
+                }
+            }
+
+            context.success(values);
+        }
+
+        @Override
+        public void write(WriteContext context, List<WriteValue> writeValues) {
+            context.success(new ArrayList<>());
+        }
+
+    }
+
+}
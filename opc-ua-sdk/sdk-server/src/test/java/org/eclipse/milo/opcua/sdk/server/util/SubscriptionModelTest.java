@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.Session;
+import org.eclipse.milo.opcua.sdk.server.api.DataItem;
+import org.eclipse.milo.opcua.sdk.server.api.services.AttributeServices;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.eclipse.milo.opcua.stack.core.types.structured.WriteValue;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class SubscriptionModelTest {
+
+    private final Session session = mock(Session.class);
+
+    private ExecutorService executor;
+    private ScheduledExecutorService scheduler;
+
+    private RecordingAttributeServices attributeServices;
+    private SubscriptionModel subscriptionModel;
+
+    @BeforeMethod
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+
+        OpcUaServer server = mock(OpcUaServer.class);
+        when(server.getExecutorService()).thenReturn(executor);
+        when(server.getScheduledExecutorService()).thenReturn(scheduler);
+
+        attributeServices = new RecordingAttributeServices();
+
+        subscriptionModel = new SubscriptionModel(server, attributeServices);
+        subscriptionModel.startup();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        subscriptionModel.shutdown();
+
+        scheduler.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testNextTickDelayIsPhaseAligned() {
+        assertEquals(SubscriptionModel.nextTickDelay(1000L, 100L), 100L);
+        assertEquals(SubscriptionModel.nextTickDelay(1001L, 100L), 99L);
+        assertEquals(SubscriptionModel.nextTickDelay(1099L, 100L), 1L);
+        assertEquals(SubscriptionModel.nextTickDelay(1250L, 1000L), 750L);
+    }
+
+    @Test
+    public void testRelatedIntervalsShareDeadlines() {
+        long now = 12_345L;
+
+        // a 500ms bucket and a 100ms bucket land on the same instant every fifth 100ms tick
+        long slow = now + SubscriptionModel.nextTickDelay(now, 500L);
+        long fast = now + SubscriptionModel.nextTickDelay(now, 100L);
+
+        assertEquals(slow % 100L, 0L);
+        assertEquals(fast % 100L, 0L);
+    }
+
+    @Test
+    public void testNextTickDelayClampsInterval() {
+        assertEquals(SubscriptionModel.nextTickDelay(1234L, 0L), 1L);
+        assertEquals(SubscriptionModel.nextTickDelay(1234L, -5L), 1L);
+    }
+
+    @Test
+    public void testFirstSampleDoesNotWaitForTick() {
+        DataItem item = item("Tag1", TimeUnit.HOURS.toMillis(1));
+
+        subscriptionModel.onDataItemsCreated(Collections.singletonList(item));
+
+        verify(item, timeout(1000)).setValue(any(DataValue.class));
+
+        when(item.getSamplingInterval()).thenReturn((double) TimeUnit.HOURS.toMillis(2));
+        subscriptionModel.onDataItemsModified(Collections.singletonList(item));
+
+        verify(item, timeout(1000).times(2)).setValue(any(DataValue.class));
+    }
+
+    @Test
+    public void testItemsWithSameIntervalShareBucket() throws Exception {
+        DataItem item1 = item("Tag1", 50.0);
+        DataItem item2 = item("Tag2", 50.0);
+
+        subscriptionModel.onDataItemsCreated(Collections.singletonList(item1));
+        subscriptionModel.onDataItemsCreated(Collections.singletonList(item2));
+
+        // once both are in the bucket, each tick reads them together
+        assertTrue(await(() -> attributeServices.reads.stream().anyMatch(r -> r.size() == 2)));
+
+        subscriptionModel.onDataItemsDeleted(Collections.singletonList(item1));
+        subscriptionModel.onDataItemsDeleted(Collections.singletonList(item2));
+
+        // let a tick already in flight finish, then the bucket is gone and nothing is read
+        Thread.sleep(200);
+        int reads = attributeServices.reads.size();
+        Thread.sleep(300);
+
+        assertEquals(attributeServices.reads.size(), reads);
+    }
+
+    @Test
+    public void testZeroIntervalIsClamped() throws Exception {
+        DataItem item = item("Tag1", 0.0);
+
+        subscriptionModel.onDataItemsCreated(Collections.singletonList(item));
+
+        Thread.sleep(200);
+
+        subscriptionModel.onDataItemsDeleted(Collections.singletonList(item));
+
+        // at most one tick per millisecond, plus the initial sample
+        assertTrue(attributeServices.reads.size() > 1);
+        assertTrue(attributeServices.reads.size() <= 300, "reads=" + attributeServices.reads.size());
+    }
+
+    private DataItem item(String id, double samplingInterval) {
+        ReadValueId readValueId = new ReadValueId(
+            new NodeId(2, id),
+            AttributeId.Value.uid(),
+            null,
+            QualifiedName.NULL_VALUE
+        );
+
+        DataItem item = mock(DataItem.class);
+        when(item.getSession()).thenReturn(session);
+        when(item.getReadValueId()).thenReturn(readValueId);
+        when(item.getSamplingInterval()).thenReturn(samplingInterval);
+        when(item.isSamplingEnabled()).thenReturn(true);
+        return item;
+    }
+
+    private static boolean await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) return false;
+
+            Thread.sleep(10);
+        }
+
+        return true;
+    }
+
+    private static class RecordingAttributeServices implements AttributeServices {
+
+        private final List<List<ReadValueId>> reads = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void read(
+            ReadContext context,
+            Double maxAge,
+            TimestampsToReturn timestamps,
+            List<ReadValueId> readValueIds
+        ) {
+
+            reads.add(readValueIds);
+
+            List<DataValue> values = new ArrayList<>();
+            readValueIds.forEach(id -> values.add(new DataValue(new Variant(42))));
+
+            context.success(values);
+        }
+
+        @Override
+        public void write(WriteContext context, List<WriteValue> writeValues) {
+            context.success(new ArrayList<>());
+        }
+
+    }
+
+}
@@ -18,6 +18,7 @@ import com.google.common.collect.Maps;
 import org.eclipse.milo.opcua.stack.client.transport.UaTransport;
 import org.eclipse.milo.opcua.stack.client.transport.http.OpcHttpTransport;
 import org.eclipse.milo.opcua.stack.client.transport.tcp.OpcTcpTransport;
+import org.eclipse.milo.opcua.stack.client.transport.websocket.OpcWebSocketJsonTransport;
 import org.eclipse.milo.opcua.stack.client.transport.websocket.OpcWebSocketTransport;
 import org.eclipse.milo.opcua.stack.core.NamespaceTable;
 import org.eclipse.milo.opcua.stack.core.StatusCodes;
@@ -36,8 +37,8 @@ import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
 import org.eclipse.milo.opcua.stack.core.types.structured.RequestHeader;
 import org.eclipse.milo.opcua.stack.core.types.structured.ResponseHeader;
 import org.eclipse.milo.opcua.stack.core.types.structured.ServiceFault;
-import org.eclipse.milo.opcua.stack.core.util.ExecutionQueue;
 import org.eclipse.milo.opcua.stack.core.util.LongSequence;
+import org.eclipse.milo.opcua.stack.core.util.MpscExecutionQueue;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -64,7 +65,7 @@ public class UaStackClient {
     private final SerializationContext dynamicSerializationContext;
 
     private final UaTransport transport;
-    private final ExecutionQueue deliveryQueue;
+    private final MpscExecutionQueue deliveryQueue;
 
     private final UaStackClientConfig config;
 
@@ -75,7 +76,7 @@ public class UaStackClient {
 
         this.config = config;
 
-        deliveryQueue = new ExecutionQueue(config.getExecutor());
+        deliveryQueue = new MpscExecutionQueue(config.getExecutor());
 
         staticSerializationContext = new SerializationContext() {
             @Override
@@ -396,6 +397,7 @@ public class UaStackClient {
                 break;
 
             case HTTPS_UABINARY:
+            case HTTPS_UAJSON:
                 transportFactory = OpcHttpTransport::new;
                 break;
 
@@ -403,9 +405,11 @@ public class UaStackClient {
                 transportFactory = OpcWebSocketTransport::new;
                 break;
 
-            case HTTPS_UAXML:
-            case HTTPS_UAJSON:
             case WSS_UAJSON:
+                transportFactory = OpcWebSocketJsonTransport::new;
+                break;
+
+            case HTTPS_UAXML:
             default:
                 throw new UaException(
                     StatusCodes.Bad_InternalError,
@@ -21,6 +21,7 @@ import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.util.HashedWheelTimer;
 import org.eclipse.milo.opcua.stack.client.security.ClientCertificateValidator;
 import org.eclipse.milo.opcua.stack.core.channel.EncodingLimits;
+import org.eclipse.milo.opcua.stack.core.transport.NettyTransport;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
 import org.eclipse.milo.opcua.stack.core.types.structured.EndpointDescription;
 
@@ -85,6 +86,18 @@ public interface UaStackClientConfig {
      */
     NioEventLoopGroup getEventLoop();
 
+    /**
+     * Get the {@link NettyTransport} used for the client's sockets.
+     * <p>
+     * {@link #getEventLoop()} is only used with {@link NettyTransport#NIO}; native transports use the shared event
+     * loop for that transport. If the transport isn't available the client falls back to NIO.
+     *
+     * @return the {@link NettyTransport} used for the client's sockets.
+     */
+    default NettyTransport getTransport() {
+        return NettyTransport.NIO;
+    }
+
     /**
      * @return the {@link HashedWheelTimer} used by the client.
      */
@@ -136,6 +149,7 @@ public interface UaStackClientConfig {
         builder.setExecutor(config.getExecutor());
         builder.setScheduledExecutor(config.getScheduledExecutor());
         builder.setEventLoop(config.getEventLoop());
+        builder.setTransport(config.getTransport());
         builder.setWheelTimer(config.getWheelTimer());
         builder.setConnectTimeout(config.getConnectTimeout());
         builder.setAcknowledgeTimeout(config.getAcknowledgeTimeout());
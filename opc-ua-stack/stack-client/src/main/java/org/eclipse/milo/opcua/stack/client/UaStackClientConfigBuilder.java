@@ -22,6 +22,7 @@ import io.netty.util.HashedWheelTimer;
 import org.eclipse.milo.opcua.stack.client.security.ClientCertificateValidator;
 import org.eclipse.milo.opcua.stack.core.Stack;
 import org.eclipse.milo.opcua.stack.core.channel.EncodingLimits;
+import org.eclipse.milo.opcua.stack.core.transport.NettyTransport;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
 import org.eclipse.milo.opcua.stack.core.types.structured.EndpointDescription;
 import org.jetbrains.annotations.Nullable;
@@ -39,6 +40,7 @@ public class UaStackClientConfigBuilder {
     private ExecutorService executor;
     private ScheduledExecutorService scheduledExecutor;
     private NioEventLoopGroup eventLoop;
+    private NettyTransport transport = NettyTransport.NIO;
     private HashedWheelTimer wheelTimer;
 
     private EncodingLimits encodingLimits = EncodingLimits.DEFAULT;
@@ -117,6 +119,11 @@ public class UaStackClientConfigBuilder {
         return this;
     }
 
+    public UaStackClientConfigBuilder setTransport(NettyTransport transport) {
+        this.transport = transport;
+        return this;
+    }
+
     public UaStackClientConfig build() {
         Preconditions.checkNotNull(endpoint, "endpoint must be non-null");
 
@@ -143,6 +150,7 @@ public class UaStackClientConfigBuilder {
             executor,
             scheduledExecutor,
             eventLoop,
+            transport,
             wheelTimer,
             connectTimeout,
             acknowledgeTimeout,
@@ -163,6 +171,7 @@ public class UaStackClientConfigBuilder {
         private final ExecutorService executor;
         private final ScheduledExecutorService scheduledExecutor;
         private final NioEventLoopGroup eventLoop;
+        private final NettyTransport transport;
         private final HashedWheelTimer wheelTimer;
         private final UInteger connectTimeout;
         private final UInteger acknowledgeTimeout;
@@ -179,6 +188,7 @@ public class UaStackClientConfigBuilder {
             ExecutorService executor,
             ScheduledExecutorService scheduledExecutor,
             NioEventLoopGroup eventLoop,
+            NettyTransport transport,
             HashedWheelTimer wheelTimer,
             UInteger connectTimeout,
             UInteger acknowledgeTimeout,
@@ -195,6 +205,7 @@ public class UaStackClientConfigBuilder {
             this.executor = executor;
             this.scheduledExecutor = scheduledExecutor;
             this.eventLoop = eventLoop;
+            this.transport = transport;
             this.wheelTimer = wheelTimer;
             this.connectTimeout = connectTimeout;
             this.acknowledgeTimeout = acknowledgeTimeout;
@@ -260,6 +271,11 @@ public class UaStackClientConfigBuilder {
             return eventLoop;
         }
 
+        @Override
+        public NettyTransport getTransport() {
+            return transport;
+        }
+
         @Override
         public HashedWheelTimer getWheelTimer() {
             return wheelTimer;
@@ -11,6 +11,7 @@
 package org.eclipse.milo.opcua.stack.client.transport.http;
 
 import java.util.List;
+import java.util.Locale;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
@@ -33,6 +34,8 @@ import org.eclipse.milo.opcua.stack.core.StatusCodes;
 import org.eclipse.milo.opcua.stack.core.UaException;
 import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamDecoder;
 import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamEncoder;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaJsonStreamDecoder;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaJsonStreamEncoder;
 import org.eclipse.milo.opcua.stack.core.serialization.UaResponseMessage;
 import org.eclipse.milo.opcua.stack.core.transport.TransportProfile;
 import org.eclipse.milo.opcua.stack.core.types.structured.EndpointDescription;
@@ -48,6 +51,8 @@ public class OpcClientHttpCodec extends MessageToMessageCodec<HttpResponse, UaTr
     private static final String UABINARY_CONTENT_TYPE =
         HttpHeaderValues.APPLICATION_OCTET_STREAM.toString();
 
+    private static final String UAJSON_CONTENT_TYPE = "application/opcua+uajson";
+
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
     private final UaStackClientConfig config;
@@ -75,6 +80,7 @@ public class OpcClientHttpCodec extends MessageToMessageCodec<HttpResponse, UaTr
         ctx.channel().attr(KEY_PENDING_REQUEST).set(transportRequest);
 
         ByteBuf content = Unpooled.buffer();
+        String contentType;
 
         switch (transportProfile) {
             case HTTPS_UABINARY: {
@@ -82,6 +88,16 @@ public class OpcClientHttpCodec extends MessageToMessageCodec<HttpResponse, UaTr
                     new OpcUaBinaryStreamEncoder(client.getStaticSerializationContext());
                 encoder.setBuffer(content);
                 encoder.writeMessage(null, transportRequest.getRequest());
+                contentType = UABINARY_CONTENT_TYPE;
+                break;
+            }
+
+            case HTTPS_UAJSON: {
+                OpcUaJsonStreamEncoder encoder =
+                    new OpcUaJsonStreamEncoder(client.getStaticSerializationContext());
+                encoder.setBuffer(content);
+                encoder.writeMessage(null, transportRequest.getRequest());
+                contentType = UAJSON_CONTENT_TYPE;
                 break;
             }
 
@@ -107,7 +123,7 @@ public class OpcClientHttpCodec extends MessageToMessageCodec<HttpResponse, UaTr
 
         httpRequest.headers().set(HttpHeaderNames.HOST, EndpointUtil.getHost(endpointUrl));
         httpRequest.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.KEEP_ALIVE);
-        httpRequest.headers().set(HttpHeaderNames.CONTENT_TYPE, UABINARY_CONTENT_TYPE);
+        httpRequest.headers().set(HttpHeaderNames.CONTENT_TYPE, contentType);
         httpRequest.headers().set(HttpHeaderNames.CONTENT_LENGTH, content.readableBytes());
         httpRequest.headers().set("OPCUA-SecurityPolicy", config.getEndpoint().getSecurityPolicyUri());
 
@@ -148,6 +164,21 @@ public class OpcClientHttpCodec extends MessageToMessageCodec<HttpResponse, UaTr
                     break;
                 }
 
+                case HTTPS_UAJSON: {
+                    if (contentType == null ||
+                        !contentType.toLowerCase(Locale.ROOT).startsWith(UAJSON_CONTENT_TYPE)) {
+
+                        throw new UaException(StatusCodes.Bad_DecodingError,
+                            "unexpected content-type: " + contentType);
+                    }
+
+                    OpcUaJsonStreamDecoder decoder =
+                        new OpcUaJsonStreamDecoder(client.getStaticSerializationContext());
+                    decoder.setBuffer(content);
+                    responseMessage = (UaResponseMessage) decoder.readMessage(null);
+                    break;
+                }
+
                 case HTTPS_UAXML: {
                     // TODO extract document from SOAP message body
                     throw new UaException(StatusCodes.Bad_InternalError,
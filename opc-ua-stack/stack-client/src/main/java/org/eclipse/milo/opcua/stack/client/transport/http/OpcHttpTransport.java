@@ -14,10 +14,10 @@ import java.util.concurrent.CompletableFuture;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
 import io.netty.channel.pool.AbstractChannelPoolHandler;
 import io.netty.channel.pool.ChannelPool;
 import io.netty.channel.pool.SimpleChannelPool;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.HttpClientCodec;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.logging.LogLevel;
@@ -29,8 +29,10 @@ import io.netty.util.concurrent.FutureListener;
 import org.eclipse.milo.opcua.stack.client.UaStackClient;
 import org.eclipse.milo.opcua.stack.client.transport.AbstractTransport;
 import org.eclipse.milo.opcua.stack.client.transport.UaTransport;
+import org.eclipse.milo.opcua.stack.core.Stack;
 import org.eclipse.milo.opcua.stack.core.serialization.UaRequestMessage;
 import org.eclipse.milo.opcua.stack.core.serialization.UaResponseMessage;
+import org.eclipse.milo.opcua.stack.core.transport.NettyTransport;
 import org.eclipse.milo.opcua.stack.core.util.EndpointUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -117,9 +119,14 @@ public class OpcHttpTransport extends AbstractTransport {
 
         LOGGER.debug("createChannelPool() host={} port={}", host, port);
 
+        NettyTransport transport = client.getConfig().getTransport().orFallback();
+
+        EventLoopGroup eventLoop = transport == NettyTransport.NIO ?
+            client.getConfig().getEventLoop() : Stack.sharedEventLoop(transport);
+
         Bootstrap bootstrap = new Bootstrap()
-            .channel(NioSocketChannel.class)
-            .group(client.getConfig().getEventLoop())
+            .channel(transport.getChannelClass())
+            .group(eventLoop)
             .remoteAddress(host, port);
 
         return new SimpleChannelPool(
@@ -31,16 +31,18 @@ import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ConnectTimeoutException;
+import io.netty.channel.EventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.util.Timeout;
 import io.netty.util.TimerTask;
 import org.eclipse.milo.opcua.stack.client.UaStackClient;
 import org.eclipse.milo.opcua.stack.client.UaStackClientConfig;
 import org.eclipse.milo.opcua.stack.client.transport.tcp.OpcClientTcpChannelInitializer;
 import org.eclipse.milo.opcua.stack.client.transport.websocket.OpcClientWebSocketChannelInitializer;
+import org.eclipse.milo.opcua.stack.core.Stack;
 import org.eclipse.milo.opcua.stack.core.StatusCodes;
 import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.transport.NettyTransport;
 import org.eclipse.milo.opcua.stack.core.transport.TransportProfile;
 import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
 import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
@@ -100,10 +102,15 @@ public class ClientChannelFsm {
                 initializer = new OpcClientWebSocketChannelInitializer(client, handshake);
             }
 
+            NettyTransport transport = config.getTransport().orFallback();
+
+            EventLoopGroup eventLoop = transport == NettyTransport.NIO ?
+                config.getEventLoop() : Stack.sharedEventLoop(transport);
+
             Bootstrap bootstrap = new Bootstrap();
 
-            bootstrap.group(config.getEventLoop())
-                .channel(NioSocketChannel.class)
+            bootstrap.group(eventLoop)
+                .channel(transport.getChannelClass())
                 .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, config.getConnectTimeout().intValue())
                 .option(ChannelOption.TCP_NODELAY, true)
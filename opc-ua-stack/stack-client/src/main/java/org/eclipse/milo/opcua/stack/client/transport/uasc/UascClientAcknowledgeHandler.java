@@ -223,7 +223,8 @@ public class UascClientAcknowledgeHandler extends ByteToMessageCodec<UaTransport
             Ints.saturatedCast(remoteMaxMessageSize),
             Ints.saturatedCast(remoteReceiveBufferSize),
             Ints.saturatedCast(remoteSendBufferSize),
-            Ints.saturatedCast(remoteMaxChunkCount)
+            Ints.saturatedCast(remoteMaxChunkCount),
+            encodingLimits.getParallelCryptoChunkThreshold()
         );
 
         ctx.channel().attr(KEY_AWAITING_HANDSHAKE).set(awaitingHandshake);
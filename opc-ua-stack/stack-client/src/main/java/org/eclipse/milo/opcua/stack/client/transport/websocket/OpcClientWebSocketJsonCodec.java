@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.client.transport.websocket;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToMessageCodec;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import org.eclipse.milo.opcua.stack.client.UaStackClient;
+import org.eclipse.milo.opcua.stack.client.transport.UaTransportRequest;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.UaSerializationException;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaJsonStreamDecoder;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaJsonStreamEncoder;
+import org.eclipse.milo.opcua.stack.core.serialization.UaResponseMessage;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static io.netty.handler.codec.http.websocketx.WebSocketClientProtocolHandler.ClientHandshakeStateEvent;
+
+/**
+ * Encodes {@link UaTransportRequest}s as UA-JSON text frames and completes them with the decoded responses.
+ * <p>
+ * Outstanding requests are tracked by request handle. All state is only accessed from the channel's event loop.
+ */
+public class OpcClientWebSocketJsonCodec extends MessageToMessageCodec<WebSocketFrame, UaTransportRequest> {
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final Map<UInteger, Deque<UaTransportRequest>> pending = new HashMap<>();
+
+    private final UaStackClient client;
+    private final CompletableFuture<Channel> handshake;
+
+    public OpcClientWebSocketJsonCodec(UaStackClient client, CompletableFuture<Channel> handshake) {
+        this.client = client;
+        this.handshake = handshake;
+    }
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object event) throws Exception {
+        if (event instanceof ClientHandshakeStateEvent) {
+            logger.debug("WebSocket handshake event: " + event);
+
+            if (event == ClientHandshakeStateEvent.HANDSHAKE_COMPLETE) {
+                handshake.complete(ctx.channel());
+            } else if (event == ClientHandshakeStateEvent.HANDSHAKE_TIMEOUT) {
+                handshake.completeExceptionally(
+                    new UaException(StatusCodes.Bad_Timeout, "WebSocket handshake timed out"));
+
+                ctx.close();
+            }
+        }
+
+        super.userEventTriggered(ctx, event);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        handshake.completeExceptionally(
+            new UaException(StatusCodes.Bad_ConnectionClosed, "connection closed"));
+
+        List<UaTransportRequest> requests = new ArrayList<>();
+        pending.values().forEach(requests::addAll);
+        pending.clear();
+
+        requests.forEach(request ->
+            request.getFuture().completeExceptionally(
+                new UaException(StatusCodes.Bad_ConnectionClosed, "connection closed"))
+        );
+
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        logger.error("[remote={}] Exception caught: {}", ctx.channel().remoteAddress(), cause.getMessage(), cause);
+
+        handshake.completeExceptionally(cause);
+
+        ctx.close();
+    }
+
+    @Override
+    protected void encode(
+        ChannelHandlerContext ctx,
+        UaTransportRequest transportRequest,
+        List<Object> out) throws Exception {
+
+        ByteBuf buffer = ctx.alloc().buffer();
+
+        try {
+            OpcUaJsonStreamEncoder encoder = new OpcUaJsonStreamEncoder(client.getStaticSerializationContext());
+            encoder.setBuffer(buffer);
+            encoder.writeMessage(null, transportRequest.getRequest());
+        } catch (UaSerializationException e) {
+            buffer.release();
+            throw e;
+        }
+
+        UInteger requestHandle = transportRequest.getRequest().getRequestHeader().getRequestHandle();
+
+        pending.computeIfAbsent(requestHandle, h -> new ArrayDeque<>()).add(transportRequest);
+
+        // Forget requests that complete without a response, e.g. because they timed out.
+        transportRequest.getFuture().whenComplete((r, ex) -> {
+            if (ex != null) {
+                ctx.executor().execute(() -> remove(requestHandle, transportRequest));
+            }
+        });
+
+        out.add(new TextWebSocketFrame(buffer));
+    }
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, WebSocketFrame frame, List<Object> out) throws Exception {
+        if (!(frame instanceof TextWebSocketFrame)) {
+            logger.error("Unexpected WebSocket frame: {}", frame);
+            ctx.close();
+            return;
+        }
+
+        OpcUaJsonStreamDecoder decoder = new OpcUaJsonStreamDecoder(client.getStaticSerializationContext());
+        decoder.setBuffer(frame.content());
+
+        UaResponseMessage response = (UaResponseMessage) decoder.readMessage(null);
+
+        UInteger requestHandle = response.getResponseHeader().getRequestHandle();
+        Deque<UaTransportRequest> requests = pending.get(requestHandle);
+        UaTransportRequest transportRequest = requests != null ? requests.poll() : null;
+
+        if (requests != null && requests.isEmpty()) {
+            pending.remove(requestHandle);
+        }
+
+        if (transportRequest != null) {
+            transportRequest.getFuture().complete(response);
+        } else {
+            logger.debug("No pending request for requestHandle={}", requestHandle);
+        }
+    }
+
+    private void remove(UInteger requestHandle, UaTransportRequest transportRequest) {
+        Deque<UaTransportRequest> requests = pending.get(requestHandle);
+
+        if (requests != null) {
+            requests.remove(transportRequest);
+
+            if (requests.isEmpty()) {
+                pending.remove(requestHandle);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.client.transport.websocket;
+
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpClientCodec;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.websocketx.WebSocketClientHandshakerFactory;
+import io.netty.handler.codec.http.websocketx.WebSocketClientProtocolHandler;
+import io.netty.handler.codec.http.websocketx.WebSocketFrameAggregator;
+import io.netty.handler.codec.http.websocketx.WebSocketVersion;
+import io.netty.handler.logging.LogLevel;
+import io.netty.handler.logging.LoggingHandler;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import org.eclipse.milo.opcua.stack.client.UaStackClient;
+import org.eclipse.milo.opcua.stack.client.UaStackClientConfig;
+import org.eclipse.milo.opcua.stack.client.transport.AbstractTransport;
+import org.eclipse.milo.opcua.stack.client.transport.UaTransport;
+import org.eclipse.milo.opcua.stack.core.Stack;
+import org.eclipse.milo.opcua.stack.core.transport.NettyTransport;
+import org.eclipse.milo.opcua.stack.core.util.EndpointUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link UaTransport} for the WSS UA-JSON transport profile.
+ * <p>
+ * Requests are encoded with the OPC UA JSON encoding and sent as text frames over a single WebSocket connection
+ * using the "opcua+uajson" subprotocol. Responses are matched to their requests by request handle, so requests
+ * may be pipelined on the connection. There is no secure channel; message security is provided by TLS.
+ * <p>
+ * The connection is established lazily and re-established on the next request after it has been closed.
+ */
+public class OpcWebSocketJsonTransport extends AbstractTransport {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OpcWebSocketJsonTransport.class);
+
+    private CompletableFuture<Channel> channelFuture = null;
+
+    private final UaStackClient client;
+
+    public OpcWebSocketJsonTransport(UaStackClient client) {
+        super(client.getConfig());
+
+        this.client = client;
+    }
+
+    @Override
+    public synchronized CompletableFuture<UaTransport> connect() {
+        return channel().thenApply(ch -> OpcWebSocketJsonTransport.this);
+    }
+
+    @Override
+    public synchronized CompletableFuture<UaTransport> disconnect() {
+        CompletableFuture<Channel> future = channelFuture;
+        channelFuture = null;
+
+        if (future == null) {
+            return CompletableFuture.completedFuture(OpcWebSocketJsonTransport.this);
+        }
+
+        CompletableFuture<UaTransport> disconnected = new CompletableFuture<>();
+
+        future.whenComplete((ch, ex) -> {
+            if (ch != null) {
+                ch.close().addListener(f -> disconnected.complete(OpcWebSocketJsonTransport.this));
+            } else {
+                disconnected.complete(OpcWebSocketJsonTransport.this);
+            }
+        });
+
+        return disconnected;
+    }
+
+    @Override
+    public synchronized CompletableFuture<Channel> channel() {
+        CompletableFuture<Channel> future = channelFuture;
+
+        if (future == null || future.isCompletedExceptionally() ||
+            (future.isDone() && !future.getNow(null).isActive())) {
+
+            channelFuture = future = connectChannel(client);
+        }
+
+        return future;
+    }
+
+    private static CompletableFuture<Channel> connectChannel(UaStackClient client) {
+        UaStackClientConfig config = client.getConfig();
+
+        final String endpointUrl = config.getEndpoint().getEndpointUrl();
+
+        String host = EndpointUtil.getHost(endpointUrl);
+        if (host == null) host = "";
+
+        int port = EndpointUtil.getPort(endpointUrl);
+
+        LOGGER.debug("connectChannel() host={} port={}", host, port);
+
+        NettyTransport transport = config.getTransport().orFallback();
+
+        EventLoopGroup eventLoop = transport == NettyTransport.NIO ?
+            config.getEventLoop() : Stack.sharedEventLoop(transport);
+
+        CompletableFuture<Channel> handshake = new CompletableFuture<>();
+
+        Bootstrap bootstrap = new Bootstrap()
+            .channel(transport.getChannelClass())
+            .group(eventLoop)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, config.getConnectTimeout().intValue())
+            .handler(new ChannelInitializer<Channel>() {
+                @Override
+                protected void initChannel(Channel channel) throws Exception {
+                    String scheme = EndpointUtil.getScheme(endpointUrl);
+
+                    if ("opc.wss".equalsIgnoreCase(scheme) || "wss".equalsIgnoreCase(scheme)) {
+                        SslContext sslContext = SslContextBuilder.forClient()
+                            .trustManager(InsecureTrustManagerFactory.INSTANCE)
+                            .build();
+
+                        channel.pipeline().addLast(sslContext.newHandler(channel.alloc()));
+                    }
+
+                    int maxMessageSize = config.getEncodingLimits().getMaxMessageSize();
+
+                    channel.pipeline().addLast(new LoggingHandler(LogLevel.TRACE));
+                    channel.pipeline().addLast(new HttpClientCodec());
+                    channel.pipeline().addLast(new HttpObjectAggregator(maxMessageSize));
+
+                    channel.pipeline().addLast(
+                        new WebSocketClientProtocolHandler(
+                            WebSocketClientHandshakerFactory.newHandshaker(
+                                new URI(endpointUrl),
+                                WebSocketVersion.V13,
+                                Stack.WSS_PROTOCOL_JSON,
+                                true,
+                                new DefaultHttpHeaders(),
+                                config.getEncodingLimits().getMaxChunkSize()
+                            )
+                        )
+                    );
+
+                    channel.pipeline().addLast(new WebSocketFrameAggregator(maxMessageSize));
+                    channel.pipeline().addLast(new OpcClientWebSocketJsonCodec(client, handshake));
+                }
+            });
+
+        bootstrap.connect(host, port).addListener((ChannelFuture f) -> {
+            if (!f.isSuccess()) {
+                handshake.completeExceptionally(f.cause());
+            }
+        });
+
+        return handshake;
+    }
+
+}
@@ -10,7 +10,11 @@
 
 package org.eclipse.milo.opcua.stack.core;
 
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.SynchronousQueue;
@@ -19,9 +23,12 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
+import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.util.HashedWheelTimer;
 import io.netty.util.Timeout;
+import org.eclipse.milo.opcua.stack.core.channel.EncodingLimits;
+import org.eclipse.milo.opcua.stack.core.transport.NettyTransport;
 import org.eclipse.milo.opcua.stack.core.util.ManifestUtil;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.LoggerFactory;
@@ -58,9 +65,11 @@ public final class Stack {
     public static final int DEFAULT_HTTPS_PORT = 8443;
 
     private static NioEventLoopGroup EVENT_LOOP;
+    private static final Map<NettyTransport, EventLoopGroup> NATIVE_EVENT_LOOPS = new EnumMap<>(NettyTransport.class);
     private static ExecutorService EXECUTOR_SERVICE;
     private static ScheduledExecutorService SCHEDULED_EXECUTOR_SERVICE;
     private static HashedWheelTimer WHEEL_TIMER;
+    private static ForkJoinPool CRYPTO_POOL;
 
     /**
      * @return a shared {@link NioEventLoopGroup}.
@@ -84,6 +93,38 @@ public final class Stack {
         return EVENT_LOOP;
     }
 
+    /**
+     * Get a shared {@link EventLoopGroup} for {@code transport}.
+     * <p>
+     * Channels must be registered with an event loop of their own transport, so each native transport gets its own
+     * shared group. For {@link NettyTransport#NIO} this is the same group as {@link #sharedEventLoop()}.
+     *
+     * @param transport the {@link NettyTransport}; must be available.
+     * @return a shared {@link EventLoopGroup} for {@code transport}.
+     */
+    public static synchronized EventLoopGroup sharedEventLoop(NettyTransport transport) {
+        if (transport == NettyTransport.NIO) {
+            return sharedEventLoop();
+        }
+
+        return NATIVE_EVENT_LOOPS.computeIfAbsent(transport, t -> {
+            String prefix = "milo-netty-" + t.name().toLowerCase().replace('_', '-') + "-event-loop-";
+
+            ThreadFactory threadFactory = new ThreadFactory() {
+                private final AtomicLong threadNumber = new AtomicLong(0L);
+
+                @Override
+                public Thread newThread(@NotNull Runnable r) {
+                    Thread thread = new Thread(r, prefix + threadNumber.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            };
+
+            return t.newEventLoopGroup(0, threadFactory);
+        });
+    }
+
     /**
      * @return a shared {@link ExecutorService}.
      */
@@ -189,6 +230,41 @@ public final class Stack {
         return WHEEL_TIMER;
     }
 
+    /**
+     * Get the shared {@link ForkJoinPool} that chunk signing and encryption is fanned out to when a message has at
+     * least {@link EncodingLimits#getParallelCryptoChunkThreshold()} chunks.
+     * <p>
+     * The pool's parallelism is bounded by the number of available processors.
+     *
+     * @return a shared {@link ForkJoinPool} for chunk crypto.
+     */
+    public static synchronized ForkJoinPool sharedCryptoPool() {
+        if (CRYPTO_POOL == null) {
+            ForkJoinPool.ForkJoinWorkerThreadFactory threadFactory = new ForkJoinPool.ForkJoinWorkerThreadFactory() {
+                private final AtomicLong threadNumber = new AtomicLong(0L);
+
+                @Override
+                public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName("milo-crypto-pool-" + threadNumber.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            };
+
+            CRYPTO_POOL = new ForkJoinPool(
+                Runtime.getRuntime().availableProcessors(),
+                threadFactory,
+                (t, e) ->
+                    LoggerFactory.getLogger(Stack.class)
+                        .error("Uncaught Exception on shared stack crypto ForkJoinPool thread!", e),
+                false
+            );
+        }
+
+        return CRYPTO_POOL;
+    }
+
     /**
      * Release shared resources, waiting at most 5 seconds for the {@link NioEventLoopGroup} to shutdown gracefully.
      */
@@ -214,6 +290,16 @@ public final class Stack {
             EVENT_LOOP = null;
         }
 
+        NATIVE_EVENT_LOOPS.values().forEach(eventLoop -> {
+            try {
+                eventLoop.shutdownGracefully().await(timeout, unit);
+            } catch (InterruptedException e) {
+                LoggerFactory.getLogger(Stack.class)
+                    .warn("Interrupted awaiting event loop shutdown.", e);
+            }
+        });
+        NATIVE_EVENT_LOOPS.clear();
+
         if (SCHEDULED_EXECUTOR_SERVICE != null) {
             SCHEDULED_EXECUTOR_SERVICE.shutdown();
         }
@@ -246,6 +332,17 @@ public final class Stack {
             WHEEL_TIMER.stop().forEach(Timeout::cancel);
             WHEEL_TIMER = null;
         }
+
+        if (CRYPTO_POOL != null) {
+            CRYPTO_POOL.shutdown();
+            try {
+                CRYPTO_POOL.awaitTermination(timeout, unit);
+            } catch (InterruptedException e) {
+                LoggerFactory.getLogger(Stack.class)
+                    .warn("Interrupted awaiting crypto pool shutdown.", e);
+            }
+            CRYPTO_POOL = null;
+        }
     }
 
     public static final class ConnectionLimits {
@@ -22,6 +22,8 @@ public class ChannelParameters {
     private final int remoteSendBufferSize;
     private final int remoteMaxChunkCount;
 
+    private final int parallelCryptoChunkThreshold;
+
     public ChannelParameters(int localMaxMessageSize,
                              int localReceiveBufferSize,
                              int localSendBufferSize,
@@ -31,6 +33,29 @@ public class ChannelParameters {
                              int remoteSendBufferSize,
                              int remoteMaxChunkCount) {
 
+        this(
+            localMaxMessageSize,
+            localReceiveBufferSize,
+            localSendBufferSize,
+            localMaxChunkCount,
+            remoteMaxMessageSize,
+            remoteReceiveBufferSize,
+            remoteSendBufferSize,
+            remoteMaxChunkCount,
+            EncodingLimits.DEFAULT_PARALLEL_CRYPTO_CHUNK_THRESHOLD
+        );
+    }
+
+    public ChannelParameters(int localMaxMessageSize,
+                             int localReceiveBufferSize,
+                             int localSendBufferSize,
+                             int localMaxChunkCount,
+                             int remoteMaxMessageSize,
+                             int remoteReceiveBufferSize,
+                             int remoteSendBufferSize,
+                             int remoteMaxChunkCount,
+                             int parallelCryptoChunkThreshold) {
+
         this.localMaxMessageSize = localMaxMessageSize;
         this.localReceiveBufferSize = localReceiveBufferSize;
         this.localSendBufferSize = localSendBufferSize;
@@ -39,6 +64,7 @@ public class ChannelParameters {
         this.remoteReceiveBufferSize = remoteReceiveBufferSize;
         this.remoteSendBufferSize = remoteSendBufferSize;
         this.remoteMaxChunkCount = remoteMaxChunkCount;
+        this.parallelCryptoChunkThreshold = parallelCryptoChunkThreshold;
     }
 
     public int getLocalMaxMessageSize() {
@@ -73,4 +99,13 @@ public class ChannelParameters {
         return remoteMaxChunkCount;
     }
 
+    /**
+     * @return the minimum number of chunks a symmetrically secured message must have before its chunk crypto is
+     * done in parallel, or 0 if chunk crypto is always done serially.
+     * @see EncodingLimits#getParallelCryptoChunkThreshold()
+     */
+    public int getParallelCryptoChunkThreshold() {
+        return parallelCryptoChunkThreshold;
+    }
+
 }
@@ -13,6 +13,7 @@ package org.eclipse.milo.opcua.stack.core.channel;
 import java.util.Optional;
 
 import org.eclipse.milo.opcua.stack.core.security.SecurityAlgorithm;
+import org.eclipse.milo.opcua.stack.core.security.SecurityPolicy;
 import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
 import org.eclipse.milo.opcua.stack.core.types.structured.ChannelSecurityToken;
 import org.eclipse.milo.opcua.stack.core.util.PShaUtil;
@@ -61,7 +62,8 @@ public class ChannelSecurity {
                                                ByteString clientNonce,
                                                ByteString serverNonce) {
 
-        SecurityAlgorithm keyDerivation = channel.getSecurityPolicy().getKeyDerivationAlgorithm();
+        SecurityPolicy securityPolicy = channel.getSecurityPolicy();
+        SecurityAlgorithm keyDerivation = securityPolicy.getKeyDerivationAlgorithm();
 
         int signatureKeySize = channel.getSymmetricSignatureKeySize();
         int encryptionKeySize = channel.getSymmetricEncryptionKeySize();
@@ -99,8 +101,8 @@ public class ChannelSecurity {
                 signatureKeySize + encryptionKeySize, cipherTextBlockSize);
 
         return new SecurityKeys(
-            new SecretKeys(clientSignatureKey, clientEncryptionKey, clientInitializationVector),
-            new SecretKeys(serverSignatureKey, serverEncryptionKey, serverInitializationVector)
+            new SecretKeys(securityPolicy, clientSignatureKey, clientEncryptionKey, clientInitializationVector),
+            new SecretKeys(securityPolicy, serverSignatureKey, serverEncryptionKey, serverInitializationVector)
         );
     }
 
@@ -127,10 +129,20 @@ public class ChannelSecurity {
         private final byte[] encryptionKey;
         private final byte[] initializationVector;
 
-        SecretKeys(byte[] signatureKey, byte[] encryptionKey, byte[] initializationVector) {
+        private final SecretKeyCache cache;
+
+        SecretKeys(
+            SecurityPolicy securityPolicy,
+            byte[] signatureKey,
+            byte[] encryptionKey,
+            byte[] initializationVector
+        ) {
+
             this.signatureKey = signatureKey;
             this.encryptionKey = encryptionKey;
             this.initializationVector = initializationVector;
+
+            this.cache = new SecretKeyCache(securityPolicy, signatureKey, encryptionKey, initializationVector);
         }
 
         public byte[] getSignatureKey() {
@@ -144,5 +156,13 @@ public class ChannelSecurity {
         public byte[] getInitializationVector() {
             return initializationVector;
         }
+
+        /**
+         * @return the {@link SecretKeyCache} holding initialized {@link javax.crypto.Mac} and
+         * {@link javax.crypto.Cipher} instances for these keys.
+         */
+        SecretKeyCache getCache() {
+            return cache;
+        }
     }
 }
@@ -14,14 +14,11 @@ import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.security.GeneralSecurityException;
 import java.security.InvalidKeyException;
-import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.Signature;
 import java.security.SignatureException;
 import java.util.List;
 import javax.crypto.Cipher;
-import javax.crypto.spec.IvParameterSpec;
-import javax.crypto.spec.SecretKeySpec;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.CompositeByteBuf;
@@ -33,9 +30,7 @@ import org.eclipse.milo.opcua.stack.core.channel.headers.SecureMessageHeader;
 import org.eclipse.milo.opcua.stack.core.channel.headers.SequenceHeader;
 import org.eclipse.milo.opcua.stack.core.channel.headers.SymmetricSecurityHeader;
 import org.eclipse.milo.opcua.stack.core.channel.messages.ErrorMessage;
-import org.eclipse.milo.opcua.stack.core.security.SecurityAlgorithm;
 import org.eclipse.milo.opcua.stack.core.util.BufferUtil;
-import org.eclipse.milo.opcua.stack.core.util.SignatureUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -166,24 +161,37 @@ public final class ChunkDecoder {
 
             long requestId = -1L;
 
+            boolean parallel = (encrypted || signed) &&
+                ParallelChunkCrypto.isParallel(parameters, chunkBuffers.size()) &&
+                isParallelCryptoSupported(chunkBuffers);
+
+            if (parallel) {
+                for (ByteBuf chunkBuffer : chunkBuffers) {
+                    chunkBuffer.skipBytes(SecureMessageHeader.SECURE_MESSAGE_HEADER_SIZE);
+
+                    readSecurityHeader(channel, chunkBuffer);
+                }
+
+                ParallelChunkCrypto.forEachChunk(
+                    chunkBuffers,
+                    chunkBuffer -> unsecureChunk(channel, chunkBuffer, encrypted, signed)
+                );
+            }
+
             for (ByteBuf chunkBuffer : chunkBuffers) {
                 final char chunkType = (char) chunkBuffer.getByte(3);
 
-                chunkBuffer.skipBytes(SecureMessageHeader.SECURE_MESSAGE_HEADER_SIZE);
+                if (!parallel) {
+                    chunkBuffer.skipBytes(SecureMessageHeader.SECURE_MESSAGE_HEADER_SIZE);
 
-                readSecurityHeader(channel, chunkBuffer);
+                    readSecurityHeader(channel, chunkBuffer);
 
-                if (encrypted) {
-                    decryptChunk(channel, chunkBuffer);
+                    unsecureChunk(channel, chunkBuffer, encrypted, signed);
                 }
 
                 int encryptedStart = chunkBuffer.readerIndex();
                 chunkBuffer.readerIndex(0);
 
-                if (signed) {
-                    verifyChunk(channel, chunkBuffer);
-                }
-
                 final int paddingOverhead = encrypted ? (cipherTextBlockSize > 256 ? 2 : 1) : 0;
                 final int paddingSize = encrypted ? getPaddingSize(cipherTextBlockSize, signatureSize, chunkBuffer) : 0;
                 final int bodyEnd = chunkBuffer.readableBytes() - signatureSize - paddingOverhead - paddingSize;
@@ -244,12 +252,37 @@ public final class ChunkDecoder {
             return new DecodedMessage(composite, requestId);
         }
 
+        /**
+         * Decrypt and then verify a chunk whose security header has been read, leaving the reader index at the
+         * start of the sequence header.
+         * <p>
+         * When {@link #isParallelCryptoSupported(List)} it may be called for different chunks of a message
+         * concurrently.
+         */
+        private void unsecureChunk(
+            SecureChannel channel,
+            ByteBuf chunkBuffer,
+            boolean encrypted,
+            boolean signed
+        ) throws UaException {
+
+            if (encrypted) {
+                decryptChunk(channel, chunkBuffer);
+            }
+
+            if (signed) {
+                verifyChunk(channel, chunkBuffer);
+            }
+        }
+
         private void decryptChunk(SecureChannel channel, ByteBuf chunkBuffer) throws UaException {
             int cipherTextBlockSize = getCipherTextBlockSize(channel);
             int blockCount = chunkBuffer.readableBytes() / cipherTextBlockSize;
 
             int plainTextBufferSize = cipherTextBlockSize * blockCount;
 
+            Cipher cipher = acquireCipher(channel);
+
             ByteBuf plainTextBuffer = BufferUtil.pooledBuffer(plainTextBufferSize);
 
             ByteBuffer plainTextNioBuffer = plainTextBuffer
@@ -259,8 +292,6 @@ public final class ChunkDecoder {
             ByteBuffer chunkNioBuffer = chunkBuffer.nioBuffer();
 
             try {
-                Cipher cipher = getCipher(channel);
-
                 assert (chunkBuffer.readableBytes() % cipherTextBlockSize == 0);
 
                 if (isAsymmetric()) {
@@ -281,6 +312,7 @@ public final class ChunkDecoder {
             } catch (GeneralSecurityException e) {
                 throw new UaException(StatusCodes.Bad_SecurityChecksFailed, e);
             } finally {
+                releaseCipher(channel, cipher);
                 plainTextBuffer.release();
             }
         }
@@ -295,7 +327,22 @@ public final class ChunkDecoder {
 
         protected abstract void readSecurityHeader(SecureChannel channel, ByteBuf chunkBuffer) throws UaException;
 
-        protected abstract Cipher getCipher(SecureChannel channel) throws UaException;
+        /**
+         * @param chunkBuffers the chunks of the message being decoded.
+         * @return {@code true} if the chunks in {@code chunkBuffers} can be decrypted and verified concurrently
+         * once all of their security headers have been read.
+         */
+        protected boolean isParallelCryptoSupported(List<ByteBuf> chunkBuffers) {
+            return false;
+        }
+
+        /**
+         * Get a {@link Cipher} to decrypt one chunk with. It is returned via
+         * {@link #releaseCipher(SecureChannel, Cipher)} once the chunk is decrypted.
+         */
+        protected abstract Cipher acquireCipher(SecureChannel channel) throws UaException;
+
+        protected void releaseCipher(SecureChannel channel, Cipher cipher) {}
 
         protected abstract int getCipherTextBlockSize(SecureChannel channel);
 
@@ -319,7 +366,7 @@ public final class ChunkDecoder {
         }
 
         @Override
-        public Cipher getCipher(SecureChannel channel) throws UaException {
+        public Cipher acquireCipher(SecureChannel channel) throws UaException {
             try {
                 String transformation = channel.getSecurityPolicy()
                     .getAsymmetricEncryptionAlgorithm().getTransformation();
@@ -392,8 +439,6 @@ public final class ChunkDecoder {
     private final class SymmetricDecoder extends AbstractDecoder {
 
         private volatile ChannelSecurity.SecurityKeys securityKeys;
-        private volatile Cipher cipher = null;
-        private volatile long cipherId = -1;
 
         @Override
         public void readSecurityHeader(SecureChannel channel, ByteBuf chunkBuffer) throws UaException {
@@ -431,18 +476,39 @@ public final class ChunkDecoder {
                         securityKeys = channelSecurity.getPreviousKeys().get();
                     }
                 }
+            }
+        }
+
+        /**
+         * The security headers of every chunk have already been read by the time the chunks are decrypted, so
+         * chunks can only be decrypted in parallel if they were all secured with the same token.
+         */
+        @Override
+        protected boolean isParallelCryptoSupported(List<ByteBuf> chunkBuffers) {
+            // tokenId starts after messageType + chunkType + messageSize + secureChannelId
+            long tokenId = chunkBuffers.get(0).getUnsignedIntLE(3 + 1 + 4 + 4);
 
-                if (cipherId != receivedTokenId && channel.isSymmetricEncryptionEnabled()) {
-                    cipher = initCipher(channel);
-                    cipherId = receivedTokenId;
+            for (ByteBuf chunkBuffer : chunkBuffers) {
+                if (chunkBuffer.getUnsignedIntLE(3 + 1 + 4 + 4) != tokenId) {
+                    return false;
                 }
             }
+
+            return true;
+        }
+
+        @Override
+        public Cipher acquireCipher(SecureChannel channel) throws UaException {
+            try {
+                return channel.getDecryptionKeys(securityKeys).getCache().acquireCipher(Cipher.DECRYPT_MODE);
+            } catch (GeneralSecurityException e) {
+                throw new UaException(StatusCodes.Bad_InternalError, e);
+            }
         }
 
         @Override
-        public Cipher getCipher(SecureChannel channel) {
-            assert cipher != null;
-            return cipher;
+        protected void releaseCipher(SecureChannel channel, Cipher cipher) {
+            channel.getDecryptionKeys(securityKeys).getCache().releaseCipher(Cipher.DECRYPT_MODE, cipher);
         }
 
         @Override
@@ -457,21 +523,12 @@ public final class ChunkDecoder {
 
         @Override
         public void verifyChunk(SecureChannel channel, ByteBuf chunkBuffer) throws UaException {
-            SecurityAlgorithm securityAlgorithm = channel.getSecurityPolicy().getSymmetricSignatureAlgorithm();
-            byte[] secretKey = channel.getDecryptionKeys(securityKeys).getSignatureKey();
-            int signatureSize = channel.getSymmetricSignatureSize();
-
-            ByteBuffer chunkNioBuffer = chunkBuffer.nioBuffer(0, chunkBuffer.writerIndex());
-            ((Buffer) chunkNioBuffer).position(0);
-            ((Buffer) chunkNioBuffer).limit(chunkBuffer.writerIndex() - signatureSize);
+            SecretKeyCache keyCache = channel.getDecryptionKeys(securityKeys).getCache();
+            int signatureIndex = chunkBuffer.writerIndex() - channel.getSymmetricSignatureSize();
 
-            byte[] signature = SignatureUtil.hmac(securityAlgorithm, secretKey, chunkNioBuffer);
+            ByteBuffer chunkNioBuffer = SecretKeyCache.nioBuffer(chunkBuffer, 0, signatureIndex);
 
-            byte[] signatureBytes = new byte[signatureSize];
-            ((Buffer) chunkNioBuffer).limit(chunkNioBuffer.position() + signatureSize);
-            chunkNioBuffer.get(signatureBytes);
-
-            if (!MessageDigest.isEqual(signature, signatureBytes)) {
+            if (!keyCache.verifyHmac(chunkNioBuffer, chunkBuffer, signatureIndex)) {
                 throw new UaException(StatusCodes.Bad_SecurityChecksFailed, "could not verify signature");
             }
         }
@@ -491,25 +548,6 @@ public final class ChunkDecoder {
             return channel.isSymmetricSigningEnabled();
         }
 
-        private Cipher initCipher(SecureChannel channel) throws UaException {
-            try {
-                String transformation = channel.getSecurityPolicy()
-                    .getSymmetricEncryptionAlgorithm().getTransformation();
-
-                ChannelSecurity.SecretKeys decryptionKeys = channel.getDecryptionKeys(securityKeys);
-
-                SecretKeySpec keySpec = new SecretKeySpec(decryptionKeys.getEncryptionKey(), "AES");
-                IvParameterSpec ivSpec = new IvParameterSpec(decryptionKeys.getInitializationVector());
-
-                Cipher cipher = Cipher.getInstance(transformation);
-                cipher.init(Cipher.DECRYPT_MODE, keySpec, ivSpec);
-
-                return cipher;
-            } catch (GeneralSecurityException e) {
-                throw new UaException(StatusCodes.Bad_InternalError, e);
-            }
-        }
-
     }
 
 }
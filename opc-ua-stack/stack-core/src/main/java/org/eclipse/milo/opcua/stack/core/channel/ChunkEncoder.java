@@ -10,15 +10,14 @@
 
 package org.eclipse.milo.opcua.stack.core.channel;
 
-import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.security.GeneralSecurityException;
 import java.security.cert.Certificate;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import javax.crypto.Cipher;
-import javax.crypto.spec.IvParameterSpec;
-import javax.crypto.spec.SecretKeySpec;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.util.ReferenceCountUtil;
@@ -29,7 +28,6 @@ import org.eclipse.milo.opcua.stack.core.channel.headers.SecureMessageHeader;
 import org.eclipse.milo.opcua.stack.core.channel.headers.SequenceHeader;
 import org.eclipse.milo.opcua.stack.core.channel.headers.SymmetricSecurityHeader;
 import org.eclipse.milo.opcua.stack.core.channel.messages.MessageType;
-import org.eclipse.milo.opcua.stack.core.security.SecurityAlgorithm;
 import org.eclipse.milo.opcua.stack.core.util.BufferUtil;
 import org.eclipse.milo.opcua.stack.core.util.LongSequence;
 import org.eclipse.milo.opcua.stack.core.util.SignatureUtil;
@@ -100,7 +98,10 @@ public final class ChunkEncoder {
             MessageType messageType
         ) throws UaException {
 
+            beginMessage(channel);
+
             boolean encrypted = isEncryptionEnabled(channel);
+            boolean signed = isSigningEnabled(channel);
 
             int securityHeaderSize = getSecurityHeaderSize(channel);
             int cipherTextBlockSize = getCipherTextBlockSize(channel);
@@ -117,6 +118,12 @@ public final class ChunkEncoder {
 
             assert (maxPlainTextSize + securityHeaderSize + SECURE_MESSAGE_HEADER_SIZE <= maxChunkSize);
 
+            int chunkCount = (messageBuffer.readableBytes() + maxBodySize - 1) / maxBodySize;
+
+            boolean parallel = (encrypted || signed) &&
+                ParallelChunkCrypto.isParallel(parameters, chunkCount) &&
+                isParallelCryptoSupported();
+
             while (messageBuffer.readableBytes() > 0) {
                 int bodySize = Math.min(messageBuffer.readableBytes(), maxBodySize);
 
@@ -174,61 +181,73 @@ public final class ChunkEncoder {
                 /* Message Body */
                 chunkBuffer.writeBytes(messageBuffer, bodySize);
 
-                /* Padding and Signature */
+                /* Padding */
                 if (encrypted) {
                     writePadding(cipherTextBlockSize, paddingSize, chunkBuffer);
                 }
 
-                if (isSigningEnabled(channel)) {
-                    ByteBuffer chunkNioBuffer = chunkBuffer.nioBuffer(0, chunkBuffer.writerIndex());
+                /* Signature and Encryption */
+                if (!parallel) {
+                    secureChunk(channel, chunkBuffer, securityHeaderSize, encrypted, signed);
+                }
+            }
 
-                    byte[] signature = signChunk(channel, chunkNioBuffer);
+            if (parallel) {
+                ParallelChunkCrypto.forEachChunk(
+                    chunks,
+                    chunkBuffer -> secureChunk(channel, chunkBuffer, securityHeaderSize, encrypted, signed)
+                );
+            }
 
-                    chunkBuffer.writeBytes(signature);
-                }
+            return new EncodedMessage(chunks, requestId);
+        }
 
-                /* Encryption */
-                if (encrypted) {
-                    chunkBuffer.readerIndex(SECURE_MESSAGE_HEADER_SIZE + securityHeaderSize);
+        /**
+         * Sign and then encrypt a chunk whose headers, body, and padding have been written.
+         * <p>
+         * Depends only on the chunk itself and on state fixed by {@link #beginMessage(SecureChannel)}, so when
+         * {@link #isParallelCryptoSupported()} it may be called for different chunks of a message concurrently.
+         */
+        private void secureChunk(
+            SecureChannel channel,
+            ByteBuf chunkBuffer,
+            int securityHeaderSize,
+            boolean encrypted,
+            boolean signed
+        ) throws UaException {
 
-                    assert (chunkBuffer.readableBytes() % plainTextBlockSize == 0);
+            // messageType + chunkType precede the chunk size in the secure message header
+            int chunkSize = (int) chunkBuffer.getUnsignedIntLE(3 + 1);
 
-                    try {
-                        int blockCount = chunkBuffer.readableBytes() / plainTextBlockSize;
+            if (signed) {
+                ByteBuffer chunkNioBuffer = SecretKeyCache.nioBuffer(chunkBuffer, 0, chunkBuffer.writerIndex());
 
-                        ByteBuffer chunkNioBuffer = chunkBuffer.nioBuffer(
-                            chunkBuffer.readerIndex(), blockCount * cipherTextBlockSize);
+                byte[] signature = signChunk(channel, chunkNioBuffer);
 
-                        ByteBuf copyBuffer = chunkBuffer.copy();
-                        ByteBuffer plainTextNioBuffer = copyBuffer.nioBuffer();
+                chunkBuffer.writeBytes(signature);
+            }
 
-                        Cipher cipher = getCipher(channel);
+            if (encrypted) {
+                int plainTextBlockSize = getPlainTextBlockSize(channel);
+                int cipherTextBlockSize = getCipherTextBlockSize(channel);
 
-                        if (isAsymmetric()) {
-                            for (int blockNumber = 0; blockNumber < blockCount; blockNumber++) {
-                                int position = blockNumber * plainTextBlockSize;
-                                int limit = (blockNumber + 1) * plainTextBlockSize;
-                                ((Buffer) plainTextNioBuffer).position(position);
-                                ((Buffer) plainTextNioBuffer).limit(limit);
+                chunkBuffer.readerIndex(SECURE_MESSAGE_HEADER_SIZE + securityHeaderSize);
 
-                                int bytesWritten = cipher.doFinal(plainTextNioBuffer, chunkNioBuffer);
+                assert (chunkBuffer.readableBytes() % plainTextBlockSize == 0);
 
-                                assert (bytesWritten == cipherTextBlockSize);
-                            }
-                        } else {
-                            cipher.doFinal(plainTextNioBuffer, chunkNioBuffer);
-                        }
+                try {
+                    int blockCount = chunkBuffer.readableBytes() / plainTextBlockSize;
 
-                        copyBuffer.release();
-                    } catch (GeneralSecurityException e) {
-                        throw new UaException(StatusCodes.Bad_SecurityChecksFailed, e);
-                    }
-                }
+                    ByteBuffer chunkNioBuffer = chunkBuffer.nioBuffer(
+                        chunkBuffer.readerIndex(), blockCount * cipherTextBlockSize);
 
-                chunkBuffer.readerIndex(0).writerIndex(chunkSize);
+                    encryptChunk(channel, chunkNioBuffer, blockCount);
+                } catch (GeneralSecurityException e) {
+                    throw new UaException(StatusCodes.Bad_SecurityChecksFailed, e);
+                }
             }
 
-            return new EncodedMessage(chunks, requestId);
+            chunkBuffer.readerIndex(0).writerIndex(chunkSize);
         }
 
         private void writePadding(int cipherTextBlockSize, int paddingSize, ByteBuf buffer) {
@@ -246,11 +265,40 @@ public final class ChunkEncoder {
             }
         }
 
+        /**
+         * Called once before the chunks of a message are encoded.
+         *
+         * @param channel the {@link SecureChannel}.
+         */
+        protected void beginMessage(SecureChannel channel) throws UaException {}
+
+        /**
+         * @return {@code true} if {@link #signChunk(SecureChannel, ByteBuffer)} and
+         * {@link #encryptChunk(SecureChannel, ByteBuffer, int)} can be called for different chunks of the same
+         * message concurrently.
+         */
+        protected boolean isParallelCryptoSupported() {
+            return false;
+        }
+
         protected abstract byte[] signChunk(SecureChannel channel, ByteBuffer chunkNioBuffer) throws UaException;
 
-        protected abstract void encodeSecurityHeader(SecureChannel channel, ByteBuf buffer) throws UaException;
+        /**
+         * Encrypt the plaintext at the start of {@code chunkNioBuffer}, writing the ciphertext back into the same
+         * buffer. The buffer spans {@code blockCount} ciphertext blocks; when the ciphertext block size is larger
+         * than the plaintext block size the plaintext only occupies a prefix of it.
+         *
+         * @param channel        the {@link SecureChannel}.
+         * @param chunkNioBuffer the buffer holding the plaintext, and receiving the ciphertext.
+         * @param blockCount     the number of plaintext blocks to encrypt.
+         */
+        protected abstract void encryptChunk(
+            SecureChannel channel,
+            ByteBuffer chunkNioBuffer,
+            int blockCount
+        ) throws UaException, GeneralSecurityException;
 
-        protected abstract Cipher getCipher(SecureChannel channel) throws UaException;
+        protected abstract void encodeSecurityHeader(SecureChannel channel, ByteBuf buffer) throws UaException;
 
         protected abstract int getSecurityHeaderSize(SecureChannel channel) throws UaException;
 
@@ -260,8 +308,6 @@ public final class ChunkEncoder {
 
         protected abstract int getSignatureSize(SecureChannel channel);
 
-        protected abstract boolean isAsymmetric();
-
         protected abstract boolean isEncryptionEnabled(SecureChannel channel);
 
         protected abstract boolean isSigningEnabled(SecureChannel channel);
@@ -293,6 +339,51 @@ public final class ChunkEncoder {
 
     private final class AsymmetricEncoder extends AbstractEncoder {
 
+        /**
+         * Scratch space for the plaintext and for one ciphertext block, reused for every chunk sent on this
+         * channel. RSA ciphertext blocks are larger than their plaintext blocks, so the plaintext has to be moved
+         * out of the way before the ciphertext is written over it.
+         */
+        private byte[] plainTextBytes = new byte[0];
+        private byte[] cipherTextBytes = new byte[0];
+
+        @Override
+        protected void encryptChunk(
+            SecureChannel channel,
+            ByteBuffer chunkNioBuffer,
+            int blockCount
+        ) throws UaException, GeneralSecurityException {
+
+            int plainTextBlockSize = getPlainTextBlockSize(channel);
+            int cipherTextBlockSize = getCipherTextBlockSize(channel);
+            int plainTextSize = blockCount * plainTextBlockSize;
+
+            if (plainTextBytes.length < plainTextSize) {
+                plainTextBytes = new byte[plainTextSize];
+            }
+            if (cipherTextBytes.length < cipherTextBlockSize) {
+                cipherTextBytes = new byte[cipherTextBlockSize];
+            }
+
+            chunkNioBuffer.duplicate().get(plainTextBytes, 0, plainTextSize);
+
+            Cipher cipher = getCipher(channel);
+
+            for (int blockNumber = 0; blockNumber < blockCount; blockNumber++) {
+                int bytesWritten = cipher.doFinal(
+                    plainTextBytes,
+                    blockNumber * plainTextBlockSize,
+                    plainTextBlockSize,
+                    cipherTextBytes,
+                    0
+                );
+
+                assert (bytesWritten == cipherTextBlockSize);
+
+                chunkNioBuffer.put(cipherTextBytes, 0, cipherTextBlockSize);
+            }
+        }
+
         @Override
         public byte[] signChunk(SecureChannel channel, ByteBuffer chunkNioBuffer) throws UaException {
             return SignatureUtil.sign(
@@ -302,8 +393,7 @@ public final class ChunkEncoder {
             );
         }
 
-        @Override
-        public Cipher getCipher(SecureChannel channel) throws UaException {
+        private Cipher getCipher(SecureChannel channel) throws UaException {
             Certificate remoteCertificate = channel.getRemoteCertificate();
 
             assert (remoteCertificate != null);
@@ -356,11 +446,6 @@ public final class ChunkEncoder {
             return channel.getLocalAsymmetricSignatureSize();
         }
 
-        @Override
-        protected boolean isAsymmetric() {
-            return true;
-        }
-
         @Override
         public boolean isEncryptionEnabled(SecureChannel channel) {
             return channel.isAsymmetricEncryptionEnabled();
@@ -375,41 +460,91 @@ public final class ChunkEncoder {
 
     private final class SymmetricEncoder extends AbstractEncoder {
 
+        /**
+         * Idle {@link ScratchSpace}s. Chunks encoded serially keep reusing the same one; chunks encrypted in
+         * parallel each take their own.
+         */
+        private final Deque<ScratchSpace> scratchSpaces = new ArrayDeque<>();
+
         private volatile ChannelSecurity.SecurityKeys securityKeys;
-        private volatile Cipher cipher = null;
-        private volatile long cipherId = -1;
+        private volatile long tokenId = 0L;
 
+        /**
+         * Every chunk of a message is secured with the token that was current when the message was started, so
+         * the chunks don't depend on the order in which they're signed and encrypted.
+         */
         @Override
-        public void encodeSecurityHeader(SecureChannel channel, ByteBuf buffer) throws UaException {
+        protected void beginMessage(SecureChannel channel) {
             ChannelSecurity channelSecurity = channel.getChannelSecurity();
-            long tokenId = channelSecurity != null ? channelSecurity.getCurrentToken().getTokenId().longValue() : 0L;
-
-            SymmetricSecurityHeader.encode(new SymmetricSecurityHeader(tokenId), buffer);
 
+            tokenId = channelSecurity != null ? channelSecurity.getCurrentToken().getTokenId().longValue() : 0L;
             securityKeys = channelSecurity != null ? channelSecurity.getCurrentKeys() : null;
+        }
 
-            if (cipherId != tokenId && channel.isSymmetricEncryptionEnabled()) {
-                cipher = initCipher(channel);
-                cipherId = tokenId;
-            }
+        @Override
+        protected boolean isParallelCryptoSupported() {
+            return true;
         }
 
+        /**
+         * AES-CBC ciphertext is the same size as its plaintext, so the ciphertext is written straight back over the
+         * plaintext in the chunk buffer.
+         * <p>
+         * The cipher works on reused scratch arrays rather than on the chunk's NIO buffer: the JCE allocates a
+         * temporary array for every operation on a direct ByteBuffer, and for in-place operations on a single
+         * array, which is exactly the per-chunk garbage this avoids.
+         */
         @Override
-        public byte[] signChunk(SecureChannel channel, ByteBuffer chunkNioBuffer) throws UaException {
-            SecurityAlgorithm signatureAlgorithm = channel.getSecurityPolicy().getSymmetricSignatureAlgorithm();
-            byte[] signatureKey = channel.getEncryptionKeys(securityKeys).getSignatureKey();
+        protected void encryptChunk(
+            SecureChannel channel,
+            ByteBuffer chunkNioBuffer,
+            int blockCount
+        ) throws GeneralSecurityException {
 
-            return SignatureUtil.hmac(
-                signatureAlgorithm,
-                signatureKey,
-                chunkNioBuffer
-            );
+            SecretKeyCache keyCache = channel.getEncryptionKeys(securityKeys).getCache();
+
+            Cipher cipher = keyCache.acquireCipher(Cipher.ENCRYPT_MODE);
+
+            ScratchSpace scratch;
+            synchronized (scratchSpaces) {
+                scratch = scratchSpaces.poll();
+            }
+            if (scratch == null) {
+                scratch = new ScratchSpace();
+            }
+
+            try {
+                int length = chunkNioBuffer.remaining();
+
+                if (scratch.plainTextBytes.length < length) {
+                    scratch.plainTextBytes = new byte[length];
+                    scratch.cipherTextBytes = new byte[length];
+                }
+
+                chunkNioBuffer.duplicate().get(scratch.plainTextBytes, 0, length);
+
+                int bytesWritten = cipher.doFinal(scratch.plainTextBytes, 0, length, scratch.cipherTextBytes, 0);
+
+                assert (bytesWritten == length);
+
+                chunkNioBuffer.put(scratch.cipherTextBytes, 0, length);
+            } finally {
+                keyCache.releaseCipher(Cipher.ENCRYPT_MODE, cipher);
+
+                synchronized (scratchSpaces) {
+                    scratchSpaces.push(scratch);
+                }
+            }
+        }
+
+        @Override
+        public void encodeSecurityHeader(SecureChannel channel, ByteBuf buffer) {
+            SymmetricSecurityHeader.encode(new SymmetricSecurityHeader(tokenId), buffer);
         }
 
         @Override
-        public Cipher getCipher(SecureChannel channel) {
-            assert cipher != null;
-            return cipher;
+        public byte[] signChunk(SecureChannel channel, ByteBuffer chunkNioBuffer) throws UaException {
+            return channel.getEncryptionKeys(securityKeys).getCache().hmac(chunkNioBuffer);
         }
 
         @Override
@@ -432,11 +567,6 @@ public final class ChunkEncoder {
             return channel.getSymmetricSignatureSize();
         }
 
-        @Override
-        protected boolean isAsymmetric() {
-            return false;
-        }
-
         @Override
         public boolean isEncryptionEnabled(SecureChannel channel) {
             return channel.isSymmetricEncryptionEnabled();
@@ -447,25 +577,15 @@ public final class ChunkEncoder {
             return channel.isSymmetricSigningEnabled();
         }
 
-        private Cipher initCipher(SecureChannel channel) throws UaException {
-            try {
-                String transformation = channel.getSecurityPolicy()
-                    .getSymmetricEncryptionAlgorithm().getTransformation();
-                ChannelSecurity.SecretKeys secretKeys = channel.getEncryptionKeys(securityKeys);
-
-                SecretKeySpec keySpec = new SecretKeySpec(secretKeys.getEncryptionKey(), "AES");
-                IvParameterSpec ivSpec = new IvParameterSpec(secretKeys.getInitializationVector());
-
-                Cipher cipher = Cipher.getInstance(transformation);
-                cipher.init(Cipher.ENCRYPT_MODE, keySpec, ivSpec);
+    }
 
-                assert (cipher.getBlockSize() == channel.getSymmetricBlockSize());
+    /**
+     * Scratch space for the plaintext and ciphertext of a chunk.
+     */
+    private static final class ScratchSpace {
 
-                return cipher;
-            } catch (GeneralSecurityException e) {
-                throw new UaException(StatusCodes.Bad_SecurityChecksFailed, e);
-            }
-        }
+        private byte[] plainTextBytes = new byte[0];
+        private byte[] cipherTextBytes = new byte[0];
 
     }
 
@@ -46,10 +46,17 @@ public class EncodingLimits {
      */
     public static final int DEFAULT_MAX_RECURSION_DEPTH = 128;
 
+    /**
+     * The default minimum number of chunks a message must have before its chunks are signed and encrypted in
+     * parallel; 0, meaning chunk crypto is always done serially.
+     */
+    public static final int DEFAULT_PARALLEL_CRYPTO_CHUNK_THRESHOLD = 0;
+
     private final int maxChunkSize;
     private final int maxChunkCount;
     private final int maxMessageSize;
     private final int maxRecursionDepth;
+    private final int parallelCryptoChunkThreshold;
 
     /**
      * Create a {@link EncodingLimits} using the default parameters.
@@ -74,13 +81,44 @@ public class EncodingLimits {
         int maxRecursionDepth
     ) {
 
+        this(
+            maxChunkSize,
+            maxChunkCount,
+            maxMessageSize,
+            maxRecursionDepth,
+            DEFAULT_PARALLEL_CRYPTO_CHUNK_THRESHOLD
+        );
+    }
+
+    /**
+     * Create a {@link EncodingLimits}.
+     *
+     * @param maxChunkSize                 the maximum size of a single chunk.
+     * @param maxChunkCount                the maximum number of chunks a message can break down into.
+     * @param maxMessageSize               the maximum size of a message.
+     * @param maxRecursionDepth            the maximum recursion depth allowed when decoding nested structures.
+     * @param parallelCryptoChunkThreshold the minimum number of chunks a symmetrically secured message must have
+     *                                     before its chunks are signed/encrypted or verified/decrypted in parallel,
+     *                                     or 0 to always do chunk crypto serially.
+     */
+    public EncodingLimits(
+        int maxChunkSize,
+        int maxChunkCount,
+        int maxMessageSize,
+        int maxRecursionDepth,
+        int parallelCryptoChunkThreshold
+    ) {
+
         Preconditions.checkArgument(maxChunkSize >= 8196,
             "maxChunkSize must be greater than or equal to 8196");
+        Preconditions.checkArgument(parallelCryptoChunkThreshold >= 0,
+            "parallelCryptoChunkThreshold must be greater than or equal to 0");
 
         this.maxChunkSize = maxChunkSize;
         this.maxChunkCount = maxChunkCount;
         this.maxMessageSize = maxMessageSize;
         this.maxRecursionDepth = maxRecursionDepth;
+        this.parallelCryptoChunkThreshold = parallelCryptoChunkThreshold;
     }
 
     public int getMaxChunkSize() {
@@ -99,4 +137,8 @@ public class EncodingLimits {
         return maxRecursionDepth;
     }
 
+    public int getParallelCryptoChunkThreshold() {
+        return parallelCryptoChunkThreshold;
+    }
+
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.channel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import io.netty.buffer.ByteBuf;
+import org.eclipse.milo.opcua.stack.core.Stack;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+
+/**
+ * Runs the per-chunk signing/encryption or verification/decryption of a message across
+ * {@link Stack#sharedCryptoPool()}.
+ * <p>
+ * Once the headers of every chunk are written (or read) the crypto for each chunk is independent of the others, so
+ * the chunks can be processed in any order; callers are responsible for anything order-dependent, like sequence
+ * number checks, before or after.
+ */
+final class ParallelChunkCrypto {
+
+    private ParallelChunkCrypto() {}
+
+    /**
+     * @param parameters  the {@link ChannelParameters} of the channel.
+     * @param chunkCount  the number of chunks in the message.
+     * @return {@code true} if a message with {@code chunkCount} chunks should have its chunk crypto done in parallel.
+     */
+    static boolean isParallel(ChannelParameters parameters, int chunkCount) {
+        int threshold = parameters.getParallelCryptoChunkThreshold();
+
+        return threshold > 0 && chunkCount > 1 && chunkCount >= threshold;
+    }
+
+    /**
+     * Apply {@code operation} to every chunk in {@code chunkBuffers}, in parallel, and wait for all of them to
+     * finish.
+     * <p>
+     * All operations are waited on even if one fails, so the caller can safely release the chunk buffers when this
+     * method throws.
+     *
+     * @param chunkBuffers the chunks to operate on.
+     * @param operation    the operation to apply to each chunk.
+     * @throws UaException the first exception thrown by {@code operation}, if any.
+     */
+    static void forEachChunk(List<ByteBuf> chunkBuffers, ChunkOperation operation) throws UaException {
+        ForkJoinPool pool = Stack.sharedCryptoPool();
+
+        List<ForkJoinTask<Void>> tasks = new ArrayList<>(chunkBuffers.size() - 1);
+
+        for (int i = 1; i < chunkBuffers.size(); i++) {
+            ByteBuf chunkBuffer = chunkBuffers.get(i);
+
+            tasks.add(pool.submit(() -> {
+                operation.apply(chunkBuffer);
+                return null;
+            }));
+        }
+
+        UaException failure = null;
+
+        // The calling thread takes the first chunk rather than sitting idle.
+        try {
+            operation.apply(chunkBuffers.get(0));
+        } catch (UaException e) {
+            failure = e;
+        } catch (RuntimeException e) {
+            failure = new UaException(StatusCodes.Bad_InternalError, e);
+        }
+
+        boolean interrupted = false;
+
+        for (ForkJoinTask<Void> task : tasks) {
+            while (true) {
+                try {
+                    task.get();
+                    break;
+                } catch (InterruptedException e) {
+                    // Keep waiting; the task may still be writing into a chunk buffer.
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        Throwable cause = e.getCause();
+
+                        failure = cause instanceof UaException ?
+                            (UaException) cause :
+                            new UaException(StatusCodes.Bad_InternalError, cause);
+                    }
+                    break;
+                }
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @FunctionalInterface
+    interface ChunkOperation {
+
+        void apply(ByteBuf chunkBuffer) throws UaException;
+
+    }
+
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.channel;
+
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import io.netty.buffer.ByteBuf;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.security.SecurityPolicy;
+
+/**
+ * Pre-initialized {@link Mac} and {@link Cipher} instances for one set of {@link ChannelSecurity.SecretKeys}.
+ * <p>
+ * A {@link ChannelSecurity.SecretKeys} belongs to a single token of a single channel, so instances cached here are
+ * dropped along with the keys when the token is renewed and the previous token expires.
+ * <p>
+ * Instances are created on demand and pooled: one per thread signing, verifying, or encrypting with these keys at
+ * the same time, which is usually just the encoding and decoding threads of the channel.
+ */
+final class SecretKeyCache {
+
+    private final Deque<MacContext> macs = new ArrayDeque<>();
+    private final Deque<Cipher> encryptionCiphers = new ArrayDeque<>();
+    private final Deque<Cipher> decryptionCiphers = new ArrayDeque<>();
+
+    private final SecurityPolicy securityPolicy;
+    private final byte[] signatureKey;
+    private final byte[] encryptionKey;
+    private final byte[] initializationVector;
+
+    SecretKeyCache(
+        SecurityPolicy securityPolicy,
+        byte[] signatureKey,
+        byte[] encryptionKey,
+        byte[] initializationVector
+    ) {
+
+        this.securityPolicy = securityPolicy;
+        this.signatureKey = signatureKey;
+        this.encryptionKey = encryptionKey;
+        this.initializationVector = initializationVector;
+    }
+
+    /**
+     * Compute the HMAC of the bytes between position and limit of {@code buffer} using the signature key.
+     *
+     * @param buffer the data to sign.
+     * @return the HMAC.
+     * @throws UaException if the HMAC operation fails for any reason.
+     */
+    byte[] hmac(ByteBuffer buffer) throws UaException {
+        MacContext context = acquireMac();
+
+        try {
+            context.mac.update(buffer);
+
+            return context.mac.doFinal();
+        } finally {
+            releaseMac(context);
+        }
+    }
+
+    /**
+     * Verify that the HMAC of the bytes between position and limit of {@code buffer} matches the signature stored
+     * in {@code signatureBuffer} at {@code signatureIndex}.
+     * <p>
+     * The comparison is made in constant time and, once a {@link Mac} has been cached, without allocating.
+     *
+     * @param buffer          the signed data.
+     * @param signatureBuffer the buffer holding the signature.
+     * @param signatureIndex  the index of the first signature byte in {@code signatureBuffer}.
+     * @return {@code true} if the signature is valid.
+     * @throws UaException if the HMAC operation fails for any reason.
+     */
+    boolean verifyHmac(ByteBuffer buffer, ByteBuf signatureBuffer, int signatureIndex) throws UaException {
+        MacContext context = acquireMac();
+
+        try {
+            context.mac.update(buffer);
+            context.mac.doFinal(context.signature, 0);
+
+            if (signatureBuffer.writerIndex() - signatureIndex != context.signature.length) {
+                return false;
+            }
+
+            int result = 0;
+            for (int i = 0; i < context.signature.length; i++) {
+                result |= context.signature[i] ^ signatureBuffer.getByte(signatureIndex + i);
+            }
+            return result == 0;
+        } catch (GeneralSecurityException e) {
+            throw new UaException(StatusCodes.Bad_SecurityChecksFailed, e);
+        } finally {
+            releaseMac(context);
+        }
+    }
+
+    /**
+     * Get a {@link Cipher} initialized with the encryption key and initialization vector. Return it with
+     * {@link #releaseCipher(int, Cipher)} after calling {@code doFinal}, which resets it to its initial state.
+     *
+     * @param opmode {@link Cipher#ENCRYPT_MODE} or {@link Cipher#DECRYPT_MODE}.
+     * @return an initialized {@link Cipher}.
+     */
+    Cipher acquireCipher(int opmode) throws GeneralSecurityException {
+        Deque<Cipher> ciphers = opmode == Cipher.ENCRYPT_MODE ? encryptionCiphers : decryptionCiphers;
+
+        Cipher cipher;
+        synchronized (ciphers) {
+            cipher = ciphers.poll();
+        }
+
+        if (cipher == null) {
+            String transformation = securityPolicy.getSymmetricEncryptionAlgorithm().getTransformation();
+
+            cipher = Cipher.getInstance(transformation);
+            cipher.init(
+                opmode,
+                new SecretKeySpec(encryptionKey, "AES"),
+                new IvParameterSpec(initializationVector)
+            );
+        }
+
+        return cipher;
+    }
+
+    void releaseCipher(int opmode, Cipher cipher) {
+        Deque<Cipher> ciphers = opmode == Cipher.ENCRYPT_MODE ? encryptionCiphers : decryptionCiphers;
+
+        synchronized (ciphers) {
+            ciphers.push(cipher);
+        }
+    }
+
+    private MacContext acquireMac() throws UaException {
+        MacContext context;
+        synchronized (macs) {
+            context = macs.poll();
+        }
+
+        if (context == null) {
+            String transformation = securityPolicy.getSymmetricSignatureAlgorithm().getTransformation();
+
+            try {
+                Mac mac = Mac.getInstance(transformation);
+                mac.init(new SecretKeySpec(signatureKey, transformation));
+
+                context = new MacContext(mac);
+            } catch (NoSuchAlgorithmException e) {
+                throw new UaException(StatusCodes.Bad_InternalError, e);
+            } catch (GeneralSecurityException e) {
+                throw new UaException(StatusCodes.Bad_SecurityChecksFailed, e);
+            }
+        }
+
+        return context;
+    }
+
+    private void releaseMac(MacContext context) {
+        synchronized (macs) {
+            macs.push(context);
+        }
+    }
+
+    /**
+     * Get a {@link ByteBuffer} view of {@code length} bytes of {@code buffer} starting at {@code index}, without
+     * allocating a new view when the buffer is backed by a single NIO buffer.
+     * <p>
+     * The view may be shared with other callers of {@link ByteBuf#internalNioBuffer(int, int)} on the same buffer
+     * and must not be retained.
+     */
+    static ByteBuffer nioBuffer(ByteBuf buffer, int index, int length) {
+        return buffer.nioBufferCount() == 1 ?
+            buffer.internalNioBuffer(index, length) :
+            buffer.nioBuffer(index, length);
+    }
+
+    /**
+     * A {@link Mac} initialized with the signature key, plus space for the HMAC it computes.
+     */
+    private static final class MacContext {
+
+        private final Mac mac;
+        private final byte[] signature;
+
+        MacContext(Mac mac) {
+            this.mac = mac;
+            this.signature = new byte[mac.getMacLength()];
+        }
+
+    }
+
+}
@@ -15,7 +15,7 @@ import java.util.concurrent.ExecutorService;
 import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamDecoder;
 import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamEncoder;
 import org.eclipse.milo.opcua.stack.core.serialization.SerializationContext;
-import org.eclipse.milo.opcua.stack.core.util.ExecutionQueue;
+import org.eclipse.milo.opcua.stack.core.util.MpscExecutionQueue;
 
 public class SerializationQueue {
 
@@ -25,8 +25,8 @@ public class SerializationQueue {
     private final ChunkEncoder chunkEncoder;
     private final ChunkDecoder chunkDecoder;
 
-    private final ExecutionQueue encodingQueue;
-    private final ExecutionQueue decodingQueue;
+    private final MpscExecutionQueue encodingQueue;
+    private final MpscExecutionQueue decodingQueue;
 
     private final ChannelParameters parameters;
 
@@ -44,8 +44,8 @@ public class SerializationQueue {
         binaryEncoder = new OpcUaBinaryStreamEncoder(context);
         binaryDecoder = new OpcUaBinaryStreamDecoder(context);
 
-        encodingQueue = new ExecutionQueue(executor);
-        decodingQueue = new ExecutionQueue(executor);
+        encodingQueue = new MpscExecutionQueue(executor);
+        decodingQueue = new MpscExecutionQueue(executor);
     }
 
     public void encode(Encoder encoder) {
@@ -0,0 +1,983 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.serialization;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaSerializationException;
+import org.eclipse.milo.opcua.stack.core.serialization.codecs.DataTypeCodec;
+import org.eclipse.milo.opcua.stack.core.serialization.codecs.GenericDataTypeCodec;
+import org.eclipse.milo.opcua.stack.core.serialization.codecs.OpcUaJsonDataTypeCodec;
+import org.eclipse.milo.opcua.stack.core.types.OpcUaDefaultBinaryEncoding;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DiagnosticInfo;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExpandedNodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.builtin.XmlElement;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UByte;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.ULong;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UShort;
+import org.eclipse.milo.opcua.stack.core.util.ArrayUtil;
+import org.eclipse.milo.opcua.stack.core.util.TypeUtil;
+import org.jetbrains.annotations.Nullable;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+
+/**
+ * Decodes values from the reversible OPC UA JSON encoding (Part 6, 5.4).
+ * <p>
+ * The JSON is consumed as a token stream. Fields are read directly from the stream as long as they arrive in the order
+ * the codecs ask for them, which is the order {@link OpcUaJsonStreamEncoder} writes them in. Fields that arrive out of
+ * order are parsed and held per object until they are asked for, so any field order decodes correctly.
+ * <p>
+ * Missing and {@code null} fields decode to the same values {@link OpcUaBinaryStreamDecoder} produces for an absent
+ * or null value, e.g. {@link NodeId#NULL_VALUE} or {@link StatusCode#GOOD}. Fields no codec asks for are skipped.
+ */
+public class OpcUaJsonStreamDecoder implements UaDecoder {
+
+    private static final Instant UTC_EPOCH = Instant.parse("1601-01-01T00:00:00Z");
+
+    private final Deque<Frame> frames = new ArrayDeque<>();
+
+    private int depth = 0;
+
+    private JsonReader reader;
+
+    private final SerializationContext context;
+
+    public OpcUaJsonStreamDecoder(SerializationContext context) {
+        this.context = context;
+    }
+
+    public OpcUaJsonStreamDecoder setReader(Reader reader) {
+        this.reader = new JsonReader(reader);
+        this.frames.clear();
+        this.depth = 0;
+
+        return this;
+    }
+
+    public OpcUaJsonStreamDecoder setBuffer(ByteBuf buffer) {
+        return setReader(new InputStreamReader(new ByteBufInputStream(buffer), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public Boolean readBoolean(String field) throws UaSerializationException {
+        return read(field, false, () -> reader.nextBoolean());
+    }
+
+    @Override
+    public Byte readSByte(String field) throws UaSerializationException {
+        return read(field, (byte) 0, () -> (byte) reader.nextInt());
+    }
+
+    @Override
+    public Short readInt16(String field) throws UaSerializationException {
+        return read(field, (short) 0, () -> (short) reader.nextInt());
+    }
+
+    @Override
+    public Integer readInt32(String field) throws UaSerializationException {
+        return read(field, 0, () -> reader.nextInt());
+    }
+
+    @Override
+    public Long readInt64(String field) throws UaSerializationException {
+        return read(field, 0L, () -> Long.parseLong(reader.nextString()));
+    }
+
+    @Override
+    public UByte readByte(String field) throws UaSerializationException {
+        return read(field, UByte.MIN, () -> ubyte(reader.nextInt()));
+    }
+
+    @Override
+    public UShort readUInt16(String field) throws UaSerializationException {
+        return read(field, UShort.MIN, () -> ushort(reader.nextInt()));
+    }
+
+    @Override
+    public UInteger readUInt32(String field) throws UaSerializationException {
+        return read(field, UInteger.MIN, () -> uint(reader.nextLong()));
+    }
+
+    @Override
+    public ULong readUInt64(String field) throws UaSerializationException {
+        return read(field, ULong.MIN, () -> ULong.valueOf(reader.nextString()));
+    }
+
+    @Override
+    public Float readFloat(String field) throws UaSerializationException {
+        // Float.parseFloat also accepts the "NaN", "Infinity" and "-Infinity" string forms.
+        return read(field, 0.0f, () -> Float.parseFloat(reader.nextString()));
+    }
+
+    @Override
+    public Double readDouble(String field) throws UaSerializationException {
+        return read(field, 0.0, () -> Double.parseDouble(reader.nextString()));
+    }
+
+    @Override
+    public String readString(String field) throws UaSerializationException {
+        return read(field, null, () -> reader.nextString());
+    }
+
+    @Override
+    public DateTime readDateTime(String field) throws UaSerializationException {
+        return read(field, DateTime.MIN_VALUE, () -> {
+            Instant instant = OffsetDateTime.parse(reader.nextString()).toInstant();
+
+            return instant.isAfter(UTC_EPOCH) ? new DateTime(instant) : DateTime.MIN_VALUE;
+        });
+    }
+
+    @Override
+    public UUID readGuid(String field) throws UaSerializationException {
+        return read(field, new UUID(0L, 0L), () -> UUID.fromString(reader.nextString()));
+    }
+
+    @Override
+    public ByteString readByteString(String field) throws UaSerializationException {
+        return read(field, ByteString.NULL_VALUE, () -> ByteString.of(Base64.getDecoder().decode(reader.nextString())));
+    }
+
+    @Override
+    public XmlElement readXmlElement(String field) throws UaSerializationException {
+        return read(field, new XmlElement(null), () -> new XmlElement(reader.nextString()));
+    }
+
+    @Override
+    public NodeId readNodeId(String field) throws UaSerializationException {
+        return read(field, NodeId.NULL_VALUE, () -> readObject(() -> {
+            Object identifier = readIdentifier();
+            UShort namespaceIndex = readNamespaceIndex("Namespace");
+
+            if (identifier instanceof UInteger) {
+                return new NodeId(namespaceIndex, (UInteger) identifier);
+            } else if (identifier instanceof String) {
+                return new NodeId(namespaceIndex, (String) identifier);
+            } else if (identifier instanceof UUID) {
+                return new NodeId(namespaceIndex, (UUID) identifier);
+            } else {
+                return new NodeId(namespaceIndex, (ByteString) identifier);
+            }
+        }));
+    }
+
+    @Override
+    public ExpandedNodeId readExpandedNodeId(String field) throws UaSerializationException {
+        return read(field, ExpandedNodeId.NULL_VALUE, () -> readObject(() -> {
+            Object identifier = readIdentifier();
+
+            // Namespace is either an index or a URI; a URI is kept as-is rather than resolved to an index.
+            Object namespace = read("Namespace", UShort.MIN, () -> {
+                if (reader.peek() == JsonToken.STRING) {
+                    return reader.nextString();
+                } else {
+                    return ushort(reader.nextInt());
+                }
+            });
+
+            UShort namespaceIndex = namespace instanceof UShort ? (UShort) namespace : UShort.MIN;
+            String namespaceUri = namespace instanceof String ? (String) namespace : null;
+
+            UInteger serverIndex = read("ServerUri", UInteger.MIN, () -> uint(reader.nextLong()));
+
+            return new ExpandedNodeId(namespaceIndex, namespaceUri, identifier, serverIndex);
+        }));
+    }
+
+    @Override
+    public StatusCode readStatusCode(String field) throws UaSerializationException {
+        return read(field, StatusCode.GOOD, () -> {
+            if (reader.peek() == JsonToken.BEGIN_OBJECT) {
+                return readObject(() -> new StatusCode(readUInt32("Code")));
+            } else {
+                return new StatusCode(reader.nextLong());
+            }
+        });
+    }
+
+    @Override
+    public QualifiedName readQualifiedName(String field) throws UaSerializationException {
+        return read(field, QualifiedName.NULL_VALUE, () -> readObject(() -> {
+            String name = readString("Name");
+            UShort namespaceIndex = readNamespaceIndex("Uri");
+
+            return new QualifiedName(namespaceIndex, name);
+        }));
+    }
+
+    @Override
+    public LocalizedText readLocalizedText(String field) throws UaSerializationException {
+        return read(field, LocalizedText.NULL_VALUE, () -> {
+            if (reader.peek() == JsonToken.STRING) {
+                return new LocalizedText(null, reader.nextString());
+            } else {
+                return readObject(() -> new LocalizedText(readString("Locale"), readString("Text")));
+            }
+        });
+    }
+
+    @Override
+    public ExtensionObject readExtensionObject(String field) throws UaSerializationException {
+        return read(field, null, () -> readObject(() -> {
+            NodeId typeId = readNodeId("TypeId");
+
+            int encoding;
+            if (isNext("Body") && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                // Encoding is omitted for JSON bodies.
+                encoding = 0;
+            } else {
+                encoding = readInt32("Encoding");
+            }
+
+            switch (encoding) {
+                case 0: {
+                    OpcUaJsonDataTypeCodec<Object> codec = getJsonCodec(typeId);
+
+                    Object struct = read("Body", null, () -> decodeStruct(codec));
+
+                    if (struct == null) {
+                        return null;
+                    } else if (struct instanceof UaStructure) {
+                        return ExtensionObject.encode(context, (UaStructure) struct);
+                    } else {
+                        throw new UaSerializationException(
+                            StatusCodes.Bad_DecodingError,
+                            "not a structure: " + struct.getClass()
+                        );
+                    }
+                }
+                case 1:
+                    return new ExtensionObject(readByteString("Body"), typeId);
+                case 2:
+                    return new ExtensionObject(readXmlElement("Body"), typeId);
+                default:
+                    throw new UaSerializationException(
+                        StatusCodes.Bad_DecodingError,
+                        "unknown ExtensionObject encoding: " + encoding
+                    );
+            }
+        }));
+    }
+
+    @Override
+    public DataValue readDataValue(String field) throws UaSerializationException {
+        DataValue defaultValue = new DataValue(
+            Variant.NULL_VALUE, StatusCode.GOOD, DateTime.MIN_VALUE, null, DateTime.MIN_VALUE, null
+        );
+
+        return read(field, defaultValue, () -> readObject(() -> {
+            Variant value = readVariant("Value");
+            StatusCode status = readStatusCode("Status");
+            DateTime sourceTime = readDateTime("SourceTimestamp");
+            UShort sourcePicoseconds = read("SourcePicoseconds", null, () -> ushort(reader.nextInt()));
+            DateTime serverTime = readDateTime("ServerTimestamp");
+            UShort serverPicoseconds = read("ServerPicoseconds", null, () -> ushort(reader.nextInt()));
+
+            return new DataValue(value, status, sourceTime, sourcePicoseconds, serverTime, serverPicoseconds);
+        }));
+    }
+
+    @Override
+    public Variant readVariant(String field) throws UaSerializationException {
+        return read(field, Variant.NULL_VALUE, () -> {
+            enter();
+            try {
+                return readObject(() -> {
+                    int typeId = readInt32("Type");
+
+                    if (typeId == 0) {
+                        return Variant.NULL_VALUE;
+                    }
+
+                    Object body = read("Body", null, () -> {
+                        if (reader.peek() == JsonToken.BEGIN_ARRAY) {
+                            return readBuiltinTypeArray(typeId);
+                        } else {
+                            return readBuiltinType(typeId);
+                        }
+                    });
+
+                    if (body != null && body.getClass().isArray()) {
+                        Integer[] dimensions = readInt32Array("Dimensions");
+
+                        if (dimensions != null && dimensions.length > 1) {
+                            int[] ds = new int[dimensions.length];
+                            for (int i = 0; i < dimensions.length; i++) {
+                                ds[i] = dimensions[i];
+                            }
+                            body = ArrayUtil.unflatten(body, ds);
+                        }
+                    }
+
+                    return new Variant(body);
+                });
+            } finally {
+                depth--;
+            }
+        });
+    }
+
+    @Override
+    public DiagnosticInfo readDiagnosticInfo(String field) throws UaSerializationException {
+        return read(field, null, () -> {
+            enter();
+            try {
+                return readObject(() -> {
+                    int symbolicId = read("SymbolicId", -1, () -> reader.nextInt());
+                    int namespaceUri = read("NamespaceUri", -1, () -> reader.nextInt());
+                    int locale = read("Locale", -1, () -> reader.nextInt());
+                    int localizedText = read("LocalizedText", -1, () -> reader.nextInt());
+                    String additionalInfo = readString("AdditionalInfo");
+                    StatusCode innerStatusCode = read("InnerStatusCode", null, () -> readStatusCode(null));
+                    DiagnosticInfo innerDiagnosticInfo = readDiagnosticInfo("InnerDiagnosticInfo");
+
+                    return new DiagnosticInfo(
+                        namespaceUri,
+                        symbolicId,
+                        locale,
+                        localizedText,
+                        additionalInfo,
+                        innerStatusCode,
+                        innerDiagnosticInfo
+                    );
+                });
+            } finally {
+                depth--;
+            }
+        });
+    }
+
+    /**
+     * Read a message written by {@link OpcUaJsonStreamEncoder#writeMessage(String, UaMessage)}: an object containing
+     * the DataType {@link NodeId} in "TypeId" and the encoded message in "Body".
+     */
+    @Override
+    public UaMessage readMessage(String field) throws UaSerializationException {
+        Object message = read(field, null, () -> readObject(() -> {
+            NodeId typeId = readNodeId("TypeId");
+            OpcUaJsonDataTypeCodec<Object> codec = getJsonCodec(typeId);
+
+            return read("Body", null, () -> decodeStruct(codec));
+        }));
+
+        if (message instanceof UaMessage) {
+            return (UaMessage) message;
+        } else {
+            throw new UaSerializationException(
+                StatusCodes.Bad_DecodingError,
+                "not a message: " + message
+            );
+        }
+    }
+
+    /**
+     * Read an enumeration written either as its integer value or as a "Name_Value" string.
+     */
+    @Override
+    public <T extends Enum<?> & UaEnumeration> T readEnum(
+        String field,
+        Class<T> enumType
+    ) throws UaSerializationException {
+
+        int value = read(field, 0, () -> {
+            if (reader.peek() == JsonToken.STRING) {
+                String s = reader.nextString();
+                return Integer.parseInt(s.substring(s.lastIndexOf('_') + 1));
+            } else {
+                return reader.nextInt();
+            }
+        });
+
+        try {
+            Method m = enumType.getDeclaredMethod("from", int.class);
+            Object o = m.invoke(null, value);
+            return enumType.cast(o);
+        } catch (ClassCastException | NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            throw new UaSerializationException(StatusCodes.Bad_DecodingError, e);
+        }
+    }
+
+    @Override
+    public Object readStruct(String field, NodeId dataTypeId) throws UaSerializationException {
+        OpcUaJsonDataTypeCodec<Object> codec = getJsonCodec(dataTypeId);
+
+        return read(field, null, () -> decodeStruct(codec));
+    }
+
+    @Override
+    public Object readStruct(String field, ExpandedNodeId dataTypeId) throws UaSerializationException {
+        NodeId localDataTypeId = dataTypeId.toNodeId(context.getNamespaceTable())
+            .orElseThrow(() -> new UaSerializationException(
+                StatusCodes.Bad_DecodingError,
+                "no codec registered: " + dataTypeId
+            ));
+
+        return readStruct(field, localDataTypeId);
+    }
+
+    @Override
+    public Object readStruct(String field, DataTypeCodec codec) throws UaSerializationException {
+        OpcUaJsonDataTypeCodec<Object> jsonCodec = GenericDataTypeCodec.toJsonCodec(codec);
+
+        if (jsonCodec == null) {
+            throw new UaSerializationException(
+                StatusCodes.Bad_DecodingError,
+                new IllegalArgumentException("codec: " + codec)
+            );
+        }
+
+        return read(field, null, () -> decodeStruct(jsonCodec));
+    }
+
+    @Override
+    public Boolean[] readBooleanArray(String field) throws UaSerializationException {
+        return readArray(field, this::readBoolean, Boolean.class);
+    }
+
+    @Override
+    public Byte[] readSByteArray(String field) throws UaSerializationException {
+        return readArray(field, this::readSByte, Byte.class);
+    }
+
+    @Override
+    public Short[] readInt16Array(String field) throws UaSerializationException {
+        return readArray(field, this::readInt16, Short.class);
+    }
+
+    @Override
+    public Integer[] readInt32Array(String field) throws UaSerializationException {
+        return readArray(field, this::readInt32, Integer.class);
+    }
+
+    @Override
+    public Long[] readInt64Array(String field) throws UaSerializationException {
+        return readArray(field, this::readInt64, Long.class);
+    }
+
+    @Override
+    public UByte[] readByteArray(String field) throws UaSerializationException {
+        return readArray(field, this::readByte, UByte.class);
+    }
+
+    @Override
+    public UShort[] readUInt16Array(String field) throws UaSerializationException {
+        return readArray(field, this::readUInt16, UShort.class);
+    }
+
+    @Override
+    public UInteger[] readUInt32Array(String field) throws UaSerializationException {
+        return readArray(field, this::readUInt32, UInteger.class);
+    }
+
+    @Override
+    public ULong[] readUInt64Array(String field) throws UaSerializationException {
+        return readArray(field, this::readUInt64, ULong.class);
+    }
+
+    @Override
+    public Float[] readFloatArray(String field) throws UaSerializationException {
+        return readArray(field, this::readFloat, Float.class);
+    }
+
+    @Override
+    public Double[] readDoubleArray(String field) throws UaSerializationException {
+        return readArray(field, this::readDouble, Double.class);
+    }
+
+    @Override
+    public String[] readStringArray(String field) throws UaSerializationException {
+        return readArray(field, this::readString, String.class);
+    }
+
+    @Override
+    public DateTime[] readDateTimeArray(String field) throws UaSerializationException {
+        return readArray(field, this::readDateTime, DateTime.class);
+    }
+
+    @Override
+    public UUID[] readGuidArray(String field) throws UaSerializationException {
+        return readArray(field, this::readGuid, UUID.class);
+    }
+
+    @Override
+    public ByteString[] readByteStringArray(String field) throws UaSerializationException {
+        return readArray(field, this::readByteString, ByteString.class);
+    }
+
+    @Override
+    public XmlElement[] readXmlElementArray(String field) throws UaSerializationException {
+        return readArray(field, this::readXmlElement, XmlElement.class);
+    }
+
+    @Override
+    public NodeId[] readNodeIdArray(String field) throws UaSerializationException {
+        return readArray(field, this::readNodeId, NodeId.class);
+    }
+
+    @Override
+    public ExpandedNodeId[] readExpandedNodeIdArray(String field) throws UaSerializationException {
+        return readArray(field, this::readExpandedNodeId, ExpandedNodeId.class);
+    }
+
+    @Override
+    public StatusCode[] readStatusCodeArray(String field) throws UaSerializationException {
+        return readArray(field, this::readStatusCode, StatusCode.class);
+    }
+
+    @Override
+    public QualifiedName[] readQualifiedNameArray(String field) throws UaSerializationException {
+        return readArray(field, this::readQualifiedName, QualifiedName.class);
+    }
+
+    @Override
+    public LocalizedText[] readLocalizedTextArray(String field) throws UaSerializationException {
+        return readArray(field, this::readLocalizedText, LocalizedText.class);
+    }
+
+    @Override
+    public ExtensionObject[] readExtensionObjectArray(String field) throws UaSerializationException {
+        return readArray(field, this::readExtensionObject, ExtensionObject.class);
+    }
+
+    @Override
+    public DataValue[] readDataValueArray(String field) throws UaSerializationException {
+        return readArray(field, this::readDataValue, DataValue.class);
+    }
+
+    @Override
+    public Variant[] readVariantArray(String field) throws UaSerializationException {
+        return readArray(field, this::readVariant, Variant.class);
+    }
+
+    @Override
+    public DiagnosticInfo[] readDiagnosticInfoArray(String field) throws UaSerializationException {
+        return readArray(field, this::readDiagnosticInfo, DiagnosticInfo.class);
+    }
+
+    @Override
+    public <T extends Enum<?> & UaEnumeration> Object[] readEnumArray(
+        String field,
+        Class<T> enumType
+    ) throws UaSerializationException {
+
+        return readArray(field, f -> readEnum(f, enumType), enumType);
+    }
+
+    @Override
+    public Object[] readStructArray(String field, NodeId dataTypeId) throws UaSerializationException {
+        OpcUaJsonDataTypeCodec<Object> codec = getJsonCodec(dataTypeId);
+
+        @SuppressWarnings("unchecked")
+        Class<Object> type = (Class<Object>) codec.getType();
+
+        return readArray(field, f -> read(f, null, () -> decodeStruct(codec)), type);
+    }
+
+    @Override
+    public Object[] readStructArray(String field, ExpandedNodeId dataTypeId) throws UaSerializationException {
+        NodeId localDataTypeId = dataTypeId.toNodeId(context.getNamespaceTable())
+            .orElseThrow(() -> new UaSerializationException(
+                StatusCodes.Bad_DecodingError,
+                "no codec registered: " + dataTypeId
+            ));
+
+        return readStructArray(field, localDataTypeId);
+    }
+
+    /**
+     * Read a JSON array. {@code decoder} is invoked with a {@code null} field name for each element.
+     */
+    @Override
+    public <T> T[] readArray(
+        String field,
+        Function<String, T> decoder,
+        Class<T> clazz
+    ) throws UaSerializationException {
+
+        return read(field, null, () -> {
+            List<T> values = new ArrayList<>();
+
+            reader.beginArray();
+            while (reader.hasNext()) {
+                values.add(decoder.apply(null));
+
+                checkArrayLength(values.size());
+            }
+            reader.endArray();
+
+            @SuppressWarnings("unchecked")
+            T[] array = (T[]) Array.newInstance(clazz, values.size());
+
+            return values.toArray(array);
+        });
+    }
+
+    /**
+     * Read the "IdType" and "Id" fields shared by NodeId and ExpandedNodeId.
+     */
+    private Object readIdentifier() throws IOException {
+        int idType;
+        if (isNext("Id") && reader.peek() == JsonToken.NUMBER) {
+            // IdType is omitted for numeric identifiers.
+            idType = 0;
+        } else {
+            idType = readInt32("IdType");
+        }
+
+        switch (idType) {
+            case 0:
+                return readUInt32("Id");
+            case 1:
+                return read("Id", "", () -> reader.nextString());
+            case 2:
+                return readGuid("Id");
+            case 3:
+                return readByteString("Id");
+            default:
+                throw new UaSerializationException(StatusCodes.Bad_DecodingError, "IdType: " + idType);
+        }
+    }
+
+    /**
+     * Read a namespace index, written either as the index or as a namespace URI.
+     */
+    private UShort readNamespaceIndex(String field) throws UaSerializationException {
+        return read(field, UShort.MIN, () -> {
+            if (reader.peek() == JsonToken.STRING) {
+                String namespaceUri = reader.nextString();
+                UShort namespaceIndex = context.getNamespaceTable().getIndex(namespaceUri);
+
+                if (namespaceIndex == null) {
+                    throw new UaSerializationException(
+                        StatusCodes.Bad_DecodingError,
+                        "namespace not registered: " + namespaceUri
+                    );
+                }
+
+                return namespaceIndex;
+            } else {
+                return ushort(reader.nextInt());
+            }
+        });
+    }
+
+    private Object readBuiltinTypeArray(int typeId) throws IOException {
+        List<Object> values = new ArrayList<>();
+
+        reader.beginArray();
+        while (reader.hasNext()) {
+            values.add(readBuiltinType(typeId));
+
+            checkArrayLength(values.size());
+        }
+        reader.endArray();
+
+        Object array = Array.newInstance(TypeUtil.getBackingClass(typeId), values.size());
+        for (int i = 0; i < values.size(); i++) {
+            Array.set(array, i, values.get(i));
+        }
+
+        return array;
+    }
+
+    private Object readBuiltinType(int typeId) throws UaSerializationException {
+        switch (typeId) {
+            case 1:
+                return readBoolean(null);
+            case 2:
+                return readSByte(null);
+            case 3:
+                return readByte(null);
+            case 4:
+                return readInt16(null);
+            case 5:
+                return readUInt16(null);
+            case 6:
+                return readInt32(null);
+            case 7:
+                return readUInt32(null);
+            case 8:
+                return readInt64(null);
+            case 9:
+                return readUInt64(null);
+            case 10:
+                return readFloat(null);
+            case 11:
+                return readDouble(null);
+            case 12:
+                return readString(null);
+            case 13:
+                return readDateTime(null);
+            case 14:
+                return readGuid(null);
+            case 15:
+                return readByteString(null);
+            case 16:
+                return readXmlElement(null);
+            case 17:
+                return readNodeId(null);
+            case 18:
+                return readExpandedNodeId(null);
+            case 19:
+                return readStatusCode(null);
+            case 20:
+                return readQualifiedName(null);
+            case 21:
+                return readLocalizedText(null);
+            case 22:
+                return readExtensionObject(null);
+            case 23:
+                return readDataValue(null);
+            case 24:
+                return readVariant(null);
+            case 25:
+                return readDiagnosticInfo(null);
+            default:
+                throw new UaSerializationException(
+                    StatusCodes.Bad_DecodingError,
+                    "unknown builtin type: " + typeId
+                );
+        }
+    }
+
+    private Object decodeStruct(OpcUaJsonDataTypeCodec<Object> codec) throws IOException {
+        enter();
+        try {
+            return readObject(() -> codec.decode(context, this));
+        } finally {
+            depth--;
+        }
+    }
+
+    private OpcUaJsonDataTypeCodec<Object> getJsonCodec(NodeId dataTypeId) throws UaSerializationException {
+        OpcUaJsonDataTypeCodec<Object> codec = GenericDataTypeCodec.toJsonCodec(
+            context.getDataTypeManager().getCodec(OpcUaDefaultBinaryEncoding.ENCODING_NAME, dataTypeId)
+        );
+
+        if (codec == null) {
+            throw new UaSerializationException(
+                StatusCodes.Bad_DecodingError,
+                "no codec registered: " + dataTypeId
+            );
+        }
+
+        return codec;
+    }
+
+    /**
+     * Read the value of {@code field} in the current object, or the next value if {@code field} is {@code null}.
+     *
+     * @return the value read by {@code read}, or {@code defaultValue} if the field is missing or {@code null}.
+     */
+    private <T> T read(@Nullable String field, T defaultValue, JsonRead<T> read) throws UaSerializationException {
+        try {
+            if (field == null) {
+                return readValue(defaultValue, read);
+            }
+
+            Frame frame = frames.peek();
+
+            if (frame == null) {
+                throw new UaSerializationException(
+                    StatusCodes.Bad_DecodingError,
+                    "field outside of an object: " + field
+                );
+            }
+
+            JsonElement stashed = frame.stash != null ? frame.stash.remove(field) : null;
+
+            if (stashed != null) {
+                JsonReader previous = reader;
+                reader = new JsonReader(new StringReader(stashed.toString()));
+                reader.setLenient(true);
+                try {
+                    return readValue(defaultValue, read);
+                } finally {
+                    reader = previous;
+                }
+            } else if (seek(frame, field)) {
+                return readValue(defaultValue, read);
+            } else {
+                return defaultValue;
+            }
+        } catch (UaSerializationException e) {
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            throw new UaSerializationException(StatusCodes.Bad_DecodingError, e);
+        }
+    }
+
+    private <T> T readValue(T defaultValue, JsonRead<T> read) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return defaultValue;
+        } else {
+            return read.read();
+        }
+    }
+
+    /**
+     * Read an object, skipping any fields {@code read} didn't ask for.
+     */
+    private <T> T readObject(JsonRead<T> read) throws IOException {
+        reader.beginObject();
+
+        Frame frame = new Frame(reader);
+        frames.push(frame);
+
+        T value = read.read();
+
+        frames.pop();
+
+        if (frame.pendingName != null) {
+            frame.reader.skipValue();
+        }
+        while (frame.reader.hasNext()) {
+            frame.reader.nextName();
+            frame.reader.skipValue();
+        }
+        frame.reader.endObject();
+
+        return value;
+    }
+
+    /**
+     * Advance the stream to the value of {@code field}, stashing any fields that come before it.
+     *
+     * @return {@code true} if the reader is positioned at the value of {@code field}.
+     */
+    private boolean seek(Frame frame, String field) throws IOException {
+        while (true) {
+            String name = frame.pendingName;
+
+            if (name != null) {
+                frame.pendingName = null;
+            } else if (frame.reader.hasNext()) {
+                name = frame.reader.nextName();
+            } else {
+                return false;
+            }
+
+            if (name.equals(field)) {
+                return true;
+            } else {
+                if (frame.stash == null) {
+                    frame.stash = new HashMap<>();
+                }
+                frame.stash.put(name, JsonParser.parseReader(frame.reader));
+            }
+        }
+    }
+
+    /**
+     * @return {@code true} if the next unread field in the current object is {@code field} and the reader is
+     * positioned at its value.
+     */
+    private boolean isNext(String field) throws IOException {
+        Frame frame = frames.peek();
+
+        if (frame == null || frame.stash != null && !frame.stash.isEmpty()) {
+            return false;
+        }
+
+        if (frame.pendingName == null && frame.reader.hasNext()) {
+            frame.pendingName = frame.reader.nextName();
+        }
+
+        return field.equals(frame.pendingName);
+    }
+
+    private void enter() throws UaSerializationException {
+        if (depth >= context.getEncodingLimits().getMaxRecursionDepth()) {
+            throw new UaSerializationException(
+                StatusCodes.Bad_EncodingLimitsExceeded,
+                "max recursion depth exceeded: " +
+                    context.getEncodingLimits().getMaxRecursionDepth()
+            );
+        }
+
+        depth++;
+    }
+
+    private void checkArrayLength(int length) throws UaSerializationException {
+        if (length > context.getEncodingLimits().getMaxMessageSize()) {
+            throw new UaSerializationException(
+                StatusCodes.Bad_EncodingLimitsExceeded,
+                String.format(
+                    "array length exceeds max message size (length=%s, max=%s)",
+                    length, context.getEncodingLimits().getMaxMessageSize())
+            );
+        }
+    }
+
+    private interface JsonRead<T> {
+        T read() throws IOException;
+    }
+
+    private static class Frame {
+
+        /**
+         * Fields read ahead of the field being sought, by name.
+         */
+        Map<String, JsonElement> stash;
+
+        /**
+         * A field name read from the stream whose value hasn't been consumed yet.
+         */
+        String pendingName;
+
+        final JsonReader reader;
+
+        Frame(JsonReader reader) {
+            this.reader = reader;
+        }
+
+    }
+
+}
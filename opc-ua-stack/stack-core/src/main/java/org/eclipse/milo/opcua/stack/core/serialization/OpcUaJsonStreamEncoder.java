@@ -0,0 +1,978 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.serialization;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+import com.google.gson.stream.JsonWriter;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaSerializationException;
+import org.eclipse.milo.opcua.stack.core.serialization.codecs.DataTypeCodec;
+import org.eclipse.milo.opcua.stack.core.serialization.codecs.GenericDataTypeCodec;
+import org.eclipse.milo.opcua.stack.core.serialization.codecs.OpcUaJsonDataTypeCodec;
+import org.eclipse.milo.opcua.stack.core.types.OpcUaDefaultBinaryEncoding;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DiagnosticInfo;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExpandedNodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.builtin.XmlElement;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UByte;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.ULong;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UShort;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.IdType;
+import org.eclipse.milo.opcua.stack.core.util.ArrayUtil;
+import org.eclipse.milo.opcua.stack.core.util.TypeUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Encodes values using the OPC UA JSON encoding (Part 6, 5.4).
+ * <p>
+ * Tokens are written to the underlying {@link Writer} as they are produced; no intermediate document tree is built.
+ * The reversible form round-trips through {@link OpcUaJsonStreamDecoder}, the non-reversible form is meant for
+ * consumers that only need to read values and drops type information accordingly.
+ * <p>
+ * Fields whose value is {@code null} are omitted. Array elements and top-level values are written with a
+ * {@code null} field name.
+ */
+public class OpcUaJsonStreamEncoder implements UaEncoder {
+
+    static final String MIN_DATE_TIME = "0001-01-01T00:00:00Z";
+
+    private int depth = 0;
+
+    private JsonWriter jsonWriter;
+
+    private final SerializationContext context;
+    private final boolean reversible;
+
+    public OpcUaJsonStreamEncoder(SerializationContext context) {
+        this(context, true);
+    }
+
+    /**
+     * @param context    the {@link SerializationContext}.
+     * @param reversible {@code true} to use the reversible encoding, {@code false} for the non-reversible encoding.
+     */
+    public OpcUaJsonStreamEncoder(SerializationContext context, boolean reversible) {
+        this.context = context;
+        this.reversible = reversible;
+    }
+
+    public boolean isReversible() {
+        return reversible;
+    }
+
+    public OpcUaJsonStreamEncoder setWriter(Writer writer) {
+        jsonWriter = new JsonWriter(writer);
+        jsonWriter.setSerializeNulls(false);
+
+        return this;
+    }
+
+    public OpcUaJsonStreamEncoder setBuffer(ByteBuf buffer) {
+        return setWriter(new OutputStreamWriter(new ByteBufOutputStream(buffer), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Flush any characters buffered by the underlying {@link Writer}.
+     *
+     * @throws UaSerializationException if the underlying {@link Writer} fails.
+     */
+    public void flush() throws UaSerializationException {
+        try {
+            jsonWriter.flush();
+        } catch (IOException e) {
+            throw new UaSerializationException(StatusCodes.Bad_EncodingError, e);
+        }
+    }
+
+    @Override
+    public void writeBoolean(String field, Boolean value) throws UaSerializationException {
+        write(field, value, () -> jsonWriter.value(value.booleanValue()));
+    }
+
+    @Override
+    public void writeSByte(String field, Byte value) throws UaSerializationException {
+        write(field, value, () -> jsonWriter.value(value.longValue()));
+    }
+
+    @Override
+    public void writeInt16(String field, Short value) throws UaSerializationException {
+        write(field, value, () -> jsonWriter.value(value.longValue()));
+    }
+
+    @Override
+    public void writeInt32(String field, Integer value) throws UaSerializationException {
+        write(field, value, () -> jsonWriter.value(value.longValue()));
+    }
+
+    @Override
+    public void writeInt64(String field, Long value) throws UaSerializationException {
+        write(field, value, () -> jsonWriter.value(value.toString()));
+    }
+
+    @Override
+    public void writeByte(String field, UByte value) throws UaSerializationException {
+        write(field, value, () -> jsonWriter.value(value.longValue()));
+    }
+
+    @Override
+    public void writeUInt16(String field, UShort value) throws UaSerializationException {
+        write(field, value, () -> jsonWriter.value(value.longValue()));
+    }
+
+    @Override
+    public void writeUInt32(String field, UInteger value) throws UaSerializationException {
+        write(field, value, () -> jsonWriter.value(value.longValue()));
+    }
+
+    @Override
+    public void writeUInt64(String field, ULong value) throws UaSerializationException {
+        write(field, value, () -> jsonWriter.value(value.toString()));
+    }
+
+    @Override
+    public void writeFloat(String field, Float value) throws UaSerializationException {
+        write(field, value, () -> writeFloatingPoint(value));
+    }
+
+    @Override
+    public void writeDouble(String field, Double value) throws UaSerializationException {
+        write(field, value, () -> writeFloatingPoint(value));
+    }
+
+    @Override
+    public void writeString(String field, String value) throws UaSerializationException {
+        write(field, value, () -> jsonWriter.value(value));
+    }
+
+    @Override
+    public void writeDateTime(String field, DateTime value) throws UaSerializationException {
+        write(field, value, () -> {
+            if (value.getUtcTime() <= 0L) {
+                jsonWriter.value(MIN_DATE_TIME);
+            } else {
+                jsonWriter.value(value.getJavaInstant().toString());
+            }
+        });
+    }
+
+    @Override
+    public void writeGuid(String field, UUID value) throws UaSerializationException {
+        write(field, value, () -> jsonWriter.value(formatGuid(value)));
+    }
+
+    @Override
+    public void writeByteString(String field, ByteString value) throws UaSerializationException {
+        write(
+            field,
+            value != null && value.isNotNull() ? value : null,
+            () -> jsonWriter.value(Base64.getEncoder().encodeToString(value.bytes()))
+        );
+    }
+
+    @Override
+    public void writeXmlElement(String field, XmlElement value) throws UaSerializationException {
+        write(
+            field,
+            value != null && value.isNotNull() ? value : null,
+            () -> jsonWriter.value(value.getFragment())
+        );
+    }
+
+    @Override
+    public void writeNodeId(String field, NodeId value) throws UaSerializationException {
+        write(field, value, () -> {
+            jsonWriter.beginObject();
+            writeIdentifier(value.getType(), value.getIdentifier());
+            writeNamespaceIndex("Namespace", value.getNamespaceIndex());
+            jsonWriter.endObject();
+        });
+    }
+
+    @Override
+    public void writeExpandedNodeId(String field, ExpandedNodeId value) throws UaSerializationException {
+        write(field, value, () -> {
+            jsonWriter.beginObject();
+            writeIdentifier(value.getType(), value.getIdentifier());
+
+            String namespaceUri = value.getNamespaceUri();
+            if (namespaceUri != null && !namespaceUri.isEmpty()) {
+                jsonWriter.name("Namespace").value(namespaceUri);
+            } else {
+                writeNamespaceIndex("Namespace", value.getNamespaceIndex());
+            }
+
+            // The server table isn't available to the encoder; ServerUri is always written as an index.
+            UInteger serverIndex = value.getServerIndex();
+            if (serverIndex.longValue() != 0L) {
+                jsonWriter.name("ServerUri").value(serverIndex.longValue());
+            }
+
+            jsonWriter.endObject();
+        });
+    }
+
+    @Override
+    public void writeStatusCode(String field, StatusCode value) throws UaSerializationException {
+        write(field, value, () -> {
+            if (reversible) {
+                jsonWriter.value(value.getValue());
+            } else {
+                jsonWriter.beginObject();
+                jsonWriter.name("Code").value(value.getValue());
+
+                String[] nameAndDescription = StatusCodes.lookup(value.getValue()).orElse(null);
+                if (nameAndDescription != null) {
+                    jsonWriter.name("Symbol").value(nameAndDescription[0]);
+                }
+
+                jsonWriter.endObject();
+            }
+        });
+    }
+
+    @Override
+    public void writeQualifiedName(String field, QualifiedName value) throws UaSerializationException {
+        write(field, value, () -> {
+            jsonWriter.beginObject();
+            jsonWriter.name("Name").value(value.getName());
+            writeNamespaceIndex("Uri", value.getNamespaceIndex());
+            jsonWriter.endObject();
+        });
+    }
+
+    @Override
+    public void writeLocalizedText(String field, LocalizedText value) throws UaSerializationException {
+        write(field, value, () -> {
+            if (reversible) {
+                jsonWriter.beginObject();
+                jsonWriter.name("Locale").value(value.getLocale());
+                jsonWriter.name("Text").value(value.getText());
+                jsonWriter.endObject();
+            } else {
+                jsonWriter.value(value.getText());
+            }
+        });
+    }
+
+    @Override
+    public void writeExtensionObject(String field, ExtensionObject value) throws UaSerializationException {
+        write(field, value, () -> {
+            Object decoded = null;
+            OpcUaJsonDataTypeCodec<Object> codec = null;
+
+            if (value.getBodyType() == ExtensionObject.BodyType.ByteString && !value.isNull()) {
+                codec = GenericDataTypeCodec.toJsonCodec(
+                    context.getDataTypeManager().getCodec(value.getEncodingId())
+                );
+
+                if (codec != null) {
+                    decoded = value.decodeOrNull(context);
+                }
+            }
+
+            if (codec != null && decoded instanceof UaStructure) {
+                writeStructure((UaStructure) decoded, codec);
+            } else if (reversible) {
+                jsonWriter.beginObject();
+                writeNodeId("TypeId", value.getEncodingId());
+
+                if (value.getBodyType() == ExtensionObject.BodyType.ByteString) {
+                    jsonWriter.name("Encoding").value(1);
+                    writeByteString("Body", (ByteString) value.getBody());
+                } else {
+                    jsonWriter.name("Encoding").value(2);
+                    writeXmlElement("Body", (XmlElement) value.getBody());
+                }
+
+                jsonWriter.endObject();
+            } else {
+                if (value.getBodyType() == ExtensionObject.BodyType.ByteString) {
+                    writeByteString(null, (ByteString) value.getBody());
+                } else {
+                    writeXmlElement(null, (XmlElement) value.getBody());
+                }
+            }
+        });
+    }
+
+    @Override
+    public void writeDataValue(String field, DataValue value) throws UaSerializationException {
+        write(field, value, () -> {
+            jsonWriter.beginObject();
+
+            if (value.getValue() != null && value.getValue().isNotNull()) {
+                writeVariant("Value", value.getValue());
+            }
+
+            if (!StatusCode.GOOD.equals(value.getStatusCode())) {
+                writeStatusCode("Status", value.getStatusCode());
+            }
+
+            if (value.getSourceTime() != null && !DateTime.MIN_VALUE.equals(value.getSourceTime())) {
+                writeDateTime("SourceTimestamp", value.getSourceTime());
+            }
+
+            if (value.getSourcePicoseconds() != null && value.getSourcePicoseconds().intValue() != 0) {
+                writeUInt16("SourcePicoseconds", value.getSourcePicoseconds());
+            }
+
+            if (value.getServerTime() != null && !DateTime.MIN_VALUE.equals(value.getServerTime())) {
+                writeDateTime("ServerTimestamp", value.getServerTime());
+            }
+
+            if (value.getServerPicoseconds() != null && value.getServerPicoseconds().intValue() != 0) {
+                writeUInt16("ServerPicoseconds", value.getServerPicoseconds());
+            }
+
+            jsonWriter.endObject();
+        });
+    }
+
+    @Override
+    public void writeVariant(String field, Variant value) throws UaSerializationException {
+        write(field, value != null && value.isNotNull() ? value : null, () -> {
+            enter();
+            try {
+                writeVariantValue(value.getValue());
+            } finally {
+                depth--;
+            }
+        });
+    }
+
+    @Override
+    public void writeDiagnosticInfo(String field, DiagnosticInfo value) throws UaSerializationException {
+        write(field, value, () -> {
+            enter();
+            try {
+                jsonWriter.beginObject();
+                if (value.getSymbolicId() >= 0) {
+                    jsonWriter.name("SymbolicId").value(value.getSymbolicId());
+                }
+                if (value.getNamespaceUri() >= 0) {
+                    jsonWriter.name("NamespaceUri").value(value.getNamespaceUri());
+                }
+                if (value.getLocale() >= 0) {
+                    jsonWriter.name("Locale").value(value.getLocale());
+                }
+                if (value.getLocalizedText() >= 0) {
+                    jsonWriter.name("LocalizedText").value(value.getLocalizedText());
+                }
+                writeString("AdditionalInfo", value.getAdditionalInfo());
+                writeStatusCode("InnerStatusCode", value.getInnerStatusCode());
+                writeDiagnosticInfo("InnerDiagnosticInfo", value.getInnerDiagnosticInfo());
+                jsonWriter.endObject();
+            } finally {
+                depth--;
+            }
+        });
+    }
+
+    /**
+     * Write {@code message} as an object containing the DataType {@link NodeId} in "TypeId" and the encoded message
+     * in "Body", then flush.
+     */
+    @Override
+    public void writeMessage(String field, UaMessage message) throws UaSerializationException {
+        NodeId dataTypeId = message.getTypeId().toNodeId(context.getNamespaceTable())
+            .orElseThrow(
+                () ->
+                    new UaSerializationException(
+                        StatusCodes.Bad_EncodingError,
+                        "namespace not registered: " + message.getTypeId().getNamespaceUri())
+            );
+
+        OpcUaJsonDataTypeCodec<Object> codec = getJsonCodec(dataTypeId);
+
+        write(field, message, () -> {
+            jsonWriter.beginObject();
+            writeNodeId("TypeId", dataTypeId);
+            jsonWriter.name("Body");
+            encodeStruct(message, codec);
+            jsonWriter.endObject();
+        });
+
+        flush();
+    }
+
+    /**
+     * Write {@code value} as its integer value when reversible, otherwise as a "Name_Value" string.
+     */
+    @Override
+    public void writeEnum(String field, UaEnumeration value) throws UaSerializationException {
+        write(field, value, () -> {
+            if (reversible) {
+                jsonWriter.value(value.getValue());
+            } else {
+                String name = value instanceof Enum ? ((Enum<?>) value).name() : value.toString();
+
+                jsonWriter.value(name + "_" + value.getValue());
+            }
+        });
+    }
+
+    @Override
+    public void writeStruct(String field, Object value, NodeId dataTypeId) throws UaSerializationException {
+        writeStruct(field, value, getJsonCodec(dataTypeId));
+    }
+
+    @Override
+    public void writeStruct(String field, Object value, ExpandedNodeId dataTypeId) throws UaSerializationException {
+        NodeId localDataTypeId = dataTypeId.toNodeId(context.getNamespaceTable())
+            .orElseThrow(() -> new UaSerializationException(
+                StatusCodes.Bad_EncodingError,
+                "no codec registered: " + dataTypeId
+            ));
+
+        writeStruct(field, value, localDataTypeId);
+    }
+
+    @Override
+    public void writeStruct(String field, Object value, DataTypeCodec codec) throws UaSerializationException {
+        OpcUaJsonDataTypeCodec<Object> jsonCodec = GenericDataTypeCodec.toJsonCodec(codec);
+
+        if (jsonCodec == null) {
+            throw new UaSerializationException(
+                StatusCodes.Bad_EncodingError,
+                new IllegalArgumentException("codec: " + codec)
+            );
+        }
+
+        write(field, value, () -> encodeStruct(value, jsonCodec));
+    }
+
+    @Override
+    public void writeBooleanArray(String field, Boolean[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeBoolean);
+    }
+
+    @Override
+    public void writeSByteArray(String field, Byte[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeSByte);
+    }
+
+    @Override
+    public void writeInt16Array(String field, Short[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeInt16);
+    }
+
+    @Override
+    public void writeInt32Array(String field, Integer[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeInt32);
+    }
+
+    @Override
+    public void writeInt64Array(String field, Long[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeInt64);
+    }
+
+    @Override
+    public void writeByteArray(String field, UByte[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeByte);
+    }
+
+    @Override
+    public void writeUInt16Array(String field, UShort[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeUInt16);
+    }
+
+    @Override
+    public void writeUInt32Array(String field, UInteger[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeUInt32);
+    }
+
+    @Override
+    public void writeUInt64Array(String field, ULong[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeUInt64);
+    }
+
+    @Override
+    public void writeFloatArray(String field, Float[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeFloat);
+    }
+
+    @Override
+    public void writeDoubleArray(String field, Double[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeDouble);
+    }
+
+    @Override
+    public void writeStringArray(String field, String[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeString);
+    }
+
+    @Override
+    public void writeDateTimeArray(String field, DateTime[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeDateTime);
+    }
+
+    @Override
+    public void writeGuidArray(String field, UUID[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeGuid);
+    }
+
+    @Override
+    public void writeByteStringArray(String field, ByteString[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeByteString);
+    }
+
+    @Override
+    public void writeXmlElementArray(String field, XmlElement[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeXmlElement);
+    }
+
+    @Override
+    public void writeNodeIdArray(String field, NodeId[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeNodeId);
+    }
+
+    @Override
+    public void writeExpandedNodeIdArray(String field, ExpandedNodeId[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeExpandedNodeId);
+    }
+
+    @Override
+    public void writeStatusCodeArray(String field, StatusCode[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeStatusCode);
+    }
+
+    @Override
+    public void writeQualifiedNameArray(String field, QualifiedName[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeQualifiedName);
+    }
+
+    @Override
+    public void writeLocalizedTextArray(String field, LocalizedText[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeLocalizedText);
+    }
+
+    @Override
+    public void writeExtensionObjectArray(String field, ExtensionObject[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeExtensionObject);
+    }
+
+    @Override
+    public void writeDataValueArray(String field, DataValue[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeDataValue);
+    }
+
+    @Override
+    public void writeVariantArray(String field, Variant[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeVariant);
+    }
+
+    @Override
+    public void writeDiagnosticInfoArray(String field, DiagnosticInfo[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeDiagnosticInfo);
+    }
+
+    @Override
+    public void writeEnumArray(String field, UaEnumeration[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeEnum);
+    }
+
+    @Override
+    public void writeStructArray(String field, Object[] value, NodeId dataTypeId) throws UaSerializationException {
+        OpcUaJsonDataTypeCodec<Object> codec = value != null ? getJsonCodec(dataTypeId) : null;
+
+        writeArray(field, value, (f, v) -> write(f, v, () -> encodeStruct(v, codec)));
+    }
+
+    @Override
+    public void writeStructArray(
+        String field,
+        Object[] value,
+        ExpandedNodeId dataTypeId
+    ) throws UaSerializationException {
+
+        NodeId localDataTypeId = dataTypeId.toNodeId(context.getNamespaceTable())
+            .orElseThrow(() -> new UaSerializationException(
+                StatusCodes.Bad_EncodingError,
+                "no codec registered: " + dataTypeId
+            ));
+
+        writeStructArray(field, value, localDataTypeId);
+    }
+
+    /**
+     * Write {@code values} as a JSON array. {@code encoder} is invoked with a {@code null} field name for each
+     * element.
+     */
+    @Override
+    public <T> void writeArray(
+        String field, T[] values, BiConsumer<String, T> encoder) throws UaSerializationException {
+
+        write(field, values, () -> {
+            if (values.length > context.getEncodingLimits().getMaxMessageSize()) {
+                throw new UaSerializationException(
+                    StatusCodes.Bad_EncodingLimitsExceeded,
+                    "array length exceeds max message size"
+                );
+            }
+
+            jsonWriter.beginArray();
+            for (T t : values) {
+                encoder.accept(null, t);
+            }
+            jsonWriter.endArray();
+        });
+    }
+
+    private void writeFloatingPoint(Number value) throws IOException {
+        double d = value.doubleValue();
+
+        if (Double.isNaN(d)) {
+            jsonWriter.value("NaN");
+        } else if (d == Double.POSITIVE_INFINITY) {
+            jsonWriter.value("Infinity");
+        } else if (d == Double.NEGATIVE_INFINITY) {
+            jsonWriter.value("-Infinity");
+        } else {
+            jsonWriter.value(value);
+        }
+    }
+
+    private void writeIdentifier(IdType idType, Object identifier) throws IOException {
+        switch (idType) {
+            case Numeric:
+                jsonWriter.name("Id").value(((UInteger) identifier).longValue());
+                break;
+            case String:
+                jsonWriter.name("IdType").value(1);
+                jsonWriter.name("Id").value((String) identifier);
+                break;
+            case Guid:
+                jsonWriter.name("IdType").value(2);
+                jsonWriter.name("Id").value(formatGuid((UUID) identifier));
+                break;
+            case Opaque:
+                jsonWriter.name("IdType").value(3);
+                jsonWriter.name("Id").value(
+                    Base64.getEncoder().encodeToString(((ByteString) identifier).bytesOrEmpty()));
+                break;
+            default:
+                throw new UaSerializationException(StatusCodes.Bad_EncodingError, "IdType: " + idType);
+        }
+    }
+
+    /**
+     * Write a non-zero namespace index. The non-reversible encoding writes the namespace URI for indices greater
+     * than 1, when it is known.
+     */
+    private void writeNamespaceIndex(String field, UShort namespaceIndex) throws IOException {
+        int index = namespaceIndex.intValue();
+
+        if (index == 0) {
+            return;
+        }
+
+        String namespaceUri = reversible || index == 1 ? null : context.getNamespaceTable().getUri(namespaceIndex);
+
+        if (namespaceUri != null) {
+            jsonWriter.name(field).value(namespaceUri);
+        } else {
+            jsonWriter.name(field).value(index);
+        }
+    }
+
+    private void writeVariantValue(Object value) throws IOException {
+        boolean structure = false;
+        boolean enumeration = false;
+        Class<?> valueClass = value.getClass().isArray() ? ArrayUtil.getType(value) : value.getClass();
+
+        if (UaStructure.class.isAssignableFrom(valueClass)) {
+            valueClass = ExtensionObject.class;
+            structure = true;
+        } else if (UaEnumeration.class.isAssignableFrom(valueClass)) {
+            valueClass = Integer.class;
+            enumeration = true;
+        }
+
+        int typeId = TypeUtil.getBuiltinTypeId(valueClass);
+
+        if (typeId == -1) {
+            throw new UaSerializationException(
+                StatusCodes.Bad_EncodingError,
+                "not a built-in type: " + valueClass
+            );
+        }
+
+        if (reversible) {
+            jsonWriter.beginObject();
+            jsonWriter.name("Type").value(typeId);
+            jsonWriter.name("Body");
+
+            if (value.getClass().isArray()) {
+                int[] dimensions = ArrayUtil.getDimensions(value);
+                Object flattened = dimensions.length > 1 ? ArrayUtil.flatten(value) : value;
+
+                writeVariantArray(flattened, typeId, structure, enumeration);
+
+                if (dimensions.length > 1) {
+                    jsonWriter.name("Dimensions").beginArray();
+                    for (int dimension : dimensions) {
+                        jsonWriter.value(dimension);
+                    }
+                    jsonWriter.endArray();
+                }
+            } else {
+                writeVariantElement(value, typeId, structure, enumeration);
+            }
+
+            jsonWriter.endObject();
+        } else {
+            writeVariantArray(value, typeId, structure, enumeration);
+        }
+    }
+
+    /**
+     * Write {@code value} as a, possibly nested, JSON array if it's an array, otherwise as a single element.
+     */
+    private void writeVariantArray(
+        Object value,
+        int typeId,
+        boolean structure,
+        boolean enumeration
+    ) throws IOException {
+
+        if (value != null && value.getClass().isArray()) {
+            int length = Array.getLength(value);
+
+            jsonWriter.beginArray();
+            for (int i = 0; i < length; i++) {
+                writeVariantArray(Array.get(value, i), typeId, structure, enumeration);
+            }
+            jsonWriter.endArray();
+        } else {
+            writeVariantElement(value, typeId, structure, enumeration);
+        }
+    }
+
+    private void writeVariantElement(
+        @Nullable Object value,
+        int typeId,
+        boolean structure,
+        boolean enumeration
+    ) throws IOException {
+
+        if (value == null) {
+            jsonWriter.nullValue();
+        } else if (structure) {
+            UaStructure struct = (UaStructure) value;
+
+            NodeId dataTypeId = struct.getTypeId().toNodeId(context.getNamespaceTable())
+                .orElseThrow(() -> new UaSerializationException(
+                    StatusCodes.Bad_EncodingError,
+                    "namespace not registered: " + struct.getTypeId().getNamespaceUri()
+                ));
+
+            writeStructure(struct, getJsonCodec(dataTypeId));
+        } else if (enumeration) {
+            writeEnum(null, (UaEnumeration) value);
+        } else {
+            writeBuiltinType(typeId, value);
+        }
+    }
+
+    /**
+     * Write a structure as an ExtensionObject with a JSON body, or just the body when non-reversible.
+     */
+    private void writeStructure(UaStructure struct, OpcUaJsonDataTypeCodec<Object> codec) throws IOException {
+        if (reversible) {
+            NodeId dataTypeId = struct.getTypeId().toNodeId(context.getNamespaceTable())
+                .orElseThrow(() -> new UaSerializationException(
+                    StatusCodes.Bad_EncodingError,
+                    "namespace not registered: " + struct.getTypeId().getNamespaceUri()
+                ));
+
+            jsonWriter.beginObject();
+            writeNodeId("TypeId", dataTypeId);
+            jsonWriter.name("Body");
+            encodeStruct(struct, codec);
+            jsonWriter.endObject();
+        } else {
+            encodeStruct(struct, codec);
+        }
+    }
+
+    private void encodeStruct(Object value, OpcUaJsonDataTypeCodec<Object> codec) throws IOException {
+        enter();
+        try {
+            jsonWriter.beginObject();
+            codec.encode(context, this, value);
+            jsonWriter.endObject();
+        } catch (ClassCastException e) {
+            throw new UaSerializationException(StatusCodes.Bad_EncodingError, e);
+        } finally {
+            depth--;
+        }
+    }
+
+    private void writeBuiltinType(int typeId, Object value) throws UaSerializationException {
+        switch (typeId) {
+            case 1:
+                writeBoolean(null, (Boolean) value);
+                break;
+            case 2:
+                writeSByte(null, (Byte) value);
+                break;
+            case 3:
+                writeByte(null, (UByte) value);
+                break;
+            case 4:
+                writeInt16(null, (Short) value);
+                break;
+            case 5:
+                writeUInt16(null, (UShort) value);
+                break;
+            case 6:
+                writeInt32(null, (Integer) value);
+                break;
+            case 7:
+                writeUInt32(null, (UInteger) value);
+                break;
+            case 8:
+                writeInt64(null, (Long) value);
+                break;
+            case 9:
+                writeUInt64(null, (ULong) value);
+                break;
+            case 10:
+                writeFloat(null, (Float) value);
+                break;
+            case 11:
+                writeDouble(null, (Double) value);
+                break;
+            case 12:
+                writeString(null, (String) value);
+                break;
+            case 13:
+                writeDateTime(null, (DateTime) value);
+                break;
+            case 14:
+                writeGuid(null, (UUID) value);
+                break;
+            case 15:
+                writeByteString(null, (ByteString) value);
+                break;
+            case 16:
+                writeXmlElement(null, (XmlElement) value);
+                break;
+            case 17:
+                writeNodeId(null, (NodeId) value);
+                break;
+            case 18:
+                writeExpandedNodeId(null, (ExpandedNodeId) value);
+                break;
+            case 19:
+                writeStatusCode(null, (StatusCode) value);
+                break;
+            case 20:
+                writeQualifiedName(null, (QualifiedName) value);
+                break;
+            case 21:
+                writeLocalizedText(null, (LocalizedText) value);
+                break;
+            case 22:
+                writeExtensionObject(null, (ExtensionObject) value);
+                break;
+            case 23:
+                writeDataValue(null, (DataValue) value);
+                break;
+            case 24:
+                writeVariant(null, (Variant) value);
+                break;
+            case 25:
+                writeDiagnosticInfo(null, (DiagnosticInfo) value);
+                break;
+            default:
+                throw new UaSerializationException(
+                    StatusCodes.Bad_EncodingError,
+                    "unknown builtin type: " + typeId
+                );
+        }
+    }
+
+    private OpcUaJsonDataTypeCodec<Object> getJsonCodec(NodeId dataTypeId) throws UaSerializationException {
+        OpcUaJsonDataTypeCodec<Object> codec = GenericDataTypeCodec.toJsonCodec(
+            context.getDataTypeManager().getCodec(OpcUaDefaultBinaryEncoding.ENCODING_NAME, dataTypeId)
+        );
+
+        if (codec == null) {
+            throw new UaSerializationException(
+                StatusCodes.Bad_EncodingError,
+                "no codec registered: " + dataTypeId
+            );
+        }
+
+        return codec;
+    }
+
+    private void enter() throws UaSerializationException {
+        if (depth >= context.getEncodingLimits().getMaxRecursionDepth()) {
+            throw new UaSerializationException(
+                StatusCodes.Bad_EncodingLimitsExceeded,
+                "max recursion depth exceeded: " +
+                    context.getEncodingLimits().getMaxRecursionDepth()
+            );
+        }
+
+        depth++;
+    }
+
+    private void write(@Nullable String field, @Nullable Object value, JsonWrite write)
+        throws UaSerializationException {
+
+        try {
+            if (field != null) {
+                jsonWriter.name(field);
+            }
+
+            if (value == null) {
+                jsonWriter.nullValue();
+            } else {
+                write.write();
+            }
+        } catch (IOException | IllegalStateException e) {
+            throw new UaSerializationException(StatusCodes.Bad_EncodingError, e);
+        }
+    }
+
+    static String formatGuid(@NotNull UUID uuid) {
+        return uuid.toString().toUpperCase(Locale.ROOT);
+    }
+
+    private interface JsonWrite {
+        void write() throws IOException;
+    }
+
+}
@@ -13,11 +13,14 @@ package org.eclipse.milo.opcua.stack.core.serialization.codecs;
 import org.eclipse.milo.opcua.stack.core.UaSerializationException;
 import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamDecoder;
 import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamEncoder;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaJsonStreamDecoder;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaJsonStreamEncoder;
 import org.eclipse.milo.opcua.stack.core.serialization.OpcUaXmlStreamDecoder;
 import org.eclipse.milo.opcua.stack.core.serialization.OpcUaXmlStreamEncoder;
 import org.eclipse.milo.opcua.stack.core.serialization.SerializationContext;
 import org.eclipse.milo.opcua.stack.core.serialization.UaDecoder;
 import org.eclipse.milo.opcua.stack.core.serialization.UaEncoder;
+import org.jetbrains.annotations.Nullable;
 
 public abstract class GenericDataTypeCodec<T> implements DataTypeCodec<T, UaDecoder, UaEncoder> {
 
@@ -29,6 +32,36 @@ public abstract class GenericDataTypeCodec<T> implements DataTypeCodec<T, UaDeco
         return new GenericXmlDataTypeCodec<>(this);
     }
 
+    public final OpcUaJsonDataTypeCodec<T> asJsonCodec() {
+        return new GenericJsonDataTypeCodec<>(this);
+    }
+
+    /**
+     * Get an {@link OpcUaJsonDataTypeCodec} for {@code codec}.
+     * <p>
+     * Codecs are registered with the {@link org.eclipse.milo.opcua.stack.core.types.DataTypeManager} by their binary
+     * or XML encoding, so this unwraps the {@link GenericDataTypeCodec} behind those registrations.
+     *
+     * @param codec the {@link DataTypeCodec} to adapt.
+     * @return an {@link OpcUaJsonDataTypeCodec}, or {@code null} if {@code codec} is not backed by a
+     * {@link GenericDataTypeCodec} and can't encode to JSON.
+     */
+    @Nullable
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public static OpcUaJsonDataTypeCodec<Object> toJsonCodec(@Nullable DataTypeCodec codec) {
+        if (codec instanceof OpcUaJsonDataTypeCodec) {
+            return (OpcUaJsonDataTypeCodec<Object>) codec;
+        } else if (codec instanceof GenericDataTypeCodec) {
+            return ((GenericDataTypeCodec<Object>) codec).asJsonCodec();
+        } else if (codec instanceof GenericBinaryDataTypeCodec) {
+            return ((GenericBinaryDataTypeCodec<Object>) codec).codec.asJsonCodec();
+        } else if (codec instanceof GenericXmlDataTypeCodec) {
+            return ((GenericXmlDataTypeCodec<Object>) codec).codec.asJsonCodec();
+        } else {
+            return null;
+        }
+    }
+
     private static class GenericBinaryDataTypeCodec<T> implements OpcUaBinaryDataTypeCodec<T> {
 
         private final GenericDataTypeCodec<T> codec;
@@ -83,5 +116,32 @@ public abstract class GenericDataTypeCodec<T> implements DataTypeCodec<T, UaDeco
 
     }
 
+    private static class GenericJsonDataTypeCodec<T> implements OpcUaJsonDataTypeCodec<T> {
+
+        private final GenericDataTypeCodec<T> codec;
+
+        public GenericJsonDataTypeCodec(GenericDataTypeCodec<T> codec) {
+            this.codec = codec;
+        }
+
+        @Override
+        public Class<T> getType() {
+            return codec.getType();
+        }
+
+        @Override
+        public T decode(SerializationContext context, OpcUaJsonStreamDecoder reader) throws UaSerializationException {
+            return codec.decode(context, reader);
+        }
+
+        @Override
+        public void encode(
+            SerializationContext context, OpcUaJsonStreamEncoder writer, T value) throws UaSerializationException {
+
+            codec.encode(context, writer, value);
+        }
+
+    }
+
 }
 
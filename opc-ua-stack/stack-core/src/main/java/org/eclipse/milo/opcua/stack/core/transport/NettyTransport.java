@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.transport;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.ThreadFactory;
+
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The Netty transport used for client and server sockets.
+ * <p>
+ * The native transports are loaded reflectively and are only available when the matching Netty native artifact
+ * (e.g. {@code netty-transport-native-epoll} or {@code netty-incubator-transport-native-io_uring}) and its native
+ * library are on the classpath. {@link #orFallback()} falls back to {@link #NIO} when they aren't.
+ */
+public enum NettyTransport {
+
+    /**
+     * The JDK NIO transport; available everywhere.
+     */
+    NIO(null),
+
+    /**
+     * The Linux native epoll transport, which uses edge-triggered I/O by default.
+     */
+    EPOLL("io.netty.channel.epoll.Epoll"),
+
+    /**
+     * The Linux native io_uring transport, from Netty's incubator.
+     */
+    IO_URING("io.netty.incubator.channel.uring.IOUring");
+
+    @Nullable
+    private final String probeClassName;
+
+    private volatile Native nativeTransport;
+
+    private volatile boolean fallbackLogged = false;
+
+    NettyTransport(@Nullable String probeClassName) {
+        this.probeClassName = probeClassName;
+    }
+
+    /**
+     * @return {@code true} if this transport's classes and native library can be loaded.
+     */
+    public boolean isAvailable() {
+        return this == NIO || getNative().cause == null;
+    }
+
+    /**
+     * @return the reason this transport isn't available, or {@code null} if it is.
+     */
+    @Nullable
+    public Throwable getUnavailabilityCause() {
+        return this == NIO ? null : getNative().cause;
+    }
+
+    /**
+     * @return this transport if it's available, otherwise {@link #NIO}.
+     */
+    public NettyTransport orFallback() {
+        if (isAvailable()) {
+            return this;
+        } else {
+            if (!fallbackLogged) {
+                fallbackLogged = true;
+
+                LoggerFactory.getLogger(NettyTransport.class).warn(
+                    "{} transport unavailable, falling back to NIO: {}",
+                    this, String.valueOf(getUnavailabilityCause())
+                );
+            }
+
+            return NIO;
+        }
+    }
+
+    /**
+     * @return {@link #IO_URING} if available, otherwise {@link #EPOLL} if available, otherwise {@link #NIO}.
+     */
+    public static NettyTransport bestAvailable() {
+        if (IO_URING.isAvailable()) {
+            return IO_URING;
+        } else if (EPOLL.isAvailable()) {
+            return EPOLL;
+        } else {
+            return NIO;
+        }
+    }
+
+    /**
+     * Create a new {@link EventLoopGroup} for this transport.
+     *
+     * @param nThreads      the number of threads, or 0 for Netty's default.
+     * @param threadFactory the {@link ThreadFactory} for the event loop threads.
+     * @return a new {@link EventLoopGroup}.
+     * @throws IllegalStateException if this transport isn't available.
+     */
+    public EventLoopGroup newEventLoopGroup(int nThreads, ThreadFactory threadFactory) {
+        if (this == NIO) {
+            return new NioEventLoopGroup(nThreads, threadFactory);
+        }
+
+        try {
+            return (EventLoopGroup) requireNative().eventLoopGroupClass
+                .getConstructor(int.class, ThreadFactory.class)
+                .newInstance(nThreads, threadFactory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("failed to create " + this + " EventLoopGroup", e);
+        }
+    }
+
+    /**
+     * @return the {@link ServerSocketChannel} implementation for this transport.
+     * @throws IllegalStateException if this transport isn't available.
+     */
+    public Class<? extends ServerSocketChannel> getServerChannelClass() {
+        return this == NIO ? NioServerSocketChannel.class : requireNative().serverChannelClass;
+    }
+
+    /**
+     * @return the {@link SocketChannel} implementation for this transport.
+     * @throws IllegalStateException if this transport isn't available.
+     */
+    public Class<? extends SocketChannel> getChannelClass() {
+        return this == NIO ? NioSocketChannel.class : requireNative().channelClass;
+    }
+
+    /**
+     * Get the SO_REUSEPORT option, which allows several server sockets to bind the same address and have the
+     * kernel balance incoming connections between them.
+     *
+     * @return the SO_REUSEPORT {@link ChannelOption}, or {@code null} if this transport doesn't support it.
+     */
+    @Nullable
+    public ChannelOption<Boolean> getReusePortOption() {
+        return this == NIO || !isAvailable() ? null : getNative().reusePort;
+    }
+
+    private Native requireNative() {
+        Native n = getNative();
+
+        if (n.cause != null) {
+            throw new IllegalStateException(this + " transport unavailable", n.cause);
+        }
+
+        return n;
+    }
+
+    private Native getNative() {
+        Native n = nativeTransport;
+
+        if (n == null) {
+            synchronized (this) {
+                n = nativeTransport;
+                if (n == null) {
+                    nativeTransport = n = Native.load(this);
+                }
+            }
+        }
+
+        return n;
+    }
+
+    private static final class Native {
+
+        @Nullable
+        final Throwable cause;
+
+        final Class<?> eventLoopGroupClass;
+        final Class<? extends ServerSocketChannel> serverChannelClass;
+        final Class<? extends SocketChannel> channelClass;
+
+        @Nullable
+        final ChannelOption<Boolean> reusePort;
+
+        private Native(
+            @Nullable Throwable cause,
+            Class<?> eventLoopGroupClass,
+            Class<? extends ServerSocketChannel> serverChannelClass,
+            Class<? extends SocketChannel> channelClass,
+            @Nullable ChannelOption<Boolean> reusePort
+        ) {
+
+            this.cause = cause;
+            this.eventLoopGroupClass = eventLoopGroupClass;
+            this.serverChannelClass = serverChannelClass;
+            this.channelClass = channelClass;
+            this.reusePort = reusePort;
+        }
+
+        @SuppressWarnings("unchecked")
+        static Native load(NettyTransport transport) {
+            assert transport.probeClassName != null;
+
+            try {
+                ClassLoader classLoader = NettyTransport.class.getClassLoader();
+                Class<?> probe = Class.forName(transport.probeClassName, true, classLoader);
+
+                Throwable cause = (Throwable) probe.getMethod("unavailabilityCause").invoke(null);
+
+                if (cause != null) {
+                    return unavailable(cause);
+                }
+
+                // e.g. io.netty.channel.epoll.Epoll -> io.netty.channel.epoll.EpollEventLoopGroup
+                String prefix = transport.probeClassName;
+
+                Class<?> eventLoopGroupClass = Class.forName(prefix + "EventLoopGroup", true, classLoader);
+                Class<?> serverChannelClass = Class.forName(prefix + "ServerSocketChannel", true, classLoader);
+                Class<?> channelClass = Class.forName(prefix + "SocketChannel", true, classLoader);
+
+                ChannelOption<Boolean> reusePort = null;
+                try {
+                    Field field = Class.forName(prefix + "ChannelOption", true, classLoader)
+                        .getField("SO_REUSEPORT");
+
+                    reusePort = (ChannelOption<Boolean>) field.get(null);
+                } catch (ReflectiveOperationException ignored) {
+                    // transport doesn't support SO_REUSEPORT
+                }
+
+                return new Native(
+                    null,
+                    eventLoopGroupClass,
+                    (Class<? extends ServerSocketChannel>) serverChannelClass,
+                    (Class<? extends SocketChannel>) channelClass,
+                    reusePort
+                );
+            } catch (ReflectiveOperationException | LinkageError e) {
+                return unavailable(e);
+            }
+        }
+
+        private static Native unavailable(Throwable cause) {
+            return new Native(
+                cause,
+                NioEventLoopGroup.class,
+                NioServerSocketChannel.class,
+                NioSocketChannel.class,
+                null
+            );
+        }
+
+    }
+
+}
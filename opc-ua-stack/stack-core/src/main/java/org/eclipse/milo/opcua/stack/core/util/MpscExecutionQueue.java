@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.util;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.google.common.base.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Queues up submitted {@link Runnable}s and executes them serially, in the order submitted, on an
+ * {@link Executor}.
+ * <p>
+ * This is a lock-free alternative to {@link ExecutionQueue} with {@code concurrency = 1}: any number of threads may
+ * submit concurrently without contending on a monitor, and at most one thread at a time drains the queue.
+ * <p>
+ * A drain runs at most {@code drainBatchSize} tasks before handing the rest of the queue back to the
+ * {@link Executor}, so a queue that is always busy can't hold on to an executor thread indefinitely.
+ */
+public class MpscExecutionQueue {
+
+    /**
+     * The default maximum number of tasks run by one drain before yielding the executor thread.
+     */
+    public static final int DEFAULT_DRAIN_BATCH_SIZE = 32;
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final ConcurrentLinkedDeque<Runnable> queue = new ConcurrentLinkedDeque<>();
+
+    /**
+     * {@code true} while a drain is scheduled on or running on the executor.
+     */
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+    private final Runnable drainTask = this::drain;
+
+    private volatile boolean paused = false;
+
+    private final Executor executor;
+    private final int drainBatchSize;
+
+    public MpscExecutionQueue(Executor executor) {
+        this(executor, DEFAULT_DRAIN_BATCH_SIZE);
+    }
+
+    public MpscExecutionQueue(Executor executor, int drainBatchSize) {
+        Preconditions.checkArgument(drainBatchSize > 0, "drainBatchSize must be greater than 0");
+
+        this.executor = executor;
+        this.drainBatchSize = drainBatchSize;
+    }
+
+    /**
+     * Submit a {@link Runnable} to be executed.
+     *
+     * @param runnable the {@link Runnable} to be executed.
+     */
+    public void submit(Runnable runnable) {
+        Preconditions.checkNotNull(runnable);
+
+        queue.offerLast(runnable);
+
+        maybeScheduleDrain();
+    }
+
+    /**
+     * Submit a {@link Runnable} to be executed at the head of the queue.
+     *
+     * @param runnable the {@link Runnable} to be executed.
+     */
+    public void submitToHead(Runnable runnable) {
+        Preconditions.checkNotNull(runnable);
+
+        queue.offerFirst(runnable);
+
+        maybeScheduleDrain();
+    }
+
+    /**
+     * Pause execution of queued {@link Runnable}s.
+     * <p>
+     * A {@link Runnable} that is already executing is not interrupted.
+     */
+    public void pause() {
+        paused = true;
+    }
+
+    /**
+     * Resume execution of queued {@link Runnable}s.
+     */
+    public void resume() {
+        paused = false;
+
+        maybeScheduleDrain();
+    }
+
+    /**
+     * Schedule a drain if there's anything to run and no drain is already scheduled.
+     * <p>
+     * Every producer enqueues before calling this and the drain clears {@link #scheduled} before calling it, so a
+     * task enqueued while a drain is finishing is always picked up by one side or the other.
+     */
+    private void maybeScheduleDrain() {
+        if (!paused && !queue.isEmpty() && scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(drainTask);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+
+                throw e;
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            for (int i = 0; i < drainBatchSize && !paused; i++) {
+                Runnable runnable = queue.pollFirst();
+
+                if (runnable == null) {
+                    break;
+                }
+
+                try {
+                    runnable.run();
+                } catch (Throwable throwable) {
+                    log.warn("Uncaught Throwable during execution.", throwable);
+                }
+            }
+        } finally {
+            scheduled.set(false);
+
+            maybeScheduleDrain();
+        }
+    }
+
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.serialization;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaSerializationException;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DiagnosticInfo;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExpandedNodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.ULong;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.eclipse.milo.opcua.stack.core.types.structured.RequestHeader;
+import org.eclipse.milo.opcua.stack.core.types.structured.ResponseHeader;
+import org.testng.annotations.Test;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+public class OpcUaJsonStreamCodecTest {
+
+    private final TestSerializationContext context = new TestSerializationContext();
+
+    @Test
+    public void testBuiltinTypesRoundTrip() {
+        assertRoundTrip(Long.MIN_VALUE, OpcUaJsonStreamEncoder::writeInt64, OpcUaJsonStreamDecoder::readInt64);
+        assertRoundTrip(ULong.MAX, OpcUaJsonStreamEncoder::writeUInt64, OpcUaJsonStreamDecoder::readUInt64);
+        assertRoundTrip(Double.NaN, OpcUaJsonStreamEncoder::writeDouble, OpcUaJsonStreamDecoder::readDouble);
+        assertRoundTrip(
+            Float.NEGATIVE_INFINITY,
+            OpcUaJsonStreamEncoder::writeFloat,
+            OpcUaJsonStreamDecoder::readFloat
+        );
+        assertRoundTrip(3.14f, OpcUaJsonStreamEncoder::writeFloat, OpcUaJsonStreamDecoder::readFloat);
+        assertRoundTrip(DateTime.now(), OpcUaJsonStreamEncoder::writeDateTime, OpcUaJsonStreamDecoder::readDateTime);
+        assertRoundTrip(
+            DateTime.MIN_VALUE,
+            OpcUaJsonStreamEncoder::writeDateTime,
+            OpcUaJsonStreamDecoder::readDateTime
+        );
+        assertRoundTrip(UUID.randomUUID(), OpcUaJsonStreamEncoder::writeGuid, OpcUaJsonStreamDecoder::readGuid);
+        assertRoundTrip(
+            ByteString.of(new byte[]{1, 2, 3, 4}),
+            OpcUaJsonStreamEncoder::writeByteString,
+            OpcUaJsonStreamDecoder::readByteString
+        );
+        assertRoundTrip(
+            new StatusCode(StatusCodes.Bad_NodeIdUnknown),
+            OpcUaJsonStreamEncoder::writeStatusCode,
+            OpcUaJsonStreamDecoder::readStatusCode
+        );
+        assertRoundTrip(
+            new QualifiedName(2, "foo"),
+            OpcUaJsonStreamEncoder::writeQualifiedName,
+            OpcUaJsonStreamDecoder::readQualifiedName
+        );
+        assertRoundTrip(
+            new LocalizedText("en", "hello"),
+            OpcUaJsonStreamEncoder::writeLocalizedText,
+            OpcUaJsonStreamDecoder::readLocalizedText
+        );
+        assertRoundTrip(
+            new DiagnosticInfo(1, 2, -1, 3, "info", StatusCode.BAD, DiagnosticInfo.NULL_VALUE),
+            OpcUaJsonStreamEncoder::writeDiagnosticInfo,
+            OpcUaJsonStreamDecoder::readDiagnosticInfo
+        );
+    }
+
+    @Test
+    public void testNodeIdRoundTrip() {
+        NodeId[] nodeIds = new NodeId[]{
+            NodeId.NULL_VALUE,
+            new NodeId(0, 2258),
+            new NodeId(2, "foo"),
+            new NodeId(3, UUID.randomUUID()),
+            new NodeId(4, ByteString.of(new byte[]{1, 2, 3}))
+        };
+
+        for (NodeId nodeId : nodeIds) {
+            assertRoundTrip(nodeId, OpcUaJsonStreamEncoder::writeNodeId, OpcUaJsonStreamDecoder::readNodeId);
+        }
+
+        assertRoundTrip(
+            new ExpandedNodeId(ushort(0), "urn:test", "foo", uint(1)),
+            OpcUaJsonStreamEncoder::writeExpandedNodeId,
+            OpcUaJsonStreamDecoder::readExpandedNodeId
+        );
+
+        assertEquals(encode(e -> e.writeNodeId(null, new NodeId(0, 2258))), "{\"Id\":2258}");
+    }
+
+    @Test
+    public void testVariantRoundTrip() {
+        Variant[] variants = new Variant[]{
+            new Variant(42),
+            new Variant("foo"),
+            new Variant(new Integer[]{1, 2, 3}),
+            new Variant(new String[][]{{"a", "b"}, {"c", "d"}}),
+            new Variant(new Variant[]{new Variant(new NodeId(1, "bar")), new Variant(1.0f)}),
+            new Variant(new DataValue(new Variant(1.0), StatusCode.BAD, DateTime.now()))
+        };
+
+        for (Variant variant : variants) {
+            Variant decoded = roundTrip(
+                variant,
+                OpcUaJsonStreamEncoder::writeVariant,
+                OpcUaJsonStreamDecoder::readVariant
+            );
+
+            assertEquals(decoded, variant);
+        }
+
+        assertEquals(
+            encode(e -> e.writeVariant(null, new Variant(new Integer[][]{{1, 2}, {3, 4}}))),
+            "{\"Type\":6,\"Body\":[1,2,3,4],\"Dimensions\":[2,2]}"
+        );
+    }
+
+    @Test
+    public void testStructureVariantUsesJsonBody() {
+        ReadValueId readValueId = new ReadValueId(
+            new NodeId(2, "foo"), AttributeId.Value.uid(), null, QualifiedName.NULL_VALUE);
+
+        String json = encode(e -> e.writeVariant(null, new Variant(readValueId)));
+
+        assertTrue(json.contains("\"Body\":{\"TypeId\":{\"Id\":626},\"Body\":{\"NodeId\""), json);
+
+        Variant decoded = decode(json, d -> d.readVariant(null));
+        ExtensionObject xo = (ExtensionObject) decoded.getValue();
+
+        assertEquals(xo.decode(context), readValueId);
+    }
+
+    @Test
+    public void testMessageRoundTrip() {
+        ReadRequest request = new ReadRequest(
+            new RequestHeader(NodeId.NULL_VALUE, DateTime.now(), uint(1), uint(0), null, uint(5000), null),
+            0.0,
+            TimestampsToReturn.Both,
+            new ReadValueId[]{
+                new ReadValueId(new NodeId(0, 2258), AttributeId.Value.uid(), null, QualifiedName.NULL_VALUE),
+                new ReadValueId(new NodeId(2, "foo"), AttributeId.Value.uid(), "1:2", new QualifiedName(0, "bar"))
+            }
+        );
+
+        assertEquals(
+            roundTrip(request, OpcUaJsonStreamEncoder::writeMessage, OpcUaJsonStreamDecoder::readMessage),
+            request
+        );
+
+        ReadResponse response = new ReadResponse(
+            new ResponseHeader(DateTime.now(), uint(1), StatusCode.GOOD, null, new String[0], null),
+            new DataValue[]{
+                new DataValue(new Variant(42), StatusCode.GOOD, DateTime.now()),
+                new DataValue(StatusCode.BAD)
+            },
+            null
+        );
+
+        assertEquals(
+            roundTrip(response, OpcUaJsonStreamEncoder::writeMessage, OpcUaJsonStreamDecoder::readMessage),
+            response
+        );
+    }
+
+    @Test
+    public void testFieldsOutOfOrder() {
+        String json = "{\"DataEncoding\":{\"Name\":\"bar\"},\"Unknown\":[1,{\"a\":2}],\"IndexRange\":\"1:2\"," +
+            "\"AttributeId\":13,\"NodeId\":{\"Namespace\":2,\"Id\":\"foo\",\"IdType\":1}}";
+
+        ReadValueId readValueId = (ReadValueId) decode(
+            json,
+            d -> d.readStruct(null, ReadValueId.TYPE_ID.toNodeId(context.getNamespaceTable()).orElseThrow(null))
+        );
+
+        assertEquals(
+            readValueId,
+            new ReadValueId(new NodeId(2, "foo"), AttributeId.Value.uid(), "1:2", new QualifiedName(0, "bar"))
+        );
+
+        DataValue dataValue = decode(
+            "{\"ServerTimestamp\":\"2023-01-01T00:00:00Z\",\"Status\":2147483648,\"Value\":{\"Body\":1,\"Type\":6}}",
+            d -> d.readDataValue(null)
+        );
+
+        assertEquals(dataValue.getValue(), new Variant(1));
+        assertEquals(dataValue.getStatusCode(), StatusCode.BAD);
+        assertEquals(dataValue.getSourceTime(), DateTime.MIN_VALUE);
+        assertNull(dataValue.getSourcePicoseconds());
+    }
+
+    @Test
+    public void testNonReversible() {
+        context.getNamespaceTable().putUri("urn:test", ushort(2));
+
+        assertEquals(
+            encode(false, e -> e.writeNodeId(null, new NodeId(2, "foo"))),
+            "{\"IdType\":1,\"Id\":\"foo\",\"Namespace\":\"urn:test\"}"
+        );
+        assertEquals(
+            encode(false, e -> e.writeLocalizedText(null, new LocalizedText("en", "hello"))),
+            "\"hello\""
+        );
+        assertEquals(
+            encode(false, e -> e.writeStatusCode(null, new StatusCode(StatusCodes.Bad_NodeIdUnknown))),
+            "{\"Code\":2150891520,\"Symbol\":\"Bad_NodeIdUnknown\"}"
+        );
+        assertEquals(
+            encode(false, e -> e.writeEnum(null, TimestampsToReturn.Both)),
+            "\"Both_2\""
+        );
+        assertEquals(
+            encode(false, e -> e.writeVariant(null, new Variant(new Integer[][]{{1, 2}, {3, 4}}))),
+            "[[1,2],[3,4]]"
+        );
+    }
+
+    @Test
+    public void testReadVariantStackOverflow() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            sb.append("{\"Type\":24,\"Body\":");
+        }
+        sb.append("{}");
+        for (int i = 0; i < 10000; i++) {
+            sb.append("}");
+        }
+
+        assertThrows(UaSerializationException.class, () -> decode(sb.toString(), d -> d.readVariant(null)));
+    }
+
+    private <T> void assertRoundTrip(
+        T value,
+        EncoderMethod<T> encoderMethod,
+        DecoderMethod<T> decoderMethod
+    ) {
+
+        assertEquals(roundTrip(value, encoderMethod, decoderMethod), value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T, R> R roundTrip(
+        T value,
+        EncoderMethod<T> encoderMethod,
+        DecoderMethod<R> decoderMethod
+    ) {
+
+        String json = encode(e -> encoderMethod.write(e, null, value));
+
+        return decode(json, d -> decoderMethod.read(d, null));
+    }
+
+    private String encode(Consumer<OpcUaJsonStreamEncoder> write) {
+        return encode(true, write);
+    }
+
+    private String encode(boolean reversible, Consumer<OpcUaJsonStreamEncoder> write) {
+        StringWriter writer = new StringWriter();
+        OpcUaJsonStreamEncoder encoder = new OpcUaJsonStreamEncoder(context, reversible).setWriter(writer);
+        write.accept(encoder);
+        encoder.flush();
+        return writer.toString();
+    }
+
+    private <T> T decode(String json, Function<OpcUaJsonStreamDecoder, T> read) {
+        return read.apply(new OpcUaJsonStreamDecoder(context).setReader(new StringReader(json)));
+    }
+
+    private interface EncoderMethod<T> {
+        void write(OpcUaJsonStreamEncoder encoder, String field, T value);
+    }
+
+    private interface DecoderMethod<T> {
+        T read(OpcUaJsonStreamDecoder decoder, String field);
+    }
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.transport;
+
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class NettyTransportTest {
+
+    @Test
+    public void testNioAlwaysAvailable() {
+        assertTrue(NettyTransport.NIO.isAvailable());
+        assertNull(NettyTransport.NIO.getUnavailabilityCause());
+        assertNull(NettyTransport.NIO.getReusePortOption());
+        assertEquals(NettyTransport.NIO.orFallback(), NettyTransport.NIO);
+        assertEquals(NettyTransport.NIO.getServerChannelClass(), NioServerSocketChannel.class);
+        assertEquals(NettyTransport.NIO.getChannelClass(), NioSocketChannel.class);
+    }
+
+    @Test
+    public void testNativeFallsBackWhenUnavailable() {
+        for (NettyTransport transport : NettyTransport.values()) {
+            if (transport.isAvailable()) {
+                assertEquals(transport.orFallback(), transport);
+            } else {
+                assertNotNull(transport.getUnavailabilityCause());
+                assertNull(transport.getReusePortOption());
+                assertEquals(transport.orFallback(), NettyTransport.NIO);
+            }
+        }
+
+        assertTrue(NettyTransport.bestAvailable().isAvailable());
+    }
+
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2023 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class MpscExecutionQueueTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @Test
+    public void testSubmitIsLinear() throws InterruptedException {
+        MpscExecutionQueue queue = new MpscExecutionQueue(executor);
+
+        AtomicBoolean failed = new AtomicBoolean(false);
+        AtomicInteger n = new AtomicInteger(0);
+        CountDownLatch latch = new CountDownLatch(1000000);
+
+        for (int i = 0; i < 1000000; i++) {
+            final int ii = i;
+
+            queue.submit(() -> {
+                int nn = n.getAndIncrement();
+                if (ii != nn) {
+                    failed.set(true);
+                }
+                latch.countDown();
+            });
+        }
+
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+        assertFalse(failed.get());
+    }
+
+    @Test
+    public void testConcurrentProducersAreSerialAndOrderedPerProducer() throws InterruptedException {
+        MpscExecutionQueue queue = new MpscExecutionQueue(executor);
+
+        int producerCount = 8;
+        int tasksPerProducer = 100000;
+
+        AtomicBoolean failed = new AtomicBoolean(false);
+        AtomicInteger running = new AtomicInteger(0);
+        int[] lastSeen = new int[producerCount];
+        CountDownLatch latch = new CountDownLatch(producerCount * tasksPerProducer);
+
+        List<Thread> producers = new ArrayList<>();
+
+        for (int p = 0; p < producerCount; p++) {
+            final int producer = p;
+
+            producers.add(new Thread(() -> {
+                for (int i = 1; i <= tasksPerProducer; i++) {
+                    final int ii = i;
+
+                    queue.submit(() -> {
+                        if (running.incrementAndGet() != 1) {
+                            failed.set(true);
+                        }
+                        if (lastSeen[producer] != ii - 1) {
+                            failed.set(true);
+                        }
+                        lastSeen[producer] = ii;
+                        running.decrementAndGet();
+                        latch.countDown();
+                    });
+                }
+            }));
+        }
+
+        producers.forEach(Thread::start);
+
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+        assertFalse(failed.get());
+    }
+
+    @Test
+    public void testPauseResumeAndSubmitToHead() throws InterruptedException {
+        MpscExecutionQueue queue = new MpscExecutionQueue(executor);
+
+        List<Integer> executed = new ArrayList<>();
+        CountDownLatch latch = new CountDownLatch(3);
+
+        queue.pause();
+        queue.submit(() -> {
+            executed.add(2);
+            latch.countDown();
+        });
+        queue.submit(() -> {
+            executed.add(3);
+            latch.countDown();
+        });
+        queue.submitToHead(() -> {
+            executed.add(1);
+            latch.countDown();
+        });
+
+        Thread.sleep(100);
+        assertEquals(latch.getCount(), 3);
+
+        queue.resume();
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+        assertEquals(executed, Arrays.asList(1, 2, 3));
+    }
+
+    @Test
+    public void testDrainBatchYieldsExecutorThread() throws InterruptedException {
+        ExecutorService singleThreadExecutor = Executors.newSingleThreadExecutor();
+
+        try {
+            MpscExecutionQueue busyQueue = new MpscExecutionQueue(singleThreadExecutor, 4);
+
+            CountDownLatch otherTaskRan = new CountDownLatch(1);
+            AtomicInteger busyTasksBeforeOther = new AtomicInteger(-1);
+            AtomicInteger busyTasksRun = new AtomicInteger(0);
+
+            CountDownLatch started = new CountDownLatch(1);
+            busyQueue.submit(() -> {
+                try {
+                    started.await();
+                } catch (InterruptedException ignored) {
+                    // ignored
+                }
+            });
+
+            for (int i = 0; i < 100; i++) {
+                busyQueue.submit(busyTasksRun::incrementAndGet);
+            }
+
+            singleThreadExecutor.execute(() -> {
+                busyTasksBeforeOther.set(busyTasksRun.get());
+                otherTaskRan.countDown();
+            });
+
+            started.countDown();
+
+            assertTrue(otherTaskRan.await(5, TimeUnit.SECONDS));
+            assertTrue(busyTasksBeforeOther.get() < 100);
+        } finally {
+            singleThreadExecutor.shutdown();
+        }
+    }
+
+}
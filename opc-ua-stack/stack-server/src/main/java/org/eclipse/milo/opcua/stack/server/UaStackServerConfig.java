@@ -20,6 +20,7 @@ import java.util.function.Consumer;
 import org.eclipse.milo.opcua.stack.core.channel.EncodingLimits;
 import org.eclipse.milo.opcua.stack.core.security.CertificateManager;
 import org.eclipse.milo.opcua.stack.core.security.TrustListManager;
+import org.eclipse.milo.opcua.stack.core.transport.NettyTransport;
 import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
 import org.eclipse.milo.opcua.stack.core.types.structured.ApplicationDescription;
@@ -116,6 +117,29 @@ public interface UaStackServerConfig {
      */
     ExecutorService getExecutor();
 
+    /**
+     * Get the {@link NettyTransport} used for the server's sockets.
+     * <p>
+     * If the transport isn't available at bind time the server falls back to {@link NettyTransport#NIO}.
+     *
+     * @return the {@link NettyTransport} used for the server's sockets.
+     */
+    default NettyTransport getTransport() {
+        return NettyTransport.NIO;
+    }
+
+    /**
+     * Get the number of listening sockets bound to each address.
+     * <p>
+     * More than one requires a transport that supports SO_REUSEPORT, in which case the kernel balances incoming
+     * connections between the sockets, each accepted on its own event loop thread.
+     *
+     * @return the number of listening sockets bound to each address.
+     */
+    default int getAcceptorCount() {
+        return 1;
+    }
+
     /**
      * @return a new {@link UaStackServerConfigBuilder}.
      */
@@ -148,6 +172,8 @@ public interface UaStackServerConfig {
         builder.setHttpsKeyPair(config.getHttpsKeyPair().orElse(null));
         builder.setHttpsCertificateChain(config.getHttpsCertificateChain().orElse(null));
         builder.setExecutor(config.getExecutor());
+        builder.setTransport(config.getTransport());
+        builder.setAcceptorCount(config.getAcceptorCount());
 
         return builder;
     }
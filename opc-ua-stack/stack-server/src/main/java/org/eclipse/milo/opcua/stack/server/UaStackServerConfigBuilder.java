@@ -21,6 +21,7 @@ import org.eclipse.milo.opcua.stack.core.Stack;
 import org.eclipse.milo.opcua.stack.core.channel.EncodingLimits;
 import org.eclipse.milo.opcua.stack.core.security.CertificateManager;
 import org.eclipse.milo.opcua.stack.core.security.TrustListManager;
+import org.eclipse.milo.opcua.stack.core.transport.NettyTransport;
 import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
 import org.eclipse.milo.opcua.stack.server.security.ServerCertificateValidator;
@@ -53,6 +54,9 @@ public class UaStackServerConfigBuilder {
 
     private ExecutorService executor;
 
+    private NettyTransport transport = NettyTransport.NIO;
+    private int acceptorCount = 1;
+
     public UaStackServerConfigBuilder setEndpoints(Set<EndpointConfiguration> endpointConfigurations) {
         this.endpoints = endpointConfigurations;
         return this;
@@ -124,6 +128,16 @@ public class UaStackServerConfigBuilder {
         return this;
     }
 
+    public UaStackServerConfigBuilder setTransport(NettyTransport transport) {
+        this.transport = transport;
+        return this;
+    }
+
+    public UaStackServerConfigBuilder setAcceptorCount(int acceptorCount) {
+        this.acceptorCount = acceptorCount;
+        return this;
+    }
+
     public UaStackServerConfig build() {
         if (executor == null) {
             executor = Stack.sharedExecutor();
@@ -142,7 +156,9 @@ public class UaStackServerConfigBuilder {
             certificateValidator,
             httpsKeyPair,
             httpsCertificate,
-            executor
+            executor,
+            transport,
+            acceptorCount
         );
     }
 
@@ -169,6 +185,9 @@ public class UaStackServerConfigBuilder {
 
         private final ExecutorService executor;
 
+        private final NettyTransport transport;
+        private final int acceptorCount;
+
         UaStackServerConfigImpl(
             Set<EndpointConfiguration> endpointConfigurations,
             LocalizedText applicationName,
@@ -182,7 +201,9 @@ public class UaStackServerConfigBuilder {
             ServerCertificateValidator certificateValidator,
             @Nullable KeyPair httpsKeyPair,
             @Nullable X509Certificate[] httpsCertificate,
-            ExecutorService executor
+            ExecutorService executor,
+            NettyTransport transport,
+            int acceptorCount
         ) {
 
             this.endpointConfigurations = endpointConfigurations;
@@ -198,6 +219,8 @@ public class UaStackServerConfigBuilder {
             this.httpsKeyPair = httpsKeyPair;
             this.httpsCertificate = httpsCertificate;
             this.executor = executor;
+            this.transport = transport;
+            this.acceptorCount = acceptorCount;
         }
 
         @Override
@@ -265,6 +288,16 @@ public class UaStackServerConfigBuilder {
             return executor;
         }
 
+        @Override
+        public NettyTransport getTransport() {
+            return transport;
+        }
+
+        @Override
+        public int getAcceptorCount() {
+            return acceptorCount;
+        }
+
     }
 
 }
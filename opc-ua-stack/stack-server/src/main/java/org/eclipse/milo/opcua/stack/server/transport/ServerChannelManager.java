@@ -11,6 +11,8 @@
 package org.eclipse.milo.opcua.stack.server.transport;
 
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
@@ -24,11 +26,12 @@ import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.handler.logging.LoggingHandler;
 import org.eclipse.milo.opcua.stack.core.Stack;
+import org.eclipse.milo.opcua.stack.core.transport.NettyTransport;
 import org.eclipse.milo.opcua.stack.core.transport.TransportProfile;
 import org.eclipse.milo.opcua.stack.core.util.AsyncSemaphore;
+import org.eclipse.milo.opcua.stack.core.util.FutureUtils;
 import org.eclipse.milo.opcua.stack.core.util.Unit;
 import org.eclipse.milo.opcua.stack.server.EndpointConfiguration;
 import org.eclipse.milo.opcua.stack.server.UaStackServer;
@@ -44,7 +47,7 @@ public class ServerChannelManager {
     private final AsyncSemaphore semaphore = new AsyncSemaphore(1);
 
     private final Multiset<InetSocketAddress> addresses = ConcurrentHashMultiset.create();
-    private final Map<InetSocketAddress, Channel> channels = Maps.newConcurrentMap();
+    private final Map<InetSocketAddress, List<Channel>> channels = Maps.newConcurrentMap();
 
     private final UaStackServer stackServer;
 
@@ -68,16 +71,16 @@ public class ServerChannelManager {
             } else {
                 logger.debug("binding to {}", bindAddress);
 
-                CompletableFuture<Channel> bootstrap = bootstrap(
+                CompletableFuture<List<Channel>> bootstrap = bootstrap(
                     stackServer,
                     bindAddress,
                     endpoint.getTransportProfile()
                 );
 
-                return bootstrap.whenComplete((channel, ex) -> {
-                    if (channel != null) {
+                return bootstrap.whenComplete((boundChannels, ex) -> {
+                    if (boundChannels != null) {
                         addresses.add(bindAddress);
-                        channels.put(bindAddress, channel);
+                        channels.put(bindAddress, boundChannels);
                         future.complete(Unit.VALUE);
                     } else {
                         future.completeExceptionally(ex);
@@ -103,10 +106,10 @@ public class ServerChannelManager {
             if (addresses.remove(bindAddress, 1) == 1) {
                 logger.debug("unbinding from {}", bindAddress);
 
-                Channel channel = channels.remove(bindAddress);
+                List<Channel> boundChannels = channels.remove(bindAddress);
 
-                if (channel != null) {
-                    channel.close();
+                if (boundChannels != null) {
+                    boundChannels.forEach(Channel::close);
                 }
             }
 
@@ -116,7 +119,7 @@ public class ServerChannelManager {
         return future;
     }
 
-    private static CompletableFuture<Channel> bootstrap(
+    private static CompletableFuture<List<Channel>> bootstrap(
         UaStackServer stackServer,
         InetSocketAddress bindAddress,
         TransportProfile transportProfile) {
@@ -129,28 +132,58 @@ public class ServerChannelManager {
             initializer = new OpcServerHttpChannelInitializer(stackServer);
         }
 
+        NettyTransport transport = stackServer.getConfig().getTransport().orFallback();
+
         ServerBootstrap bootstrap = new ServerBootstrap();
 
-        bootstrap.group(Stack.sharedEventLoop())
+        bootstrap.group(Stack.sharedEventLoop(transport))
             .handler(new LoggingHandler(ServerChannelManager.class))
-            .channel(NioServerSocketChannel.class)
+            .channel(transport.getServerChannelClass())
             .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
             .childOption(ChannelOption.TCP_NODELAY, true)
             .childHandler(initializer);
 
-        CompletableFuture<Channel> channelFuture = new CompletableFuture<>();
+        int acceptorCount = Math.max(1, stackServer.getConfig().getAcceptorCount());
 
-        bootstrap.bind(bindAddress).addListener((ChannelFutureListener) future -> {
-            if (future.isSuccess()) {
-                Channel channel = future.channel();
+        if (acceptorCount > 1) {
+            ChannelOption<Boolean> reusePort = transport.getReusePortOption();
 
-                channelFuture.complete(channel);
+            if (reusePort != null) {
+                bootstrap.option(reusePort, true);
             } else {
-                channelFuture.completeExceptionally(future.cause());
+                LoggerFactory.getLogger(ServerChannelManager.class).warn(
+                    "{} transport does not support SO_REUSEPORT; binding a single acceptor to {}",
+                    transport, bindAddress
+                );
+
+                acceptorCount = 1;
             }
-        });
+        }
+
+        List<CompletableFuture<Channel>> futures = new ArrayList<>(acceptorCount);
+
+        for (int i = 0; i < acceptorCount; i++) {
+            CompletableFuture<Channel> channelFuture = new CompletableFuture<>();
 
-        return channelFuture;
+            bootstrap.bind(bindAddress).addListener((ChannelFutureListener) future -> {
+                if (future.isSuccess()) {
+                    Channel channel = future.channel();
+
+                    channelFuture.complete(channel);
+                } else {
+                    channelFuture.completeExceptionally(future.cause());
+                }
+            });
+
+            futures.add(channelFuture);
+        }
+
+        return FutureUtils.sequence(futures).whenComplete((boundChannels, ex) -> {
+            if (ex != null) {
+                // Don't leave the acceptors that did bind listening.
+                futures.forEach(f -> f.thenAccept(Channel::close));
+            }
+        });
     }
 
 }
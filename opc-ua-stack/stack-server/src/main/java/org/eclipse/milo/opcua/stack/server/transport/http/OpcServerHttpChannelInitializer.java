@@ -16,15 +16,15 @@ import java.security.cert.X509Certificate;
 import java.util.Objects;
 
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelInitializer;
-import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
-import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpServerCodec;
@@ -37,6 +37,7 @@ import io.netty.handler.ssl.ClientAuth;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import io.netty.util.ReferenceCountUtil;
 import org.eclipse.milo.opcua.stack.core.Stack;
 import org.eclipse.milo.opcua.stack.core.util.EndpointUtil;
 import org.eclipse.milo.opcua.stack.server.UaStackServer;
@@ -91,13 +92,17 @@ public class OpcServerHttpChannelInitializer extends ChannelInitializer<SocketCh
 
         channel.pipeline().addLast(new LoggingHandler(LogLevel.TRACE));
         channel.pipeline().addLast(new HttpServerCodec());
-
-        // TODO configure maxContentLength based on MaxRequestSize?
-        channel.pipeline().addLast(new HttpObjectAggregator(Integer.MAX_VALUE));
         channel.pipeline().addLast(new OpcHttpTransportInterceptor(stackServer));
     }
 
-    private static class OpcHttpTransportInterceptor extends SimpleChannelInboundHandler<FullHttpRequest> {
+    /**
+     * Inspects the first {@link HttpRequest} on a connection and replaces itself with either the WebSocket handlers or
+     * an {@link OpcServerHttpRequestHandler}.
+     * <p>
+     * Request bodies are not aggregated here; POSTed requests are streamed to {@link OpcServerHttpRequestHandler},
+     * which enforces the configured max message size as the body arrives.
+     */
+    private static class OpcHttpTransportInterceptor extends ChannelInboundHandlerAdapter {
 
         private final Logger logger = LoggerFactory.getLogger(getClass());
 
@@ -108,7 +113,16 @@ public class OpcServerHttpChannelInitializer extends ChannelInitializer<SocketCh
         }
 
         @Override
-        protected void channelRead0(ChannelHandlerContext ctx, FullHttpRequest httpRequest) {
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            if (msg instanceof HttpRequest) {
+                intercept(ctx, (HttpRequest) msg);
+            } else {
+                // content belonging to a request that was rejected
+                ReferenceCountUtil.release(msg);
+            }
+        }
+
+        private void intercept(ChannelHandlerContext ctx, HttpRequest httpRequest) {
             String host = httpRequest.headers().get(HttpHeaderNames.HOST);
             String uri = httpRequest.uri();
 
@@ -130,6 +144,8 @@ public class OpcServerHttpChannelInitializer extends ChannelInitializer<SocketCh
                     HttpResponseStatus.NOT_FOUND
                 );
 
+                ReferenceCountUtil.release(httpRequest);
+
                 ctx.channel().writeAndFlush(response)
                     .addListener(future -> ctx.close());
 
@@ -141,30 +157,42 @@ public class OpcServerHttpChannelInitializer extends ChannelInitializer<SocketCh
 
                 logger.debug("intercepted WebSocket upgrade");
 
-                ctx.channel().pipeline().remove(this);
+                int maxMessageSize = stackServer.getConfig().getEncodingLimits().getMaxMessageSize();
 
-                ctx.channel().pipeline().addLast(new WebSocketServerCompressionHandler());
-
-                // TODO configure webSocketPath based on path component of endpoint URL?
-                ctx.channel().pipeline().addLast(new WebSocketServerProtocolHandler(
-                    "/ws",
-                    String.format("%s, %s", Stack.WSS_PROTOCOL_BINARY, Stack.WSS_PROTOCOL_JSON),
-                    true
-                ));
+                // the handshake needs a FullHttpRequest; the aggregator is removed again once it completes.
+                ctx.pipeline().addAfter(
+                    ctx.name(),
+                    null,
+                    new OpcServerWebSocketFrameHandler(stackServer)
+                );
+                ctx.pipeline().addAfter(
+                    ctx.name(),
+                    null,
+                    new WebSocketServerProtocolHandler(
+                        uri,
+                        String.format("%s, %s", Stack.WSS_PROTOCOL_BINARY, Stack.WSS_PROTOCOL_JSON),
+                        true
+                    )
+                );
+                ctx.pipeline().addAfter(ctx.name(), null, new WebSocketServerCompressionHandler());
+                ctx.pipeline().addAfter(ctx.name(), null, new HttpObjectAggregator(maxMessageSize));
 
-                ctx.channel().pipeline().addLast(new OpcServerWebSocketFrameHandler(stackServer));
+                ctx.pipeline().remove(this);
 
-                httpRequest.retain();
-                ctx.executor().execute(() -> ctx.fireChannelRead(httpRequest));
+                // fired synchronously so the request reaches the new handlers ahead of its content
+                ctx.fireChannelRead(httpRequest);
             } else if (Objects.equals(httpRequest.method(), HttpMethod.POST)) {
                 logger.debug("intercepted HTTP POST");
 
-                ctx.channel().pipeline().remove(this);
-                ctx.channel().pipeline().addLast(new OpcServerHttpRequestHandler(stackServer));
+                ctx.pipeline().addAfter(ctx.name(), null, new OpcServerHttpRequestHandler(stackServer));
+
+                ctx.pipeline().remove(this);
 
-                httpRequest.retain();
-                ctx.executor().execute(() -> ctx.pipeline().fireChannelRead(httpRequest));
+                // fired synchronously so the request reaches the new handler ahead of its content
+                ctx.fireChannelRead(httpRequest);
             } else {
+                ReferenceCountUtil.release(httpRequest);
+
                 HttpResponse response = new DefaultFullHttpResponse(
                     HttpVersion.HTTP_1_1,
                     HttpResponseStatus.BAD_REQUEST
@@ -13,25 +13,38 @@ package org.eclipse.milo.opcua.stack.server.transport.http;
 import java.net.InetSocketAddress;
 import java.security.KeyPair;
 import java.security.cert.X509Certificate;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
-import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
 import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpObject;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
 import org.eclipse.milo.opcua.stack.core.StatusCodes;
 import org.eclipse.milo.opcua.stack.core.UaException;
 import org.eclipse.milo.opcua.stack.core.channel.ServerSecureChannel;
 import org.eclipse.milo.opcua.stack.core.security.SecurityPolicy;
 import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamDecoder;
 import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamEncoder;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaJsonStreamDecoder;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaJsonStreamEncoder;
+import org.eclipse.milo.opcua.stack.core.serialization.UaMessage;
 import org.eclipse.milo.opcua.stack.core.serialization.UaRequestMessage;
 import org.eclipse.milo.opcua.stack.core.serialization.UaResponseMessage;
 import org.eclipse.milo.opcua.stack.core.transport.TransportProfile;
@@ -48,16 +61,42 @@ import org.eclipse.milo.opcua.stack.core.util.DigestUtil;
 import org.eclipse.milo.opcua.stack.core.util.EndpointUtil;
 import org.eclipse.milo.opcua.stack.server.UaStackServer;
 import org.eclipse.milo.opcua.stack.server.services.ServiceRequest;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class OpcServerHttpRequestHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
+/**
+ * Handles OPC UA requests POSTed over HTTP(S).
+ * <p>
+ * The request body isn't aggregated by an {@code HttpObjectAggregator}; the {@link HttpContent} chunks are collected
+ * into a {@link CompositeByteBuf} without copying and the configured max message size is enforced as they arrive.
+ * A request that exceeds it is answered with a {@link ServiceFault} right away and the rest of its body discarded.
+ * <p>
+ * Responses larger than the configured max chunk size are written using chunked transfer encoding.
+ * <p>
+ * The transport profile, and with it the encoding, is selected by the request's content type:
+ * {@code application/opcua+uajson} for {@link TransportProfile#HTTPS_UAJSON}, anything else for
+ * {@link TransportProfile#HTTPS_UABINARY}.
+ */
+public class OpcServerHttpRequestHandler extends SimpleChannelInboundHandler<HttpObject> {
 
     private static final String UABINARY_CONTENT_TYPE =
         HttpHeaderValues.APPLICATION_OCTET_STREAM.toString();
 
+    private static final String UAJSON_CONTENT_TYPE = "application/opcua+uajson";
+
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
+    /**
+     * The request whose body is currently being received, if any.
+     */
+    private PendingRequest pendingRequest;
+
+    /**
+     * {@code true} while the body of a rejected request is being discarded.
+     */
+    private boolean discarding = false;
+
     private final UaStackServer stackServer;
 
     OpcServerHttpRequestHandler(UaStackServer stackServer) {
@@ -65,7 +104,25 @@ public class OpcServerHttpRequestHandler extends SimpleChannelInboundHandler<Ful
     }
 
     @Override
-    protected void channelRead0(ChannelHandlerContext ctx, FullHttpRequest httpRequest) throws Exception {
+    protected void channelRead0(ChannelHandlerContext ctx, HttpObject httpObject) {
+        if (httpObject instanceof HttpRequest) {
+            onHttpRequest(ctx, (HttpRequest) httpObject);
+        }
+
+        if (httpObject instanceof HttpContent) {
+            onHttpContent(ctx, (HttpContent) httpObject);
+        }
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        releasePendingRequest();
+    }
+
+    private void onHttpRequest(ChannelHandlerContext ctx, HttpRequest httpRequest) {
+        releasePendingRequest();
+        discarding = false;
+
         String host = httpRequest.headers().get(HttpHeaderNames.HOST);
         String uri = httpRequest.uri();
         String contentType = httpRequest.headers().get(HttpHeaderNames.CONTENT_TYPE);
@@ -73,53 +130,143 @@ public class OpcServerHttpRequestHandler extends SimpleChannelInboundHandler<Ful
 
         logger.debug("host={} uri={} contentType={} securityPolicy={}", host, uri, contentType, securityPolicyUri);
 
-        SecurityPolicy securityPolicy = securityPolicyUri != null ?
-            SecurityPolicy.fromUri(securityPolicyUri) :
-            SecurityPolicy.None;
-
-        MessageSecurityMode securityMode = securityPolicy == SecurityPolicy.None ?
-            MessageSecurityMode.None :
-            MessageSecurityMode.Sign;
-
-        EndpointDescription endpoint = stackServer.getEndpointDescriptions()
-            .stream()
-            .filter(e -> {
-                // TODO use contentType to determine which TransportProfile to match
-                boolean transportMatch = Objects.equals(
-                    e.getTransportProfileUri(),
-                    TransportProfile.HTTPS_UABINARY.getUri()
-                );
-
-                boolean pathMatch = Objects.equals(
-                    EndpointUtil.getPath(e.getEndpointUrl()),
-                    uri
-                );
-
-                boolean securityPolicyMatch = Objects.equals(
-                    e.getSecurityPolicyUri(),
-                    securityPolicy.getUri()
-                );
-
-                boolean securityModeMatch = Objects.equals(
-                    e.getSecurityMode(),
-                    securityMode
-                );
-
-                return transportMatch && pathMatch && securityPolicyMatch && securityModeMatch;
-            })
-            .findFirst()
-            .orElseThrow(() ->
-                new UaException(
-                    StatusCodes.Bad_TcpEndpointUrlInvalid,
-                    "unrecognized endpoint uri: " + uri));
+        TransportProfile transportProfile = getTransportProfile(contentType);
+
+        if (httpRequest.decoderResult().isFailure()) {
+            logger.debug("Error decoding HTTP request", httpRequest.decoderResult().cause());
+
+            discard(
+                ctx,
+                transportProfile,
+                new UaException(StatusCodes.Bad_DecodingError, httpRequest.decoderResult().cause())
+            );
+            return;
+        }
+
+        int maxMessageSize = stackServer.getConfig().getEncodingLimits().getMaxMessageSize();
+
+        long contentLength = HttpUtil.getContentLength(httpRequest, -1L);
+
+        if (contentLength > maxMessageSize) {
+            discard(ctx, transportProfile, new UaException(
+                StatusCodes.Bad_RequestTooLarge,
+                String.format("content length %d exceeds max message size %d", contentLength, maxMessageSize)
+            ));
+            return;
+        }
+
+        try {
+            SecurityPolicy securityPolicy = securityPolicyUri != null ?
+                SecurityPolicy.fromUri(securityPolicyUri) :
+                SecurityPolicy.None;
+
+            MessageSecurityMode securityMode = securityPolicy == SecurityPolicy.None ?
+                MessageSecurityMode.None :
+                MessageSecurityMode.Sign;
+
+            EndpointDescription endpoint = stackServer.getEndpointDescriptions()
+                .stream()
+                .filter(e -> {
+                    boolean transportMatch = Objects.equals(
+                        e.getTransportProfileUri(),
+                        transportProfile.getUri()
+                    );
+
+                    boolean pathMatch = Objects.equals(
+                        EndpointUtil.getPath(e.getEndpointUrl()),
+                        uri
+                    );
+
+                    boolean securityPolicyMatch = Objects.equals(
+                        e.getSecurityPolicyUri(),
+                        securityPolicy.getUri()
+                    );
+
+                    boolean securityModeMatch = Objects.equals(
+                        e.getSecurityMode(),
+                        securityMode
+                    );
+
+                    return transportMatch && pathMatch && securityPolicyMatch && securityModeMatch;
+                })
+                .findFirst()
+                .orElseThrow(() ->
+                    new UaException(
+                        StatusCodes.Bad_TcpEndpointUrlInvalid,
+                        "unrecognized endpoint uri: " + uri));
+
+            pendingRequest = new PendingRequest(
+                uri,
+                transportProfile,
+                endpoint,
+                securityPolicy,
+                securityMode,
+                ctx.alloc().compositeBuffer(Integer.MAX_VALUE)
+            );
+        } catch (UaException e) {
+            logger.debug("Error resolving endpoint for HTTP request", e);
+
+            discard(ctx, transportProfile, e);
+        }
+    }
+
+    private void onHttpContent(ChannelHandlerContext ctx, HttpContent httpContent) {
+        boolean last = httpContent instanceof LastHttpContent;
+
+        if (discarding || pendingRequest == null) {
+            if (last) {
+                discarding = false;
+            }
+            return;
+        }
+
+        ByteBuf content = httpContent.content();
+
+        int maxMessageSize = stackServer.getConfig().getEncodingLimits().getMaxMessageSize();
+
+        if (pendingRequest.content.readableBytes() + content.readableBytes() > maxMessageSize) {
+            TransportProfile transportProfile = pendingRequest.transportProfile;
+
+            releasePendingRequest();
+
+            UaException exception = new UaException(
+                StatusCodes.Bad_RequestTooLarge,
+                String.format("request exceeds max message size %d", maxMessageSize)
+            );
+
+            if (last) {
+                sendServiceFault(ctx, transportProfile, null, exception);
+            } else {
+                discard(ctx, transportProfile, exception);
+            }
+            return;
+        }
+
+        if (content.isReadable()) {
+            pendingRequest.content.addComponent(true, content.retain());
+        }
 
+        if (last) {
+            PendingRequest request = pendingRequest;
+            pendingRequest = null;
 
+            try {
+                onServiceRequest(ctx, request);
+            } finally {
+                request.content.release();
+            }
+        }
+    }
+
+    private void onServiceRequest(ChannelHandlerContext ctx, PendingRequest pending) {
         ServerSecureChannel secureChannel = new ServerSecureChannel();
         secureChannel.setChannelId(0L); // TODO shared id per endpoint URL / path?
-        secureChannel.setSecurityPolicy(securityPolicy);
-        secureChannel.setMessageSecurityMode(securityMode);
+        secureChannel.setSecurityPolicy(pending.securityPolicy);
+        secureChannel.setMessageSecurityMode(pending.securityMode);
 
-        ByteString thumbprint = ByteString.of(DigestUtil.sha1(endpoint.getServerCertificate().bytesOrEmpty()));
+        ByteString thumbprint = ByteString.of(
+            DigestUtil.sha1(pending.endpoint.getServerCertificate().bytesOrEmpty())
+        );
 
         Optional<X509Certificate[]> certificateChain = stackServer.getConfig()
             .getCertificateManager()
@@ -136,11 +283,8 @@ public class OpcServerHttpRequestHandler extends SimpleChannelInboundHandler<Ful
 
         keyPair.ifPresent(secureChannel::setKeyPair);
 
-        OpcUaBinaryStreamDecoder decoder = new OpcUaBinaryStreamDecoder(stackServer.getSerializationContext());
-        decoder.setBuffer(httpRequest.content());
-
         try {
-            UaRequestMessage request = (UaRequestMessage) decoder.readMessage(null);
+            UaRequestMessage request = decodeRequest(pending.transportProfile, pending.content);
             UInteger requestHandle = request.getRequestHeader().getRequestHandle();
 
             InetSocketAddress remoteSocketAddress =
@@ -149,7 +293,7 @@ public class OpcServerHttpRequestHandler extends SimpleChannelInboundHandler<Ful
             ServiceRequest serviceRequest = new ServiceRequest(
                 stackServer,
                 request,
-                endpoint,
+                pending.endpoint,
                 secureChannel.getChannelId(),
                 remoteSocketAddress.getAddress(),
                 null
@@ -157,47 +301,65 @@ public class OpcServerHttpRequestHandler extends SimpleChannelInboundHandler<Ful
 
             serviceRequest.getFuture().whenComplete((response, fault) -> {
                 if (response != null) {
-                    sendServiceResponse(ctx, request, response);
+                    sendServiceResponse(ctx, pending.transportProfile, response);
                 } else {
-                    sendServiceFault(ctx, requestHandle, fault);
+                    sendServiceFault(ctx, pending.transportProfile, requestHandle, fault);
                 }
             });
 
-            stackServer.onServiceRequest(uri, serviceRequest);
+            stackServer.onServiceRequest(pending.uri, serviceRequest);
         } catch (Throwable t) {
             logger.error("Error decoding UaRequestMessage", t);
 
-            sendServiceFault(ctx, null, t);
+            sendServiceFault(ctx, pending.transportProfile, null, t);
+        }
+    }
+
+    /**
+     * Respond to the current request with a {@link ServiceFault} and discard the rest of its body, if any.
+     */
+    private void discard(ChannelHandlerContext ctx, TransportProfile transportProfile, UaException exception) {
+        discarding = true;
+
+        sendServiceFault(ctx, transportProfile, null, exception);
+    }
+
+    private void releasePendingRequest() {
+        if (pendingRequest != null) {
+            pendingRequest.content.release();
+            pendingRequest = null;
         }
     }
 
     private void sendServiceResponse(
         ChannelHandlerContext ctx,
-        UaRequestMessage request,
+        TransportProfile transportProfile,
         UaResponseMessage response) {
 
-        ByteBuf contentBuffer = BufferUtil.pooledBuffer();
+        ByteBuf contentBuffer = encodeMessage(transportProfile, response);
 
-        // TODO switch on transport profile for binary vs xml encoding
-        OpcUaBinaryStreamEncoder binaryEncoder = new OpcUaBinaryStreamEncoder(stackServer.getSerializationContext());
-        binaryEncoder.setBuffer(contentBuffer);
-        binaryEncoder.writeMessage(null, response);
+        int maxMessageSize = stackServer.getConfig().getEncodingLimits().getMaxMessageSize();
 
-        FullHttpResponse httpResponse = new DefaultFullHttpResponse(
-            HttpVersion.HTTP_1_1,
-            HttpResponseStatus.OK,
-            contentBuffer
-        );
+        if (contentBuffer.readableBytes() > maxMessageSize) {
+            contentBuffer.release();
 
-        httpResponse.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.KEEP_ALIVE);
-        httpResponse.headers().set(HttpHeaderNames.CONTENT_TYPE, UABINARY_CONTENT_TYPE);
-        httpResponse.headers().set(HttpHeaderNames.CONTENT_LENGTH, contentBuffer.readableBytes());
-
-        ctx.writeAndFlush(httpResponse);
+            sendServiceFault(
+                ctx,
+                transportProfile,
+                response.getResponseHeader().getRequestHandle(),
+                new UaException(
+                    StatusCodes.Bad_ResponseTooLarge,
+                    String.format("response exceeds max message size %d", maxMessageSize)
+                )
+            );
+        } else {
+            writeResponse(ctx, transportProfile, contentBuffer);
+        }
     }
 
     private void sendServiceFault(
         ChannelHandlerContext ctx,
+        TransportProfile transportProfile,
         UInteger requestHandle,
         Throwable fault) {
 
@@ -216,24 +378,121 @@ public class OpcServerHttpRequestHandler extends SimpleChannelInboundHandler<Ful
             )
         );
 
+        writeResponse(ctx, transportProfile, encodeMessage(transportProfile, serviceFault));
+    }
+
+    private UaRequestMessage decodeRequest(TransportProfile transportProfile, ByteBuf content) {
+        if (transportProfile == TransportProfile.HTTPS_UAJSON) {
+            OpcUaJsonStreamDecoder decoder = new OpcUaJsonStreamDecoder(stackServer.getSerializationContext());
+            decoder.setBuffer(content);
+            return (UaRequestMessage) decoder.readMessage(null);
+        } else {
+            OpcUaBinaryStreamDecoder decoder = new OpcUaBinaryStreamDecoder(stackServer.getSerializationContext());
+            decoder.setBuffer(content);
+            return (UaRequestMessage) decoder.readMessage(null);
+        }
+    }
+
+    private ByteBuf encodeMessage(TransportProfile transportProfile, UaMessage message) {
         ByteBuf contentBuffer = BufferUtil.pooledBuffer();
 
-        // TODO switch on transport profile for binary vs xml encoding
-        OpcUaBinaryStreamEncoder binaryEncoder = new OpcUaBinaryStreamEncoder(stackServer.getSerializationContext());
-        binaryEncoder.setBuffer(contentBuffer);
-        binaryEncoder.writeMessage(null, serviceFault);
+        try {
+            if (transportProfile == TransportProfile.HTTPS_UAJSON) {
+                OpcUaJsonStreamEncoder encoder = new OpcUaJsonStreamEncoder(stackServer.getSerializationContext());
+                encoder.setBuffer(contentBuffer);
+                encoder.writeMessage(null, message);
+            } else {
+                OpcUaBinaryStreamEncoder encoder = new OpcUaBinaryStreamEncoder(stackServer.getSerializationContext());
+                encoder.setBuffer(contentBuffer);
+                encoder.writeMessage(null, message);
+            }
+        } catch (RuntimeException e) {
+            contentBuffer.release();
+            throw e;
+        }
 
-        FullHttpResponse httpResponse = new DefaultFullHttpResponse(
-            HttpVersion.HTTP_1_1,
-            HttpResponseStatus.OK,
-            contentBuffer
-        );
+        return contentBuffer;
+    }
+
+    /**
+     * Write {@code contentBuffer} as the body of an HTTP response, using chunked transfer encoding if it's larger
+     * than the configured max chunk size.
+     * <p>
+     * Ownership of {@code contentBuffer} is transferred to the channel.
+     */
+    private void writeResponse(ChannelHandlerContext ctx, TransportProfile transportProfile, ByteBuf contentBuffer) {
+        String contentType = transportProfile == TransportProfile.HTTPS_UAJSON ?
+            UAJSON_CONTENT_TYPE :
+            UABINARY_CONTENT_TYPE;
+
+        int chunkSize = stackServer.getConfig().getEncodingLimits().getMaxChunkSize();
+
+        if (contentBuffer.readableBytes() <= chunkSize) {
+            FullHttpResponse httpResponse = new DefaultFullHttpResponse(
+                HttpVersion.HTTP_1_1,
+                HttpResponseStatus.OK,
+                contentBuffer
+            );
+
+            httpResponse.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.KEEP_ALIVE);
+            httpResponse.headers().set(HttpHeaderNames.CONTENT_TYPE, contentType);
+            httpResponse.headers().set(HttpHeaderNames.CONTENT_LENGTH, contentBuffer.readableBytes());
+
+            ctx.writeAndFlush(httpResponse);
+        } else {
+            HttpResponse httpResponse = new DefaultHttpResponse(
+                HttpVersion.HTTP_1_1,
+                HttpResponseStatus.OK
+            );
 
-        httpResponse.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.KEEP_ALIVE);
-        httpResponse.headers().set(HttpHeaderNames.CONTENT_TYPE, UABINARY_CONTENT_TYPE);
-        httpResponse.headers().set(HttpHeaderNames.CONTENT_LENGTH, contentBuffer.readableBytes());
+            httpResponse.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.KEEP_ALIVE);
+            httpResponse.headers().set(HttpHeaderNames.CONTENT_TYPE, contentType);
+            HttpUtil.setTransferEncodingChunked(httpResponse, true);
+
+            ctx.write(httpResponse);
+
+            while (contentBuffer.readableBytes() > chunkSize) {
+                ctx.writeAndFlush(new DefaultHttpContent(contentBuffer.readRetainedSlice(chunkSize)));
+            }
+
+            ctx.writeAndFlush(new DefaultLastHttpContent(contentBuffer));
+        }
+    }
+
+    private static TransportProfile getTransportProfile(@Nullable String contentType) {
+        if (contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith(UAJSON_CONTENT_TYPE)) {
+            return TransportProfile.HTTPS_UAJSON;
+        } else {
+            return TransportProfile.HTTPS_UABINARY;
+        }
+    }
+
+    private static class PendingRequest {
+
+        final String uri;
+        final TransportProfile transportProfile;
+        final EndpointDescription endpoint;
+        final SecurityPolicy securityPolicy;
+        final MessageSecurityMode securityMode;
+        final CompositeByteBuf content;
+
+        PendingRequest(
+            String uri,
+            TransportProfile transportProfile,
+            EndpointDescription endpoint,
+            SecurityPolicy securityPolicy,
+            MessageSecurityMode securityMode,
+            CompositeByteBuf content
+        ) {
+
+            this.uri = uri;
+            this.transportProfile = transportProfile;
+            this.endpoint = endpoint;
+            this.securityPolicy = securityPolicy;
+            this.securityMode = securityMode;
+            this.content = content;
+        }
 
-        ctx.writeAndFlush(httpResponse);
     }
 
 }
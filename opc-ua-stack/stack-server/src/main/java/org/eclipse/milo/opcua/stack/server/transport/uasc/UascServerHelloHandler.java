@@ -177,7 +177,8 @@ public class UascServerHelloHandler extends ByteToMessageDecoder implements Head
             Ints.saturatedCast(remoteMaxMessageSize),
             Ints.saturatedCast(remoteReceiveBufferSize),
             Ints.saturatedCast(remoteSendBufferSize),
-            Ints.saturatedCast(remoteMaxChunkCount)
+            Ints.saturatedCast(remoteMaxChunkCount),
+            config.getParallelCryptoChunkThreshold()
         );
 
         SerializationQueue serializationQueue = new SerializationQueue(
@@ -10,21 +10,55 @@
 
 package org.eclipse.milo.opcua.stack.server.transport.websocket;
 
+import java.net.InetSocketAddress;
+import java.util.Objects;
+
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrameAggregator;
 import org.eclipse.milo.opcua.stack.core.Stack;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaJsonStreamDecoder;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaJsonStreamEncoder;
+import org.eclipse.milo.opcua.stack.core.serialization.UaMessage;
+import org.eclipse.milo.opcua.stack.core.serialization.UaRequestMessage;
 import org.eclipse.milo.opcua.stack.core.transport.TransportProfile;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.structured.EndpointDescription;
+import org.eclipse.milo.opcua.stack.core.types.structured.ResponseHeader;
+import org.eclipse.milo.opcua.stack.core.types.structured.ServiceFault;
+import org.eclipse.milo.opcua.stack.core.util.BufferUtil;
+import org.eclipse.milo.opcua.stack.core.util.EndpointUtil;
 import org.eclipse.milo.opcua.stack.server.UaStackServer;
+import org.eclipse.milo.opcua.stack.server.services.ServiceRequest;
 import org.eclipse.milo.opcua.stack.server.transport.uasc.UascServerHelloHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import static io.netty.handler.codec.http.websocketx.WebSocketServerProtocolHandler.HandshakeComplete;
 
+/**
+ * Handles WebSocket frames once the upgrade handshake has completed.
+ * <p>
+ * With the {@link Stack#WSS_PROTOCOL_BINARY} subprotocol the frame contents are passed on to the UA Secure
+ * Conversation handlers. With the {@link Stack#WSS_PROTOCOL_JSON} subprotocol each text message carries a single
+ * JSON encoded request and is answered with a text message carrying the JSON encoded response.
+ */
 public class OpcServerWebSocketFrameHandler extends SimpleChannelInboundHandler<WebSocketFrame> {
 
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
     private String subprotocol;
 
+    private String path;
+    private EndpointDescription endpoint;
+
     private final UaStackServer stackServer;
 
     public OpcServerWebSocketFrameHandler(UaStackServer stackServer) {
@@ -45,6 +79,23 @@ public class OpcServerWebSocketFrameHandler extends SimpleChannelInboundHandler<
                 );
 
                 ctx.channel().pipeline().addLast(helloHandler);
+            } else if (Stack.WSS_PROTOCOL_JSON.equalsIgnoreCase(subprotocol)) {
+                path = handshake.requestUri();
+
+                endpoint = stackServer.getEndpointDescriptions()
+                    .stream()
+                    .filter(e ->
+                        Objects.equals(e.getTransportProfileUri(), TransportProfile.WSS_UAJSON.getUri()) &&
+                            Objects.equals(EndpointUtil.getPath(e.getEndpointUrl()), path)
+                    )
+                    .findFirst()
+                    .orElseThrow(() -> new UaException(
+                        StatusCodes.Bad_TcpEndpointUrlInvalid,
+                        "unrecognized endpoint uri: " + path));
+
+                // a message may span several continuation frames
+                int maxMessageSize = stackServer.getConfig().getEncodingLimits().getMaxMessageSize();
+                ctx.pipeline().addBefore(ctx.name(), null, new WebSocketFrameAggregator(maxMessageSize));
             } else {
                 throw new IllegalArgumentException("subprotocol: " + subprotocol);
             }
@@ -59,14 +110,104 @@ public class OpcServerWebSocketFrameHandler extends SimpleChannelInboundHandler<
             // Pass the binary contents to the UA Secure Conversation handlers
 
             ctx.fireChannelRead(msg.content().retain());
-        } else if (Stack.WSS_PROTOCOL_JSON.equalsIgnoreCase(subprotocol)) {
-            // TODO End of the pipeline; decode and deliver
-            String text = ((TextWebSocketFrame) msg).text();
-
-            throw new IllegalArgumentException("subprotocol: " + subprotocol);
+        } else if (Stack.WSS_PROTOCOL_JSON.equalsIgnoreCase(subprotocol) && msg instanceof TextWebSocketFrame) {
+            onJsonRequest(ctx, msg.content());
         } else {
             ctx.close();
         }
     }
 
+    private void onJsonRequest(ChannelHandlerContext ctx, ByteBuf content) {
+        UaRequestMessage request;
+
+        try {
+            OpcUaJsonStreamDecoder decoder = new OpcUaJsonStreamDecoder(stackServer.getSerializationContext());
+            decoder.setBuffer(content);
+            request = (UaRequestMessage) decoder.readMessage(null);
+        } catch (Throwable t) {
+            logger.error("Error decoding UaRequestMessage", t);
+
+            sendServiceFault(ctx, null, t);
+            return;
+        }
+
+        UInteger requestHandle = request.getRequestHeader().getRequestHandle();
+
+        InetSocketAddress remoteSocketAddress = (InetSocketAddress) ctx.channel().remoteAddress();
+
+        ServiceRequest serviceRequest = new ServiceRequest(
+            stackServer,
+            request,
+            endpoint,
+            0L,
+            remoteSocketAddress.getAddress(),
+            null
+        );
+
+        serviceRequest.getFuture().whenComplete((response, fault) -> {
+            if (response != null) {
+                sendMessage(ctx, requestHandle, response);
+            } else {
+                sendServiceFault(ctx, requestHandle, fault);
+            }
+        });
+
+        stackServer.onServiceRequest(path, serviceRequest);
+    }
+
+    private void sendServiceFault(ChannelHandlerContext ctx, UInteger requestHandle, Throwable fault) {
+        StatusCode statusCode = UaException.extract(fault)
+            .map(UaException::getStatusCode)
+            .orElse(StatusCode.BAD);
+
+        ServiceFault serviceFault = new ServiceFault(
+            new ResponseHeader(
+                DateTime.now(),
+                requestHandle,
+                statusCode,
+                null,
+                null,
+                null
+            )
+        );
+
+        sendMessage(ctx, requestHandle, serviceFault);
+    }
+
+    private void sendMessage(ChannelHandlerContext ctx, UInteger requestHandle, UaMessage message) {
+        ByteBuf buffer = BufferUtil.pooledBuffer();
+
+        try {
+            OpcUaJsonStreamEncoder encoder = new OpcUaJsonStreamEncoder(stackServer.getSerializationContext());
+            encoder.setBuffer(buffer);
+            encoder.writeMessage(null, message);
+        } catch (Throwable t) {
+            buffer.release();
+
+            logger.error("Error encoding {}", message.getClass().getSimpleName(), t);
+
+            if (!(message instanceof ServiceFault)) {
+                sendServiceFault(ctx, requestHandle, t);
+            }
+            return;
+        }
+
+        int maxMessageSize = stackServer.getConfig().getEncodingLimits().getMaxMessageSize();
+
+        if (buffer.readableBytes() > maxMessageSize && !(message instanceof ServiceFault)) {
+            buffer.release();
+
+            sendServiceFault(
+                ctx,
+                requestHandle,
+                new UaException(
+                    StatusCodes.Bad_ResponseTooLarge,
+                    String.format("response exceeds max message size %d", maxMessageSize)
+                )
+            );
+        } else {
+            ctx.writeAndFlush(new TextWebSocketFrame(buffer));
+        }
+    }
+
 }
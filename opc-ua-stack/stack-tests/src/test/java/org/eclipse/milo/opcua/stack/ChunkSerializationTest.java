@@ -18,10 +18,13 @@ import io.netty.buffer.ByteBuf;
 import io.netty.util.ReferenceCountUtil;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.eclipse.milo.opcua.stack.client.transport.uasc.ClientSecureChannel;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
 import org.eclipse.milo.opcua.stack.core.channel.ChannelParameters;
 import org.eclipse.milo.opcua.stack.core.channel.ChunkDecoder;
 import org.eclipse.milo.opcua.stack.core.channel.ChunkEncoder;
 import org.eclipse.milo.opcua.stack.core.channel.EncodingLimits;
+import org.eclipse.milo.opcua.stack.core.channel.MessageDecodeException;
 import org.eclipse.milo.opcua.stack.core.channel.MessageEncodeException;
 import org.eclipse.milo.opcua.stack.core.channel.SecureChannel;
 import org.eclipse.milo.opcua.stack.core.channel.ServerSecureChannel;
@@ -94,6 +97,18 @@ public class ChunkSerializationTest extends SecureChannelFixture {
         0
     );
 
+    private ChannelParameters parallelCryptoParameters = new ChannelParameters(
+        DEFAULT_MAX_MESSAGE_SIZE,
+        DEFAULT_MAX_CHUNK_SIZE,
+        DEFAULT_MAX_CHUNK_SIZE,
+        0,
+        DEFAULT_MAX_MESSAGE_SIZE,
+        DEFAULT_MAX_CHUNK_SIZE,
+        DEFAULT_MAX_CHUNK_SIZE,
+        0,
+        2
+    );
+
 
     @DataProvider
     public Object[][] getAsymmetricSecurityParameters() {
@@ -263,7 +278,8 @@ public class ChunkSerializationTest extends SecureChannelFixture {
             smallParameters,
             defaultParameters,
             unlimitedChunkCountParameters,
-            unlimitedMessageSizeParameters
+            unlimitedMessageSizeParameters,
+            parallelCryptoParameters
         };
 
         for (ChannelParameters parameters : channelParameters) {
@@ -355,7 +371,8 @@ public class ChunkSerializationTest extends SecureChannelFixture {
             smallParameters,
             defaultParameters,
             unlimitedChunkCountParameters,
-            unlimitedMessageSizeParameters
+            unlimitedMessageSizeParameters,
+            parallelCryptoParameters
         };
 
         for (ChannelParameters parameters : channelParameters) {
@@ -423,4 +440,43 @@ public class ChunkSerializationTest extends SecureChannelFixture {
         }
     }
 
+    @Test
+    public void testSymmetricSignatureVerificationFails() throws Exception {
+        ChunkEncoder encoder = new ChunkEncoder(defaultParameters);
+        ChunkDecoder decoder = new ChunkDecoder(defaultParameters, EncodingLimits.DEFAULT);
+
+        SecureChannel[] channels = generateChannels(SecurityPolicy.Basic256Sha256, MessageSecurityMode.Sign);
+        ClientSecureChannel clientChannel = (ClientSecureChannel) channels[0];
+        ServerSecureChannel serverChannel = (ServerSecureChannel) channels[1];
+
+        ByteBuf messageBuffer = BufferUtil.pooledBuffer().writeBytes(new byte[128]);
+
+        ChunkEncoder.EncodedMessage message = encoder.encodeSymmetric(
+            clientChannel,
+            1L,
+            messageBuffer,
+            MessageType.SecureMessage
+        );
+
+        ReferenceCountUtil.release(messageBuffer);
+
+        List<ByteBuf> chunkBuffers = new ArrayList<>(message.getMessageChunks());
+
+        // Flip the last bit of the signature.
+        ByteBuf chunkBuffer = chunkBuffers.get(0);
+        int lastIndex = chunkBuffer.writerIndex() - 1;
+        chunkBuffer.setByte(lastIndex, chunkBuffer.getByte(lastIndex) ^ 1);
+
+        try {
+            ChunkDecoder.DecodedMessage decodedMessage = decoder.decodeSymmetric(serverChannel, chunkBuffers);
+            ReferenceCountUtil.release(decodedMessage.getMessage());
+
+            fail("expected signature verification to fail");
+        } catch (MessageDecodeException e) {
+            UaException cause = (UaException) e.getCause();
+
+            assertEquals(cause.getStatusCode().getValue(), StatusCodes.Bad_SecurityChecksFailed);
+        }
+    }
+
 }
@@ -13,21 +13,42 @@ package org.eclipse.milo.opcua.stack;
 import java.security.KeyPair;
 import java.security.Security;
 import java.security.cert.X509Certificate;
+import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import com.google.common.base.Strings;
 
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.eclipse.milo.opcua.stack.client.DiscoveryClient;
 import org.eclipse.milo.opcua.stack.client.UaStackClient;
 import org.eclipse.milo.opcua.stack.client.UaStackClientConfig;
 import org.eclipse.milo.opcua.stack.client.UaStackClientConfigBuilder;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
 import org.eclipse.milo.opcua.stack.core.security.SecurityPolicy;
+import org.eclipse.milo.opcua.stack.core.serialization.UaResponseMessage;
 import org.eclipse.milo.opcua.stack.core.transport.TransportProfile;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.MessageSecurityMode;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.UserTokenType;
 import org.eclipse.milo.opcua.stack.core.types.structured.EndpointDescription;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.eclipse.milo.opcua.stack.core.types.structured.RequestHeader;
+import org.eclipse.milo.opcua.stack.core.types.structured.ResponseHeader;
 import org.eclipse.milo.opcua.stack.core.types.structured.UserTokenPolicy;
 import org.eclipse.milo.opcua.stack.core.util.SelfSignedCertificateGenerator;
 import org.eclipse.milo.opcua.stack.core.util.SelfSignedHttpsCertificateBuilder;
@@ -43,6 +64,8 @@ import org.testng.annotations.Test;
 
 import static com.google.common.collect.Lists.newArrayList;
 import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.expectThrows;
 
 public abstract class StackIntegrationTest extends SecurityFixture {
 
@@ -133,6 +156,25 @@ public abstract class StackIntegrationTest extends SecurityFixture {
                         .setTransportProfile(TransportProfile.HTTPS_UABINARY)
                         .build()
                 );
+
+                // UA-JSON Transport Endpoints
+                endpointConfigurations.add(
+                    base.copy()
+                        .setBindPort(httpsBindPort)
+                        .setSecurityPolicy(SecurityPolicy.None)
+                        .setSecurityMode(MessageSecurityMode.None)
+                        .setTransportProfile(TransportProfile.HTTPS_UAJSON)
+                        .build()
+                );
+
+                endpointConfigurations.add(
+                    base.copy()
+                        .setBindPort(httpsBindPort)
+                        .setSecurityPolicy(SecurityPolicy.None)
+                        .setSecurityMode(MessageSecurityMode.None)
+                        .setTransportProfile(TransportProfile.WSS_UAJSON)
+                        .build()
+                );
             }
         }
 
@@ -222,6 +264,163 @@ public abstract class StackIntegrationTest extends SecurityFixture {
         public void test() {
         }
 
+        @Test
+        public void testLargeRequestAndResponse() throws Exception {
+            stackServer.addServiceHandler("/test", ReadRequest.TYPE_ID, service -> {
+                ReadRequest request = (ReadRequest) service.getRequest();
+
+                DataValue[] results = new DataValue[request.getNodesToRead().length];
+                Arrays.fill(results, new DataValue(new Variant(Strings.repeat("x", 64))));
+
+                service.setResponse(new ReadResponse(newResponseHeader(request), results, null));
+            });
+
+            UaStackClient httpsClient = createHttpsClient(TransportProfile.HTTPS_UABINARY);
+
+            try {
+                // spans many HttpContent chunks on the way in and more than one max chunk size on the way out
+                ReadResponse response = (ReadResponse) httpsClient.sendRequest(newReadRequest(10_000, 16)).get();
+
+                assertEquals(response.getResults().length, 10_000);
+                assertEquals(response.getResults()[0].getValue().getValue(), Strings.repeat("x", 64));
+            } finally {
+                httpsClient.disconnect().get();
+            }
+        }
+
+        @Test
+        public void testRequestTooLarge() throws Exception {
+            UaStackClient httpsClient = createHttpsClient(TransportProfile.HTTPS_UABINARY);
+
+            try {
+                int maxMessageSize = stackServer.getConfig().getEncodingLimits().getMaxMessageSize();
+
+                ExecutionException exception = expectThrows(
+                    ExecutionException.class,
+                    () -> httpsClient.sendRequest(newReadRequest(maxMessageSize / 512, 512)).get()
+                );
+
+                StatusCode statusCode = UaException.extractStatusCode(exception).orElse(StatusCode.GOOD);
+
+                assertEquals(statusCode.getValue(), StatusCodes.Bad_RequestTooLarge);
+
+                // the connection is still usable after the oversized request body was discarded
+                httpsClient.sendRequest(newReadRequest(1, 16)).get();
+            } finally {
+                httpsClient.disconnect().get();
+            }
+        }
+
+        @Test
+        public void testJsonRequestAndResponse() throws Exception {
+            testJsonRequestAndResponse(TransportProfile.HTTPS_UAJSON);
+        }
+
+        @Test
+        public void testWebSocketJsonRequestAndResponse() throws Exception {
+            testJsonRequestAndResponse(TransportProfile.WSS_UAJSON);
+        }
+
+        private void testJsonRequestAndResponse(TransportProfile transportProfile) throws Exception {
+            stackServer.addServiceHandler("/test", ReadRequest.TYPE_ID, service -> {
+                ReadRequest request = (ReadRequest) service.getRequest();
+
+                DataValue[] results = new DataValue[request.getNodesToRead().length];
+
+                for (int i = 0; i < results.length; i++) {
+                    results[i] = new DataValue(new Variant(request.getNodesToRead()[i].getNodeId().getIdentifier()));
+                }
+
+                service.setResponse(new ReadResponse(newResponseHeader(request), results, null));
+            });
+
+            UaStackClient client = createHttpsClient(transportProfile);
+
+            try {
+                List<CompletableFuture<UaResponseMessage>> futures = newArrayList();
+
+                for (int i = 0; i < 10; i++) {
+                    // distinct request handles; responses may arrive out of order
+                    futures.add(client.sendRequest(newReadRequest(client.newRequestHeader(), i + 1, 4)));
+                }
+
+                for (int i = 0; i < futures.size(); i++) {
+                    ReadResponse response = (ReadResponse) futures.get(i).get();
+
+                    assertEquals(response.getResults().length, i + 1);
+                    assertEquals(
+                        response.getResults()[i].getValue().getValue(),
+                        Strings.padStart(String.valueOf(i), 4, '0')
+                    );
+                }
+            } finally {
+                client.disconnect().get();
+            }
+        }
+
+        private UaStackClient createHttpsClient(TransportProfile transportProfile) throws Exception {
+            // discovery only returns endpoints for the transport profile of the discovery URL
+            EndpointDescription endpoint = stackServer.getEndpointDescriptions()
+                .stream()
+                .filter(e -> transportProfile.getUri().equals(e.getTransportProfileUri()))
+                .filter(e -> SecurityPolicy.None.getUri().equals(e.getSecurityPolicyUri()))
+                .findFirst()
+                .orElseThrow(() -> new Exception("no endpoint for " + transportProfile));
+
+            UaStackClient client = UaStackClient.create(
+                UaStackClientConfig.builder()
+                    .setEndpoint(endpoint)
+                    .setRequestTimeout(uint(10_000))
+                    .build()
+            );
+
+            client.connect().get();
+
+            return client;
+        }
+
+        private static ReadRequest newReadRequest(int nodeCount, int identifierLength) {
+            RequestHeader header = new RequestHeader(
+                NodeId.NULL_VALUE,
+                DateTime.now(),
+                uint(0),
+                uint(0),
+                null,
+                uint(10_000),
+                null
+            );
+
+            return newReadRequest(header, nodeCount, identifierLength);
+        }
+
+        private static ReadRequest newReadRequest(RequestHeader header, int nodeCount, int identifierLength) {
+            ReadValueId[] nodesToRead = new ReadValueId[nodeCount];
+
+            for (int i = 0; i < nodeCount; i++) {
+                String identifier = Strings.padStart(String.valueOf(i), identifierLength, '0');
+
+                nodesToRead[i] = new ReadValueId(
+                    new NodeId(1, identifier),
+                    AttributeId.Value.uid(),
+                    null,
+                    QualifiedName.NULL_VALUE
+                );
+            }
+
+            return new ReadRequest(header, 0.0, TimestampsToReturn.Neither, nodesToRead);
+        }
+
+        private static ResponseHeader newResponseHeader(ReadRequest request) {
+            return new ResponseHeader(
+                DateTime.now(),
+                request.getRequestHeader().getRequestHandle(),
+                StatusCode.GOOD,
+                null,
+                null,
+                null
+            );
+        }
+
     }
 
 }
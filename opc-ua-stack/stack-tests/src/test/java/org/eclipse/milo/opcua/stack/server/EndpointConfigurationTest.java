@@ -68,22 +68,6 @@ public class EndpointConfigurationTest {
                     .build()
         );
 
-        expectThrows(
-            IllegalArgumentException.class,
-            () ->
-                EndpointConfiguration.newBuilder()
-                    .setTransportProfile(TransportProfile.HTTPS_UAJSON)
-                    .build()
-        );
-
-        expectThrows(
-            IllegalArgumentException.class,
-            () ->
-                EndpointConfiguration.newBuilder()
-                    .setTransportProfile(TransportProfile.WSS_UAJSON)
-                    .build()
-        );
-
         expectThrows(
             IllegalArgumentException.class,
             () ->